@@ -0,0 +1,102 @@
+package org.web3j.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.web3j.protocol.core.methods.response.Address20;
+
+/**
+ * Hash map lookups keyed by address, as strings or {@link Address20}s, with lookup keys
+ * decoded separately from the map's keys as when matching addresses in newly received logs.
+ *
+ * <p>The {@code fresh} benchmarks look up keys which have never been hashed, as when they were
+ * just read from a response.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class AddressLookupBenchmark {
+
+    private static final int ADDRESSES = 10_000;
+    private static final int LOOKUPS = 1_000;
+
+    private final Map<String, Integer> stringMap = new HashMap<>();
+    private final Map<Address20, Integer> addressMap = new HashMap<>();
+    private String[] stringKeys;
+    private Address20[] addressKeys;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(1);
+        String[] addresses = new String[ADDRESSES];
+        for (int i = 0; i < ADDRESSES; i++) {
+            StringBuilder address = new StringBuilder("0x");
+            for (int j = 0; j < 40; j++) {
+                address.append(Character.forDigit(random.nextInt(16), 16));
+            }
+            addresses[i] = address.toString();
+            stringMap.put(addresses[i], i);
+            addressMap.put(Address20.of(addresses[i]), i);
+        }
+
+        stringKeys = new String[LOOKUPS];
+        addressKeys = new Address20[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            String address = addresses[random.nextInt(ADDRESSES)];
+            stringKeys[i] = new String(address.toCharArray());
+            addressKeys[i] = Address20.of(address);
+        }
+    }
+
+    @Benchmark
+    public int stringKeys() {
+        int total = 0;
+        for (String key : stringKeys) {
+            total += stringMap.get(key);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int addressKeys() {
+        int total = 0;
+        for (Address20 key : addressKeys) {
+            total += addressMap.get(key);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int freshStringKeys() {
+        int total = 0;
+        for (String key : stringKeys) {
+            total += stringMap.get(new String(key.toCharArray()));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int freshAddressKeys() {
+        int total = 0;
+        for (String key : stringKeys) {
+            total += addressMap.get(Address20.of(key));
+        }
+        return total;
+    }
+}
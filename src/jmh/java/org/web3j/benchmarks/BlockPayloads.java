@@ -0,0 +1,198 @@
+package org.web3j.benchmarks;
+
+import java.util.Random;
+
+/**
+ * Generates realistic JSON-RPC payloads for benchmarks, being hex-heavy blocks and logs
+ * resembling those on mainnet, from a fixed seed so that runs are comparable.
+ */
+public final class BlockPayloads {
+
+    private BlockPayloads() {}
+
+    /**
+     * Response to eth_getBlockByNumber with full transaction objects.
+     *
+     * @param transactionCount number of transactions in the block
+     * @return JSON response
+     */
+    public static String ethGetBlockByNumberResponse(int transactionCount) {
+        Random random = new Random(transactionCount);
+        String blockHash = hex(random, 32);
+        String blockNumber = "0x4b7a2c";
+
+        StringBuilder json = new StringBuilder(transactionCount * 1_200 + 2_000);
+        json.append("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":{")
+                .append("\"number\":\"").append(blockNumber).append("\",")
+                .append("\"hash\":\"").append(blockHash).append("\",")
+                .append("\"parentHash\":\"").append(hex(random, 32)).append("\",")
+                .append("\"nonce\":\"").append(hex(random, 8)).append("\",")
+                .append("\"sha3Uncles\":\"").append(hex(random, 32)).append("\",")
+                .append("\"logsBloom\":\"").append(hex(random, 256)).append("\",")
+                .append("\"transactionsRoot\":\"").append(hex(random, 32)).append("\",")
+                .append("\"stateRoot\":\"").append(hex(random, 32)).append("\",")
+                .append("\"receiptsRoot\":\"").append(hex(random, 32)).append("\",")
+                .append("\"miner\":\"").append(hex(random, 20)).append("\",")
+                .append("\"mixHash\":\"").append(hex(random, 32)).append("\",")
+                .append("\"difficulty\":\"0x5e5a3b2c1f0a\",")
+                .append("\"totalDifficulty\":\"0x5e5a3b2c1f0a5e5a3b2c\",")
+                .append("\"extraData\":\"").append(hex(random, 12)).append("\",")
+                .append("\"size\":\"0x8a2f\",")
+                .append("\"gasLimit\":\"0x7a1200\",")
+                .append("\"gasUsed\":\"0x79f3a1\",")
+                .append("\"timestamp\":\"0x5a0b3e4c\",")
+                .append("\"transactions\":[");
+
+        // a small set of senders and contracts, as on mainnet where a few exchanges and tokens
+        // account for much of the traffic
+        String[] addresses = new String[50];
+        for (int i = 0; i < addresses.length; i++) {
+            addresses[i] = hex(random, 20);
+        }
+
+        for (int i = 0; i < transactionCount; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            // mostly token transfers, with some plain transfers and larger contract calls
+            int inputLength = random.nextInt(10) < 6 ? 68 : random.nextInt(3) == 0 ? 0 : 356;
+            String gas = Integer.toHexString(21_000 + random.nextInt(200_000));
+            String gasPrice = Long.toHexString(1_000_000_000L * (1 + random.nextInt(40)));
+            String input = inputLength == 0 ? "0x" : hex(random, inputLength);
+            json.append('{')
+                    .append("\"hash\":\"").append(hex(random, 32)).append("\",")
+                    .append("\"nonce\":\"0x").append(Integer.toHexString(random.nextInt(100_000)))
+                    .append("\",")
+                    .append("\"blockHash\":\"").append(blockHash).append("\",")
+                    .append("\"blockNumber\":\"").append(blockNumber).append("\",")
+                    .append("\"transactionIndex\":\"0x").append(Integer.toHexString(i))
+                    .append("\",")
+                    .append("\"from\":\"").append(addresses[random.nextInt(addresses.length)])
+                    .append("\",")
+                    .append("\"to\":\"").append(addresses[random.nextInt(addresses.length)])
+                    .append("\",")
+                    .append("\"value\":\"0x").append(Long.toHexString(random.nextLong() >>> 8))
+                    .append("\",")
+                    .append("\"gas\":\"0x").append(gas).append("\",")
+                    .append("\"gasPrice\":\"0x").append(gasPrice).append("\",")
+                    .append("\"input\":\"").append(input).append("\",")
+                    .append("\"v\":").append(27 + random.nextInt(2)).append(",")
+                    .append("\"r\":\"").append(hex(random, 32)).append("\",")
+                    .append("\"s\":\"").append(hex(random, 32)).append("\"")
+                    .append('}');
+        }
+        json.append("],\"uncles\":[]}}");
+        return json.toString();
+    }
+
+    /**
+     * Response to eth_getLogs, being mostly ERC-20 transfer events from a handful of tokens.
+     *
+     * @param logCount number of logs
+     * @return JSON response
+     */
+    public static String ethGetLogsResponse(int logCount) {
+        Random random = new Random(logCount);
+        String[] contracts = new String[10];
+        for (int i = 0; i < contracts.length; i++) {
+            contracts[i] = hex(random, 20);
+        }
+
+        StringBuilder json = new StringBuilder(logCount * 800 + 100);
+        json.append("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":[");
+        String blockHash = hex(random, 32);
+        String transactionHash = hex(random, 32);
+        int blockNumber = 0x4b7a2c;
+        for (int i = 0; i < logCount; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            // several logs per transaction, and many transactions per block
+            if (random.nextInt(3) == 0) {
+                transactionHash = hex(random, 32);
+            }
+            if (random.nextInt(50) == 0) {
+                blockHash = hex(random, 32);
+                blockNumber++;
+            }
+            appendLog(json, random, contracts[random.nextInt(contracts.length)], i,
+                    transactionHash, blockHash, "0x" + Integer.toHexString(blockNumber));
+        }
+        json.append("]}");
+        return json.toString();
+    }
+
+    /**
+     * Response to eth_getTransactionReceipt for a contract call.
+     *
+     * @param logCount number of logs emitted by the transaction
+     * @return JSON response
+     */
+    public static String ethGetTransactionReceiptResponse(int logCount) {
+        Random random = new Random(logCount);
+        String transactionHash = hex(random, 32);
+        String blockHash = hex(random, 32);
+        String blockNumber = "0x4b7a2c";
+        String contract = hex(random, 20);
+
+        StringBuilder json = new StringBuilder(logCount * 800 + 1_000);
+        json.append("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":{")
+                .append("\"transactionHash\":\"").append(transactionHash).append("\",")
+                .append("\"transactionIndex\":\"0x3a\",")
+                .append("\"blockHash\":\"").append(blockHash).append("\",")
+                .append("\"blockNumber\":\"").append(blockNumber).append("\",")
+                .append("\"from\":\"").append(hex(random, 20)).append("\",")
+                .append("\"to\":\"").append(contract).append("\",")
+                .append("\"cumulativeGasUsed\":\"0x3d5a1f\",")
+                .append("\"gasUsed\":\"0x1e4a7\",")
+                .append("\"contractAddress\":null,")
+                .append("\"root\":\"").append(hex(random, 32)).append("\",")
+                .append("\"logsBloom\":\"").append(hex(random, 256)).append("\",")
+                .append("\"logs\":[");
+        for (int i = 0; i < logCount; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            appendLog(json, random, contract, i, transactionHash, blockHash, blockNumber);
+        }
+        json.append("]}}");
+        return json.toString();
+    }
+
+    private static void appendLog(
+            StringBuilder json, Random random, String address, int logIndex,
+            String transactionHash, String blockHash, String blockNumber) {
+        json.append('{')
+                .append("\"removed\":false,")
+                .append("\"logIndex\":\"0x").append(Integer.toHexString(logIndex)).append("\",")
+                .append("\"transactionIndex\":\"0x")
+                .append(Integer.toHexString(random.nextInt(200))).append("\",")
+                .append("\"transactionHash\":\"").append(transactionHash).append("\",")
+                .append("\"blockHash\":\"").append(blockHash).append("\",")
+                .append("\"blockNumber\":\"").append(blockNumber).append("\",")
+                .append("\"address\":\"").append(address).append("\",")
+                .append("\"data\":\"").append(hex(random, 32)).append("\",")
+                .append("\"topics\":[")
+                // Transfer(address,address,uint256), with the indexed from and to addresses
+                .append("\"0xddf252ad1be2c89b69c2b068fc378daa952ba7f163c4a11628f55a4df523b3ef\",")
+                .append("\"0x000000000000000000000000").append(hex(random, 20).substring(2))
+                .append("\",")
+                .append("\"0x000000000000000000000000").append(hex(random, 20).substring(2))
+                .append("\"]")
+                .append('}');
+    }
+
+    private static String hex(Random random, int byteLength) {
+        char[] digits = "0123456789abcdef".toCharArray();
+        StringBuilder hex = new StringBuilder(2 + byteLength * 2).append("0x");
+        for (int i = 0; i < byteLength; i++) {
+            int b = random.nextInt(256);
+            // calldata is padded with zeroes, so is far from uniformly random
+            if (byteLength > 32 && random.nextInt(3) != 0) {
+                b = 0;
+            }
+            hex.append(digits[b >>> 4]).append(digits[b & 0xf]);
+        }
+        return hex.toString();
+    }
+}
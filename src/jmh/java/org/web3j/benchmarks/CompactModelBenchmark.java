@@ -0,0 +1,138 @@
+package org.web3j.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.web3j.protocol.ObjectMapperFactory;
+import org.web3j.protocol.core.methods.response.CompactBlock;
+import org.web3j.protocol.core.methods.response.CompactTransaction;
+import org.web3j.protocol.core.methods.response.EthBlock;
+import org.web3j.protocol.core.methods.response.Transaction;
+
+/**
+ * Cost of reading quantities from blocks held as response objects, which decode their hex
+ * strings on every call, or as {@link CompactBlock}s, and the memory retained by each.
+ *
+ * <p>The {@code retain} benchmarks report the heap retained by 10,000 blocks as the
+ * {@code retainedBytes} counter, their timings being of no interest.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class CompactModelBenchmark {
+
+    private static final int RETAINED_BLOCKS = 10_000;
+    private static final int READ_BLOCKS = 1_000;
+
+    @Param({"0", "10"})
+    private int transactionCount;
+
+    private final ObjectReader reader =
+            ObjectMapperFactory.getObjectMapper().readerFor(EthBlock.class);
+    private byte[] payload;
+    private List<EthBlock.Block> blocks;
+    private List<CompactBlock> compactBlocks;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        public long retainedBytes;
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        payload = BlockPayloads.ethGetBlockByNumberResponse(transactionCount)
+                .getBytes(StandardCharsets.UTF_8);
+        blocks = new ArrayList<>(READ_BLOCKS);
+        compactBlocks = new ArrayList<>(READ_BLOCKS);
+        for (int i = 0; i < READ_BLOCKS; i++) {
+            blocks.add(readBlock());
+            compactBlocks.add(new CompactBlock(readBlock()));
+        }
+    }
+
+    @Benchmark
+    public long readBlocks() {
+        long total = 0;
+        for (EthBlock.Block block : blocks) {
+            total += block.getNumber().longValue() + block.getTimestamp().longValue()
+                    + block.getGasUsed().longValue();
+            for (EthBlock.TransactionResult transactionResult : block.getTransactions()) {
+                total += ((Transaction) transactionResult.get()).getGas().longValue();
+            }
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long readCompactBlocks() {
+        long total = 0;
+        for (CompactBlock block : compactBlocks) {
+            total += block.getNumber() + block.getTimestamp() + block.getGasUsed();
+            for (CompactTransaction transaction : block.getTransactions()) {
+                total += transaction.getGas();
+            }
+        }
+        return total;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 3)
+    public List<EthBlock.Block> retainBlocks(Footprint footprint) throws IOException {
+        long before = usedHeap();
+        List<EthBlock.Block> retained = new ArrayList<>(RETAINED_BLOCKS);
+        for (int i = 0; i < RETAINED_BLOCKS; i++) {
+            retained.add(readBlock());
+        }
+        footprint.retainedBytes = usedHeap() - before;
+        return retained;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 3)
+    public List<CompactBlock> retainCompactBlocks(Footprint footprint) throws IOException {
+        long before = usedHeap();
+        List<CompactBlock> retained = new ArrayList<>(RETAINED_BLOCKS);
+        for (int i = 0; i < RETAINED_BLOCKS; i++) {
+            retained.add(new CompactBlock(readBlock()));
+        }
+        footprint.retainedBytes = usedHeap() - before;
+        return retained;
+    }
+
+    private EthBlock.Block readBlock() throws IOException {
+        return reader.<EthBlock>readValue(payload).getBlock().get();
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
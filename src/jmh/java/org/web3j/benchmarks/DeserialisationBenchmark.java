@@ -0,0 +1,174 @@
+package org.web3j.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.web3j.protocol.ObjectMapperFactory;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthBlock;
+import org.web3j.protocol.core.methods.response.EthGetTransactionReceipt;
+import org.web3j.protocol.core.methods.response.EthLog;
+import org.web3j.protocol.core.methods.response.EthTransaction;
+import org.web3j.protocol.core.methods.response.Transaction;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
+
+/**
+ * Time and garbage to deserialise the largest responses, by reflective bean binding as
+ * previously, or by the hand-written streaming deserialisers now used.
+ *
+ * <p>The reflective baseline uses a copy of the object mapper with mix-ins restoring bean
+ * binding of blocks, transactions, receipts and logs. Benchmarks are run with the GC profiler,
+ * see {@code gc.alloc.rate.norm} for the bytes allocated per response.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class DeserialisationBenchmark {
+
+    @Param({"eth_getBlockByNumber", "eth_getLogs", "eth_getTransactionReceipt"})
+    private String method;
+
+    private byte[] payload;
+    private ObjectReader reflective;
+    private ObjectReader streaming;
+
+    @Setup
+    public void setUp() {
+        Class<? extends Response> type;
+        switch (method) {
+            case "eth_getBlockByNumber":
+                payload = bytes(BlockPayloads.ethGetBlockByNumberResponse(200));
+                type = EthBlock.class;
+                break;
+            case "eth_getLogs":
+                payload = bytes(BlockPayloads.ethGetLogsResponse(500));
+                type = EthLog.class;
+                break;
+            case "eth_getTransactionReceipt":
+                payload = bytes(BlockPayloads.ethGetTransactionReceiptResponse(10));
+                type = EthGetTransactionReceipt.class;
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported method: " + method);
+        }
+
+        ObjectMapper objectMapper = ObjectMapperFactory.getObjectMapper();
+        streaming = objectMapper.readerFor(type);
+
+        ObjectMapper reflectiveMapper = objectMapper.copy()
+                .addMixIn(EthBlock.class, ReflectiveEthBlock.class)
+                .addMixIn(EthBlock.Block.class, ReflectiveBlock.class)
+                .addMixIn(EthLog.class, ReflectiveEthLog.class)
+                .addMixIn(EthTransaction.class, ReflectiveEthTransaction.class)
+                .addMixIn(EthGetTransactionReceipt.class, ReflectiveEthGetTransactionReceipt.class);
+        reflective = reflectiveMapper.readerFor(type);
+    }
+
+    @Benchmark
+    public Object reflective() throws IOException {
+        return reflective.readValue(payload);
+    }
+
+    @Benchmark
+    public Object streaming() throws IOException {
+        return streaming.readValue(payload);
+    }
+
+    private static byte[] bytes(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    abstract static class ReflectiveEthBlock {
+        @JsonDeserialize(using = JsonDeserializer.None.class)
+        abstract void setResult(EthBlock.Block result);
+    }
+
+    abstract static class ReflectiveBlock {
+        @JsonDeserialize(using = ReflectiveTransactionsDeserialiser.class)
+        abstract void setTransactions(List<EthBlock.TransactionResult> transactions);
+    }
+
+    abstract static class ReflectiveEthLog {
+        @JsonDeserialize(using = ReflectiveLogsDeserialiser.class)
+        abstract void setResult(List<EthLog.LogResult> result);
+    }
+
+    abstract static class ReflectiveEthTransaction {
+        @JsonDeserialize(using = JsonDeserializer.None.class)
+        abstract void setResult(Transaction result);
+    }
+
+    abstract static class ReflectiveEthGetTransactionReceipt {
+        @JsonDeserialize(using = JsonDeserializer.None.class)
+        abstract void setResult(TransactionReceipt result);
+    }
+
+    /**
+     * Binds each transaction as a bean, as the block deserialiser previously did.
+     */
+    static class ReflectiveTransactionsDeserialiser
+            extends JsonDeserializer<List<EthBlock.TransactionResult>> {
+
+        @Override
+        public List<EthBlock.TransactionResult> deserialize(
+                JsonParser parser, DeserializationContext context) throws IOException {
+            List<EthBlock.TransactionResult> transactionResults = new ArrayList<>();
+            for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY;
+                    token = parser.nextToken()) {
+                if (token == JsonToken.START_OBJECT) {
+                    transactionResults.add(
+                            context.readValue(parser, EthBlock.TransactionObject.class));
+                } else {
+                    transactionResults.add(new EthBlock.TransactionHash(parser.getText()));
+                }
+            }
+            return transactionResults;
+        }
+    }
+
+    /**
+     * Binds each log as a bean, as the log deserialiser previously did.
+     */
+    static class ReflectiveLogsDeserialiser extends JsonDeserializer<List<EthLog.LogResult>> {
+
+        @Override
+        public List<EthLog.LogResult> deserialize(
+                JsonParser parser, DeserializationContext context) throws IOException {
+            List<EthLog.LogResult> logResults = new ArrayList<>();
+            for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY;
+                    token = parser.nextToken()) {
+                if (token == JsonToken.START_OBJECT) {
+                    logResults.add(context.readValue(parser, EthLog.LogObject.class));
+                } else {
+                    logResults.add(new EthLog.Hash(parser.getText()));
+                }
+            }
+            return logResults;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package org.web3j.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.impl.NoConnectionReuseStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.methods.response.EthBlockNumber;
+import org.web3j.protocol.http.HttpService;
+
+/**
+ * Requests per second through {@link HttpService} against a local {@link StubNode}.
+ *
+ * <ul>
+ * <li><b>pooled</b> - the default pooled, persistent connection transport</li>
+ * <li><b>connectionPerRequest</b> - the previous behaviour, where the client was closed after
+ * every send and each request paid for a new TCP connection</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Threads(8)
+public class HttpServiceBenchmark {
+
+    @Param({"pooled", "connectionPerRequest"})
+    private String transport;
+
+    private StubNode stubNode;
+    private HttpService httpService;
+    private Web3j web3j;
+
+    @Setup
+    public void setUp() throws IOException {
+        stubNode = StubNode.start();
+        if (transport.equals("pooled")) {
+            httpService = new HttpService(stubNode.getUrl());
+        } else {
+            httpService = new HttpService(stubNode.getUrl(), HttpClients.custom()
+                    .setConnectionReuseStrategy(NoConnectionReuseStrategy.INSTANCE)
+                    .build());
+        }
+        web3j = Web3j.build(httpService);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        httpService.close();
+        stubNode.stop();
+    }
+
+    @Benchmark
+    public EthBlockNumber ethBlockNumber() throws IOException {
+        return web3j.ethBlockNumber().send();
+    }
+}
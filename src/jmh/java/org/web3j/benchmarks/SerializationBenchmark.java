@@ -0,0 +1,133 @@
+package org.web3j.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.web3j.protocol.ObjectMapperFactory;
+import org.web3j.protocol.RequestWriter;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.methods.request.Transaction;
+import org.web3j.protocol.http.HttpService;
+import org.web3j.utils.Async;
+
+/**
+ * Time and garbage to serialise a JSON-RPC request, via the {@link ObjectMapper} as previously,
+ * or via {@link RequestWriter} into a reused buffer as {@link HttpService} now does.
+ *
+ * <p>Benchmarks are run with the GC profiler, see {@code gc.alloc.rate.norm} for the bytes
+ * allocated per request. The writer allocates nothing for requests with only string params,
+ * while other params such as transactions are still serialised by the object mapper.</p>
+ *
+ * <p>{@code requestWriterOnExecutor} writes each request in a task on a single pooled thread, or
+ * on a new virtual thread per task, which requires Java 21. The latter has a new writer and
+ * buffer per request, so shows the cost of losing their reuse.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class SerializationBenchmark {
+
+    private static final String ADDRESS = "0x407d73d8a49eeb85d32cf465507dd71d507100c1";
+
+    @Param({"eth_blockNumber", "eth_getBalance", "eth_call"})
+    private String method;
+
+    private final ObjectMapper objectMapper = ObjectMapperFactory.getObjectMapper();
+    private HttpService httpService;
+    private Request<?, ?> request;
+
+    @Setup
+    public void setUp() {
+        httpService = new HttpService();
+        Web3j web3j = Web3j.build(httpService);
+        switch (method) {
+            case "eth_blockNumber":
+                request = web3j.ethBlockNumber();
+                break;
+            case "eth_getBalance":
+                request = web3j.ethGetBalance(ADDRESS, DefaultBlockParameterName.LATEST);
+                break;
+            case "eth_call":
+                request = web3j.ethCall(
+                        Transaction.createEthCallTransaction(ADDRESS,
+                                "0x70a08231000000000000000000000000"
+                                        + "407d73d8a49eeb85d32cf465507dd71d507100c1"),
+                        DefaultBlockParameterName.LATEST);
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported method: " + method);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        httpService.close();
+    }
+
+    @Benchmark
+    public byte[] objectMapper() throws IOException {
+        return objectMapper.writeValueAsBytes(request);
+    }
+
+    @Benchmark
+    public int requestWriter() throws IOException {
+        return write(request);
+    }
+
+    @Benchmark
+    public int requestWriterOnExecutor(ExecutorState executorState)
+            throws ExecutionException, InterruptedException {
+        return executorState.executor.submit(() -> write(request)).get();
+    }
+
+    private static int write(Request<?, ?> request) throws IOException {
+        RequestWriter requestWriter = RequestWriter.get();
+        requestWriter.write(request);
+        return requestWriter.size();
+    }
+
+    @State(Scope.Thread)
+    public static class ExecutorState {
+
+        @Param({"pooled", "virtualThreadPerTask"})
+        private String executorType;
+
+        private ExecutorService executor;
+
+        @Setup
+        public void setUp() {
+            if (executorType.equals("pooled")) {
+                executor = Executors.newSingleThreadExecutor();
+            } else {
+                executor = Async.newVirtualThreadPerTaskExecutor();
+            }
+        }
+
+        @TearDown
+        public void tearDown() {
+            executor.shutdownNow();
+        }
+    }
+}
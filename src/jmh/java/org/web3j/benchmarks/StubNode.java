@@ -0,0 +1,113 @@
+package org.web3j.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPOutputStream;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Minimal in-process HTTP JSON-RPC endpoint, returning a canned response to every request so
+ * that benchmarks measure the client rather than an Ethereum node.
+ */
+public class StubNode {
+
+    public static final String ETH_BLOCK_NUMBER_RESPONSE =
+            "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"0x2d8b1f\"}";
+
+    static {
+        // otherwise Nagle's algorithm delays every keep-alive response by the delayed ACK timeout
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    private final HttpServer httpServer;
+    private final ExecutorService executorService;
+    private volatile byte[] response;
+    private volatile byte[] compressedResponse;
+
+    private StubNode(HttpServer httpServer, ExecutorService executorService, byte[] response) {
+        this.httpServer = httpServer;
+        this.executorService = executorService;
+        this.response = response;
+    }
+
+    public static StubNode start() throws IOException {
+        return start(ETH_BLOCK_NUMBER_RESPONSE);
+    }
+
+    public static StubNode start(String response) throws IOException {
+        HttpServer httpServer = HttpServer.create(
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1024);
+        ExecutorService executorService = Executors.newFixedThreadPool(16);
+        StubNode stubNode = new StubNode(
+                httpServer, executorService, response.getBytes(StandardCharsets.UTF_8));
+
+        httpServer.createContext("/", stubNode::handle);
+        httpServer.setExecutor(executorService);
+        httpServer.start();
+        return stubNode;
+    }
+
+    public String getUrl() {
+        return "http://" + httpServer.getAddress().getHostString()
+                + ":" + httpServer.getAddress().getPort() + "/";
+    }
+
+    public void setResponse(byte[] response) {
+        this.response = response;
+        this.compressedResponse = null;
+    }
+
+    /**
+     * Gzip compress the response for clients which accept it, as nodes such as geth do.
+     *
+     * @param compress whether to compress responses
+     * @throws IOException if the response could not be compressed
+     */
+    public void setCompressResponses(boolean compress) throws IOException {
+        if (compress) {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+                gzipOutputStream.write(response);
+            }
+            compressedResponse = outputStream.toByteArray();
+        } else {
+            compressedResponse = null;
+        }
+    }
+
+    public void stop() {
+        httpServer.stop(0);
+        executorService.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (InputStream requestBody = exchange.getRequestBody()) {
+            byte[] buffer = new byte[8192];
+            while (requestBody.read(buffer) != -1) {
+                // drain the request so the connection can be reused
+            }
+        }
+
+        byte[] body = response;
+        byte[] compressedBody = compressedResponse;
+        String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        if (compressedBody != null && acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            body = compressedBody;
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+        }
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(body);
+        }
+    }
+}
@@ -7,6 +7,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
 
 import org.web3j.abi.datatypes.Event;
@@ -20,6 +21,7 @@ import org.web3j.protocol.core.methods.request.Transaction;
 import org.web3j.protocol.core.methods.response.*;
 import org.web3j.protocol.exceptions.TransactionTimeoutException;
 import org.web3j.protocol.exceptions.TransactionFailedException;
+import org.web3j.utils.Async;
 
 import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
@@ -69,32 +71,12 @@ public abstract class Contract extends ManagedTransaction {
 
     public <T extends Type> Future<T> executeCallSingleValueReturnAsync(
             Function function) {
-        CompletableFuture<T> result =
-                new CompletableFuture<>();
-
-        CompletableFuture.runAsync(() -> {
-            try {
-                result.complete(executeCallSingleValueReturn(function));
-            } catch (InterruptedException|ExecutionException e) {
-                result.completeExceptionally(e);
-            }
-        });
-        return result;
+        return Async.run(() -> executeCallSingleValueReturn(function), getExecutor());
     }
 
     public Future<List<Type>> executeCallMultipleValueReturnAsync(
             Function function) {
-        CompletableFuture<List<Type>> result =
-                new CompletableFuture<>();
-
-        CompletableFuture.runAsync(() -> {
-            try {
-                result.complete(executeCallMultipleValueReturn(function));
-            } catch (InterruptedException|ExecutionException e) {
-                result.completeExceptionally(e);
-            }
-        });
-        return result;
+        return Async.run(() -> executeCallMultipleValueReturn(function), getExecutor());
     }
 
     public <T extends Type> T executeCallSingleValueReturn(
@@ -141,24 +123,21 @@ public abstract class Contract extends ManagedTransaction {
     }
 
     /**
-     * Execute the provided function as a transaction asynchronously.
+     * Execute the provided function as a transaction asynchronously, on the executor given by
+     * {@link #getExecutor()}.
      *
      * @param function to transact with
      * @return {@link Future} containing executing transaction
      */
     public Future<TransactionReceipt> executeTransactionAsync(Function function) {
-        CompletableFuture<TransactionReceipt> result =
-                new CompletableFuture<>();
-
-        CompletableFuture.runAsync(() -> {
+        return Async.run(() -> {
             try {
-                result.complete(executeTransaction(function));
+                return executeTransaction(function);
             } catch (InterruptedException|ExecutionException|TransactionTimeoutException|TransactionFailedException e) {
                 log.warn("While calling {}", function, e);
-                result.completeExceptionally(e);
+                throw e;
             }
-        });
-        return result;
+        }, getExecutor());
     }
 
     public EventValues extractEventParameters(
@@ -234,17 +213,23 @@ public abstract class Contract extends ManagedTransaction {
             Class<T> type, Web3j web3j, Credentials credentials,
             BigInteger gasPrice, BigInteger gasLimit,
             String binary, String encodedConstructor, BigInteger value) {
-        CompletableFuture<T> result = new CompletableFuture<>();
+        return deployAsync(type, web3j, credentials, gasPrice, gasLimit,
+                binary, encodedConstructor, value, getExecutor(web3j));
+    }
 
-        CompletableFuture.runAsync(() -> {
-            try {
-                result.complete(
-                        deploy(type, web3j, credentials, gasPrice, gasLimit,
-                                binary, encodedConstructor, value));
-            } catch (Throwable e) {
-                result.completeExceptionally(e);
-            }
-        });
-        return result;
+    /**
+     * Deploy a contract asynchronously on the given executor, rather than that of the
+     * {@link Web3j} instance.
+     */
+    public static <T extends Contract> CompletableFuture<T> deployAsync(
+            Class<T> type, Web3j web3j, Credentials credentials,
+            BigInteger gasPrice, BigInteger gasLimit,
+            String binary, String encodedConstructor, BigInteger value, Executor executor) {
+        return Async.run(() -> {
+            T contract = deploy(type, web3j, credentials, gasPrice, gasLimit,
+                    binary, encodedConstructor, value);
+            contract.setExecutor(executor);
+            return contract;
+        }, executor);
     }
 }
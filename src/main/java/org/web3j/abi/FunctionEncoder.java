@@ -9,6 +9,7 @@ import org.web3j.abi.datatypes.StaticArray;
 import org.web3j.abi.datatypes.Type;
 import org.web3j.abi.datatypes.Uint;
 import org.web3j.crypto.Hash;
+import org.web3j.jfr.FlightRecorderEvents;
 import org.web3j.utils.Numeric;
 
 /**
@@ -22,6 +23,7 @@ public class FunctionEncoder {
     private FunctionEncoder() { }
 
     public static String encode(Function function) {
+        FlightRecorderEvents.AbiTimer timer = FlightRecorderEvents.startAbiEncode();
         List<Type> parameters = function.getInputParameters();
 
         String methodSignature = buildMethodSignature(function.getName(), parameters);
@@ -30,7 +32,9 @@ public class FunctionEncoder {
         StringBuilder result = new StringBuilder();
         result.append(methodId);
 
-        return encodeParameters(parameters, result);
+        String encoded = encodeParameters(parameters, result);
+        timer.complete(function.getName(), parameters.size(), (encoded.length() - 2) >> 1);
+        return encoded;
     }
 
     public static String encodeConstructor(List<Type> parameters) {
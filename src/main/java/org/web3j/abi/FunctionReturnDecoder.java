@@ -6,6 +6,7 @@ import java.util.List;
 
 import org.web3j.abi.datatypes.*;
 import org.web3j.abi.datatypes.generated.Bytes32;
+import org.web3j.jfr.FlightRecorderEvents;
 import org.web3j.utils.Numeric;
 
 import static org.web3j.abi.TypeDecoder.MAX_BYTE_LENGTH_FOR_HEX_STRING;
@@ -32,7 +33,10 @@ public class FunctionReturnDecoder {
         if (input.isEmpty()) {
             return Collections.emptyList();
         } else {
-            return build(input, outputParameters);
+            FlightRecorderEvents.AbiTimer timer = FlightRecorderEvents.startAbiDecode();
+            List<Type> results = build(input, outputParameters);
+            timer.complete(null, results.size(), input.length() >> 1);
+            return results;
         }
     }
 
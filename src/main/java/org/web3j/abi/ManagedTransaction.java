@@ -3,6 +3,7 @@ package org.web3j.abi;
 import java.math.BigInteger;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 
 import org.web3j.crypto.Credentials;
 import org.web3j.crypto.TransactionEncoder;
@@ -15,6 +16,7 @@ import org.web3j.protocol.core.methods.response.EthSendTransaction;
 import org.web3j.protocol.core.methods.response.TransactionReceipt;
 import org.web3j.protocol.exceptions.TransactionTimeoutException;
 import org.web3j.protocol.exceptions.TransactionFailedException;
+import org.web3j.utils.Async;
 import org.web3j.utils.Numeric;
 
 
@@ -38,6 +40,8 @@ public abstract class ManagedTransaction {
     protected BigInteger gasPrice;
     protected BigInteger gasLimit;
 
+    private volatile Executor executor;
+
     private int sleepDuration = SLEEP_DURATION;
     private int attempts = ATTEMPTS;
 
@@ -48,6 +52,25 @@ public abstract class ManagedTransaction {
 
         this.gasPrice = gasPrice;
         this.gasLimit = gasLimit;
+
+        this.executor = getExecutor(web3j);
+    }
+
+    /**
+     * Get the executor which asynchronous calls and transactions run on, by default that of the
+     * {@link Web3j} instance used.
+     *
+     * @return the executor
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    public void setExecutor(Executor executor) {
+        if (executor == null) {
+            throw new IllegalArgumentException("An executor must be provided");
+        }
+        this.executor = executor;
     }
 
     // In case anyone wishes to override the defaults
@@ -126,4 +149,9 @@ public abstract class ManagedTransaction {
 
         return transactionReceipt.getTransactionReceipt();
     }
+
+    static Executor getExecutor(Web3j web3j) {
+        Executor executor = web3j == null ? null : web3j.getExecutor();
+        return executor == null ? Async.defaultExecutor() : executor;
+    }
 }
@@ -4,7 +4,6 @@ package org.web3j.abi;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 
@@ -14,6 +13,7 @@ import org.web3j.protocol.core.methods.request.RawTransaction;
 import org.web3j.protocol.core.methods.response.*;
 import org.web3j.protocol.exceptions.TransactionTimeoutException;
 import org.web3j.protocol.exceptions.TransactionFailedException;
+import org.web3j.utils.Async;
 import org.web3j.utils.Convert;
 import org.web3j.utils.Numeric;
 
@@ -84,17 +84,7 @@ public class Transfer extends ManagedTransaction {
     public Future<TransactionReceipt> sendFundsAsync(
             String toAddress, BigDecimal value, Convert.Unit unit) {
 
-        CompletableFuture<TransactionReceipt> result =
-                new CompletableFuture<>();
-
-        CompletableFuture.runAsync(() -> {
-            try {
-                result.complete(send(toAddress, value, unit));
-            } catch (InterruptedException|ExecutionException|TransactionTimeoutException|TransactionFailedException e) {
-                result.completeExceptionally(e);
-            }
-        });
-        return result;
+        return Async.run(() -> send(toAddress, value, unit), getExecutor());
     }
 
     public static TransactionReceipt sendFunds(
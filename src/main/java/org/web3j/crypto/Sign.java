@@ -17,6 +17,7 @@ import org.bouncycastle.math.ec.ECPoint;
 import org.bouncycastle.math.ec.FixedPointCombMultiplier;
 import org.bouncycastle.math.ec.custom.sec.SecP256K1Curve;
 
+import org.web3j.jfr.FlightRecorderEvents;
 import org.web3j.utils.Numeric;
 
 /**
@@ -34,6 +35,13 @@ public class Sign {
     private static final BigInteger HALF_CURVE_ORDER = CURVE_PARAMS.getN().shiftRight(1);
 
     public static SignatureData signMessage(byte[] message, ECKeyPair keyPair) {
+        FlightRecorderEvents.SignTimer timer = FlightRecorderEvents.startSign();
+        SignatureData signatureData = sign(message, keyPair);
+        timer.complete(message.length);
+        return signatureData;
+    }
+
+    private static SignatureData sign(byte[] message, ECKeyPair keyPair) {
         BigInteger privateKey = keyPair.getPrivateKey();
         BigInteger publicKey = keyPair.getPublicKey();
 
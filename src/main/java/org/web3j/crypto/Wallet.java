@@ -12,6 +12,7 @@ import org.bouncycastle.crypto.digests.SHA256Digest;
 import org.bouncycastle.crypto.generators.PKCS5S2ParametersGenerator;
 import org.bouncycastle.crypto.params.KeyParameter;
 
+import org.web3j.jfr.FlightRecorderEvents;
 import org.web3j.utils.Numeric;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
@@ -179,7 +180,10 @@ public class Wallet {
             int p = scryptKdfParams.getP();
             int r = scryptKdfParams.getR();
             byte[] salt = Numeric.hexStringToByteArray(scryptKdfParams.getSalt());
+            FlightRecorderEvents.KeyDerivationTimer timer =
+                    FlightRecorderEvents.startKeyDerivation();
             derivedKey = generateDerivedScryptKey(password.getBytes(UTF_8), salt, n, r, p, dklen);
+            timer.complete(SCRYPT, n);
         } else if (kdfParams instanceof WalletFile.Aes128CtrKdfParams) {
             WalletFile.Aes128CtrKdfParams aes128CtrKdfParams =
                     (WalletFile.Aes128CtrKdfParams) crypto.getKdfparams();
@@ -187,7 +191,10 @@ public class Wallet {
             String prf = aes128CtrKdfParams.getPrf();
             byte[] salt = Numeric.hexStringToByteArray(aes128CtrKdfParams.getSalt());
 
+            FlightRecorderEvents.KeyDerivationTimer timer =
+                    FlightRecorderEvents.startKeyDerivation();
             derivedKey = generateAes128CtrDerivedKey(password.getBytes(UTF_8), salt, c, prf);
+            timer.complete(AES_128_CTR, c);
         } else {
             throw new CipherException("Unable to deserialize params: " + crypto.getKdf());
         }
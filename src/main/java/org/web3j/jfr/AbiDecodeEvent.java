@@ -0,0 +1,36 @@
+package org.web3j.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("org.web3j.AbiDecode")
+@Label("ABI Decode")
+@Category("web3j")
+@Description("Decoding of a function call's return values")
+@StackTrace(false)
+final class AbiDecodeEvent extends Event implements FlightRecorderEvents.AbiTimer {
+
+    @Label("Function")
+    String function;
+
+    @Label("Values")
+    int parameterCount;
+
+    @Label("Encoded Size")
+    @DataAmount
+    int encodedLength;
+
+    @Override
+    public void complete(String function, int parameterCount, int encodedLength) {
+        end();
+        this.function = function;
+        this.parameterCount = parameterCount;
+        this.encodedLength = encodedLength;
+        commit();
+    }
+}
@@ -0,0 +1,122 @@
+package org.web3j.jfr;
+
+/**
+ * Java Flight Recorder events for web3j's hot paths, so that time spent in JSON-RPC requests,
+ * signing, wallet key derivation and ABI encoding can be attributed in production recordings.
+ *
+ * <p>Events are only created while a recording with them enabled is running. Otherwise, or on
+ * JVMs without the {@code jdk.jfr} module, each {@code start} method returns a shared no-op
+ * timer, so instrumented code costs no more than a check of a flag.</p>
+ *
+ * <p>The events are named {@code org.web3j.Rpc}, {@code org.web3j.Sign},
+ * {@code org.web3j.KeyDerivation}, {@code org.web3j.AbiEncode} and {@code org.web3j.AbiDecode},
+ * in the web3j category.</p>
+ */
+public final class FlightRecorderEvents {
+
+    private static final boolean AVAILABLE = isFlightRecorderAvailable();
+
+    private FlightRecorderEvents() { }
+
+    /**
+     * Check whether events may be recorded, which requires the {@code jdk.jfr} module.
+     *
+     * @return true if this JVM supports flight recorder events
+     */
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    public static RpcTimer startRpc() {
+        return AVAILABLE ? JfrEvents.startRpc() : RpcTimer.NONE;
+    }
+
+    public static SignTimer startSign() {
+        return AVAILABLE ? JfrEvents.startSign() : SignTimer.NONE;
+    }
+
+    public static KeyDerivationTimer startKeyDerivation() {
+        return AVAILABLE ? JfrEvents.startKeyDerivation() : KeyDerivationTimer.NONE;
+    }
+
+    public static AbiTimer startAbiEncode() {
+        return AVAILABLE ? JfrEvents.startAbiEncode() : AbiTimer.NONE;
+    }
+
+    public static AbiTimer startAbiDecode() {
+        return AVAILABLE ? JfrEvents.startAbiDecode() : AbiTimer.NONE;
+    }
+
+    private static boolean isFlightRecorderAvailable() {
+        try {
+            Class.forName("jdk.jfr.Event");
+            return jdk.jfr.FlightRecorder.isAvailable();
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Timer for a JSON-RPC request, or a batch of requests.
+     */
+    public interface RpcTimer {
+
+        RpcTimer NONE = (method, requestCount, requestBytes, responseBytes, failed) -> { };
+
+        /**
+         * Record the request.
+         *
+         * @param method of the request, or {@code "batch"}
+         * @param requestCount number of requests sent, greater than one for a batch
+         * @param requestBytes size of the request payload
+         * @param responseBytes size of the response as received, or -1 if not known
+         * @param failed true if no valid response was received
+         */
+        void complete(String method, int requestCount, long requestBytes, long responseBytes,
+                      boolean failed);
+    }
+
+    /**
+     * Timer for signing a message.
+     */
+    public interface SignTimer {
+
+        SignTimer NONE = messageLength -> { };
+
+        void complete(int messageLength);
+    }
+
+    /**
+     * Timer for deriving a wallet file's key from its password, which dominates the time taken
+     * to decrypt a wallet.
+     */
+    public interface KeyDerivationTimer {
+
+        KeyDerivationTimer NONE = (kdf, iterations) -> { };
+
+        /**
+         * Record the key derivation.
+         *
+         * @param kdf key derivation function, scrypt or pbkdf2
+         * @param iterations cost parameter, n for scrypt or c for pbkdf2
+         */
+        void complete(String kdf, int iterations);
+    }
+
+    /**
+     * Timer for encoding function parameters, or decoding return values.
+     */
+    public interface AbiTimer {
+
+        AbiTimer NONE = (function, parameterCount, encodedLength) -> { };
+
+        /**
+         * Record the encoding or decoding.
+         *
+         * @param function name, or null if not known
+         * @param parameterCount number of parameters encoded or values decoded
+         * @param encodedLength size of the encoded data in bytes
+         */
+        void complete(String function, int parameterCount, int encodedLength);
+    }
+}
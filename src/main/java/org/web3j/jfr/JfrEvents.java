@@ -0,0 +1,64 @@
+package org.web3j.jfr;
+
+import jdk.jfr.EventType;
+
+/**
+ * Starts events, only loaded once {@link FlightRecorderEvents} has found the {@code jdk.jfr}
+ * module to be available.
+ */
+final class JfrEvents {
+
+    private static final EventType RPC = EventType.getEventType(RpcEvent.class);
+    private static final EventType SIGN = EventType.getEventType(SignEvent.class);
+    private static final EventType KEY_DERIVATION =
+            EventType.getEventType(KeyDerivationEvent.class);
+    private static final EventType ABI_ENCODE = EventType.getEventType(AbiEncodeEvent.class);
+    private static final EventType ABI_DECODE = EventType.getEventType(AbiDecodeEvent.class);
+
+    private JfrEvents() { }
+
+    static FlightRecorderEvents.RpcTimer startRpc() {
+        if (!RPC.isEnabled()) {
+            return FlightRecorderEvents.RpcTimer.NONE;
+        }
+        RpcEvent event = new RpcEvent();
+        event.begin();
+        return event;
+    }
+
+    static FlightRecorderEvents.SignTimer startSign() {
+        if (!SIGN.isEnabled()) {
+            return FlightRecorderEvents.SignTimer.NONE;
+        }
+        SignEvent event = new SignEvent();
+        event.begin();
+        return event;
+    }
+
+    static FlightRecorderEvents.KeyDerivationTimer startKeyDerivation() {
+        if (!KEY_DERIVATION.isEnabled()) {
+            return FlightRecorderEvents.KeyDerivationTimer.NONE;
+        }
+        KeyDerivationEvent event = new KeyDerivationEvent();
+        event.begin();
+        return event;
+    }
+
+    static FlightRecorderEvents.AbiTimer startAbiEncode() {
+        if (!ABI_ENCODE.isEnabled()) {
+            return FlightRecorderEvents.AbiTimer.NONE;
+        }
+        AbiEncodeEvent event = new AbiEncodeEvent();
+        event.begin();
+        return event;
+    }
+
+    static FlightRecorderEvents.AbiTimer startAbiDecode() {
+        if (!ABI_DECODE.isEnabled()) {
+            return FlightRecorderEvents.AbiTimer.NONE;
+        }
+        AbiDecodeEvent event = new AbiDecodeEvent();
+        event.begin();
+        return event;
+    }
+}
@@ -0,0 +1,28 @@
+package org.web3j.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.web3j.KeyDerivation")
+@Label("Wallet Key Derivation")
+@Category("web3j")
+@Description("Derivation of a wallet file's key from its password")
+final class KeyDerivationEvent extends Event implements FlightRecorderEvents.KeyDerivationTimer {
+
+    @Label("Function")
+    String kdf;
+
+    @Label("Iterations")
+    int iterations;
+
+    @Override
+    public void complete(String kdf, int iterations) {
+        end();
+        this.kdf = kdf;
+        this.iterations = iterations;
+        commit();
+    }
+}
@@ -0,0 +1,44 @@
+package org.web3j.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.web3j.Rpc")
+@Label("JSON-RPC Request")
+@Category("web3j")
+@Description("A JSON-RPC request, or batch of requests, sent to a node")
+final class RpcEvent extends Event implements FlightRecorderEvents.RpcTimer {
+
+    @Label("Method")
+    String method;
+
+    @Label("Request Count")
+    int requestCount;
+
+    @Label("Request Size")
+    @DataAmount
+    long requestBytes;
+
+    @Label("Response Size")
+    @DataAmount
+    long responseBytes;
+
+    @Label("Failed")
+    boolean failed;
+
+    @Override
+    public void complete(String method, int requestCount, long requestBytes,
+                         long responseBytes, boolean failed) {
+        end();
+        this.method = method;
+        this.requestCount = requestCount;
+        this.requestBytes = requestBytes;
+        this.responseBytes = responseBytes;
+        this.failed = failed;
+        commit();
+    }
+}
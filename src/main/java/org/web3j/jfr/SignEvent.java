@@ -0,0 +1,26 @@
+package org.web3j.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.web3j.Sign")
+@Label("Sign Message")
+@Category("web3j")
+@Description("Hashing and signing of a message, such as a transaction")
+final class SignEvent extends Event implements FlightRecorderEvents.SignTimer {
+
+    @Label("Message Size")
+    @DataAmount
+    int messageLength;
+
+    @Override
+    public void complete(int messageLength) {
+        end();
+        this.messageLength = messageLength;
+        commit();
+    }
+}
@@ -0,0 +1,243 @@
+package org.web3j.protocol;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+
+/**
+ * Serialises JSON-RPC requests into a reusable per-thread buffer, producing the same JSON as
+ * {@link ObjectMapper#writeValueAsBytes(Object)} with next to no garbage per request.
+ *
+ * <p>The envelope up to the params is written from a prebuilt, pre-encoded prefix per method.
+ * String, boolean and numeric params are streamed directly, other params such as transactions
+ * are written by the shared {@link ObjectMapper}. A single generator and buffer are kept per
+ * thread, so the buffer returned by {@link #getBuffer()} is only valid until the thread writes
+ * another request.</p>
+ *
+ * <p>The buffer is only reused by threads which write many requests, such as those of a pool.
+ * A thread per request, as with a virtual thread per task executor, allocates a new writer and
+ * buffer for each.</p>
+ */
+public final class RequestWriter {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+    private static final int MAX_CACHED_PREFIXES = 1024;
+
+    private static final SerializableString ID = new SerializedString(",\"id\":");
+    private static final SerializableString END = new SerializedString("}");
+    private static final SerializableString BATCH_START = new SerializedString("[");
+    private static final SerializableString BATCH_SEPARATOR = new SerializedString(",");
+    private static final SerializableString BATCH_END = new SerializedString("]");
+
+    private static final ConcurrentMap<String, SerializableString> prefixes =
+            new ConcurrentHashMap<>();
+
+    private static final ThreadLocal<RequestWriter> writers =
+            ThreadLocal.withInitial(RequestWriter::new);
+
+    private final ObjectMapper objectMapper = ObjectMapperFactory.getObjectMapper();
+    private final Buffer buffer = new Buffer();
+    private JsonGenerator generator;
+
+    private RequestWriter() { }
+
+    /**
+     * Get the current thread's writer.
+     *
+     * @return writer for use by the calling thread only
+     */
+    public static RequestWriter get() {
+        return writers.get();
+    }
+
+    /**
+     * Serialise a request into the current thread's buffer, and copy it out.
+     *
+     * @param request to serialise
+     * @return the request as JSON
+     * @throws IOException if a param could not be serialised
+     */
+    public static byte[] writeValueAsBytes(Request<?, ?> request) throws IOException {
+        RequestWriter writer = get();
+        writer.write(request);
+        return writer.toByteArray();
+    }
+
+    /**
+     * Serialise a request, replacing the buffer's previous contents.
+     *
+     * @param request to serialise
+     * @throws IOException if a param could not be serialised
+     */
+    public void write(Request<?, ?> request) throws IOException {
+        JsonGenerator generator = reset();
+        try {
+            writeRequest(generator, request);
+            generator.flush();
+        } catch (IOException | RuntimeException e) {
+            this.generator = null;
+            throw e;
+        }
+    }
+
+    /**
+     * Serialise a batch of requests as a JSON array, replacing the buffer's previous contents.
+     *
+     * @param requests to serialise
+     * @throws IOException if a param could not be serialised
+     */
+    public void writeBatch(List<? extends Request<?, ? extends Response>> requests)
+            throws IOException {
+        JsonGenerator generator = reset();
+        try {
+            generator.writeRaw(BATCH_START);
+            for (int i = 0; i < requests.size(); i++) {
+                if (i > 0) {
+                    generator.writeRaw(BATCH_SEPARATOR);
+                }
+                writeRequest(generator, requests.get(i));
+            }
+            generator.writeRaw(BATCH_END);
+            generator.flush();
+        } catch (IOException | RuntimeException e) {
+            this.generator = null;
+            throw e;
+        }
+    }
+
+    /**
+     * Get the buffer holding the last request written, valid up to {@link #size()}.
+     *
+     * @return the buffer, which is reused for the next request written on this thread
+     */
+    public byte[] getBuffer() {
+        return buffer.bytes;
+    }
+
+    public int size() {
+        return buffer.count;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer.bytes, buffer.count);
+    }
+
+    private JsonGenerator reset() throws IOException {
+        buffer.reset();
+        if (generator == null) {
+            generator = objectMapper.getFactory().createGenerator(buffer);
+            // requests are written as successive root values, without separating whitespace
+            generator.setRootValueSeparator(null);
+        }
+        return generator;
+    }
+
+    private void writeRequest(JsonGenerator generator, Request<?, ?> request)
+            throws IOException {
+        if (request.getClass() != Request.class || !"2.0".equals(request.getJsonrpc())) {
+            // subclasses may serialise further properties
+            objectMapper.writeValue(generator, request);
+            return;
+        }
+
+        generator.writeRaw(getPrefix(request.getMethod()));
+        List<?> params = request.getParams();
+        if (params == null) {
+            generator.writeNull();
+        } else {
+            generator.writeStartArray();
+            for (int i = 0; i < params.size(); i++) {
+                writeParam(generator, params.get(i));
+            }
+            generator.writeEndArray();
+        }
+        generator.writeRaw(ID);
+        generator.writeNumber(request.getId());
+        generator.writeRaw(END);
+    }
+
+    private void writeParam(JsonGenerator generator, Object param) throws IOException {
+        if (param instanceof String) {
+            generator.writeString((String) param);
+        } else if (param instanceof Boolean) {
+            generator.writeBoolean((Boolean) param);
+        } else if (param instanceof Long || param instanceof Integer) {
+            generator.writeNumber(((Number) param).longValue());
+        } else if (param instanceof BigInteger) {
+            generator.writeNumber((BigInteger) param);
+        } else if (param == null) {
+            generator.writeNull();
+        } else {
+            objectMapper.writeValue(generator, param);
+        }
+    }
+
+    private static SerializableString getPrefix(String method) {
+        SerializableString prefix = prefixes.get(method);
+        if (prefix == null) {
+            prefix = createPrefix(method);
+            if (prefixes.size() < MAX_CACHED_PREFIXES) {
+                prefixes.putIfAbsent(method, prefix);
+            }
+        }
+        return prefix;
+    }
+
+    private static SerializableString createPrefix(String method) {
+        if (method == null) {
+            return new SerializedString("{\"jsonrpc\":\"2.0\",\"method\":null,\"params\":");
+        }
+        char[] quoted = JsonStringEncoder.getInstance().quoteAsString(method);
+        return new SerializedString(
+                "{\"jsonrpc\":\"2.0\",\"method\":\"" + new String(quoted) + "\",\"params\":");
+    }
+
+    /**
+     * Growable byte buffer, shrunk back down after holding an unusually large request.
+     */
+    private static class Buffer extends OutputStream {
+
+        private byte[] bytes = new byte[INITIAL_CAPACITY];
+        private int count;
+
+        void reset() {
+            if (bytes.length > MAX_RETAINED_CAPACITY) {
+                bytes = new byte[INITIAL_CAPACITY];
+            }
+            count = 0;
+        }
+
+        @Override
+        public void write(int b) {
+            ensureCapacity(count + 1);
+            bytes[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            ensureCapacity(count + len);
+            System.arraycopy(b, off, bytes, count, len);
+            count += len;
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(capacity, bytes.length * 2));
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package org.web3j.protocol;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+
+/**
+ * Correlates responses received on a connection shared by many concurrent requests with the
+ * requests awaiting them.
+ *
+ * <p>Requests are registered before they are written to the connection. Responses may then
+ * arrive in any order, individually or as part of a batch, and are routed by id to the future of
+ * the request which produced them.</p>
+ */
+public class ResponseCorrelator {
+
+    private final ObjectMapper objectMapper = ObjectMapperFactory.getObjectMapper();
+
+    private final ConcurrentMap<Long, PendingRequest<?>> pendingRequests =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Register a request which is about to be sent.
+     *
+     * @param request to be sent, renumbered if a request with the same id is already pending
+     * @param responseType to deserialise the response into
+     * @param <T> response type
+     * @return future completed once the response is dispatched to this correlator
+     */
+    public <T extends Response> CompletableFuture<T> register(
+            Request request, Class<T> responseType) {
+        PendingRequest<T> pendingRequest = new PendingRequest<>(responseType);
+
+        // generated ids are unique, but ids may also have been assigned explicitly
+        while (pendingRequests.putIfAbsent(request.getId(), pendingRequest) != null) {
+            request.setId(Request.nextId());
+        }
+        long id = request.getId();
+
+        // requests failed or cancelled by the caller will never be matched
+        pendingRequest.future.whenComplete(
+                (response, throwable) -> pendingRequests.remove(id, pendingRequest));
+        return pendingRequest.future;
+    }
+
+    /**
+     * Route a response, or an array of batch responses, to the requests awaiting them.
+     *
+     * @param response JSON-RPC response object or array
+     * @return true if every response was matched to a pending request
+     */
+    public boolean dispatch(JsonNode response) {
+        if (response.isArray()) {
+            boolean matched = true;
+            for (JsonNode element : response) {
+                matched &= dispatch(element);
+            }
+            return matched;
+        }
+
+        JsonNode id = response.get("id");
+        if (id == null || !id.canConvertToLong()) {
+            return false;
+        }
+
+        PendingRequest<?> pendingRequest = pendingRequests.remove(id.asLong());
+        if (pendingRequest == null) {
+            return false;
+        }
+        pendingRequest.complete(response);
+        return true;
+    }
+
+    public void fail(long id, Throwable throwable) {
+        PendingRequest<?> pendingRequest = pendingRequests.remove(id);
+        if (pendingRequest != null) {
+            pendingRequest.future.completeExceptionally(throwable);
+        }
+    }
+
+    /**
+     * Fail every pending request, such as when the connection has been lost.
+     *
+     * @param throwable reason for the failure
+     */
+    public void failAll(Throwable throwable) {
+        for (Long id : pendingRequests.keySet()) {
+            fail(id, throwable);
+        }
+    }
+
+    public int getPendingCount() {
+        return pendingRequests.size();
+    }
+
+    private class PendingRequest<T extends Response> {
+
+        private final Class<T> responseType;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+
+        PendingRequest(Class<T> responseType) {
+            this.responseType = responseType;
+        }
+
+        void complete(JsonNode response) {
+            try {
+                future.complete(objectMapper.treeToValue(response, responseType));
+            } catch (IOException | RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+}
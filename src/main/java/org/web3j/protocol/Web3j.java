@@ -1,14 +1,17 @@
 package org.web3j.protocol;
 
 import java.math.BigInteger;
+import java.util.concurrent.Executor;
 
 import org.web3j.protocol.core.methods.request.*;
 import org.web3j.protocol.core.methods.request.Transaction;
 import org.web3j.protocol.core.methods.request.ShhPost;
 import org.web3j.protocol.core.methods.response.*;
+import org.web3j.protocol.core.BatchRequest;
 import org.web3j.protocol.core.DefaultBlockParameter;
 import org.web3j.protocol.core.JsonRpc2_0Web3j;
 import org.web3j.protocol.core.Request;
+import org.web3j.utils.Async;
 
 /**
  * JSON-RPC Request object building factory.
@@ -18,6 +21,40 @@ public interface Web3j {
         return new JsonRpc2_0Web3j(web3jService);
     }
 
+    /**
+     * Construct a new instance whose asynchronous operations, such as those of contracts using
+     * it, run on the given executor.
+     *
+     * @param web3jService service to send requests with
+     * @param executor executor for asynchronous operations, for instance
+     *                 {@link Async#newVirtualThreadPerTaskExecutor()}
+     * @return a new instance
+     */
+    static Web3j build(Web3jService web3jService, Executor executor) {
+        return new JsonRpc2_0Web3j(web3jService, executor);
+    }
+
+    /**
+     * Get the executor which asynchronous operations using this instance run on.
+     *
+     * @return the executor, {@link Async#defaultExecutor()} unless another was given
+     */
+    default Executor getExecutor() {
+        return Async.defaultExecutor();
+    }
+
+    /**
+     * Create a new batch, to which requests created by this instance can be added and then sent
+     * to the node in a single round trip.
+     *
+     * @return an empty {@link BatchRequest}
+     * @throws UnsupportedOperationException if this implementation does not support batches
+     */
+    default BatchRequest newBatch() {
+        throw new UnsupportedOperationException(
+                "Batches are not supported by " + getClass().getName());
+    }
+
     Request<?, Web3ClientVersion> web3ClientVersion();
 
     Request<?, Web3Sha3> web3Sha3(String data);
@@ -1,18 +1,71 @@
 package org.web3j.protocol;
 
+import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
 import org.web3j.protocol.core.Request;
 import org.web3j.protocol.core.Response;
 
 /**
  * Services API.
  */
-public interface Web3jService {
+public interface Web3jService extends Closeable {
     <T extends Response> T send(
             Request request, Class<T> responseType) throws IOException;
 
     <T extends Response> CompletableFuture<T> sendAsync(
             Request request, Class<T> responseType);
+
+    /**
+     * Send a batch of requests. Unless overridden to send them in a single round trip, the
+     * requests are sent one after another.
+     *
+     * @param batchRequest requests to send
+     * @return the responses, in the order of the requests
+     * @throws IOException if any request could not be sent
+     */
+    default BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        List<Response> responses = new ArrayList<>(batchRequest.size());
+        for (Request<?, ? extends Response> request : batchRequest.getRequests()) {
+            responses.add(send(request, request.getResponseType()));
+        }
+        return new BatchResponse(batchRequest.getRequests(), responses);
+    }
+
+    /**
+     * Send a batch of requests asynchronously. Unless overridden to send them in a single round
+     * trip, the requests are sent individually.
+     *
+     * @param batchRequest requests to send
+     * @return the responses, in the order of the requests
+     */
+    default CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        List<CompletableFuture<? extends Response>> futures =
+                new ArrayList<>(batchRequest.size());
+        for (Request<?, ? extends Response> request : batchRequest.getRequests()) {
+            futures.add(sendAsync(request, request.getResponseType()));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+                .thenApply(ignored -> {
+                    List<Response> responses = new ArrayList<>(futures.size());
+                    for (CompletableFuture<? extends Response> future : futures) {
+                        responses.add(future.join());
+                    }
+                    return new BatchResponse(batchRequest.getRequests(), responses);
+                });
+    }
+
+    /**
+     * Release any resources held by the service, such as pooled connections.
+     *
+     * @throws IOException if the resources could not be released cleanly
+     */
+    @Override
+    default void close() throws IOException {
+    }
 }
@@ -0,0 +1,67 @@
+package org.web3j.protocol.core;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.web3j.protocol.Web3jService;
+
+/**
+ * A JSON-RPC 2.0 batch, sending a number of requests to the node in a single round trip.
+ *
+ * <p>Responses are matched back to their requests by id, so ids must be unique within a batch.
+ * A request added with an id already present in the batch is renumbered.</p>
+ */
+public class BatchRequest {
+
+    private final Web3jService web3jService;
+    private final List<Request<?, ? extends Response>> requests = new ArrayList<>();
+    private final Set<Long> ids = new HashSet<>();
+    private long maxId;
+
+    public BatchRequest(Web3jService web3jService) {
+        this.web3jService = web3jService;
+    }
+
+    /**
+     * Add a request to the batch.
+     *
+     * @param request to add, whose id is changed via {@link Request#setId(long)} if another
+     *                request in the batch already has it
+     * @return this batch
+     */
+    public BatchRequest add(Request<?, ? extends Response> request) {
+        if (!ids.add(request.getId())) {
+            request.setId(maxId + 1);
+            ids.add(request.getId());
+        }
+        maxId = Math.max(maxId, request.getId());
+        requests.add(request);
+        return this;
+    }
+
+    public List<Request<?, ? extends Response>> getRequests() {
+        return Collections.unmodifiableList(requests);
+    }
+
+    public int size() {
+        return requests.size();
+    }
+
+    public BatchResponse send() throws IOException {
+        return web3jService.sendBatch(this);
+    }
+
+    public CompletableFuture<BatchResponse> sendAsync() {
+        return web3jService.sendBatchAsync(this);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("BatchRequest(requests: %s)", requests);
+    }
+}
@@ -0,0 +1,54 @@
+package org.web3j.protocol.core;
+
+import java.util.List;
+
+/**
+ * Responses to a {@link BatchRequest}, held in the same order as the requests that produced
+ * them regardless of the order in which the node returned them.
+ */
+public class BatchResponse {
+
+    private final List<Request<?, ? extends Response>> requests;
+    private final List<? extends Response> responses;
+
+    public BatchResponse(
+            List<Request<?, ? extends Response>> requests,
+            List<? extends Response> responses) {
+        if (requests.size() != responses.size()) {
+            throw new IllegalArgumentException(
+                    "Expected " + requests.size() + " responses, got " + responses.size());
+        }
+        this.requests = requests;
+        this.responses = responses;
+    }
+
+    public List<Request<?, ? extends Response>> getRequests() {
+        return requests;
+    }
+
+    public List<? extends Response> getResponses() {
+        return responses;
+    }
+
+    /**
+     * Typed lookup of the response to a request that was part of this batch.
+     *
+     * @param request previously added to the batch
+     * @param <T> response type of the request
+     * @return the response to the request
+     * @throws IllegalArgumentException if the request was not part of the batch
+     */
+    public <T extends Response> T getResponse(Request<?, T> request) {
+        for (int i = 0; i < requests.size(); i++) {
+            if (requests.get(i) == request) {
+                return request.getResponseType().cast(responses.get(i));
+            }
+        }
+        throw new IllegalArgumentException("Request not part of this batch: " + request);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("BatchResponse(responses: %s)", responses);
+    }
+}
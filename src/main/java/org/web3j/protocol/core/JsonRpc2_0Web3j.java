@@ -4,6 +4,7 @@ package org.web3j.protocol.core;
 import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.concurrent.Executor;
 
 import org.web3j.protocol.Web3jService;
 import org.web3j.protocol.core.methods.request.*;
@@ -11,6 +12,7 @@ import org.web3j.protocol.core.methods.request.Transaction;
 import org.web3j.protocol.core.methods.request.ShhPost;
 import org.web3j.protocol.core.methods.response.*;
 import org.web3j.protocol.Web3j;
+import org.web3j.utils.Async;
 import org.web3j.utils.Numeric;
 
 /**
@@ -18,12 +20,37 @@ import org.web3j.utils.Numeric;
  */
 public class JsonRpc2_0Web3j implements Web3j {
 
+    /**
+     * The id all requests were once sent with.
+     *
+     * @deprecated requests are now each given a unique id by {@link Request#nextId()}
+     */
+    @Deprecated
     protected static final long ID = 1;
-    
+
     protected Web3jService web3jService;
+    private final Executor executor;
 
     public JsonRpc2_0Web3j(Web3jService web3jService) {
+        this(web3jService, Async.defaultExecutor());
+    }
+
+    public JsonRpc2_0Web3j(Web3jService web3jService, Executor executor) {
+        if (executor == null) {
+            throw new IllegalArgumentException("An executor must be provided");
+        }
         this.web3jService = web3jService;
+        this.executor = executor;
+    }
+
+    @Override
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    @Override
+    public BatchRequest newBatch() {
+        return new BatchRequest(web3jService);
     }
 
     @Override
@@ -31,7 +58,6 @@ public class JsonRpc2_0Web3j implements Web3j {
         return new Request<>(
                 "web3_clientVersion",
                 Collections.<String>emptyList(),
-                ID,
                 web3jService,
                 Web3ClientVersion.class);
     }
@@ -41,7 +67,6 @@ public class JsonRpc2_0Web3j implements Web3j {
         return new Request<>(
                 "web3_sha3",
                 Arrays.asList(data),
-                ID,
                 web3jService,
                 Web3Sha3.class);
     }
@@ -51,7 +76,6 @@ public class JsonRpc2_0Web3j implements Web3j {
         return new Request<>(
                 "net_version",
                 Collections.<String>emptyList(),
-                ID,
                 web3jService,
                 NetVersion.class);
     }
@@ -61,7 +85,6 @@ public class JsonRpc2_0Web3j implements Web3j {
         return new Request<>(
                 "net_listening",
                 Collections.<String>emptyList(),
-                ID,
                 web3jService,
                 NetListening.class);
     }
@@ -71,7 +94,6 @@ public class JsonRpc2_0Web3j implements Web3j {
         return new Request<>(
                 "net_peerCount",
                 Collections.<String>emptyList(),
-                ID,
                 web3jService,
                 NetPeerCount.class);
     }
@@ -81,7 +103,6 @@ public class JsonRpc2_0Web3j implements Web3j {
         return new Request<>(
                 "eth_protocolVersion",
                 Collections.<String>emptyList(),
-                ID,
                 web3jService,
                 EthProtocolVersion.class);
     }
@@ -91,7 +112,6 @@ public class JsonRpc2_0Web3j implements Web3j {
         return new Request<>(
                 "eth_coinbase",
                 Collections.<String>emptyList(),
-                ID,
                 web3jService,
                 EthCoinbase.class);
     }
@@ -101,7 +121,6 @@ public class JsonRpc2_0Web3j implements Web3j {
         return new Request<>(
                 "eth_syncing",
                 Collections.<String>emptyList(),
-                ID,
                 web3jService,
                 EthSyncing.class);
     }
@@ -111,7 +130,6 @@ public class JsonRpc2_0Web3j implements Web3j {
         return new Request<>(
                 "eth_mining",
                 Collections.<String>emptyList(),
-                ID,
                 web3jService,
                 EthMining.class);
     }
@@ -121,7 +139,6 @@ public class JsonRpc2_0Web3j implements Web3j {
         return new Request<>(
                 "eth_hashrate",
                 Collections.<String>emptyList(),
-                ID,
                 web3jService,
                 EthHashrate.class);
     }
@@ -131,7 +148,6 @@ public class JsonRpc2_0Web3j implements Web3j {
         return new Request<>(
                 "eth_gasPrice",
                 Collections.<String>emptyList(),
-                ID,
                 web3jService,
                 EthGasPrice.class);
     }
@@ -141,7 +157,6 @@ public class JsonRpc2_0Web3j implements Web3j {
         return new Request<>(
                 "eth_accounts",
                 Collections.<String>emptyList(),
-                ID,
                 web3jService,
                 EthAccounts.class);
     }
@@ -151,7 +166,6 @@ public class JsonRpc2_0Web3j implements Web3j {
         return new Request<>(
                 "eth_blockNumber",
                 Collections.<String>emptyList(),
-                ID,
                 web3jService,
                 EthBlockNumber.class);
     }
@@ -162,7 +176,6 @@ public class JsonRpc2_0Web3j implements Web3j {
         return new Request<>(
                 "eth_getBalance",
                 Arrays.asList(address, defaultBlockParameter.getValue()),
-                ID,
                 web3jService,
                 EthGetBalance.class);
     }
@@ -176,7 +189,6 @@ public class JsonRpc2_0Web3j implements Web3j {
                         address,
                         Numeric.encodeQuantity(position),
                         defaultBlockParameter.getValue()),
-                ID,
                 web3jService,
                 EthGetStorageAt.class);
     }
@@ -187,7 +199,6 @@ public class JsonRpc2_0Web3j implements Web3j {
         return new Request<>(
                 "eth_getTransactionCount",
                 Arrays.asList(address, defaultBlockParameter.getValue()),
-                ID,
                 web3jService,
                 EthGetTransactionCount.class);
     }
@@ -198,7 +209,6 @@ public class JsonRpc2_0Web3j implements Web3j {
         return new Request<>(
                 "eth_getBlockTransactionCountByHash",
                 Arrays.asList(blockHash),
-                ID,
                 web3jService,
                 EthGetBlockTransactionCountByHash.class);
     }
@@ -209,7 +219,6 @@ public class JsonRpc2_0Web3j implements Web3j {
         return new Request<>(
                 "eth_getBlockTransactionCountByNumber",
                 Arrays.asList(defaultBlockParameter.getValue()),
-                ID,
                 web3jService,
                 EthGetBlockTransactionCountByNumber.class);
     }
@@ -219,7 +228,6 @@ public class JsonRpc2_0Web3j implements Web3j {
         return new Request<>(
                 "eth_getUncleCountByBlockHash",
                 Arrays.asList(blockHash),
-                ID,
                 web3jService,
                 EthGetUncleCountByBlockHash.class);
     }
@@ -230,7 +238,6 @@ public class JsonRpc2_0Web3j implements Web3j {
         return new Request<>(
                 "eth_getUncleCountByBlockNumber",
                 Arrays.asList(defaultBlockParameter.getValue()),
-                ID,
                 web3jService,
                 EthGetUncleCountByBlockNumber.class);
     }
@@ -241,7 +248,6 @@ public class JsonRpc2_0Web3j implements Web3j {
         return new Request<>(
                 "eth_getCode",
                 Arrays.asList(address, defaultBlockParameter.getValue()),
-                ID,
                 web3jService,
                 EthGetCode.class);
     }
@@ -251,7 +257,6 @@ public class JsonRpc2_0Web3j implements Web3j {
         return new Request<>(
                 "eth_sign",
                 Arrays.asList(address, sha3HashOfDataToSign),
-                ID,
                 web3jService,
                 EthSign.class);
     }
@@ -262,7 +267,6 @@ public class JsonRpc2_0Web3j implements Web3j {
         return new Request<>(
                 "eth_sendTransaction",
                 Arrays.asList(transaction),
-                ID,
                 web3jService,
                 org.web3j.protocol.core.methods.response.EthSendTransaction.class);
     }
@@ -273,7 +277,6 @@ public class JsonRpc2_0Web3j implements Web3j {
         return new Request<>(
                 "eth_sendRawTransaction",
                 Arrays.asList(signedTransactionData),
-                ID,
                 web3jService,
                 org.web3j.protocol.core.methods.response.EthSendTransaction.class);
     }
@@ -284,7 +287,6 @@ public class JsonRpc2_0Web3j implements Web3j {
         return new Request<>(
                 "eth_call",
                 Arrays.asList(transaction, defaultBlockParameter),
-                ID,
                 web3jService,
                 org.web3j.protocol.core.methods.response.EthCall.class);
     }
@@ -294,7 +296,6 @@ public class JsonRpc2_0Web3j implements Web3j {
         return new Request<>(
                 "eth_estimateGas",
                 Arrays.asList(transaction),
-                ID,
                 web3jService,
                 EthEstimateGas.class);
     }
@@ -307,7 +308,6 @@ public class JsonRpc2_0Web3j implements Web3j {
                 Arrays.asList(
                         blockHash,
                         returnFullTransactionObjects),
-                ID,
                 web3jService,
                 EthBlock.class);
     }
@@ -321,7 +321,6 @@ public class JsonRpc2_0Web3j implements Web3j {
                 Arrays.asList(
                         defaultBlockParameter.getValue(),
                         returnFullTransactionObjects),
-                ID,
                 web3jService,
                 EthBlock.class);
     }
@@ -331,7 +330,6 @@ public class JsonRpc2_0Web3j implements Web3j {
         return new Request<>(
                 "eth_getTransactionByHash",
                 Arrays.asList(transactionHash),
-                ID,
                 web3jService,
                 EthTransaction.class);
     }
@@ -344,7 +342,6 @@ public class JsonRpc2_0Web3j implements Web3j {
                 Arrays.asList(
                         blockHash,
                         Numeric.encodeQuantity(transactionIndex)),
-                ID,
                 web3jService,
                 EthTransaction.class);
     }
@@ -357,7 +354,6 @@ public class JsonRpc2_0Web3j implements Web3j {
                 Arrays.asList(
                         defaultBlockParameter.getValue(),
                         Numeric.encodeQuantity(transactionIndex)),
-                ID,
                 web3jService,
                 EthTransaction.class);
     }
@@ -367,7 +363,6 @@ public class JsonRpc2_0Web3j implements Web3j {
         return new Request<>(
                 "eth_getTransactionReceipt",
                 Arrays.asList(transactionHash),
-                ID,
                 web3jService,
                 EthGetTransactionReceipt.class);
     }
@@ -380,7 +375,6 @@ public class JsonRpc2_0Web3j implements Web3j {
                 Arrays.asList(
                         blockHash,
                         Numeric.encodeQuantity(transactionIndex)),
-                ID,
                 web3jService,
                 EthBlock.class);
     }
@@ -393,7 +387,6 @@ public class JsonRpc2_0Web3j implements Web3j {
                 Arrays.asList(
                         defaultBlockParameter.getValue(),
                         Numeric.encodeQuantity(uncleIndex)),
-                ID,
                 web3jService,
                 EthBlock.class);
     }
@@ -403,7 +396,6 @@ public class JsonRpc2_0Web3j implements Web3j {
         return new Request<>(
                 "eth_getCompilers",
                 Collections.<String>emptyList(),
-                ID,
                 web3jService,
                 EthGetCompilers.class);
     }
@@ -413,7 +405,6 @@ public class JsonRpc2_0Web3j implements Web3j {
         return new Request<>(
                 "eth_compileLLL",
                 Arrays.asList(sourceCode),
-                ID,
                 web3jService,
                 EthCompileLLL.class);
     }
@@ -423,7 +414,6 @@ public class JsonRpc2_0Web3j implements Web3j {
         return new Request<>(
                 "eth_compileSolidity",
                 Arrays.asList(sourceCode),
-                ID,
                 web3jService,
                 EthCompileSolidity.class);
     }
@@ -433,7 +423,6 @@ public class JsonRpc2_0Web3j implements Web3j {
         return new Request<>(
                 "eth_compileSerpent",
                 Arrays.asList(sourceCode),
-                ID,
                 web3jService,
                 EthCompileSerpent.class);
     }
@@ -443,7 +432,6 @@ public class JsonRpc2_0Web3j implements Web3j {
         return new Request<>(
                 "eth_newFilter",
                 Arrays.asList(ethFilter),
-                ID,
                 web3jService,
                 EthNewFilter.class);
     }
@@ -453,7 +441,6 @@ public class JsonRpc2_0Web3j implements Web3j {
         return new Request<>(
                 "eth_newBlockFilter",
                 Collections.<String>emptyList(),
-                ID,
                 web3jService,
                 EthNewBlockFilter.class);
     }
@@ -463,7 +450,6 @@ public class JsonRpc2_0Web3j implements Web3j {
         return new Request<>(
                 "eth_newPendingTransactionFilter",
                 Collections.<String>emptyList(),
-                ID,
                 web3jService,
                 EthNewPendingTransactionFilter.class);
     }
@@ -473,7 +459,6 @@ public class JsonRpc2_0Web3j implements Web3j {
         return new Request<>(
                 "eth_uninstallFilter",
                 Arrays.asList(Numeric.encodeQuantity(filterId)),
-                ID,
                 web3jService,
                 EthUninstallFilter.class);
     }
@@ -483,7 +468,6 @@ public class JsonRpc2_0Web3j implements Web3j {
         return new Request<>(
                 "eth_getFilterChanges",
                 Arrays.asList(Numeric.encodeQuantity(filterId)),
-                ID,
                 web3jService,
                 EthLog.class);
     }
@@ -493,7 +477,6 @@ public class JsonRpc2_0Web3j implements Web3j {
         return new Request<>(
                 "eth_getFilterLogs",
                 Arrays.asList(Numeric.encodeQuantity(filterId)),
-                ID,
                 web3jService,
                 EthLog.class);
     }
@@ -503,7 +486,6 @@ public class JsonRpc2_0Web3j implements Web3j {
         return new Request<>(
                 "eth_getLogs",
                 Arrays.asList(ethFilter),
-                ID,
                 web3jService,
                 EthLog.class);
     }
@@ -513,7 +495,6 @@ public class JsonRpc2_0Web3j implements Web3j {
         return new Request<>(
                 "eth_getWork",
                 Collections.<String>emptyList(),
-                ID,
                 web3jService,
                 EthGetWork.class);
     }
@@ -523,7 +504,6 @@ public class JsonRpc2_0Web3j implements Web3j {
         return new Request<>(
                 "eth_submitWork",
                 Arrays.asList(nonce, headerPowHash, mixDigest),
-                ID,
                 web3jService,
                 EthSubmitWork.class);
     }
@@ -533,7 +513,6 @@ public class JsonRpc2_0Web3j implements Web3j {
         return new Request<>(
                 "eth_submitHashrate",
                 Arrays.asList(hashrate, clientId),
-                ID,
                 web3jService,
                 EthSubmitHashrate.class);
     }
@@ -544,7 +523,6 @@ public class JsonRpc2_0Web3j implements Web3j {
         return new Request<>(
                 "db_putString",
                 Arrays.asList(databaseName, keyName, stringToStore),
-                ID,
                 web3jService,
                 DbPutString.class);
     }
@@ -554,7 +532,6 @@ public class JsonRpc2_0Web3j implements Web3j {
         return new Request<>(
                 "db_getString",
                 Arrays.asList(databaseName, keyName),
-                ID,
                 web3jService,
                 DbGetString.class);
     }
@@ -564,7 +541,6 @@ public class JsonRpc2_0Web3j implements Web3j {
         return new Request<>(
                 "db_putHex",
                 Arrays.asList(databaseName, keyName, dataToStore),
-                ID,
                 web3jService,
                 DbPutHex.class);
     }
@@ -574,7 +550,6 @@ public class JsonRpc2_0Web3j implements Web3j {
         return new Request<>(
                 "db_getHex",
                 Arrays.asList(databaseName, keyName),
-                ID,
                 web3jService,
                 DbGetHex.class);
     }
@@ -584,7 +559,6 @@ public class JsonRpc2_0Web3j implements Web3j {
         return new Request<>(
                 "shh_post",
                 Arrays.asList(shhPost),
-                ID,
                 web3jService,
                 org.web3j.protocol.core.methods.response.ShhPost.class);
     }
@@ -594,7 +568,6 @@ public class JsonRpc2_0Web3j implements Web3j {
         return new Request<>(
                 "shh_version",
                 Collections.<String>emptyList(),
-                ID,
                 web3jService,
                 ShhVersion.class);
     }
@@ -604,7 +577,6 @@ public class JsonRpc2_0Web3j implements Web3j {
         return new Request<>(
                 "shh_newIdentity",
                 Collections.<String>emptyList(),
-                ID,
                 web3jService,
                 ShhNewIdentity.class);
     }
@@ -614,7 +586,6 @@ public class JsonRpc2_0Web3j implements Web3j {
         return new Request<>(
                 "shh_hasIdentity",
                 Arrays.asList(identityAddress),
-                ID,
                 web3jService,
                 ShhHasIdentity.class);
     }
@@ -624,7 +595,6 @@ public class JsonRpc2_0Web3j implements Web3j {
         return new Request<>(
                 "shh_newGroup",
                 Collections.<String>emptyList(),
-                ID,
                 web3jService,
                 ShhNewGroup.class);
     }
@@ -634,7 +604,6 @@ public class JsonRpc2_0Web3j implements Web3j {
         return new Request<>(
                 "shh_addToGroup",
                 Arrays.asList(identityAddress),
-                ID,
                 web3jService,
                 ShhAddToGroup.class);
     }
@@ -644,7 +613,6 @@ public class JsonRpc2_0Web3j implements Web3j {
         return new Request<>(
                 "shh_newFilter",
                 Arrays.asList(shhFilter),
-                ID,
                 web3jService,
                 ShhNewFilter.class);
     }
@@ -654,7 +622,6 @@ public class JsonRpc2_0Web3j implements Web3j {
         return new Request<>(
                 "shh_uninstallFilter",
                 Arrays.asList(Numeric.encodeQuantity(filterId)),
-                ID,
                 web3jService,
                 ShhUninstallFilter.class);
     }
@@ -664,7 +631,6 @@ public class JsonRpc2_0Web3j implements Web3j {
         return new Request<>(
                 "shh_getFilterChanges",
                 Arrays.asList(Numeric.encodeQuantity(filterId)),
-                ID,
                 web3jService,
                 ShhMessages.class);
     }
@@ -674,7 +640,6 @@ public class JsonRpc2_0Web3j implements Web3j {
         return new Request<>(
                 "shh_getMessages",
                 Arrays.asList(Numeric.encodeQuantity(filterId)),
-                ID,
                 web3jService,
                 ShhMessages.class);
     }
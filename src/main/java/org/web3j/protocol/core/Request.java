@@ -4,11 +4,16 @@ package org.web3j.protocol.core;
 import java.io.IOException;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import org.web3j.protocol.Web3jService;
 
 
 public class Request<S, T extends Response> {
+    private static final AtomicLong idGenerator = new AtomicLong(1);
+
     private String jsonrpc = "2.0";
     private String method;
     private List<S> params;
@@ -23,6 +28,15 @@ public class Request<S, T extends Response> {
     public Request() {
     }
 
+    /**
+     * Create a request with an id unique within this JVM, so that responses may be correlated
+     * with their requests when many are in flight on the same connection or batch.
+     */
+    public Request(String method, List<S> params,
+                   Web3jService web3jService, Class<T> type) {
+        this(method, params, nextId(), web3jService, type);
+    }
+
     public Request(String method, List<S> params, long id,
                    Web3jService web3jService, Class<T> type) {
         this.method = method;
@@ -56,6 +70,15 @@ public class Request<S, T extends Response> {
         this.params = params;
     }
 
+    /**
+     * Generate a new request id.
+     *
+     * @return an id not previously generated within this JVM
+     */
+    public static long nextId() {
+        return idGenerator.getAndIncrement();
+    }
+
     public long getId() {
         return id;
     }
@@ -64,6 +87,11 @@ public class Request<S, T extends Response> {
         this.id = id;
     }
 
+    @JsonIgnore
+    public Class<T> getResponseType() {
+        return responseType;
+    }
+
     public T send() throws IOException {
         return web3jService.send(this, responseType);
     }
@@ -0,0 +1,129 @@
+package org.web3j.protocol.core.methods.response;
+
+import org.web3j.protocol.exceptions.MessageDecodingException;
+
+/**
+ * Immutable 20 byte account address.
+ *
+ * <p>Held as two longs and an int rather than a 42 character string, so an address takes less
+ * than half the memory, and equality and hash codes are cheap to compute. As the same addresses
+ * recur throughout blocks and logs, they may be shared via {@link #intern()}.</p>
+ *
+ * <p>Addresses are compared and printed in lower case, without any checksum.</p>
+ */
+public final class Address20 implements Comparable<Address20> {
+
+    private static final WeakInterner<Address20> interner = new WeakInterner<>();
+
+    private final long high;
+    private final long middle;
+    private final int low;
+    private final int hashCode;
+
+    private Address20(long high, long middle, int low) {
+        this.high = high;
+        this.middle = middle;
+        this.low = low;
+        this.hashCode = Hash32.hashCode(0, high, middle, low);
+    }
+
+    /**
+     * Decode an address from hex.
+     *
+     * @param value 40 hex digits, optionally prefixed by 0x
+     * @return the address, or null if value is null
+     * @throws MessageDecodingException if the value is not a 20 byte hex string
+     */
+    public static Address20 of(String value) {
+        if (value == null) {
+            return null;
+        }
+        int offset = Hash32.hexOffset(value, 20);
+        return new Address20(
+                Hash32.decodeHex(value, offset, 16),
+                Hash32.decodeHex(value, offset + 16, 16),
+                (int) Hash32.decodeHex(value, offset + 32, 8));
+    }
+
+    /**
+     * Decode an address from hex, and get its canonical instance.
+     *
+     * @param value hex as for {@link #of(String)}
+     * @return the canonical instance, or null if value is null
+     * @see #intern()
+     */
+    public static Address20 interned(String value) {
+        return value == null ? null : of(value).intern();
+    }
+
+    public static Address20 of(byte[] bytes) {
+        if (bytes.length != 20) {
+            throw new IllegalArgumentException("Address must be 20 bytes: " + bytes.length);
+        }
+        return new Address20(Hash32.readLong(bytes, 0), Hash32.readLong(bytes, 8),
+                (int) (Hash32.readLong(bytes, 12)));
+    }
+
+    /**
+     * Get the canonical instance equal to this address, held weakly in a shared pool.
+     *
+     * @return the canonical instance
+     */
+    public Address20 intern() {
+        return interner.intern(this);
+    }
+
+    public byte[] toBytes() {
+        byte[] bytes = new byte[20];
+        Hash32.writeLong(bytes, 0, high);
+        Hash32.writeLong(bytes, 8, middle);
+        bytes[16] = (byte) (low >>> 24);
+        bytes[17] = (byte) (low >>> 16);
+        bytes[18] = (byte) (low >>> 8);
+        bytes[19] = (byte) low;
+        return bytes;
+    }
+
+    @Override
+    public int compareTo(Address20 other) {
+        int result = Long.compareUnsigned(high, other.high);
+        if (result == 0) {
+            result = Long.compareUnsigned(middle, other.middle);
+        }
+        if (result == 0) {
+            result = Integer.compareUnsigned(low, other.low);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        Address20 that = (Address20) o;
+
+        return high == that.high && middle == that.middle && low == that.low;
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    /**
+     * Get the address as lower case hex.
+     *
+     * @return 0x prefixed hex string
+     */
+    @Override
+    public String toString() {
+        char[] hex = new char[42];
+        hex[0] = '0';
+        hex[1] = 'x';
+        Hash32.encodeHex(hex, 2, high, 16);
+        Hash32.encodeHex(hex, 18, middle, 16);
+        Hash32.encodeHex(hex, 34, low, 8);
+        return new String(hex);
+    }
+}
@@ -0,0 +1,264 @@
+package org.web3j.protocol.core.methods.response;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Immutable and compact form of an {@link EthBlock.Block}, with its quantities decoded once
+ * rather than being held as hex strings and decoded on every call.
+ *
+ * <p>The number, size, gas limit, gas used and timestamp are held as primitive longs, the
+ * number of a pending block being -1. Difficulties may exceed 64 bits, so remain
+ * {@link BigInteger}s. Hashes and addresses are held as {@link Hash32} and {@link Address20}
+ * values, the block's own hash, parent hash and miner being interned so that they are shared
+ * with adjacent blocks and the block's transactions.</p>
+ *
+ * <p>Blocks requested with full transaction objects hold {@link CompactTransaction}s, otherwise
+ * only their hashes.</p>
+ */
+public class CompactBlock {
+    private final long number;
+    private final Hash32 hash;
+    private final Hash32 parentHash;
+    private final String nonce;
+    private final Hash32 sha3Uncles;
+    private final String logsBloom;
+    private final Hash32 transactionsRoot;
+    private final Hash32 stateRoot;
+    private final Hash32 receiptsRoot;
+    private final Address20 author;
+    private final Address20 miner;
+    private final Hash32 mixHash;
+    private final BigInteger difficulty;
+    private final BigInteger totalDifficulty;
+    private final String extraData;
+    private final long size;
+    private final long gasLimit;
+    private final long gasUsed;
+    private final long timestamp;
+    private final List<CompactTransaction> transactions;
+    private final List<Hash32> transactionHashes;
+    private final List<Hash32> uncles;
+    private final List<String> sealFields;
+
+    public CompactBlock(EthBlock.Block block) {
+        this.number = Quantities.decodeLong(block.getNumberRaw());
+        this.hash = Hash32.interned(block.getHash());
+        this.parentHash = Hash32.interned(block.getParentHash());
+        this.nonce = block.getNonce();
+        this.sha3Uncles = Hash32.interned(block.getSha3Uncles());
+        this.logsBloom = block.getLogsBloom();
+        this.transactionsRoot = Hash32.of(block.getTransactionsRoot());
+        this.stateRoot = Hash32.of(block.getStateRoot());
+        this.receiptsRoot = Hash32.of(block.getReceiptsRoot());
+        this.author = Address20.interned(block.getAuthor());
+        this.miner = Address20.interned(block.getMiner());
+        this.mixHash = Hash32.of(block.getMixHash());
+        this.difficulty = Quantities.decodeBigInteger(block.getDifficultyRaw());
+        this.totalDifficulty = Quantities.decodeBigInteger(block.getTotalDifficultyRaw());
+        this.extraData = block.getExtraData();
+        this.size = Quantities.decodeLong(block.getSizeRaw());
+        this.gasLimit = Quantities.decodeLong(block.getGasLimitRaw());
+        this.gasUsed = Quantities.decodeLong(block.getGasUsedRaw());
+        this.timestamp = Quantities.decodeLong(block.getTimestampRaw());
+        this.uncles = Hash32.ofAll(block.getUncles(), false);
+        this.sealFields = block.getSealFields();
+
+        List<EthBlock.TransactionResult> transactionResults = block.getTransactions();
+        if (transactionResults == null || transactionResults.isEmpty()) {
+            this.transactions = Collections.emptyList();
+            this.transactionHashes = Collections.emptyList();
+        } else if (transactionResults.get(0) instanceof EthBlock.TransactionObject) {
+            List<CompactTransaction> transactions = new ArrayList<>(transactionResults.size());
+            for (EthBlock.TransactionResult transactionResult : transactionResults) {
+                transactions.add(new CompactTransaction(
+                        (Transaction) transactionResult.get()));
+            }
+            this.transactions = Collections.unmodifiableList(transactions);
+            this.transactionHashes = null;
+        } else {
+            List<String> transactionHashes = new ArrayList<>(transactionResults.size());
+            for (EthBlock.TransactionResult transactionResult : transactionResults) {
+                transactionHashes.add((String) transactionResult.get());
+            }
+            this.transactions = Collections.emptyList();
+            this.transactionHashes = Hash32.ofAll(transactionHashes, false);
+        }
+    }
+
+    public long getNumber() {
+        return number;
+    }
+
+    public Hash32 getHash() {
+        return hash;
+    }
+
+    public Hash32 getParentHash() {
+        return parentHash;
+    }
+
+    public String getNonce() {
+        return nonce;
+    }
+
+    public Hash32 getSha3Uncles() {
+        return sha3Uncles;
+    }
+
+    public String getLogsBloom() {
+        return logsBloom;
+    }
+
+    public Hash32 getTransactionsRoot() {
+        return transactionsRoot;
+    }
+
+    public Hash32 getStateRoot() {
+        return stateRoot;
+    }
+
+    public Hash32 getReceiptsRoot() {
+        return receiptsRoot;
+    }
+
+    public Address20 getAuthor() {
+        return author;
+    }
+
+    public Address20 getMiner() {
+        return miner;
+    }
+
+    public Hash32 getMixHash() {
+        return mixHash;
+    }
+
+    public BigInteger getDifficulty() {
+        return difficulty;
+    }
+
+    public BigInteger getTotalDifficulty() {
+        return totalDifficulty;
+    }
+
+    public String getExtraData() {
+        return extraData;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public long getGasLimit() {
+        return gasLimit;
+    }
+
+    public long getGasUsed() {
+        return gasUsed;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Get the block's transactions.
+     *
+     * @return the transactions, empty if the block was requested with transaction hashes only
+     */
+    public List<CompactTransaction> getTransactions() {
+        return transactions;
+    }
+
+    /**
+     * Get the hashes of the block's transactions, however the block was requested.
+     *
+     * @return the transaction hashes
+     */
+    public List<Hash32> getTransactionHashes() {
+        if (transactionHashes != null) {
+            return transactionHashes;
+        }
+        List<Hash32> hashes = new ArrayList<>(transactions.size());
+        for (CompactTransaction transaction : transactions) {
+            hashes.add(transaction.getHash());
+        }
+        return hashes;
+    }
+
+    public List<Hash32> getUncles() {
+        return uncles;
+    }
+
+    public List<String> getSealFields() {
+        return sealFields;
+    }
+
+    public boolean isPending() {
+        return number == Quantities.PENDING;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        CompactBlock that = (CompactBlock) o;
+
+        return number == that.number
+                && size == that.size
+                && gasLimit == that.gasLimit
+                && gasUsed == that.gasUsed
+                && timestamp == that.timestamp
+                && Objects.equals(hash, that.hash)
+                && Objects.equals(parentHash, that.parentHash)
+                && Objects.equals(nonce, that.nonce)
+                && Objects.equals(sha3Uncles, that.sha3Uncles)
+                && Objects.equals(logsBloom, that.logsBloom)
+                && Objects.equals(transactionsRoot, that.transactionsRoot)
+                && Objects.equals(stateRoot, that.stateRoot)
+                && Objects.equals(receiptsRoot, that.receiptsRoot)
+                && Objects.equals(author, that.author)
+                && Objects.equals(miner, that.miner)
+                && Objects.equals(mixHash, that.mixHash)
+                && Objects.equals(difficulty, that.difficulty)
+                && Objects.equals(totalDifficulty, that.totalDifficulty)
+                && Objects.equals(extraData, that.extraData)
+                && transactions.equals(that.transactions)
+                && Objects.equals(transactionHashes, that.transactionHashes)
+                && Objects.equals(uncles, that.uncles)
+                && Objects.equals(sealFields, that.sealFields);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Long.hashCode(number);
+        result = 31 * result + Objects.hashCode(hash);
+        result = 31 * result + Objects.hashCode(parentHash);
+        result = 31 * result + Objects.hashCode(nonce);
+        result = 31 * result + Objects.hashCode(sha3Uncles);
+        result = 31 * result + Objects.hashCode(logsBloom);
+        result = 31 * result + Objects.hashCode(transactionsRoot);
+        result = 31 * result + Objects.hashCode(stateRoot);
+        result = 31 * result + Objects.hashCode(receiptsRoot);
+        result = 31 * result + Objects.hashCode(author);
+        result = 31 * result + Objects.hashCode(miner);
+        result = 31 * result + Objects.hashCode(mixHash);
+        result = 31 * result + Objects.hashCode(difficulty);
+        result = 31 * result + Objects.hashCode(totalDifficulty);
+        result = 31 * result + Objects.hashCode(extraData);
+        result = 31 * result + Long.hashCode(size);
+        result = 31 * result + Long.hashCode(gasLimit);
+        result = 31 * result + Long.hashCode(gasUsed);
+        result = 31 * result + Long.hashCode(timestamp);
+        result = 31 * result + transactions.hashCode();
+        result = 31 * result + Objects.hashCode(transactionHashes);
+        result = 31 * result + Objects.hashCode(uncles);
+        result = 31 * result + Objects.hashCode(sealFields);
+        return result;
+    }
+}
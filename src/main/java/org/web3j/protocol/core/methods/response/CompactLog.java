@@ -0,0 +1,116 @@
+package org.web3j.protocol.core.methods.response;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Immutable and compact form of a {@link Log}, with its quantities decoded once into primitive
+ * longs rather than being held as hex strings and decoded on every call.
+ *
+ * <p>The indexes and block number of a pending log are -1. Hashes, topics and addresses are
+ * held as interned {@link Hash32} and {@link Address20} values, as a handful of contracts and
+ * events account for most logs.</p>
+ */
+public class CompactLog {
+    private final boolean removed;
+    private final long logIndex;
+    private final long transactionIndex;
+    private final long blockNumber;
+    private final Hash32 transactionHash;
+    private final Hash32 blockHash;
+    private final Address20 address;
+    private final String data;
+    private final String type;
+    private final List<Hash32> topics;
+
+    public CompactLog(Log log) {
+        this.removed = log.isRemoved();
+        this.logIndex = Quantities.decodeLong(log.getLogIndexRaw());
+        this.transactionIndex = Quantities.decodeLong(log.getTransactionIndexRaw());
+        this.blockNumber = Quantities.decodeLong(log.getBlockNumberRaw());
+        this.transactionHash = Hash32.interned(log.getTransactionHash().orElse(null));
+        this.blockHash = Hash32.interned(log.getBlockHash().orElse(null));
+        this.address = Address20.interned(log.getAddress());
+        this.data = log.getData();
+        this.type = log.getType();
+        this.topics = Hash32.ofAll(log.getTopics(), true);
+    }
+
+    public boolean isRemoved() {
+        return removed;
+    }
+
+    public long getLogIndex() {
+        return logIndex;
+    }
+
+    public long getTransactionIndex() {
+        return transactionIndex;
+    }
+
+    public long getBlockNumber() {
+        return blockNumber;
+    }
+
+    public Hash32 getTransactionHash() {
+        return transactionHash;
+    }
+
+    public Hash32 getBlockHash() {
+        return blockHash;
+    }
+
+    public Address20 getAddress() {
+        return address;
+    }
+
+    public String getData() {
+        return data;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public List<Hash32> getTopics() {
+        return topics;
+    }
+
+    public boolean isPending() {
+        return blockNumber == Quantities.PENDING;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        CompactLog that = (CompactLog) o;
+
+        return removed == that.removed
+                && logIndex == that.logIndex
+                && transactionIndex == that.transactionIndex
+                && blockNumber == that.blockNumber
+                && Objects.equals(transactionHash, that.transactionHash)
+                && Objects.equals(blockHash, that.blockHash)
+                && Objects.equals(address, that.address)
+                && Objects.equals(data, that.data)
+                && Objects.equals(type, that.type)
+                && Objects.equals(topics, that.topics);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = (removed ? 1 : 0);
+        result = 31 * result + Long.hashCode(logIndex);
+        result = 31 * result + Long.hashCode(transactionIndex);
+        result = 31 * result + Long.hashCode(blockNumber);
+        result = 31 * result + Objects.hashCode(transactionHash);
+        result = 31 * result + Objects.hashCode(blockHash);
+        result = 31 * result + Objects.hashCode(address);
+        result = 31 * result + Objects.hashCode(data);
+        result = 31 * result + Objects.hashCode(type);
+        result = 31 * result + Objects.hashCode(topics);
+        return result;
+    }
+}
@@ -0,0 +1,175 @@
+package org.web3j.protocol.core.methods.response;
+
+import java.math.BigInteger;
+import java.util.Objects;
+
+/**
+ * Immutable and compact form of a {@link Transaction}, with its quantities decoded once rather
+ * than being held as hex strings and decoded on every call.
+ *
+ * <p>The nonce, gas, block number and index are held as primitive longs, the block number and
+ * index of a pending transaction being -1. The value and gas price are denominated in wei so
+ * may exceed 64 bits, and remain {@link BigInteger}s.</p>
+ *
+ * <p>Hashes and addresses are held as {@link Hash32} and {@link Address20} values. The block
+ * hash and addresses, which recur across many transactions, are interned.</p>
+ */
+public class CompactTransaction {
+    private final Hash32 hash;
+    private final long nonce;
+    private final Hash32 blockHash;
+    private final long blockNumber;
+    private final long transactionIndex;
+    private final Address20 from;
+    private final Address20 to;
+    private final BigInteger value;
+    private final BigInteger gasPrice;
+    private final long gas;
+    private final String input;
+    private final Address20 creates;
+    private final String publicKey;
+    private final String raw;
+    private final String r;
+    private final String s;
+    private final byte v;
+
+    public CompactTransaction(Transaction transaction) {
+        this.hash = Hash32.of(transaction.getHash());
+        this.nonce = Quantities.decodeLong(transaction.getNonceRaw());
+        this.blockHash = Hash32.interned(transaction.getBlockHash());
+        this.blockNumber = Quantities.decodeLong(transaction.getBlockNumberRaw());
+        this.transactionIndex = Quantities.decodeLong(transaction.getTransactionIndexRaw());
+        this.from = Address20.interned(transaction.getFrom());
+        this.to = Address20.interned(transaction.getTo());
+        this.value = Quantities.decodeBigInteger(transaction.getValueRaw());
+        this.gasPrice = Quantities.decodeBigInteger(transaction.getGasPriceRaw());
+        this.gas = Quantities.decodeLong(transaction.getGasRaw());
+        this.input = transaction.getInput();
+        this.creates = Address20.interned(transaction.getCreates());
+        this.publicKey = transaction.getPublicKey();
+        this.raw = transaction.getRaw();
+        this.r = transaction.getR();
+        this.s = transaction.getS();
+        this.v = transaction.getV();
+    }
+
+    public Hash32 getHash() {
+        return hash;
+    }
+
+    public long getNonce() {
+        return nonce;
+    }
+
+    public Hash32 getBlockHash() {
+        return blockHash;
+    }
+
+    public long getBlockNumber() {
+        return blockNumber;
+    }
+
+    public long getTransactionIndex() {
+        return transactionIndex;
+    }
+
+    public Address20 getFrom() {
+        return from;
+    }
+
+    public Address20 getTo() {
+        return to;
+    }
+
+    public BigInteger getValue() {
+        return value;
+    }
+
+    public BigInteger getGasPrice() {
+        return gasPrice;
+    }
+
+    public long getGas() {
+        return gas;
+    }
+
+    public String getInput() {
+        return input;
+    }
+
+    public Address20 getCreates() {
+        return creates;
+    }
+
+    public String getPublicKey() {
+        return publicKey;
+    }
+
+    public String getRaw() {
+        return raw;
+    }
+
+    public String getR() {
+        return r;
+    }
+
+    public String getS() {
+        return s;
+    }
+
+    public byte getV() {
+        return v;
+    }
+
+    public boolean isPending() {
+        return blockNumber == Quantities.PENDING;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        CompactTransaction that = (CompactTransaction) o;
+
+        return nonce == that.nonce
+                && blockNumber == that.blockNumber
+                && transactionIndex == that.transactionIndex
+                && gas == that.gas
+                && v == that.v
+                && Objects.equals(hash, that.hash)
+                && Objects.equals(blockHash, that.blockHash)
+                && Objects.equals(from, that.from)
+                && Objects.equals(to, that.to)
+                && Objects.equals(value, that.value)
+                && Objects.equals(gasPrice, that.gasPrice)
+                && Objects.equals(input, that.input)
+                && Objects.equals(creates, that.creates)
+                && Objects.equals(publicKey, that.publicKey)
+                && Objects.equals(raw, that.raw)
+                && Objects.equals(r, that.r)
+                && Objects.equals(s, that.s);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(hash);
+        result = 31 * result + Long.hashCode(nonce);
+        result = 31 * result + Objects.hashCode(blockHash);
+        result = 31 * result + Long.hashCode(blockNumber);
+        result = 31 * result + Long.hashCode(transactionIndex);
+        result = 31 * result + Objects.hashCode(from);
+        result = 31 * result + Objects.hashCode(to);
+        result = 31 * result + Objects.hashCode(value);
+        result = 31 * result + Objects.hashCode(gasPrice);
+        result = 31 * result + Long.hashCode(gas);
+        result = 31 * result + Objects.hashCode(input);
+        result = 31 * result + Objects.hashCode(creates);
+        result = 31 * result + Objects.hashCode(publicKey);
+        result = 31 * result + Objects.hashCode(raw);
+        result = 31 * result + Objects.hashCode(r);
+        result = 31 * result + Objects.hashCode(s);
+        result = 31 * result + v;
+        return result;
+    }
+}
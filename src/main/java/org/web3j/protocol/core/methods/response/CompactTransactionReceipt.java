@@ -0,0 +1,140 @@
+package org.web3j.protocol.core.methods.response;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Immutable and compact form of a {@link TransactionReceipt}, with its quantities decoded once
+ * into primitive longs rather than being held as hex strings and decoded on every call.
+ *
+ * <p>Hashes and addresses are held as {@link Hash32} and {@link Address20} values, with the
+ * block hash and addresses interned.</p>
+ */
+public class CompactTransactionReceipt {
+    private final Hash32 transactionHash;
+    private final long transactionIndex;
+    private final Hash32 blockHash;
+    private final long blockNumber;
+    private final long cumulativeGasUsed;
+    private final long gasUsed;
+    private final Address20 contractAddress;
+    private final String root;
+    private final Address20 from;
+    private final Address20 to;
+    private final List<CompactLog> logs;
+    private final String logsBloom;
+
+    public CompactTransactionReceipt(TransactionReceipt receipt) {
+        this.transactionHash = Hash32.of(receipt.getTransactionHash());
+        this.transactionIndex = Quantities.decodeLong(receipt.getTransactionIndexRaw());
+        this.blockHash = Hash32.interned(receipt.getBlockHash());
+        this.blockNumber = Quantities.decodeLong(receipt.getBlockNumberRaw());
+        this.cumulativeGasUsed = Quantities.decodeLong(receipt.getCumulativeGasUsedRaw());
+        this.gasUsed = Quantities.decodeLong(receipt.getGasUsedRaw());
+        this.contractAddress = Address20.interned(receipt.getContractAddress().orElse(null));
+        this.root = receipt.getRoot();
+        this.from = Address20.interned(receipt.getFrom());
+        this.to = Address20.interned(receipt.getTo());
+        this.logs = compact(receipt.getLogs());
+        this.logsBloom = receipt.getLogsBloom();
+    }
+
+    private static List<CompactLog> compact(List<Log> logs) {
+        if (logs == null || logs.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<CompactLog> compactLogs = new ArrayList<>(logs.size());
+        for (Log log : logs) {
+            compactLogs.add(new CompactLog(log));
+        }
+        return Collections.unmodifiableList(compactLogs);
+    }
+
+    public Hash32 getTransactionHash() {
+        return transactionHash;
+    }
+
+    public long getTransactionIndex() {
+        return transactionIndex;
+    }
+
+    public Hash32 getBlockHash() {
+        return blockHash;
+    }
+
+    public long getBlockNumber() {
+        return blockNumber;
+    }
+
+    public long getCumulativeGasUsed() {
+        return cumulativeGasUsed;
+    }
+
+    public long getGasUsed() {
+        return gasUsed;
+    }
+
+    public Address20 getContractAddress() {
+        return contractAddress;
+    }
+
+    public String getRoot() {
+        return root;
+    }
+
+    public Address20 getFrom() {
+        return from;
+    }
+
+    public Address20 getTo() {
+        return to;
+    }
+
+    public List<CompactLog> getLogs() {
+        return logs;
+    }
+
+    public String getLogsBloom() {
+        return logsBloom;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        CompactTransactionReceipt that = (CompactTransactionReceipt) o;
+
+        return transactionIndex == that.transactionIndex
+                && blockNumber == that.blockNumber
+                && cumulativeGasUsed == that.cumulativeGasUsed
+                && gasUsed == that.gasUsed
+                && Objects.equals(transactionHash, that.transactionHash)
+                && Objects.equals(blockHash, that.blockHash)
+                && Objects.equals(contractAddress, that.contractAddress)
+                && Objects.equals(root, that.root)
+                && Objects.equals(from, that.from)
+                && Objects.equals(to, that.to)
+                && Objects.equals(logs, that.logs)
+                && Objects.equals(logsBloom, that.logsBloom);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(transactionHash);
+        result = 31 * result + Long.hashCode(transactionIndex);
+        result = 31 * result + Objects.hashCode(blockHash);
+        result = 31 * result + Long.hashCode(blockNumber);
+        result = 31 * result + Long.hashCode(cumulativeGasUsed);
+        result = 31 * result + Long.hashCode(gasUsed);
+        result = 31 * result + Objects.hashCode(contractAddress);
+        result = 31 * result + Objects.hashCode(root);
+        result = 31 * result + Objects.hashCode(from);
+        result = 31 * result + Objects.hashCode(to);
+        result = 31 * result + logs.hashCode();
+        result = 31 * result + Objects.hashCode(logsBloom);
+        return result;
+    }
+}
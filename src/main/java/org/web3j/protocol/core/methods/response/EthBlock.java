@@ -2,8 +2,6 @@ package org.web3j.protocol.core.methods.response;
 
 import java.io.IOException;
 import java.math.BigInteger;
-import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,10 +9,8 @@ import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
-import org.web3j.protocol.ObjectMapperFactory;
 import org.web3j.utils.Numeric;
 import org.web3j.protocol.core.Response;
 
@@ -108,6 +104,10 @@ public class EthBlock extends Response<EthBlock.Block> {
             return Numeric.decodeQuantity(number);
         }
 
+        String getNumberRaw() {
+            return number;
+        }
+
         public void setNumber(String number) {
             this.number = number;
         }
@@ -116,6 +116,10 @@ public class EthBlock extends Response<EthBlock.Block> {
             return hash;
         }
 
+        public Hash32 getHash32() {
+            return Hash32.of(hash);
+        }
+
         public void setHash(String hash) {
             this.hash = hash;
         }
@@ -124,6 +128,10 @@ public class EthBlock extends Response<EthBlock.Block> {
             return parentHash;
         }
 
+        public Hash32 getParentHash32() {
+            return Hash32.of(parentHash);
+        }
+
         public void setParentHash(String parentHash) {
             this.parentHash = parentHash;
         }
@@ -188,6 +196,10 @@ public class EthBlock extends Response<EthBlock.Block> {
             return miner;
         }
 
+        public Address20 getMinerAddress20() {
+            return Address20.of(miner);
+        }
+
         public void setMiner(String miner) {
             this.miner = miner;
         }
@@ -204,6 +216,10 @@ public class EthBlock extends Response<EthBlock.Block> {
             return Numeric.decodeQuantity(difficulty);
         }
 
+        String getDifficultyRaw() {
+            return difficulty;
+        }
+
         public void setDifficulty(String difficulty) {
             this.difficulty = difficulty;
         }
@@ -212,6 +228,10 @@ public class EthBlock extends Response<EthBlock.Block> {
             return Numeric.decodeQuantity(totalDifficulty);
         }
 
+        String getTotalDifficultyRaw() {
+            return totalDifficulty;
+        }
+
         public void setTotalDifficulty(String totalDifficulty) {
             this.totalDifficulty = totalDifficulty;
         }
@@ -228,6 +248,10 @@ public class EthBlock extends Response<EthBlock.Block> {
             return Numeric.decodeQuantity(size);
         }
 
+        String getSizeRaw() {
+            return size;
+        }
+
         public void setSize(String size) {
             this.size = size;
         }
@@ -236,6 +260,10 @@ public class EthBlock extends Response<EthBlock.Block> {
             return Numeric.decodeQuantity(gasLimit);
         }
 
+        String getGasLimitRaw() {
+            return gasLimit;
+        }
+
         public void setGasLimit(String gasLimit) {
             this.gasLimit = gasLimit;
         }
@@ -244,6 +272,10 @@ public class EthBlock extends Response<EthBlock.Block> {
             return Numeric.decodeQuantity(gasUsed);
         }
 
+        String getGasUsedRaw() {
+            return gasUsed;
+        }
+
         public void setGasUsed(String gasUsed) {
             this.gasUsed = gasUsed;
         }
@@ -252,6 +284,10 @@ public class EthBlock extends Response<EthBlock.Block> {
             return Numeric.decodeQuantity(timestamp);
         }
 
+        String getTimestampRaw() {
+            return timestamp;
+        }
+
         public void setTimestamp(String timestamp) {
             this.timestamp = timestamp;
         }
@@ -416,46 +452,23 @@ public class EthBlock extends Response<EthBlock.Block> {
 
     public static class ResultTransactionDeserialiser extends JsonDeserializer<List<TransactionResult>> {
 
-        private ObjectReader objectReader = ObjectMapperFactory.getObjectReader();
-
         @Override
         public List<TransactionResult> deserialize(
                 JsonParser jsonParser,
                 DeserializationContext deserializationContext) throws IOException {
-
-            List<TransactionResult> transactionResults = new ArrayList<>();
-            JsonToken nextToken = jsonParser.nextToken();
-
-            if (nextToken == JsonToken.START_OBJECT) {
-                Iterator<TransactionObject> transactionObjectIterator =
-                        objectReader.readValues(jsonParser, TransactionObject.class);
-                while (transactionObjectIterator.hasNext()) {
-                    transactionResults.add(transactionObjectIterator.next());
-                }
-            } else if (nextToken == JsonToken.VALUE_STRING) {
-                jsonParser.getValueAsString();
-
-                Iterator<TransactionHash> transactionHashIterator =
-                        objectReader.readValues(jsonParser, TransactionHash.class);
-                while (transactionHashIterator.hasNext()) {
-                    transactionResults.add(transactionHashIterator.next());
-                }
-            }
-
-            return transactionResults;
+            return ResponseReaders.readTransactionResults(
+                    jsonParser, deserializationContext, this);
         }
     }
 
     public static class ResponseDeserialiser extends JsonDeserializer<Block> {
 
-        private ObjectReader objectReader = ObjectMapperFactory.getObjectReader();
-
         @Override
         public Block deserialize(
                 JsonParser jsonParser,
                 DeserializationContext deserializationContext) throws IOException {
             if (jsonParser.getCurrentToken() != JsonToken.VALUE_NULL) {
-                return objectReader.readValue(jsonParser, Block.class);
+                return ResponseReaders.readBlock(jsonParser, deserializationContext, this);
             } else {
                 return null;  // null is wrapped by Optional in above getter
             }
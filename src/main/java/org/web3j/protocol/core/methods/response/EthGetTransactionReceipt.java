@@ -7,9 +7,8 @@ import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
-import org.web3j.protocol.ObjectMapperFactory;
 import org.web3j.protocol.core.Response;
 
 /**
@@ -17,20 +16,25 @@ import org.web3j.protocol.core.Response;
  */
 public class EthGetTransactionReceipt extends Response<TransactionReceipt> {
 
+    @Override
+    @JsonDeserialize(using = ResponseDeserialiser.class)
+    public void setResult(TransactionReceipt result) {
+        super.setResult(result);
+    }
+
     public Optional<TransactionReceipt> getTransactionReceipt() {
         return Optional.ofNullable(getResult());
     }
 
     public static class ResponseDeserialiser extends JsonDeserializer<TransactionReceipt> {
 
-        private ObjectReader objectReader = ObjectMapperFactory.getObjectReader();
-
         @Override
         public TransactionReceipt deserialize(
                 JsonParser jsonParser,
                 DeserializationContext deserializationContext) throws IOException {
             if (jsonParser.getCurrentToken() != JsonToken.VALUE_NULL) {
-                return objectReader.readValue(jsonParser, TransactionReceipt.class);
+                return ResponseReaders.readTransactionReceipt(
+                        jsonParser, deserializationContext, this);
             } else {
                 return null;  // null is wrapped by Optional in above getter
             }
@@ -0,0 +1,12 @@
+package org.web3j.protocol.core.methods.response;
+
+import org.web3j.protocol.core.Response;
+
+/**
+ * eth_subscribe
+ */
+public class EthSubscribe extends Response<String> {
+    public String getSubscriptionId() {
+        return getResult();
+    }
+}
@@ -7,9 +7,8 @@ import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
-import org.web3j.protocol.ObjectMapperFactory;
 import org.web3j.protocol.core.Response;
 
 /**
@@ -28,20 +27,25 @@ import org.web3j.protocol.core.Response;
  */
 public class EthTransaction extends Response<Transaction> {
 
+    @Override
+    @JsonDeserialize(using = ResponseDeserialiser.class)
+    public void setResult(Transaction result) {
+        super.setResult(result);
+    }
+
     public Optional<Transaction> getTransaction() {
         return Optional.ofNullable(getResult());
     }
 
     public static class ResponseDeserialiser extends JsonDeserializer<Transaction> {
 
-        private ObjectReader objectReader = ObjectMapperFactory.getObjectReader();
-
         @Override
         public Transaction deserialize(
                 JsonParser jsonParser,
                 DeserializationContext deserializationContext) throws IOException {
             if (jsonParser.getCurrentToken() != JsonToken.VALUE_NULL) {
-                return objectReader.readValue(jsonParser, Transaction.class);
+                return ResponseReaders.readTransaction(
+                        jsonParser, deserializationContext, this, new Transaction());
             } else {
                 return null;  // null is wrapped by Optional in above getter
             }
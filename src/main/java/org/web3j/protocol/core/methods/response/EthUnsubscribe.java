@@ -0,0 +1,12 @@
+package org.web3j.protocol.core.methods.response;
+
+import org.web3j.protocol.core.Response;
+
+/**
+ * eth_unsubscribe
+ */
+public class EthUnsubscribe extends Response<Boolean> {
+    public boolean isUnsubscribed() {
+        return getResult();
+    }
+}
@@ -0,0 +1,209 @@
+package org.web3j.protocol.core.methods.response;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.web3j.protocol.exceptions.MessageDecodingException;
+
+/**
+ * Immutable 32 byte hash, such as a block or transaction hash or a log topic.
+ *
+ * <p>Held as four longs rather than a 66 character string, so a hash takes less than half the
+ * memory, and equality and hash codes are cheap to compute. Hashes which recur many times, such
+ * as block hashes and topics, may be shared via {@link #intern()}.</p>
+ */
+public final class Hash32 implements Comparable<Hash32> {
+
+    private static final WeakInterner<Hash32> interner = new WeakInterner<>();
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private final long word0;
+    private final long word1;
+    private final long word2;
+    private final long word3;
+    private final int hashCode;
+
+    private Hash32(long word0, long word1, long word2, long word3) {
+        this.word0 = word0;
+        this.word1 = word1;
+        this.word2 = word2;
+        this.word3 = word3;
+        this.hashCode = hashCode(word0, word1, word2, word3);
+    }
+
+    /**
+     * Decode a hash from hex.
+     *
+     * @param value 64 hex digits, optionally prefixed by 0x
+     * @return the hash, or null if value is null
+     * @throws MessageDecodingException if the value is not a 32 byte hex string
+     */
+    public static Hash32 of(String value) {
+        if (value == null) {
+            return null;
+        }
+        int offset = hexOffset(value, 32);
+        return new Hash32(
+                decodeHex(value, offset, 16),
+                decodeHex(value, offset + 16, 16),
+                decodeHex(value, offset + 32, 16),
+                decodeHex(value, offset + 48, 16));
+    }
+
+    /**
+     * Decode a hash from hex, and get its canonical instance.
+     *
+     * @param value hex as for {@link #of(String)}
+     * @return the canonical instance, or null if value is null
+     * @see #intern()
+     */
+    public static Hash32 interned(String value) {
+        return value == null ? null : of(value).intern();
+    }
+
+    public static Hash32 of(byte[] bytes) {
+        if (bytes.length != 32) {
+            throw new IllegalArgumentException("Hash must be 32 bytes: " + bytes.length);
+        }
+        return new Hash32(
+                readLong(bytes, 0), readLong(bytes, 8), readLong(bytes, 16), readLong(bytes, 24));
+    }
+
+    /**
+     * Get the canonical instance equal to this hash, held weakly in a shared pool.
+     *
+     * @return the canonical instance
+     */
+    public Hash32 intern() {
+        return interner.intern(this);
+    }
+
+    public byte[] toBytes() {
+        byte[] bytes = new byte[32];
+        writeLong(bytes, 0, word0);
+        writeLong(bytes, 8, word1);
+        writeLong(bytes, 16, word2);
+        writeLong(bytes, 24, word3);
+        return bytes;
+    }
+
+    @Override
+    public int compareTo(Hash32 other) {
+        int result = Long.compareUnsigned(word0, other.word0);
+        if (result == 0) {
+            result = Long.compareUnsigned(word1, other.word1);
+        }
+        if (result == 0) {
+            result = Long.compareUnsigned(word2, other.word2);
+        }
+        if (result == 0) {
+            result = Long.compareUnsigned(word3, other.word3);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        Hash32 that = (Hash32) o;
+
+        return hashCode == that.hashCode
+                && word0 == that.word0
+                && word1 == that.word1
+                && word2 == that.word2
+                && word3 == that.word3;
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    /**
+     * Get the hash as lower case hex.
+     *
+     * @return 0x prefixed hex string
+     */
+    @Override
+    public String toString() {
+        char[] hex = new char[66];
+        hex[0] = '0';
+        hex[1] = 'x';
+        encodeHex(hex, 2, word0, 16);
+        encodeHex(hex, 18, word1, 16);
+        encodeHex(hex, 34, word2, 16);
+        encodeHex(hex, 50, word3, 16);
+        return new String(hex);
+    }
+
+    static List<Hash32> ofAll(List<String> values, boolean intern) {
+        if (values == null) {
+            return null;
+        } else if (values.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Hash32> hashes = new ArrayList<>(values.size());
+        for (String value : values) {
+            hashes.add(intern ? interned(value) : of(value));
+        }
+        return Collections.unmodifiableList(hashes);
+    }
+
+    static int hashCode(long word0, long word1, long word2, long word3) {
+        // topics holding addresses or small numbers are mostly zero padding, so mix every word
+        long mixed = word0 ^ Long.rotateLeft(word1, 17) ^ Long.rotateLeft(word2, 31)
+                ^ Long.rotateLeft(word3, 47);
+        return (int) (mixed ^ (mixed >>> 32));
+    }
+
+    /**
+     * Get the index of the first hex digit of a value expected to hold the given number of
+     * bytes, checking its length.
+     */
+    static int hexOffset(String value, int byteLength) {
+        int offset = value.startsWith("0x") || value.startsWith("0X") ? 2 : 0;
+        if (value.length() - offset != byteLength * 2) {
+            throw new MessageDecodingException(
+                    "Value must be " + byteLength + " bytes of hex: " + value);
+        }
+        return offset;
+    }
+
+    static long decodeHex(String value, int offset, int digits) {
+        long result = 0;
+        for (int i = offset; i < offset + digits; i++) {
+            int digit = Character.digit(value.charAt(i), 16);
+            if (digit < 0) {
+                throw new MessageDecodingException("Invalid hex value: " + value);
+            }
+            result = (result << 4) | digit;
+        }
+        return result;
+    }
+
+    static void encodeHex(char[] hex, int offset, long value, int digits) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            hex[i] = HEX_DIGITS[(int) value & 0xf];
+            value >>>= 4;
+        }
+    }
+
+    static long readLong(byte[] bytes, int offset) {
+        long result = 0;
+        for (int i = offset; i < offset + 8; i++) {
+            result = (result << 8) | (bytes[i] & 0xff);
+        }
+        return result;
+    }
+
+    static void writeLong(byte[] bytes, int offset, long value) {
+        for (int i = offset + 7; i >= offset; i--) {
+            bytes[i] = (byte) value;
+            value >>>= 8;
+        }
+    }
+}
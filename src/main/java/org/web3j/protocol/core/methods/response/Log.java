@@ -55,6 +55,10 @@ public class Log {
         return convert(logIndex);
     }
 
+    String getLogIndexRaw() {
+        return logIndex;
+    }
+
     public void setLogIndex(String logIndex) {
         this.logIndex = logIndex;
     }
@@ -63,6 +67,10 @@ public class Log {
         return convert(transactionIndex);
     }
 
+    String getTransactionIndexRaw() {
+        return transactionIndex;
+    }
+
     public void setTransactionIndex(String transactionIndex) {
         this.transactionIndex = transactionIndex;
     }
@@ -71,6 +79,10 @@ public class Log {
         return Optional.ofNullable(transactionHash);
     }
 
+    public Optional<Hash32> getTransactionHash32() {
+        return Optional.ofNullable(Hash32.of(transactionHash));
+    }
+
     public void setTransactionHash(String transactionHash) {
         this.transactionHash = transactionHash;
     }
@@ -79,6 +91,10 @@ public class Log {
         return Optional.ofNullable(blockHash);
     }
 
+    public Optional<Hash32> getBlockHash32() {
+        return Optional.ofNullable(Hash32.of(blockHash));
+    }
+
     public void setBlockHash(String blockHash) {
         this.blockHash = blockHash;
     }
@@ -87,6 +103,10 @@ public class Log {
         return convert(blockNumber);
     }
 
+    String getBlockNumberRaw() {
+        return blockNumber;
+    }
+
     public void setBlockNumber(String blockNumber) {
         this.blockNumber = blockNumber;
     }
@@ -95,6 +115,10 @@ public class Log {
         return address;
     }
 
+    public Address20 getAddress20() {
+        return Address20.of(address);
+    }
+
     public void setAddress(String address) {
         this.address = address;
     }
@@ -119,6 +143,10 @@ public class Log {
         return topics;
     }
 
+    public List<Hash32> getTopicHashes() {
+        return Hash32.ofAll(topics, false);
+    }
+
     public void setTopics(List<String> topics) {
         this.topics = topics;
     }
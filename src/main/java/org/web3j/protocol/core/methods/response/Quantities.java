@@ -0,0 +1,26 @@
+package org.web3j.protocol.core.methods.response;
+
+import java.math.BigInteger;
+
+import org.web3j.utils.Numeric;
+
+/**
+ * Decoding of the optional quantities held by the compact response objects.
+ */
+final class Quantities {
+
+    /**
+     * Value of a block number, index or similar quantity which is absent as it is pending.
+     */
+    static final long PENDING = -1;
+
+    private Quantities() { }
+
+    static long decodeLong(String value) {
+        return value == null ? PENDING : Numeric.decodeQuantityAsLong(value);
+    }
+
+    static BigInteger decodeBigInteger(String value) {
+        return value == null ? null : Numeric.decodeQuantity(value);
+    }
+}
@@ -0,0 +1,418 @@
+package org.web3j.protocol.core.methods.response;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+
+import org.web3j.utils.Numeric;
+
+/**
+ * Reads the largest and most frequent response objects, being blocks, transactions, receipts
+ * and logs, directly from the token stream rather than by reflective bean binding.
+ *
+ * <p>Readers are called with the parser on the object's {@code START_OBJECT} token, and leave
+ * it on the matching {@code END_OBJECT}. Unknown properties are handled as per the
+ * {@link DeserializationContext}'s configuration, failing by default, as when bound
+ * reflectively.</p>
+ */
+final class ResponseReaders {
+
+    private ResponseReaders() { }
+
+    static EthBlock.Block readBlock(
+            JsonParser parser, DeserializationContext context, JsonDeserializer<?> deserialiser)
+            throws IOException {
+        EthBlock.Block block = new EthBlock.Block();
+        for (JsonToken token = firstField(parser); token == JsonToken.FIELD_NAME;
+                token = parser.nextToken()) {
+            String name = parser.getCurrentName();
+            parser.nextToken();
+            switch (name) {
+                case "number":
+                    block.setNumber(readString(parser, context));
+                    break;
+                case "hash":
+                    block.setHash(readString(parser, context));
+                    break;
+                case "parentHash":
+                    block.setParentHash(readString(parser, context));
+                    break;
+                case "nonce":
+                    block.setNonce(readString(parser, context));
+                    break;
+                case "sha3Uncles":
+                    block.setSha3Uncles(readString(parser, context));
+                    break;
+                case "logsBloom":
+                    block.setLogsBloom(readString(parser, context));
+                    break;
+                case "transactionsRoot":
+                    block.setTransactionsRoot(readString(parser, context));
+                    break;
+                case "stateRoot":
+                    block.setStateRoot(readString(parser, context));
+                    break;
+                case "receiptsRoot":
+                    block.setReceiptsRoot(readString(parser, context));
+                    break;
+                case "author":
+                    block.setAuthor(readString(parser, context));
+                    break;
+                case "miner":
+                    block.setMiner(readString(parser, context));
+                    break;
+                case "mixHash":
+                    block.setMixHash(readString(parser, context));
+                    break;
+                case "difficulty":
+                    block.setDifficulty(readString(parser, context));
+                    break;
+                case "totalDifficulty":
+                    block.setTotalDifficulty(readString(parser, context));
+                    break;
+                case "extraData":
+                    block.setExtraData(readString(parser, context));
+                    break;
+                case "size":
+                    block.setSize(readString(parser, context));
+                    break;
+                case "gasLimit":
+                    block.setGasLimit(readString(parser, context));
+                    break;
+                case "gasUsed":
+                    block.setGasUsed(readString(parser, context));
+                    break;
+                case "timestamp":
+                    block.setTimestamp(readString(parser, context));
+                    break;
+                case "transactions":
+                    block.setTransactions(readTransactionResults(parser, context, deserialiser));
+                    break;
+                case "uncles":
+                    block.setUncles(readStrings(parser, context));
+                    break;
+                case "sealFields":
+                    block.setSealFields(readStrings(parser, context));
+                    break;
+                default:
+                    context.handleUnknownProperty(parser, deserialiser, block, name);
+            }
+        }
+        return block;
+    }
+
+    static List<EthBlock.TransactionResult> readTransactionResults(
+            JsonParser parser, DeserializationContext context, JsonDeserializer<?> deserialiser)
+            throws IOException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectArray(parser, context, List.class);
+
+        List<EthBlock.TransactionResult> transactionResults = new ArrayList<>();
+        for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY;
+                token = parser.nextToken()) {
+            if (token == JsonToken.START_OBJECT) {
+                transactionResults.add(readTransaction(
+                        parser, context, deserialiser, new EthBlock.TransactionObject()));
+            } else if (token == JsonToken.VALUE_STRING) {
+                transactionResults.add(new EthBlock.TransactionHash(parser.getText()));
+            } else {
+                context.handleUnexpectedToken(EthBlock.TransactionResult.class, parser);
+            }
+        }
+        return transactionResults;
+    }
+
+    static <T extends Transaction> T readTransaction(
+            JsonParser parser, DeserializationContext context, JsonDeserializer<?> deserialiser,
+            T transaction) throws IOException {
+        for (JsonToken token = firstField(parser); token == JsonToken.FIELD_NAME;
+                token = parser.nextToken()) {
+            String name = parser.getCurrentName();
+            parser.nextToken();
+            switch (name) {
+                case "hash":
+                    transaction.setHash(readString(parser, context));
+                    break;
+                case "nonce":
+                    transaction.setNonce(readString(parser, context));
+                    break;
+                case "blockHash":
+                    transaction.setBlockHash(readString(parser, context));
+                    break;
+                case "blockNumber":
+                    transaction.setBlockNumber(readString(parser, context));
+                    break;
+                case "transactionIndex":
+                    transaction.setTransactionIndex(readString(parser, context));
+                    break;
+                case "from":
+                    transaction.setFrom(readString(parser, context));
+                    break;
+                case "to":
+                    transaction.setTo(readString(parser, context));
+                    break;
+                case "value":
+                    transaction.setValue(readString(parser, context));
+                    break;
+                case "gasPrice":
+                    transaction.setGasPrice(readString(parser, context));
+                    break;
+                case "gas":
+                    transaction.setGas(readString(parser, context));
+                    break;
+                case "input":
+                    transaction.setInput(readString(parser, context));
+                    break;
+                case "creates":
+                    transaction.setCreates(readString(parser, context));
+                    break;
+                case "publicKey":
+                    transaction.setPublicKey(readString(parser, context));
+                    break;
+                case "raw":
+                    transaction.setRaw(readString(parser, context));
+                    break;
+                case "r":
+                    transaction.setR(readString(parser, context));
+                    break;
+                case "s":
+                    transaction.setS(readString(parser, context));
+                    break;
+                case "v":
+                    transaction.setV(readByte(parser, context));
+                    break;
+                default:
+                    context.handleUnknownProperty(parser, deserialiser, transaction, name);
+            }
+        }
+        return transaction;
+    }
+
+    static TransactionReceipt readTransactionReceipt(
+            JsonParser parser, DeserializationContext context, JsonDeserializer<?> deserialiser)
+            throws IOException {
+        TransactionReceipt receipt = new TransactionReceipt();
+        for (JsonToken token = firstField(parser); token == JsonToken.FIELD_NAME;
+                token = parser.nextToken()) {
+            String name = parser.getCurrentName();
+            parser.nextToken();
+            switch (name) {
+                case "transactionHash":
+                    receipt.setTransactionHash(readString(parser, context));
+                    break;
+                case "transactionIndex":
+                    receipt.setTransactionIndex(readString(parser, context));
+                    break;
+                case "blockHash":
+                    receipt.setBlockHash(readString(parser, context));
+                    break;
+                case "blockNumber":
+                    receipt.setBlockNumber(readString(parser, context));
+                    break;
+                case "cumulativeGasUsed":
+                    receipt.setCumulativeGasUsed(readString(parser, context));
+                    break;
+                case "gasUsed":
+                    receipt.setGasUsed(readString(parser, context));
+                    break;
+                case "contractAddress":
+                    receipt.setContractAddress(readString(parser, context));
+                    break;
+                case "root":
+                    receipt.setRoot(readString(parser, context));
+                    break;
+                case "from":
+                    receipt.setFrom(readString(parser, context));
+                    break;
+                case "to":
+                    receipt.setTo(readString(parser, context));
+                    break;
+                case "logs":
+                    receipt.setLogs(readLogs(parser, context, deserialiser));
+                    break;
+                case "logsBloom":
+                    receipt.setLogsBloom(readString(parser, context));
+                    break;
+                default:
+                    context.handleUnknownProperty(parser, deserialiser, receipt, name);
+            }
+        }
+        return receipt;
+    }
+
+    static List<EthLog.LogResult> readLogResults(
+            JsonParser parser, DeserializationContext context, JsonDeserializer<?> deserialiser)
+            throws IOException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectArray(parser, context, List.class);
+
+        List<EthLog.LogResult> logResults = new ArrayList<>();
+        for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY;
+                token = parser.nextToken()) {
+            if (token == JsonToken.START_OBJECT) {
+                logResults.add(readLog(parser, context, deserialiser, new EthLog.LogObject()));
+            } else if (token == JsonToken.VALUE_STRING) {
+                logResults.add(new EthLog.Hash(parser.getText()));
+            } else {
+                context.handleUnexpectedToken(EthLog.LogResult.class, parser);
+            }
+        }
+        return logResults;
+    }
+
+    private static List<Log> readLogs(
+            JsonParser parser, DeserializationContext context, JsonDeserializer<?> deserialiser)
+            throws IOException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectArray(parser, context, List.class);
+
+        List<Log> logs = new ArrayList<>();
+        for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY;
+                token = parser.nextToken()) {
+            if (token == JsonToken.START_OBJECT) {
+                logs.add(readLog(parser, context, deserialiser, new Log()));
+            } else if (token == JsonToken.VALUE_NULL) {
+                logs.add(null);
+            } else {
+                context.handleUnexpectedToken(Log.class, parser);
+            }
+        }
+        return logs;
+    }
+
+    static <T extends Log> T readLog(
+            JsonParser parser, DeserializationContext context, JsonDeserializer<?> deserialiser,
+            T log) throws IOException {
+        for (JsonToken token = firstField(parser); token == JsonToken.FIELD_NAME;
+                token = parser.nextToken()) {
+            String name = parser.getCurrentName();
+            parser.nextToken();
+            switch (name) {
+                case "removed":
+                    log.setRemoved(readBoolean(parser, context));
+                    break;
+                case "logIndex":
+                    log.setLogIndex(readString(parser, context));
+                    break;
+                case "transactionIndex":
+                    log.setTransactionIndex(readString(parser, context));
+                    break;
+                case "transactionHash":
+                    log.setTransactionHash(readString(parser, context));
+                    break;
+                case "blockHash":
+                    log.setBlockHash(readString(parser, context));
+                    break;
+                case "blockNumber":
+                    log.setBlockNumber(readString(parser, context));
+                    break;
+                case "address":
+                    log.setAddress(readString(parser, context));
+                    break;
+                case "data":
+                    log.setData(readString(parser, context));
+                    break;
+                case "type":
+                    log.setType(readString(parser, context));
+                    break;
+                case "topics":
+                    log.setTopics(readStrings(parser, context));
+                    break;
+                default:
+                    context.handleUnknownProperty(parser, deserialiser, log, name);
+            }
+        }
+        return log;
+    }
+
+    private static JsonToken firstField(JsonParser parser) throws IOException {
+        JsonToken token = parser.getCurrentToken();
+        return token == JsonToken.START_OBJECT ? parser.nextToken() : token;
+    }
+
+    private static void expectArray(
+            JsonParser parser, DeserializationContext context, Class<?> type) throws IOException {
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            context.handleUnexpectedToken(type, parser);
+        }
+    }
+
+    private static String readString(JsonParser parser, DeserializationContext context)
+            throws IOException {
+        JsonToken token = parser.getCurrentToken();
+        if (token == JsonToken.VALUE_STRING) {
+            return parser.getText();
+        } else if (token == JsonToken.VALUE_NULL) {
+            return null;
+        } else if (token.isScalarValue()) {
+            return parser.getText();
+        } else {
+            return (String) context.handleUnexpectedToken(String.class, parser);
+        }
+    }
+
+    private static List<String> readStrings(JsonParser parser, DeserializationContext context)
+            throws IOException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectArray(parser, context, List.class);
+
+        List<String> values = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            values.add(readString(parser, context));
+        }
+        return values;
+    }
+
+    private static boolean readBoolean(JsonParser parser, DeserializationContext context)
+            throws IOException {
+        JsonToken token = parser.getCurrentToken();
+        if (token == JsonToken.VALUE_TRUE) {
+            return true;
+        } else if (token == JsonToken.VALUE_FALSE || token == JsonToken.VALUE_NULL) {
+            return false;
+        } else if (token == JsonToken.VALUE_STRING) {
+            return Boolean.parseBoolean(parser.getText().trim());
+        } else {
+            return (Boolean) context.handleUnexpectedToken(Boolean.TYPE, parser);
+        }
+    }
+
+    /**
+     * Read a signature's v value, which nodes return as either a number or a hex quantity.
+     */
+    private static byte readByte(JsonParser parser, DeserializationContext context)
+            throws IOException {
+        JsonToken token = parser.getCurrentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getByteValue();
+        } else if (token == JsonToken.VALUE_NULL) {
+            return 0;
+        } else if (token == JsonToken.VALUE_STRING) {
+            String text = parser.getText().trim();
+            try {
+                if (text.startsWith("0x")) {
+                    return Numeric.decodeQuantity(text).byteValue();
+                }
+                return (byte) Integer.parseInt(text);
+            } catch (RuntimeException e) {
+                return (Byte) context.handleWeirdStringValue(
+                        Byte.TYPE, text, "not a valid byte value");
+            }
+        } else {
+            return (Byte) context.handleUnexpectedToken(Byte.TYPE, parser);
+        }
+    }
+}
@@ -56,6 +56,10 @@ public class Transaction {
         return hash;
     }
 
+    public Hash32 getHash32() {
+        return Hash32.of(hash);
+    }
+
     public void setHash(String hash) {
         this.hash = hash;
     }
@@ -64,6 +68,10 @@ public class Transaction {
         return Numeric.decodeQuantity(nonce);
     }
 
+    String getNonceRaw() {
+        return nonce;
+    }
+
     public void setNonce(String nonce) {
         this.nonce = nonce;
     }
@@ -72,6 +80,10 @@ public class Transaction {
         return blockHash;
     }
 
+    public Hash32 getBlockHash32() {
+        return Hash32.of(blockHash);
+    }
+
     public void setBlockHash(String blockHash) {
         this.blockHash = blockHash;
     }
@@ -80,6 +92,10 @@ public class Transaction {
         return Numeric.decodeQuantity(blockNumber);
     }
 
+    String getBlockNumberRaw() {
+        return blockNumber;
+    }
+
     public void setBlockNumber(String blockNumber) {
         this.blockNumber = blockNumber;
     }
@@ -88,6 +104,10 @@ public class Transaction {
         return Numeric.decodeQuantity(transactionIndex);
     }
 
+    String getTransactionIndexRaw() {
+        return transactionIndex;
+    }
+
     public void setTransactionIndex(String transactionIndex) {
         this.transactionIndex = transactionIndex;
     }
@@ -96,6 +116,10 @@ public class Transaction {
         return from;
     }
 
+    public Address20 getFromAddress20() {
+        return Address20.of(from);
+    }
+
     public void setFrom(String from) {
         this.from = from;
     }
@@ -104,6 +128,10 @@ public class Transaction {
         return to;
     }
 
+    public Address20 getToAddress20() {
+        return Address20.of(to);
+    }
+
     public void setTo(String to) {
         this.to = to;
     }
@@ -112,6 +140,10 @@ public class Transaction {
         return Numeric.decodeQuantity(value);
     }
 
+    String getValueRaw() {
+        return value;
+    }
+
     public void setValue(String value) {
         this.value = value;
     }
@@ -120,6 +152,10 @@ public class Transaction {
         return Numeric.decodeQuantity(gasPrice);
     }
 
+    String getGasPriceRaw() {
+        return gasPrice;
+    }
+
     public void setGasPrice(String gasPrice) {
         this.gasPrice = gasPrice;
     }
@@ -128,6 +164,10 @@ public class Transaction {
         return Numeric.decodeQuantity(gas);
     }
 
+    String getGasRaw() {
+        return gas;
+    }
+
     public void setGas(String gas) {
         this.gas = gas;
     }
@@ -144,6 +184,10 @@ public class Transaction {
         return creates;
     }
 
+    public Address20 getCreatesAddress20() {
+        return Address20.of(creates);
+    }
+
     public void setCreates(String creates) {
         this.creates = creates;
     }
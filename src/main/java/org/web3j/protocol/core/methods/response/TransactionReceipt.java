@@ -48,6 +48,10 @@ public class TransactionReceipt {
         return transactionHash;
     }
 
+    public Hash32 getTransactionHash32() {
+        return Hash32.of(transactionHash);
+    }
+
     public void setTransactionHash(String transactionHash) {
         this.transactionHash = transactionHash;
     }
@@ -56,6 +60,10 @@ public class TransactionReceipt {
         return Numeric.decodeQuantity(transactionIndex);
     }
 
+    String getTransactionIndexRaw() {
+        return transactionIndex;
+    }
+
     public void setTransactionIndex(String transactionIndex) {
         this.transactionIndex = transactionIndex;
     }
@@ -64,6 +72,10 @@ public class TransactionReceipt {
         return blockHash;
     }
 
+    public Hash32 getBlockHash32() {
+        return Hash32.of(blockHash);
+    }
+
     public void setBlockHash(String blockHash) {
         this.blockHash = blockHash;
     }
@@ -72,6 +84,10 @@ public class TransactionReceipt {
         return Numeric.decodeQuantity(blockNumber);
     }
 
+    String getBlockNumberRaw() {
+        return blockNumber;
+    }
+
     public void setBlockNumber(String blockNumber) {
         this.blockNumber = blockNumber;
     }
@@ -80,6 +96,10 @@ public class TransactionReceipt {
         return Numeric.decodeQuantity(cumulativeGasUsed);
     }
 
+    String getCumulativeGasUsedRaw() {
+        return cumulativeGasUsed;
+    }
+
     public void setCumulativeGasUsed(String cumulativeGasUsed) {
         this.cumulativeGasUsed = cumulativeGasUsed;
     }
@@ -88,6 +108,10 @@ public class TransactionReceipt {
         return Numeric.decodeQuantity(gasUsed);
     }
 
+    String getGasUsedRaw() {
+        return gasUsed;
+    }
+
     public void setGasUsed(String gasUsed) {
         this.gasUsed = gasUsed;
     }
@@ -96,6 +120,10 @@ public class TransactionReceipt {
         return Optional.ofNullable(contractAddress);
     }
 
+    public Optional<Address20> getContractAddress20() {
+        return Optional.ofNullable(Address20.of(contractAddress));
+    }
+
     public void setContractAddress(String contractAddress) {
         this.contractAddress = contractAddress;
     }
@@ -112,6 +140,10 @@ public class TransactionReceipt {
         return from;
     }
 
+    public Address20 getFromAddress20() {
+        return Address20.of(from);
+    }
+
     public void setFrom(String from) {
         this.from = from;
     }
@@ -120,6 +152,10 @@ public class TransactionReceipt {
         return to;
     }
 
+    public Address20 getToAddress20() {
+        return Address20.of(to);
+    }
+
     public void setTo(String to) {
         this.to = to;
     }
@@ -0,0 +1,55 @@
+package org.web3j.protocol.core.methods.response;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Pool of canonical instances of immutable values, which are held weakly so that values no
+ * longer referenced elsewhere may be collected.
+ *
+ * <p>The pool is split into segments by hash code, each locked separately, so that values may be
+ * interned by several threads at once.</p>
+ */
+final class WeakInterner<T> {
+
+    private static final int SEGMENTS = 32;
+
+    private final Segment<T>[] segments;
+
+    @SuppressWarnings("unchecked")
+    WeakInterner() {
+        segments = new Segment[SEGMENTS];
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment<>();
+        }
+    }
+
+    T intern(T value) {
+        int hash = value.hashCode();
+        Segment<T> segment = segments[(hash ^ (hash >>> 16)) & (SEGMENTS - 1)];
+        synchronized (segment) {
+            WeakReference<T> reference = segment.values.get(value);
+            T canonical = reference == null ? null : reference.get();
+            if (canonical == null) {
+                segment.values.put(value, new WeakReference<>(value));
+                canonical = value;
+            }
+            return canonical;
+        }
+    }
+
+    int size() {
+        int size = 0;
+        for (Segment<T> segment : segments) {
+            synchronized (segment) {
+                size += segment.values.size();
+            }
+        }
+        return size;
+    }
+
+    private static class Segment<T> {
+        private final Map<T, WeakReference<T>> values = new WeakHashMap<>();
+    }
+}
@@ -0,0 +1,204 @@
+package org.web3j.protocol.decorators;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.exceptions.BatchRejectedException;
+
+/**
+ * Combines asynchronous requests sent at around the same time into JSON-RPC batches.
+ *
+ * <p>Requests sent via {@link #sendAsync(Request, Class)} are held for up to the batching
+ * window, or until the maximum batch size is reached, and are then sent to the underlying
+ * service as a single batch. Each caller's future is completed with its own response, so
+ * existing {@link Request#sendAsync()} call sites benefit without any changes.</p>
+ *
+ * <p>Synchronous and explicitly batched requests are passed straight through, as holding a
+ * blocked caller back would only add to its latency.</p>
+ *
+ * <p>Should the underlying service refuse a batch outright, such as a node which does not
+ * support batching answering with a single error, its requests are sent again individually.
+ * Other failures of a batch fail all of its requests.</p>
+ */
+public class BatchingWeb3jService extends DelegatingWeb3jService {
+
+    public static final long DEFAULT_WINDOW_MICROS = 2_000;
+    public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+
+    private final long windowMicros;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService scheduler;
+
+    private final Object lock = new Object();
+    private List<PendingRequest<?>> pendingRequests = new ArrayList<>();  // guarded by lock
+    private ScheduledFuture<?> scheduledFlush;  // guarded by lock
+
+    public BatchingWeb3jService(Web3jService delegate, long window, TimeUnit unit,
+                                int maxBatchSize) {
+        super(delegate);
+        if (window < 0) {
+            throw new IllegalArgumentException("window must not be negative");
+        }
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be at least 1");
+        }
+        this.windowMicros = unit.toMicros(window);
+        this.maxBatchSize = maxBatchSize;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "web3j-batching");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public BatchingWeb3jService(Web3jService delegate) {
+        this(delegate, DEFAULT_WINDOW_MICROS, TimeUnit.MICROSECONDS, DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(
+            Request request, Class<T> responseType) {
+        PendingRequest<T> pendingRequest = new PendingRequest<>(request, responseType);
+
+        List<PendingRequest<?>> batch = null;
+        synchronized (lock) {
+            pendingRequests.add(pendingRequest);
+            if (pendingRequests.size() >= maxBatchSize) {
+                batch = drain();
+            } else if (pendingRequests.size() == 1) {
+                scheduledFlush = scheduler.schedule(
+                        this::flush, windowMicros, TimeUnit.MICROSECONDS);
+            }
+        }
+
+        if (batch != null) {
+            dispatch(batch);
+        }
+        return pendingRequest.future;
+    }
+
+    /**
+     * Send any requests held for the current batching window immediately.
+     */
+    public void flush() {
+        List<PendingRequest<?>> batch;
+        synchronized (lock) {
+            batch = drain();
+        }
+        dispatch(batch);
+    }
+
+    private List<PendingRequest<?>> drain() {
+        List<PendingRequest<?>> batch = pendingRequests;
+        pendingRequests = new ArrayList<>();
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        return batch;
+    }
+
+    private void dispatch(List<PendingRequest<?>> batch) {
+        List<PendingRequest<?>> requests = new ArrayList<>(batch.size());
+        for (PendingRequest<?> pendingRequest : batch) {
+            // skip requests the caller has since cancelled
+            if (!pendingRequest.future.isDone()) {
+                requests.add(pendingRequest);
+            }
+        }
+
+        if (requests.isEmpty()) {
+            return;
+        } else if (requests.size() == 1) {
+            requests.get(0).sendAlone();
+            return;
+        }
+
+        BatchRequest batchRequest = new BatchRequest(delegate);
+        for (PendingRequest<?> pendingRequest : requests) {
+            batchRequest.add(pendingRequest.request);
+        }
+        batchRequest.sendAsync().whenComplete((batchResponse, throwable) -> {
+            if (throwable == null && batchResponse == null) {
+                // a service answering an empty body
+                throwable = new IOException("No response to batch of " + requests.size()
+                        + " requests");
+            }
+            if (throwable != null && isBatchRejected(throwable)) {
+                for (PendingRequest<?> pendingRequest : requests) {
+                    pendingRequest.sendAlone();
+                }
+                return;
+            }
+            for (int i = 0; i < requests.size(); i++) {
+                if (throwable != null) {
+                    requests.get(i).future.completeExceptionally(throwable);
+                } else {
+                    requests.get(i).complete(batchResponse.getResponses().get(i));
+                }
+            }
+        });
+    }
+
+    /**
+     * Whether a batch was refused as a whole, so that none of its requests were processed: the
+     * node answered with a single error, or the service cannot batch. Any other failure, such
+     * as an error status or a partial response, may follow requests having taken effect, so
+     * they are not sent again.
+     */
+    private static boolean isBatchRejected(Throwable throwable) {
+        if (throwable instanceof CompletionException && throwable.getCause() != null) {
+            throwable = throwable.getCause();
+        }
+        return throwable instanceof BatchRejectedException
+                || throwable instanceof UnsupportedOperationException;
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        scheduler.shutdownNow();
+        super.close();
+    }
+
+    private class PendingRequest<T extends Response> {
+
+        private final Request<?, ? extends Response> request;
+        private final Class<T> responseType;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+
+        PendingRequest(Request<?, ?> request, Class<T> responseType) {
+            this.request = request;
+            this.responseType = responseType;
+        }
+
+        void sendAlone() {
+            delegate.sendAsync(request, responseType).whenComplete((response, throwable) -> {
+                if (throwable != null) {
+                    future.completeExceptionally(throwable);
+                } else {
+                    future.complete(response);
+                }
+            });
+        }
+
+        void complete(Response response) {
+            try {
+                future.complete(responseType.cast(response));
+            } catch (ClassCastException e) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package org.web3j.protocol.decorators;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.DefaultBlockParameterNumber;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthGetTransactionReceipt;
+import org.web3j.protocol.core.methods.response.EthTransaction;
+
+/**
+ * Caches the responses to requests for chain data which cannot change.
+ *
+ * <p>Responses are cached for:</p>
+ * <ul>
+ * <li>blocks, transactions, uncles and counts looked up by block or transaction hash</li>
+ * <li>transactions by hash and transaction receipts, once mined</li>
+ * <li>requests for state at a given block number, such as eth_getCode, eth_getBalance or
+ * eth_call with a {@link DefaultBlockParameterNumber}</li>
+ * </ul>
+ *
+ * <p>Requests at the latest, pending or earliest block are never cached, nor are error or null
+ * responses. Note that a block number near the head of the chain may still be reorganised,
+ * so callers should only request state by number for blocks they consider final.</p>
+ *
+ * <p>Cached responses are shared between callers, so should be treated as read-only. The
+ * least recently used responses are evicted once the cache reaches its maximum size.</p>
+ */
+public class CachingWeb3jService extends DelegatingWeb3jService {
+
+    public static final int DEFAULT_MAX_ENTRIES = 10_000;
+
+    /**
+     * Methods whose params identify immutable data by hash.
+     */
+    private static final Set<String> IMMUTABLE_METHODS = Collections.unmodifiableSet(
+            new HashSet<>(Arrays.asList(
+                    "web3_sha3",
+                    "eth_getBlockByHash",
+                    "eth_getBlockTransactionCountByHash",
+                    "eth_getUncleCountByBlockHash",
+                    "eth_getTransactionByHash",
+                    "eth_getTransactionByBlockHashAndIndex",
+                    "eth_getUncleByBlockHashAndIndex",
+                    "eth_getTransactionReceipt")));
+
+    /**
+     * Methods which are immutable when requested at a block number, by the index of their
+     * block parameter.
+     */
+    private static final Map<String, Integer> BLOCK_PARAMETER_INDEXES;
+
+    static {
+        Map<String, Integer> blockParameterIndexes = new HashMap<>();
+        blockParameterIndexes.put("eth_getBalance", 1);
+        blockParameterIndexes.put("eth_getStorageAt", 2);
+        blockParameterIndexes.put("eth_getTransactionCount", 1);
+        blockParameterIndexes.put("eth_getCode", 1);
+        blockParameterIndexes.put("eth_call", 1);
+        blockParameterIndexes.put("eth_getBlockByNumber", 0);
+        blockParameterIndexes.put("eth_getBlockTransactionCountByNumber", 0);
+        blockParameterIndexes.put("eth_getUncleCountByBlockNumber", 0);
+        blockParameterIndexes.put("eth_getTransactionByBlockNumberAndIndex", 0);
+        blockParameterIndexes.put("eth_getUncleByBlockNumberAndIndex", 0);
+        BLOCK_PARAMETER_INDEXES = Collections.unmodifiableMap(blockParameterIndexes);
+    }
+
+    private final LruCache cache;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    public CachingWeb3jService(Web3jService delegate, int maxEntries) {
+        super(delegate);
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be at least 1");
+        }
+        this.cache = new LruCache(maxEntries);
+    }
+
+    public CachingWeb3jService(Web3jService delegate) {
+        this(delegate, DEFAULT_MAX_ENTRIES);
+    }
+
+    @Override
+    public <T extends Response> T send(
+            Request request, Class<T> responseType) throws IOException {
+        RequestKey key = createKey(request, responseType);
+        if (key == null) {
+            return delegate.send(request, responseType);
+        }
+
+        T cached = get(key, responseType);
+        if (cached != null) {
+            return cached;
+        }
+        T response = delegate.send(request, responseType);
+        put(key, response);
+        return response;
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(
+            Request request, Class<T> responseType) {
+        RequestKey key = createKey(request, responseType);
+        if (key == null) {
+            return delegate.sendAsync(request, responseType);
+        }
+
+        T cached = get(key, responseType);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        return delegate.sendAsync(request, responseType).whenComplete((response, throwable) -> {
+            if (response != null) {
+                put(key, response);
+            }
+        });
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    /**
+     * Get the proportion of cacheable requests which were answered from the cache.
+     *
+     * @return hit rate between 0 and 1, or 0 if no cacheable requests have been sent
+     */
+    public double getHitRate() {
+        long hits = hitCount.get();
+        long total = hits + missCount.get();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Whether the response to a request can never change.
+     *
+     * @param request to check
+     * @return true if the response may be cached
+     */
+    protected boolean isImmutable(Request<?, ?> request) {
+        String method = request.getMethod();
+        if (IMMUTABLE_METHODS.contains(method)) {
+            return true;
+        }
+
+        Integer index = BLOCK_PARAMETER_INDEXES.get(method);
+        List<?> params = request.getParams();
+        if (index == null || params == null || params.size() <= index) {
+            return false;
+        }
+        Object blockParameter = params.get(index);
+        if (blockParameter instanceof DefaultBlockParameterNumber) {
+            return true;
+        }
+        // block numbers are hex encoded quantities, unlike the latest, pending and earliest tags
+        return blockParameter instanceof String && ((String) blockParameter).startsWith("0x");
+    }
+
+    /**
+     * Whether a response to an immutable request may be cached, so excluding errors, and data
+     * which is not yet available on the chain.
+     *
+     * @param response to check
+     * @return true if the response may be cached
+     */
+    protected boolean isComplete(Response<?> response) {
+        if (response.hasError() || response.getResult() == null) {
+            return false;
+        }
+        if (response instanceof EthTransaction) {
+            // pending transactions are returned by hash before they are mined
+            return ((EthTransaction) response).getResult().getBlockHash() != null;
+        }
+        if (response instanceof EthGetTransactionReceipt) {
+            return ((EthGetTransactionReceipt) response).getResult().getBlockHash() != null;
+        }
+        return true;
+    }
+
+    private RequestKey createKey(Request<?, ?> request, Class<?> responseType) {
+        if (!isImmutable(request)) {
+            return null;
+        }
+        return RequestKey.of(request, responseType);
+    }
+
+    private <T extends Response> T get(RequestKey key, Class<T> responseType) {
+        Response cached;
+        synchronized (cache) {
+            cached = cache.get(key);
+        }
+        if (cached == null) {
+            missCount.incrementAndGet();
+            return null;
+        }
+        hitCount.incrementAndGet();
+        // the key includes the response type
+        return responseType.cast(cached);
+    }
+
+    private void put(RequestKey key, Response response) {
+        if (isComplete(response)) {
+            synchronized (cache) {
+                cache.put(key, response);
+            }
+        }
+    }
+
+    private class LruCache extends LinkedHashMap<RequestKey, Response> {
+
+        private final int maxEntries;
+
+        LruCache(int maxEntries) {
+            super(16, 0.75f, true);
+            this.maxEntries = maxEntries;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<RequestKey, Response> eldest) {
+            if (size() > maxEntries) {
+                evictionCount.incrementAndGet();
+                return true;
+            }
+            return false;
+        }
+    }
+}
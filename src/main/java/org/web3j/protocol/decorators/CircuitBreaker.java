@@ -0,0 +1,129 @@
+package org.web3j.protocol.decorators;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker for a single node, failing requests fast while the node is unhealthy.
+ *
+ * <p>The breaker opens after a number of consecutive failures, rejecting all requests. Once it
+ * has been open for the configured duration, a single trial request is allowed through: if this
+ * succeeds the breaker closes, otherwise it opens again.</p>
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    public static final int DEFAULT_FAILURE_THRESHOLD = 5;
+    public static final long DEFAULT_OPEN_DURATION = 30_000;  // ms
+
+    private final int failureThreshold;
+    private final long openDuration;  // ns
+    private final LongSupplier clock;
+
+    private State state = State.CLOSED;  // guarded by this
+    private int consecutiveFailures;  // guarded by this
+    private long openedAt;  // guarded by this
+    private boolean trialInFlight;  // guarded by this
+
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    public CircuitBreaker(int failureThreshold, long openDuration, TimeUnit timeUnit) {
+        this(failureThreshold, openDuration, timeUnit, System::nanoTime);
+    }
+
+    public CircuitBreaker() {
+        this(DEFAULT_FAILURE_THRESHOLD, DEFAULT_OPEN_DURATION, TimeUnit.MILLISECONDS);
+    }
+
+    CircuitBreaker(int failureThreshold, long openDuration, TimeUnit timeUnit,
+                   LongSupplier clock) {
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("failureThreshold must be at least 1");
+        }
+        this.failureThreshold = failureThreshold;
+        this.openDuration = timeUnit.toNanos(openDuration);
+        this.clock = clock;
+    }
+
+    /**
+     * Request permission to send a request, which must be followed by a call to
+     * {@link #onSuccess()}, {@link #onFailure()} or {@link #onIgnored()} once it completes.
+     *
+     * @return true if the request may be sent, false if it should be rejected
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN && clock.getAsLong() - openedAt >= openDuration) {
+            state = State.HALF_OPEN;
+        }
+        switch (state) {
+            case CLOSED:
+                return true;
+            case HALF_OPEN:
+                if (!trialInFlight) {
+                    trialInFlight = true;
+                    return true;
+                }
+                break;
+            default:
+                break;
+        }
+        rejectedCount.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * Record a request to which the node responded.
+     */
+    public synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        if (state == State.HALF_OPEN) {
+            trialInFlight = false;
+            state = State.CLOSED;
+        }
+    }
+
+    /**
+     * Record a request to which the node failed to respond.
+     */
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            trialInFlight = false;
+            open();
+        } else if (state == State.CLOSED && ++consecutiveFailures >= failureThreshold) {
+            open();
+        }
+    }
+
+    /**
+     * Record a request whose outcome says nothing of the node's health, such as one failing in
+     * the client before reaching it. A trial request may be sent again in its place.
+     */
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN) {
+            trialInFlight = false;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * Get the number of requests rejected while the breaker was open.
+     *
+     * @return number of rejected requests
+     */
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = clock.getAsLong();
+        consecutiveFailures = 0;
+    }
+}
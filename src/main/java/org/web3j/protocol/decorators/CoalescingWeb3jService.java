@@ -0,0 +1,139 @@
+package org.web3j.protocol.decorators;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.utils.Futures;
+
+/**
+ * Coalesces concurrent identical read requests into a single request to the node.
+ *
+ * <p>While a request for one of the coalesced methods is outstanding, further requests with the
+ * same method and params do not go to the node, but share the outstanding request's response.
+ * The response object itself is shared, so should be treated as read-only, and carries the id
+ * of the request which was sent.</p>
+ *
+ * <p>Only methods without side effects may be coalesced. By default these are
+ * {@link RpcMethods#READ_ONLY}. Batches are passed straight through.</p>
+ */
+public class CoalescingWeb3jService extends DelegatingWeb3jService {
+
+    private final Set<String> coalescedMethods;
+
+    private final ConcurrentMap<RequestKey, CompletableFuture<? extends Response>> inFlight =
+            new ConcurrentHashMap<>();
+
+    private final AtomicLong coalescedCount = new AtomicLong();
+
+    /**
+     * Create a coalescing service.
+     *
+     * @param delegate to send requests to
+     * @param coalescedMethods methods which may be coalesced
+     * @throws IllegalArgumentException if a method in {@link RpcMethods#SIDE_EFFECTING} is given
+     */
+    public CoalescingWeb3jService(Web3jService delegate, Set<String> coalescedMethods) {
+        super(delegate);
+        this.coalescedMethods = RpcMethods.requireNoSideEffects(coalescedMethods);
+    }
+
+    public CoalescingWeb3jService(Web3jService delegate) {
+        this(delegate, RpcMethods.READ_ONLY);
+    }
+
+    @Override
+    public <T extends Response> T send(
+            Request request, Class<T> responseType) throws IOException {
+        RequestKey key = createKey(request, responseType);
+        if (key == null) {
+            return delegate.send(request, responseType);
+        }
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        CompletableFuture<T> outstanding = putIfAbsent(key, result);
+        if (outstanding != null) {
+            return Futures.getResult(outstanding);
+        }
+
+        try {
+            T response = delegate.send(request, responseType);
+            result.complete(response);
+            return response;
+        } catch (IOException | RuntimeException e) {
+            result.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, result);
+        }
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(
+            Request request, Class<T> responseType) {
+        RequestKey key = createKey(request, responseType);
+        if (key == null) {
+            return delegate.sendAsync(request, responseType);
+        }
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        CompletableFuture<T> outstanding = putIfAbsent(key, result);
+        if (outstanding != null) {
+            return Futures.copy(outstanding);
+        }
+
+        CompletableFuture<T> response;
+        try {
+            response = delegate.sendAsync(request, responseType);
+        } catch (RuntimeException e) {
+            inFlight.remove(key, result);
+            result.completeExceptionally(e);
+            throw e;
+        }
+        response.whenComplete((value, throwable) -> {
+            inFlight.remove(key, result);
+            if (throwable != null) {
+                result.completeExceptionally(throwable);
+            } else {
+                result.complete(value);
+            }
+        });
+        // callers cancelling their own copy do not affect the others
+        return Futures.copy(result);
+    }
+
+    /**
+     * Get the number of requests which shared the response of an outstanding request rather
+     * than being sent.
+     *
+     * @return number of coalesced requests
+     */
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends Response> CompletableFuture<T> putIfAbsent(
+            RequestKey key, CompletableFuture<T> result) {
+        // the key includes the response type
+        CompletableFuture<T> outstanding =
+                (CompletableFuture<T>) inFlight.putIfAbsent(key, result);
+        if (outstanding != null) {
+            coalescedCount.incrementAndGet();
+        }
+        return outstanding;
+    }
+
+    private RequestKey createKey(Request<?, ?> request, Class<?> responseType) {
+        if (!coalescedMethods.contains(request.getMethod())) {
+            return null;
+        }
+        return RequestKey.of(request, responseType);
+    }
+}
@@ -0,0 +1,297 @@
+package org.web3j.protocol.decorators;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.exceptions.ConcurrencyLimitExceededException;
+import org.web3j.utils.Futures;
+
+/**
+ * Limits the number of requests in flight to the node, adapting the limit to the node's
+ * observed round trip times.
+ *
+ * <p>The limit follows a gradient algorithm: while round trip times stay close to their long
+ * term average the limit grows, and as they rise, indicating requests are queueing on the node,
+ * the limit shrinks in proportion. Failed requests also shrink the limit.</p>
+ *
+ * <p>Requests beyond the limit wait in a bounded queue, in order. Once the queue is full further
+ * requests fail immediately with a {@link ConcurrencyLimitExceededException}, so that callers
+ * see backpressure rather than unbounded latency. A batch counts as a single request.</p>
+ */
+public class ConcurrencyLimitingWeb3jService extends DelegatingWeb3jService {
+
+    public static final int DEFAULT_INITIAL_LIMIT = 20;
+    public static final int DEFAULT_MIN_LIMIT = 1;
+    public static final int DEFAULT_MAX_LIMIT = 1_000;
+    public static final int DEFAULT_MAX_QUEUE_SIZE = 1_000;
+
+    // round trip times up to this multiple of the long term average do not reduce the limit
+    private static final double RTT_TOLERANCE = 1.5;
+    // weight given to each new round trip time in the long term average
+    private static final double LONG_RTT_DECAY = 1.0 / 600;
+    // weight given to each newly calculated limit
+    private static final double SMOOTHING = 0.2;
+    // proportion of the limit retained after a failed request
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final int maxQueueSize;
+
+    private final Queue<CompletableFuture<Void>> queue = new ArrayDeque<>();  // guarded by this
+    private double limit;  // guarded by this
+    private double longRtt;  // guarded by this
+    private int inFlight;  // guarded by this
+
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    public ConcurrencyLimitingWeb3jService(
+            Web3jService delegate, int initialLimit, int minLimit, int maxLimit,
+            int maxQueueSize) {
+        super(delegate);
+        if (minLimit < 1 || initialLimit < minLimit || maxLimit < initialLimit) {
+            throw new IllegalArgumentException(
+                    "Limits must satisfy 1 <= minLimit <= initialLimit <= maxLimit");
+        }
+        if (maxQueueSize < 0) {
+            throw new IllegalArgumentException("maxQueueSize must not be negative");
+        }
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.maxQueueSize = maxQueueSize;
+    }
+
+    public ConcurrencyLimitingWeb3jService(Web3jService delegate) {
+        this(delegate, DEFAULT_INITIAL_LIMIT, DEFAULT_MIN_LIMIT, DEFAULT_MAX_LIMIT,
+                DEFAULT_MAX_QUEUE_SIZE);
+    }
+
+    @Override
+    public <T extends Response> T send(
+            Request request, Class<T> responseType) throws IOException {
+        return send(() -> delegate.send(request, responseType));
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(
+            Request request, Class<T> responseType) {
+        return sendAsync(() -> delegate.sendAsync(request, responseType));
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        return send(() -> delegate.sendBatch(batchRequest));
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        return sendAsync(() -> delegate.sendBatchAsync(batchRequest));
+    }
+
+    /**
+     * Get the current limit on the number of requests in flight.
+     *
+     * @return the limit
+     */
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    public synchronized int getQueueSize() {
+        return queue.size();
+    }
+
+    /**
+     * Get the number of requests which failed as the queue was full.
+     *
+     * @return number of rejected requests
+     */
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    private <T> T send(Call<T> call) throws IOException {
+        CompletableFuture<Void> permit = acquire();
+        try {
+            Futures.getResult(permit);
+        } catch (IOException e) {
+            // interrupted while queued
+            if (!cancel(permit)) {
+                // granted in the meantime
+                release(null);
+            }
+            throw e;
+        }
+
+        long startTime = System.nanoTime();
+        Throwable failure = null;
+        try {
+            return call.send();
+        } catch (IOException | RuntimeException e) {
+            failure = e;
+            throw e;
+        } finally {
+            release(new Sample(System.nanoTime() - startTime, failure instanceof IOException));
+        }
+    }
+
+    private <T> CompletableFuture<T> sendAsync(Supplier<CompletableFuture<T>> call) {
+        CompletableFuture<Void> permit;
+        try {
+            permit = acquire();
+        } catch (ConcurrencyLimitExceededException e) {
+            return Futures.failedFuture(e);
+        }
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        permit.thenRun(() -> {
+            long startTime = System.nanoTime();
+            CompletableFuture<T> response;
+            try {
+                response = call.get();
+            } catch (RuntimeException e) {
+                response = Futures.failedFuture(e);
+            }
+            response.whenComplete((value, throwable) -> {
+                release(new Sample(System.nanoTime() - startTime,
+                        unwrap(throwable) instanceof IOException));
+                if (throwable != null) {
+                    result.completeExceptionally(unwrap(throwable));
+                } else {
+                    result.complete(value);
+                }
+            });
+        });
+        // callers cancelling a queued request give up its place
+        result.whenComplete((value, throwable) -> cancel(permit));
+        return result;
+    }
+
+    private synchronized CompletableFuture<Void> acquire()
+            throws ConcurrencyLimitExceededException {
+        if (inFlight < (int) limit) {
+            inFlight++;
+            return CompletableFuture.completedFuture(null);
+        }
+        if (queue.size() >= maxQueueSize) {
+            rejectedCount.incrementAndGet();
+            throw new ConcurrencyLimitExceededException(
+                    "Limit of " + (int) limit + " requests in flight and "
+                            + maxQueueSize + " queued reached");
+        }
+        CompletableFuture<Void> permit = new CompletableFuture<>();
+        queue.add(permit);
+        return permit;
+    }
+
+    private boolean cancel(CompletableFuture<Void> permit) {
+        if (permit.cancel(false)) {
+            synchronized (this) {
+                queue.remove(permit);
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Release a permit, updating the limit and passing permits on to queued requests.
+     *
+     * @param sample of the request completed, or null if the permit was not used
+     */
+    private void release(Sample sample) {
+        List<CompletableFuture<Void>> granted = new ArrayList<>();
+        synchronized (this) {
+            if (sample != null) {
+                updateLimit(sample.rtt, sample.dropped);
+            }
+            inFlight--;
+            while (inFlight < (int) limit && !queue.isEmpty()) {
+                CompletableFuture<Void> permit = queue.poll();
+                if (!permit.isDone()) {
+                    inFlight++;
+                    granted.add(permit);
+                }
+            }
+        }
+
+        // complete outside the lock, as queued requests are sent by their completion
+        for (CompletableFuture<Void> permit : granted) {
+            if (!permit.complete(null)) {
+                // cancelled since being granted
+                release(null);
+            }
+        }
+    }
+
+    /**
+     * Update the limit given the round trip time of a completed request, and whether it failed.
+     */
+    synchronized void updateLimit(long rtt, boolean dropped) {
+        if (dropped) {
+            limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+            return;
+        }
+
+        // a coarse clock may time a request as taking no time at all
+        rtt = Math.max(1, rtt);
+        if (longRtt == 0) {
+            longRtt = rtt;
+        } else {
+            longRtt += (rtt - longRtt) * LONG_RTT_DECAY;
+        }
+        // recover quickly after a sustained rise in round trip times has subsided
+        if (longRtt / rtt > 2) {
+            longRtt *= 0.95;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, RTT_TOLERANCE * longRtt / rtt));
+        double newLimit = limit * gradient + Math.sqrt(limit);
+        if (newLimit > limit && inFlight < limit / 2) {
+            // not enough demand to show the node can sustain a higher limit
+            return;
+        }
+        newLimit = limit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+        if (Double.isFinite(newLimit)) {
+            limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        }
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        if (throwable instanceof CompletionException && throwable.getCause() != null) {
+            return throwable.getCause();
+        }
+        return throwable;
+    }
+
+    private interface Call<T> {
+        T send() throws IOException;
+    }
+
+    private static class Sample {
+        private final long rtt;
+        private final boolean dropped;
+
+        Sample(long rtt, boolean dropped) {
+            this.rtt = rtt;
+            this.dropped = dropped;
+        }
+    }
+}
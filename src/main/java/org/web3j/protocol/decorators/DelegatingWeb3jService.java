@@ -0,0 +1,53 @@
+package org.web3j.protocol.decorators;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+
+/**
+ * Base class for services decorating another {@link Web3jService}, forwarding all calls to it.
+ * Subclasses override the calls they decorate.
+ */
+public abstract class DelegatingWeb3jService implements Web3jService {
+
+    protected final Web3jService delegate;
+
+    protected DelegatingWeb3jService(Web3jService delegate) {
+        if (delegate == null) {
+            throw new NullPointerException("delegate");
+        }
+        this.delegate = delegate;
+    }
+
+    @Override
+    public <T extends Response> T send(
+            Request request, Class<T> responseType) throws IOException {
+        return delegate.send(request, responseType);
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(
+            Request request, Class<T> responseType) {
+        return delegate.sendAsync(request, responseType);
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        return delegate.sendBatch(batchRequest);
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        return delegate.sendBatchAsync(batchRequest);
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+}
@@ -0,0 +1,367 @@
+package org.web3j.protocol.decorators;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.metrics.LatencyHistogram;
+import org.web3j.utils.Futures;
+
+/**
+ * Cuts tail latency by hedging slow read requests.
+ *
+ * <p>Requests are sent to each of the services in turn. If a request for a hedged method has not
+ * been answered once the configured percentile of that method's recent latencies has elapsed, a
+ * duplicate request is sent to the next service. The first response received is used, and the
+ * other request is cancelled.</p>
+ *
+ * <p>Each hedged method has a budget, being the proportion of its requests which may be
+ * duplicated, so that hedging cannot overload the nodes when they are all slow. Hedging starts
+ * once enough latencies have been recorded for a method to estimate the percentile.</p>
+ *
+ * <p>If a single service is given, such as a {@link LoadBalancingWeb3jService}, duplicates are
+ * sent to it too. Only methods without side effects may be hedged; batches and other methods are
+ * sent without hedging.</p>
+ */
+public class HedgingWeb3jService implements Web3jService {
+
+    public static final double DEFAULT_PERCENTILE = 95;
+    public static final double DEFAULT_BUDGET = 0.1;
+
+    // number of latencies to record for a method before hedging its requests
+    static final int MIN_SAMPLES = 20;
+    // number of latencies after which older latencies are given less weight
+    private static final int DECAY_SAMPLES = 10_000;
+    // number of hedges which may be sent in a burst, once saved up
+    private static final double MAX_BUDGET_BALANCE = 10;
+
+    private final List<Web3jService> services;
+    private final double percentile;
+    private final Map<String, HedgeStats> hedgeStats;
+    private final ScheduledExecutorService scheduler;
+
+    private final AtomicInteger nextService = new AtomicInteger();
+
+    /**
+     * Create a hedging service.
+     *
+     * @param services to send requests and their duplicates to
+     * @param percentile of a method's latencies after which its requests are duplicated
+     * @param budgets proportion of requests which may be duplicated, by method name
+     * @throws IllegalArgumentException if a method in {@link RpcMethods#SIDE_EFFECTING} is given
+     */
+    public HedgingWeb3jService(
+            List<? extends Web3jService> services, double percentile,
+            Map<String, Double> budgets) {
+        if (services.isEmpty()) {
+            throw new IllegalArgumentException("At least one service is required");
+        }
+        if (percentile <= 0 || percentile >= 100) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100");
+        }
+        RpcMethods.requireNoSideEffects(budgets.keySet());
+
+        this.services = Collections.unmodifiableList(new ArrayList<>(services));
+        this.percentile = percentile;
+
+        Map<String, HedgeStats> hedgeStats = new HashMap<>();
+        for (Map.Entry<String, Double> budget : budgets.entrySet()) {
+            if (budget.getValue() < 0 || budget.getValue() > 1) {
+                throw new IllegalArgumentException("budgets must be between 0 and 1");
+            }
+            hedgeStats.put(budget.getKey(), new HedgeStats(budget.getValue()));
+        }
+        this.hedgeStats = Collections.unmodifiableMap(hedgeStats);
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "web3j-hedging");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Create a hedging service, hedging requests for {@link RpcMethods#READ_ONLY} methods slower
+     * than the 95th percentile, with a budget of 10%.
+     *
+     * @param services to send requests and their duplicates to
+     */
+    public HedgingWeb3jService(List<? extends Web3jService> services) {
+        this(services, DEFAULT_PERCENTILE, defaultBudgets());
+    }
+
+    @Override
+    public <T extends Response> T send(
+            Request request, Class<T> responseType) throws IOException {
+        if (!hedgeStats.containsKey(request.getMethod())) {
+            return nextService().send(request, responseType);
+        }
+        return Futures.getResult(sendAsync(request, responseType));
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(
+            Request request, Class<T> responseType) {
+        int index = nextIndex();
+        HedgeStats stats = hedgeStats.get(request.getMethod());
+        if (stats == null) {
+            return services.get(index).sendAsync(request, responseType);
+        }
+
+        stats.requestSent();
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Attempts<T> attempts = new Attempts<>(result);
+        attempts.send(services.get(index), request, responseType, stats, false);
+
+        long hedgeDelay = stats.getHedgeDelay();
+        if (hedgeDelay >= 0 && !result.isDone()) {
+            Web3jService hedgeService = services.get((index + 1) % services.size());
+            ScheduledFuture<?> hedge = scheduler.schedule(() -> {
+                if (!result.isDone() && stats.tryHedge()) {
+                    attempts.send(hedgeService, request, responseType, stats, true);
+                }
+            }, hedgeDelay, TimeUnit.NANOSECONDS);
+            result.whenComplete((value, throwable) -> hedge.cancel(false));
+        }
+        return result;
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        return nextService().sendBatch(batchRequest);
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        return nextService().sendBatchAsync(batchRequest);
+    }
+
+    /**
+     * Get the hedging statistics for a method.
+     *
+     * @param method name
+     * @return statistics, or null if the method is not hedged
+     */
+    public HedgeStats getHedgeStats(String method) {
+        return hedgeStats.get(method);
+    }
+
+    public long getHedgeCount() {
+        long count = 0;
+        for (HedgeStats stats : hedgeStats.values()) {
+            count += stats.getHedgeCount();
+        }
+        return count;
+    }
+
+    public long getHedgeWinCount() {
+        long count = 0;
+        for (HedgeStats stats : hedgeStats.values()) {
+            count += stats.getHedgeWinCount();
+        }
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        scheduler.shutdownNow();
+        IOException exception = null;
+        for (Web3jService service : services) {
+            try {
+                service.close();
+            } catch (IOException e) {
+                exception = e;
+            }
+        }
+        if (exception != null) {
+            throw exception;
+        }
+    }
+
+    private Web3jService nextService() {
+        return services.get(nextIndex());
+    }
+
+    private int nextIndex() {
+        return Math.floorMod(nextService.getAndIncrement(), services.size());
+    }
+
+    private static Map<String, Double> defaultBudgets() {
+        Map<String, Double> budgets = new HashMap<>();
+        for (String method : RpcMethods.READ_ONLY) {
+            budgets.put(method, DEFAULT_BUDGET);
+        }
+        return budgets;
+    }
+
+    /**
+     * The original request and its duplicate, completing the result with the first response,
+     * or with the last failure if both fail.
+     *
+     * <p>The latency recorded is that of the original request, timed from when it was sent. If
+     * the duplicate wins, the original is cancelled, and the time taken by the duplicate to win
+     * recorded instead, as the least the original would have taken. Timing the duplicate from
+     * when it was sent would skew the percentile, and so the hedge delay, ever lower.</p>
+     */
+    private static class Attempts<T extends Response> {
+
+        private final CompletableFuture<T> result;
+        private final List<CompletableFuture<T>> responses = new ArrayList<>(2);  // guarded by this
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private final AtomicBoolean answered = new AtomicBoolean();
+        private final long startTime = System.nanoTime();
+
+        Attempts(CompletableFuture<T> result) {
+            this.result = result;
+        }
+
+        void send(Web3jService service, Request request, Class<T> responseType,
+                  HedgeStats stats, boolean hedge) {
+            outstanding.incrementAndGet();
+            CompletableFuture<T> response = service.sendAsync(request, responseType);
+            synchronized (this) {
+                responses.add(response);
+            }
+
+            response.whenComplete((value, throwable) -> {
+                if (throwable == null) {
+                    // recorded before completing the result, for callers to see
+                    if (answered.compareAndSet(false, true)) {
+                        stats.responseReceived(System.nanoTime() - startTime, hedge);
+                        result.complete(value);
+                        cancelOthers(response);
+                    }
+                } else if (outstanding.decrementAndGet() == 0
+                        && !(throwable instanceof CancellationException)) {
+                    result.completeExceptionally(unwrap(throwable));
+                }
+            });
+        }
+
+        private void cancelOthers(CompletableFuture<T> winner) {
+            List<CompletableFuture<T>> others;
+            synchronized (this) {
+                others = new ArrayList<>(responses);
+            }
+            for (CompletableFuture<T> response : others) {
+                if (response != winner) {
+                    response.cancel(true);
+                }
+            }
+        }
+
+        private static Throwable unwrap(Throwable throwable) {
+            if (throwable instanceof CompletionException && throwable.getCause() != null) {
+                return throwable.getCause();
+            }
+            return throwable;
+        }
+    }
+
+    /**
+     * Latencies, hedging budget and counters for a hedged method.
+     */
+    public class HedgeStats {
+
+        private final double budget;
+        private final LatencyHistogram latencies = new LatencyHistogram();
+
+        private final AtomicLong requestCount = new AtomicLong();
+        private final AtomicLong hedgeCount = new AtomicLong();
+        private final AtomicLong hedgeWinCount = new AtomicLong();
+
+        private double budgetBalance;  // guarded by this
+
+        HedgeStats(double budget) {
+            this.budget = budget;
+        }
+
+        public double getBudget() {
+            return budget;
+        }
+
+        public long getRequestCount() {
+            return requestCount.get();
+        }
+
+        /**
+         * Get the number of duplicate requests sent.
+         *
+         * @return number of hedges fired
+         */
+        public long getHedgeCount() {
+            return hedgeCount.get();
+        }
+
+        /**
+         * Get the number of duplicate requests answered before the original request.
+         *
+         * @return number of hedges won
+         */
+        public long getHedgeWinCount() {
+            return hedgeWinCount.get();
+        }
+
+        public LatencyHistogram getLatencies() {
+            return latencies;
+        }
+
+        /**
+         * Get the delay after which requests are currently hedged.
+         *
+         * @return delay in nanoseconds, or -1 if too few latencies have been recorded
+         */
+        public long getHedgeDelay() {
+            if (latencies.getCount() < MIN_SAMPLES) {
+                return -1;
+            }
+            return latencies.getValueAtPercentile(percentile, TimeUnit.NANOSECONDS);
+        }
+
+        void requestSent() {
+            requestCount.incrementAndGet();
+            synchronized (this) {
+                budgetBalance = Math.min(MAX_BUDGET_BALANCE, budgetBalance + budget);
+            }
+        }
+
+        boolean tryHedge() {
+            synchronized (this) {
+                if (budgetBalance < 1) {
+                    return false;
+                }
+                budgetBalance -= 1;
+            }
+            hedgeCount.incrementAndGet();
+            return true;
+        }
+
+        void responseReceived(long latency, boolean hedge) {
+            if (hedge) {
+                hedgeWinCount.incrementAndGet();
+            }
+            latencies.record(latency, TimeUnit.NANOSECONDS);
+            if (latencies.getCount() >= DECAY_SAMPLES) {
+                latencies.decay();
+            }
+        }
+    }
+}
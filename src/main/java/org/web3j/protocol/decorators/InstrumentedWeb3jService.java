@@ -0,0 +1,116 @@
+package org.web3j.protocol.decorators;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.metrics.RequestEvent;
+import org.web3j.protocol.metrics.RequestListener;
+
+/**
+ * Decorator reporting each request made through it to a {@link RequestListener}, for
+ * transports which do not measure requests themselves, or to measure the latency seen above
+ * other decorators such as retries.
+ *
+ * <p>Only the latency and outcome of requests are known at this level, the network and parse
+ * times and sizes of requests are reported as {@link RequestEvent#UNKNOWN}. Requests in a batch
+ * are each reported with the latency of the batch.</p>
+ */
+public class InstrumentedWeb3jService extends DelegatingWeb3jService {
+
+    private final RequestListener listener;
+
+    public InstrumentedWeb3jService(Web3jService delegate, RequestListener listener) {
+        super(delegate);
+        if (listener == null) {
+            throw new NullPointerException("listener");
+        }
+        this.listener = listener;
+    }
+
+    @Override
+    public <T extends Response> T send(
+            Request request, Class<T> responseType) throws IOException {
+        String method = request.getMethod();
+        listener.requestStarted(method);
+        long startTime = System.nanoTime();
+        try {
+            T response = delegate.send(request, responseType);
+            listener.requestCompleted(
+                    RequestEvent.completed(method, System.nanoTime() - startTime, response));
+            return response;
+        } catch (IOException | RuntimeException e) {
+            listener.requestCompleted(
+                    RequestEvent.failed(method, System.nanoTime() - startTime, e));
+            throw e;
+        }
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(
+            Request request, Class<T> responseType) {
+        String method = request.getMethod();
+        listener.requestStarted(method);
+        long startTime = System.nanoTime();
+        CompletableFuture<T> result = delegate.sendAsync(request, responseType);
+        result.whenComplete((response, throwable) -> {
+            long latency = System.nanoTime() - startTime;
+            if (throwable == null) {
+                listener.requestCompleted(RequestEvent.completed(method, latency, response));
+            } else {
+                listener.requestCompleted(RequestEvent.failed(method, latency, throwable));
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        List<Request<?, ? extends Response>> requests = batchRequest.getRequests();
+        batchStarted(requests);
+        long startTime = System.nanoTime();
+        try {
+            BatchResponse batchResponse = delegate.sendBatch(batchRequest);
+            batchCompleted(requests, System.nanoTime() - startTime, batchResponse, null);
+            return batchResponse;
+        } catch (IOException | RuntimeException e) {
+            batchCompleted(requests, System.nanoTime() - startTime, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        List<Request<?, ? extends Response>> requests = batchRequest.getRequests();
+        batchStarted(requests);
+        long startTime = System.nanoTime();
+        CompletableFuture<BatchResponse> result = delegate.sendBatchAsync(batchRequest);
+        result.whenComplete((batchResponse, throwable) -> batchCompleted(
+                requests, System.nanoTime() - startTime, batchResponse, throwable));
+        return result;
+    }
+
+    private void batchStarted(List<Request<?, ? extends Response>> requests) {
+        for (Request<?, ? extends Response> request : requests) {
+            listener.requestStarted(request.getMethod());
+        }
+    }
+
+    private void batchCompleted(List<Request<?, ? extends Response>> requests, long latency,
+                                BatchResponse batchResponse, Throwable failure) {
+        for (int i = 0; i < requests.size(); i++) {
+            String method = requests.get(i).getMethod();
+            if (failure == null) {
+                Response<?> response = batchResponse.getResponses().get(i);
+                listener.requestCompleted(RequestEvent.completed(method, latency, response));
+            } else {
+                listener.requestCompleted(RequestEvent.failed(method, latency, failure));
+            }
+        }
+    }
+}
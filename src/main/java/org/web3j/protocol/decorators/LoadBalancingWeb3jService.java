@@ -0,0 +1,453 @@
+package org.web3j.protocol.decorators;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthBlockNumber;
+import org.web3j.protocol.core.methods.response.EthSyncing;
+
+/**
+ * Spreads requests across a number of nodes serving the same chain.
+ *
+ * <p>Each request is sent to the healthy node with the lowest score, being its average response
+ * time weighted by its number of outstanding requests, so that slow or busy nodes receive less
+ * traffic. Requests failing with an {@link IOException} count towards a node's average at a
+ * penalty, and a node which has yet to respond successfully is taken to have the average
+ * response time of the others, rather than being favoured once it becomes healthy.</p>
+ *
+ * <p>Nodes are checked periodically via eth_syncing and eth_blockNumber. A node which is
+ * syncing, fails to respond, or lags the highest block number seen by more than the maximum
+ * block lag is taken out of rotation until a later check passes. A node is also taken out of
+ * rotation as soon as a request to it fails with an {@link IOException}. If no node is healthy,
+ * requests are sent to the unhealthy nodes regardless.</p>
+ *
+ * <p>Requests for {@link RpcMethods#READ_ONLY} methods, and batches consisting only of them,
+ * which fail with an {@link IOException} are retried on each of the other nodes in turn. Other
+ * requests are never retried, as they may already have taken effect.</p>
+ */
+public class LoadBalancingWeb3jService implements Web3jService {
+
+    public static final long DEFAULT_HEALTH_CHECK_INTERVAL = 5_000;  // ms
+    public static final long DEFAULT_MAX_BLOCK_LAG = 5;
+
+    // weight given to each new latency sample in a node's moving average
+    private static final double LATENCY_DECAY = 0.2;
+    // multiple of its usual latency a failed request counts as in a node's moving average
+    private static final double FAILURE_PENALTY = 2;
+
+    private final List<Backend> backends;
+    private final long maxBlockLag;
+    private final ScheduledExecutorService scheduler;
+
+    private final Object healthCheckLock = new Object();
+    private HealthCheck healthCheck;  // guarded by healthCheckLock
+
+    /**
+     * Create a load balancing service.
+     *
+     * @param services to spread requests across
+     * @param healthCheckInterval between health checks, or 0 to only check via
+     *                            {@link #checkHealth()}
+     * @param timeUnit of the interval
+     * @param maxBlockLag maximum number of blocks a node may be behind the others
+     */
+    public LoadBalancingWeb3jService(
+            List<? extends Web3jService> services, long healthCheckInterval, TimeUnit timeUnit,
+            long maxBlockLag) {
+        if (services.isEmpty()) {
+            throw new IllegalArgumentException("At least one service is required");
+        }
+        if (healthCheckInterval < 0 || maxBlockLag < 0) {
+            throw new IllegalArgumentException(
+                    "healthCheckInterval and maxBlockLag must not be negative");
+        }
+
+        List<Backend> backends = new ArrayList<>(services.size());
+        for (Web3jService service : services) {
+            backends.add(new Backend(service));
+        }
+        this.backends = Collections.unmodifiableList(backends);
+        this.maxBlockLag = maxBlockLag;
+
+        if (healthCheckInterval > 0) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "web3j-load-balancing");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.scheduleWithFixedDelay(
+                    this::checkHealth, 0, healthCheckInterval, timeUnit);
+        } else {
+            scheduler = null;
+        }
+    }
+
+    public LoadBalancingWeb3jService(List<? extends Web3jService> services) {
+        this(services, DEFAULT_HEALTH_CHECK_INTERVAL, TimeUnit.MILLISECONDS,
+                DEFAULT_MAX_BLOCK_LAG);
+    }
+
+    @Override
+    public <T extends Response> T send(
+            Request request, Class<T> responseType) throws IOException {
+        return send(isRetryable(request),
+                service -> service.send(request, responseType));
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(
+            Request request, Class<T> responseType) {
+        return sendAsync(isRetryable(request),
+                service -> service.sendAsync(request, responseType));
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        return send(isRetryable(batchRequest), service -> service.sendBatch(batchRequest));
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        return sendAsync(isRetryable(batchRequest),
+                service -> service.sendBatchAsync(batchRequest));
+    }
+
+    /**
+     * Check the health of each node, completing once all have responded.
+     *
+     * <p>Nodes which have not responded to the previous check by the time this is called are
+     * considered unhealthy.</p>
+     *
+     * @return future completing once the health of each node has been updated
+     */
+    public CompletableFuture<Void> checkHealth() {
+        HealthCheck check = new HealthCheck();
+        HealthCheck previous;
+        synchronized (healthCheckLock) {
+            previous = healthCheck;
+            healthCheck = check;
+        }
+        if (previous != null) {
+            previous.complete();
+        }
+        return check.start();
+    }
+
+    public List<Backend> getBackends() {
+        return backends;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        IOException exception = null;
+        for (Backend backend : backends) {
+            try {
+                backend.service.close();
+            } catch (IOException e) {
+                exception = e;
+            }
+        }
+        if (exception != null) {
+            throw exception;
+        }
+    }
+
+    private <T> T send(boolean retryable, Call<T> call) throws IOException {
+        List<Backend> tried = new ArrayList<>();
+        while (true) {
+            Backend backend = select(tried);
+            tried.add(backend);
+
+            long startTime = backend.requestStarted();
+            Throwable failure = null;
+            try {
+                return call.send(backend.service);
+            } catch (IOException e) {
+                failure = e;
+                if (!retryable || tried.size() == backends.size()) {
+                    throw e;
+                }
+            } catch (RuntimeException e) {
+                failure = e;
+                throw e;
+            } finally {
+                backend.requestCompleted(startTime, failure);
+            }
+        }
+    }
+
+    private <T> CompletableFuture<T> sendAsync(
+            boolean retryable, Function<Web3jService, CompletableFuture<T>> call) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        sendAsync(retryable, call, new ArrayList<>(), result);
+        return result;
+    }
+
+    private <T> void sendAsync(
+            boolean retryable, Function<Web3jService, CompletableFuture<T>> call,
+            List<Backend> tried, CompletableFuture<T> result) {
+        Backend backend = select(tried);
+        tried.add(backend);
+
+        long startTime = backend.requestStarted();
+        call.apply(backend.service).whenComplete((value, throwable) -> {
+            Throwable failure = unwrap(throwable);
+            backend.requestCompleted(startTime, failure);
+            if (failure == null) {
+                result.complete(value);
+            } else if (retryable && failure instanceof IOException
+                    && tried.size() < backends.size() && !result.isDone()) {
+                sendAsync(true, call, tried, result);
+            } else {
+                result.completeExceptionally(failure);
+            }
+        });
+    }
+
+    /**
+     * Select the backend with the lowest score which has not already been tried, preferring
+     * healthy backends. Ties are broken randomly, so that traffic is spread evenly across
+     * backends with no history.
+     */
+    private Backend select(List<Backend> tried) {
+        int size = backends.size();
+        int offset = ThreadLocalRandom.current().nextInt(size);
+
+        double totalLatency = 0;
+        int measured = 0;
+        for (Backend backend : backends) {
+            double latency = backend.getLatency(TimeUnit.NANOSECONDS);
+            if (latency != 0) {
+                totalLatency += latency;
+                measured++;
+            }
+        }
+        double meanLatency = measured == 0 ? 0 : totalLatency / measured;
+
+        Backend selected = null;
+        boolean selectedHealthy = false;
+        double selectedScore = 0;
+        for (int i = 0; i < size; i++) {
+            Backend backend = backends.get((offset + i) % size);
+            if (tried.contains(backend)) {
+                continue;
+            }
+            boolean healthy = backend.healthy;
+            double score = backend.getScore(meanLatency);
+            if (selected == null
+                    || (healthy && !selectedHealthy)
+                    || (healthy == selectedHealthy && score < selectedScore)) {
+                selected = backend;
+                selectedHealthy = healthy;
+                selectedScore = score;
+            }
+        }
+        return selected;
+    }
+
+    private static boolean isRetryable(Request<?, ?> request) {
+        return RpcMethods.isReadOnly(request.getMethod());
+    }
+
+    private static boolean isRetryable(BatchRequest batchRequest) {
+        for (Request<?, ?> request : batchRequest.getRequests()) {
+            if (!isRetryable(request)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        if (throwable instanceof CompletionException && throwable.getCause() != null) {
+            return throwable.getCause();
+        }
+        return throwable;
+    }
+
+    private interface Call<T> {
+        T send(Web3jService service) throws IOException;
+    }
+
+    /**
+     * A node requests are spread across, along with its current health and statistics.
+     */
+    public static class Backend {
+
+        private final Web3jService service;
+
+        private final AtomicInteger outstandingRequests = new AtomicInteger();
+        private final AtomicLong requestCount = new AtomicLong();
+        private final AtomicLong failureCount = new AtomicLong();
+
+        private volatile boolean healthy = true;
+        private volatile BigInteger blockNumber;
+
+        private double latency;  // moving average in nanoseconds, guarded by this
+
+        Backend(Web3jService service) {
+            this.service = service;
+        }
+
+        public Web3jService getService() {
+            return service;
+        }
+
+        public boolean isHealthy() {
+            return healthy;
+        }
+
+        /**
+         * Get the block number reported by the node at the last health check.
+         *
+         * @return block number, or null if the node has not reported one
+         */
+        public BigInteger getBlockNumber() {
+            return blockNumber;
+        }
+
+        public int getOutstandingRequests() {
+            return outstandingRequests.get();
+        }
+
+        public long getRequestCount() {
+            return requestCount.get();
+        }
+
+        public long getFailureCount() {
+            return failureCount.get();
+        }
+
+        /**
+         * Get the exponentially weighted moving average time taken by requests, with those
+         * failing counted at a penalty once one has succeeded.
+         *
+         * @param timeUnit of the result
+         * @return average latency, or 0 if no request has succeeded
+         */
+        public synchronized double getLatency(TimeUnit timeUnit) {
+            return latency / timeUnit.toNanos(1);
+        }
+
+        /**
+         * The score of the node, lower being better.
+         *
+         * @param defaultLatency in nanoseconds, to use until a request has succeeded
+         */
+        synchronized double getScore(double defaultLatency) {
+            return ((latency == 0 ? defaultLatency : latency) + 1)
+                    * (outstandingRequests.get() + 1);
+        }
+
+        long requestStarted() {
+            outstandingRequests.incrementAndGet();
+            requestCount.incrementAndGet();
+            return System.nanoTime();
+        }
+
+        void requestCompleted(long startTime, Throwable failure) {
+            outstandingRequests.decrementAndGet();
+            long sample = System.nanoTime() - startTime;
+            if (failure == null) {
+                synchronized (this) {
+                    latency = latency == 0 ? sample : latency + LATENCY_DECAY * (sample - latency);
+                }
+            } else if (failure instanceof IOException) {
+                failureCount.incrementAndGet();
+                healthy = false;
+                synchronized (this) {
+                    // a node failing fast must not come to look fast
+                    if (latency != 0) {
+                        double penalty = FAILURE_PENALTY * Math.max(sample, latency);
+                        latency += LATENCY_DECAY * (penalty - latency);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * A round of health checks, completed once each node has responded, or the next round is
+     * started.
+     */
+    private class HealthCheck {
+
+        private final Map<Backend, CompletableFuture<BigInteger>> blockNumbers = new HashMap<>();
+        private boolean completed;  // guarded by this
+
+        synchronized CompletableFuture<Void> start() {
+            for (Backend backend : backends) {
+                Web3jService service = backend.service;
+                CompletableFuture<EthSyncing> syncing = service.sendAsync(
+                        new Request<>("eth_syncing", Collections.<String>emptyList(),
+                                service, EthSyncing.class),
+                        EthSyncing.class);
+                CompletableFuture<EthBlockNumber> blockNumber = service.sendAsync(
+                        new Request<>("eth_blockNumber", Collections.<String>emptyList(),
+                                service, EthBlockNumber.class),
+                        EthBlockNumber.class);
+
+                // a node which is syncing or fails to respond has no usable block number
+                blockNumbers.put(backend, syncing
+                        .thenCombine(blockNumber, (ethSyncing, ethBlockNumber) ->
+                                ethSyncing.hasError() || ethSyncing.isSyncing()
+                                        || ethBlockNumber.hasError()
+                                        ? null : ethBlockNumber.getBlockNumber())
+                        .exceptionally(throwable -> null));
+            }
+            return CompletableFuture
+                    .allOf(blockNumbers.values().toArray(new CompletableFuture[0]))
+                    .thenRun(this::complete);
+        }
+
+        synchronized void complete() {
+            if (completed) {
+                return;
+            }
+            completed = true;
+
+            BigInteger highestBlockNumber = null;
+            for (CompletableFuture<BigInteger> result : blockNumbers.values()) {
+                BigInteger blockNumber = result.getNow(null);
+                if (blockNumber != null && (highestBlockNumber == null
+                        || blockNumber.compareTo(highestBlockNumber) > 0)) {
+                    highestBlockNumber = blockNumber;
+                }
+            }
+
+            for (Map.Entry<Backend, CompletableFuture<BigInteger>> entry
+                    : blockNumbers.entrySet()) {
+                Backend backend = entry.getKey();
+                BigInteger blockNumber = entry.getValue().getNow(null);
+                if (blockNumber != null) {
+                    backend.blockNumber = blockNumber;
+                }
+                backend.healthy = blockNumber != null
+                        && highestBlockNumber.subtract(blockNumber)
+                                .compareTo(BigInteger.valueOf(maxBlockLag)) <= 0;
+            }
+        }
+    }
+}
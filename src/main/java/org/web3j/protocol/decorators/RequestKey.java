@@ -0,0 +1,66 @@
+package org.web3j.protocol.decorators;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.web3j.protocol.ObjectMapperFactory;
+import org.web3j.protocol.core.Request;
+
+/**
+ * Identifies requests which are equivalent, having the same method, params and response type,
+ * regardless of their ids.
+ */
+final class RequestKey {
+
+    private static final ObjectMapper objectMapper = ObjectMapperFactory.getObjectMapper();
+
+    private final String method;
+    private final String params;
+    private final Class<?> responseType;
+
+    private RequestKey(String method, String params, Class<?> responseType) {
+        this.method = method;
+        this.params = params;
+        this.responseType = responseType;
+    }
+
+    /**
+     * Create the key of a request.
+     *
+     * @param request to create the key of
+     * @param responseType of the request
+     * @return the key, or null if the params of the request cannot be serialised
+     */
+    static RequestKey of(Request<?, ?> request, Class<?> responseType) {
+        try {
+            return new RequestKey(request.getMethod(),
+                    objectMapper.writeValueAsString(request.getParams()), responseType);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        RequestKey requestKey = (RequestKey) o;
+        return method.equals(requestKey.method)
+                && params.equals(requestKey.params)
+                && responseType.equals(requestKey.responseType);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = method.hashCode();
+        result = 31 * result + params.hashCode();
+        result = 31 * result + responseType.hashCode();
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return method + params;
+    }
+}
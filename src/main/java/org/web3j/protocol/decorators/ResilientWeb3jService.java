@@ -0,0 +1,215 @@
+package org.web3j.protocol.decorators;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.exceptions.CircuitBreakerOpenException;
+import org.web3j.utils.Futures;
+
+/**
+ * Retries failed requests and fails fast while the node is unhealthy.
+ *
+ * <p>Requests which fail with an {@link IOException} are retried with backoff according to the
+ * {@link RetryPolicy}, if the policy considers them retryable. Every attempt passes through the
+ * {@link CircuitBreaker}, so once the node has failed repeatedly requests are rejected with a
+ * {@link CircuitBreakerOpenException} rather than adding to its load. JSON-RPC error responses
+ * are not failures, as the node did respond, while other exceptions count as neither success nor
+ * failure.</p>
+ *
+ * <p>Asynchronous retries are scheduled, rather than blocking a thread during the backoff.
+ * Wrap each node's service separately to give each its own circuit breaker.</p>
+ */
+public class ResilientWeb3jService extends DelegatingWeb3jService {
+
+    private final RetryPolicy retryPolicy;
+    private final CircuitBreaker circuitBreaker;
+    private final ScheduledExecutorService scheduler;
+
+    private final AtomicLong retryCount = new AtomicLong();
+
+    public ResilientWeb3jService(
+            Web3jService delegate, RetryPolicy retryPolicy, CircuitBreaker circuitBreaker) {
+        super(delegate);
+        this.retryPolicy = retryPolicy;
+        this.circuitBreaker = circuitBreaker;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "web3j-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public ResilientWeb3jService(Web3jService delegate) {
+        this(delegate, new RetryPolicy(), new CircuitBreaker());
+    }
+
+    @Override
+    public <T extends Response> T send(
+            Request request, Class<T> responseType) throws IOException {
+        return send(retryPolicy.isRetryable(request),
+                () -> delegate.send(request, responseType));
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(
+            Request request, Class<T> responseType) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        sendAsync(retryPolicy.isRetryable(request),
+                () -> delegate.sendAsync(request, responseType), 1, result);
+        return result;
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        return send(isRetryable(batchRequest), () -> delegate.sendBatch(batchRequest));
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        CompletableFuture<BatchResponse> result = new CompletableFuture<>();
+        sendAsync(isRetryable(batchRequest),
+                () -> delegate.sendBatchAsync(batchRequest), 1, result);
+        return result;
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    /**
+     * Get the number of times requests have been retried.
+     *
+     * @return number of retries
+     */
+    public long getRetryCount() {
+        return retryCount.get();
+    }
+
+    @Override
+    public void close() throws IOException {
+        scheduler.shutdownNow();
+        super.close();
+    }
+
+    private <T> T send(boolean retryable, Call<T> call) throws IOException {
+        for (int attempts = 1; ; attempts++) {
+            try {
+                return attempt(call);
+            } catch (IOException e) {
+                if (!retryable || !retryPolicy.shouldRetry(e, attempts)) {
+                    throw e;
+                }
+            }
+
+            retryCount.incrementAndGet();
+            try {
+                TimeUnit.NANOSECONDS.sleep(retryPolicy.getBackoff(attempts));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while backing off");
+            }
+        }
+    }
+
+    private <T> T attempt(Call<T> call) throws IOException {
+        if (!circuitBreaker.tryAcquire()) {
+            throw circuitBreakerOpen();
+        }
+        T result;
+        try {
+            result = call.send();
+        } catch (IOException e) {
+            circuitBreaker.onFailure();
+            throw e;
+        } catch (RuntimeException | Error e) {
+            circuitBreaker.onIgnored();
+            throw e;
+        }
+        circuitBreaker.onSuccess();
+        return result;
+    }
+
+    private <T> void sendAsync(
+            boolean retryable, Supplier<CompletableFuture<T>> call, int attempts,
+            CompletableFuture<T> result) {
+        if (result.isDone()) {
+            // cancelled by the caller
+            return;
+        }
+        if (!circuitBreaker.tryAcquire()) {
+            result.completeExceptionally(circuitBreakerOpen());
+            return;
+        }
+
+        CompletableFuture<T> response;
+        try {
+            response = call.get();
+        } catch (RuntimeException e) {
+            response = Futures.failedFuture(e);
+        }
+        response.whenComplete((value, throwable) -> {
+            Throwable failure = unwrap(throwable);
+            if (failure == null) {
+                circuitBreaker.onSuccess();
+            } else if (failure instanceof IOException) {
+                circuitBreaker.onFailure();
+            } else {
+                circuitBreaker.onIgnored();
+            }
+
+            if (failure == null) {
+                result.complete(value);
+            } else if (retryable && retryPolicy.shouldRetry(failure, attempts)) {
+                retryCount.incrementAndGet();
+                try {
+                    scheduler.schedule(
+                            () -> sendAsync(true, call, attempts + 1, result),
+                            retryPolicy.getBackoff(attempts), TimeUnit.NANOSECONDS);
+                } catch (RejectedExecutionException e) {
+                    // closed
+                    result.completeExceptionally(failure);
+                }
+            } else {
+                result.completeExceptionally(failure);
+            }
+        });
+    }
+
+    private boolean isRetryable(BatchRequest batchRequest) {
+        for (Request<?, ?> request : batchRequest.getRequests()) {
+            if (!retryPolicy.isRetryable(request)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static CircuitBreakerOpenException circuitBreakerOpen() {
+        return new CircuitBreakerOpenException(
+                "Circuit breaker open following repeated failures");
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        if (throwable instanceof CompletionException && throwable.getCause() != null) {
+            return throwable.getCause();
+        }
+        return throwable;
+    }
+
+    private interface Call<T> {
+        T send() throws IOException;
+    }
+}
@@ -0,0 +1,100 @@
+package org.web3j.protocol.decorators;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.exceptions.CircuitBreakerOpenException;
+
+/**
+ * Policy for retrying requests which fail with an {@link IOException}.
+ *
+ * <p>Only requests for {@link RpcMethods#READ_ONLY} methods are retried by default. Retries back
+ * off exponentially, each waiting a random time up to double the previous maximum, so that
+ * clients which failed together do not retry together.</p>
+ */
+public class RetryPolicy {
+
+    public static final int DEFAULT_MAX_ATTEMPTS = 3;
+    public static final long DEFAULT_INITIAL_BACKOFF = 100;  // ms
+    public static final long DEFAULT_MAX_BACKOFF = 5_000;  // ms
+
+    private final int maxAttempts;
+    private final long initialBackoff;  // ns
+    private final long maxBackoff;  // ns
+
+    /**
+     * Create a retry policy.
+     *
+     * @param maxAttempts maximum number of times to send a request, including the first
+     * @param initialBackoff maximum time to wait before the first retry
+     * @param maxBackoff limit on the maximum time to wait before any retry
+     * @param timeUnit of the backoffs
+     */
+    public RetryPolicy(int maxAttempts, long initialBackoff, long maxBackoff, TimeUnit timeUnit) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be at least 1");
+        }
+        if (initialBackoff < 0 || maxBackoff < initialBackoff) {
+            throw new IllegalArgumentException(
+                    "Backoffs must satisfy 0 <= initialBackoff <= maxBackoff");
+        }
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = timeUnit.toNanos(initialBackoff);
+        this.maxBackoff = timeUnit.toNanos(maxBackoff);
+    }
+
+    public RetryPolicy() {
+        this(DEFAULT_MAX_ATTEMPTS, DEFAULT_INITIAL_BACKOFF, DEFAULT_MAX_BACKOFF,
+                TimeUnit.MILLISECONDS);
+    }
+
+    public static RetryPolicy noRetries() {
+        return new RetryPolicy(1, 0, 0, TimeUnit.MILLISECONDS);
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Whether a request may be sent more than once.
+     *
+     * @param request to check
+     * @return true if the request may be retried
+     */
+    public boolean isRetryable(Request<?, ?> request) {
+        return RpcMethods.isReadOnly(request.getMethod());
+    }
+
+    /**
+     * Whether to retry a retryable request following a failure.
+     *
+     * @param failure of the last attempt
+     * @param attempts number of attempts made so far
+     * @return true if the request should be retried
+     */
+    public boolean shouldRetry(Throwable failure, int attempts) {
+        return attempts < maxAttempts
+                && failure instanceof IOException
+                && !(failure instanceof InterruptedIOException)
+                && !(failure instanceof CircuitBreakerOpenException);
+    }
+
+    /**
+     * Get the time to wait before retrying.
+     *
+     * @param attempts number of attempts made so far
+     * @return backoff in nanoseconds
+     */
+    public long getBackoff(int attempts) {
+        long limit = initialBackoff;
+        for (int i = 1; i < attempts && limit < maxBackoff; i++) {
+            limit *= 2;
+        }
+        limit = Math.min(limit, maxBackoff);
+        return limit == 0 ? 0 : ThreadLocalRandom.current().nextLong(limit + 1);
+    }
+}
@@ -0,0 +1,109 @@
+package org.web3j.protocol.decorators;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Classification of JSON-RPC methods, for decorators which may only act on some of them.
+ */
+public final class RpcMethods {
+
+    private RpcMethods() {}
+
+    /**
+     * Methods which only read node state, so that identical requests may share a response or be
+     * sent to any node.
+     *
+     * <p>Filter methods are excluded, as polling a filter consumes its changes.</p>
+     */
+    public static final Set<String> READ_ONLY = unmodifiableSet(
+            "web3_clientVersion",
+            "web3_sha3",
+            "net_version",
+            "net_peerCount",
+            "net_listening",
+            "eth_protocolVersion",
+            "eth_syncing",
+            "eth_coinbase",
+            "eth_mining",
+            "eth_hashrate",
+            "eth_gasPrice",
+            "eth_accounts",
+            "eth_blockNumber",
+            "eth_getBalance",
+            "eth_getStorageAt",
+            "eth_getTransactionCount",
+            "eth_getBlockTransactionCountByHash",
+            "eth_getBlockTransactionCountByNumber",
+            "eth_getUncleCountByBlockHash",
+            "eth_getUncleCountByBlockNumber",
+            "eth_getCode",
+            "eth_call",
+            "eth_estimateGas",
+            "eth_getBlockByHash",
+            "eth_getBlockByNumber",
+            "eth_getTransactionByHash",
+            "eth_getTransactionByBlockHashAndIndex",
+            "eth_getTransactionByBlockNumberAndIndex",
+            "eth_getTransactionReceipt",
+            "eth_getUncleByBlockHashAndIndex",
+            "eth_getUncleByBlockNumberAndIndex",
+            "eth_getCompilers",
+            "eth_getLogs",
+            "shh_version");
+
+    /**
+     * Methods which change state on the node or the network, so must be sent exactly once on
+     * behalf of each caller.
+     */
+    public static final Set<String> SIDE_EFFECTING = unmodifiableSet(
+            "eth_sendTransaction",
+            "eth_sendRawTransaction",
+            "eth_sign",
+            "eth_newFilter",
+            "eth_newBlockFilter",
+            "eth_newPendingTransactionFilter",
+            "eth_uninstallFilter",
+            "eth_getFilterChanges",
+            "eth_submitWork",
+            "eth_submitHashrate",
+            "eth_subscribe",
+            "eth_unsubscribe",
+            "db_putString",
+            "db_putHex",
+            "personal_newAccount",
+            "personal_newAccountFromPhrase",
+            "personal_newAccountFromWallet",
+            "personal_unlockAccount",
+            "personal_signAndSendTransaction",
+            "personal_setAccountName",
+            "personal_setAccountMeta",
+            "personal_confirmRequest",
+            "personal_rejectRequest",
+            "shh_post",
+            "shh_newIdentity",
+            "shh_newGroup",
+            "shh_addToGroup",
+            "shh_newFilter",
+            "shh_uninstallFilter",
+            "shh_getFilterChanges");
+
+    public static boolean isReadOnly(String method) {
+        return READ_ONLY.contains(method);
+    }
+
+    static Set<String> requireNoSideEffects(Set<String> methods) {
+        for (String method : methods) {
+            if (SIDE_EFFECTING.contains(method)) {
+                throw new IllegalArgumentException(method + " has side effects");
+            }
+        }
+        return Collections.unmodifiableSet(new HashSet<>(methods));
+    }
+
+    private static Set<String> unmodifiableSet(String... methods) {
+        return Collections.unmodifiableSet(new HashSet<>(Arrays.asList(methods)));
+    }
+}
@@ -0,0 +1,13 @@
+package org.web3j.protocol.exceptions;
+
+import org.apache.http.client.ClientProtocolException;
+
+/**
+ * Batch refused as a whole by the node, which answered with a single error rather than a
+ * response to each request, so none of its requests were processed.
+ */
+public class BatchRejectedException extends ClientProtocolException {
+    public BatchRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package org.web3j.protocol.exceptions;
+
+import java.io.IOException;
+
+/**
+ * Request not sent as the circuit breaker for the node is open, following repeated failures.
+ */
+public class CircuitBreakerOpenException extends IOException {
+    public CircuitBreakerOpenException(String message) {
+        super(message);
+    }
+}
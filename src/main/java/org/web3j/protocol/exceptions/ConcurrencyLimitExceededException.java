@@ -0,0 +1,12 @@
+package org.web3j.protocol.exceptions;
+
+import java.io.IOException;
+
+/**
+ * Request rejected as the node already has as many requests in flight and queued as allowed.
+ */
+public class ConcurrencyLimitExceededException extends IOException {
+    public ConcurrencyLimitExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,259 @@
+package org.web3j.protocol.http;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.client.ResponseHandler;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.nio.conn.NoopIOSessionStrategy;
+import org.apache.http.nio.conn.SchemeIOSessionStrategy;
+import org.apache.http.nio.conn.ssl.SSLIOSessionStrategy;
+import org.apache.http.nio.reactor.IOReactorException;
+
+import org.web3j.protocol.RequestWriter;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.utils.Futures;
+
+/**
+ * HTTP implementation of our services API with non-blocking asynchronous requests.
+ *
+ * <p>{@link #sendAsync(Request, Class)} and {@link #sendBatchAsync(BatchRequest)} are performed
+ * on an NIO HTTP client, so in-flight requests do not hold a thread each; a small number of I/O
+ * dispatcher threads service all connections. Responses are deserialised on the I/O dispatcher
+ * thread directly from the buffered response content, decompressing it as it is parsed if the
+ * node compressed it, and futures are completed there too, so dependent stages doing blocking
+ * work should be run on an executor of their own.</p>
+ *
+ * <p>Synchronous requests continue to use the blocking pooled client of {@link HttpService}.</p>
+ */
+public class AsyncHttpService extends HttpService {
+
+    public static final int DEFAULT_IO_THREAD_COUNT = Runtime.getRuntime().availableProcessors();
+
+    private final CloseableHttpAsyncClient httpAsyncClient;
+
+    private final IdleConnectionEvictor idleConnectionEvictor;
+
+    public AsyncHttpService(String url, ConnectionPoolConfig connectionPoolConfig,
+                            CloseableHttpAsyncClient httpAsyncClient) {
+        this(url, connectionPoolConfig, httpAsyncClient, null);
+    }
+
+    public AsyncHttpService(String url, ConnectionPoolConfig connectionPoolConfig,
+                            int ioThreadCount) {
+        this(url, connectionPoolConfig,
+                createConnectionManager(connectionPoolConfig, ioThreadCount));
+    }
+
+    public AsyncHttpService(String url) {
+        this(url, new ConnectionPoolConfig(), DEFAULT_IO_THREAD_COUNT);
+    }
+
+    public AsyncHttpService() {
+        this(DEFAULT_URL);
+    }
+
+    private AsyncHttpService(String url, ConnectionPoolConfig connectionPoolConfig,
+                             PoolingNHttpClientConnectionManager connectionManager) {
+        this(url, connectionPoolConfig,
+                HttpAsyncClients.custom()
+                        .setConnectionManager(connectionManager)
+                        .setKeepAliveStrategy(createKeepAliveStrategy(
+                                connectionPoolConfig.getKeepAliveMillis()))
+                        .build(),
+                new IdleConnectionEvictor(
+                        connectionManager, connectionPoolConfig.getIdleTimeoutMillis()));
+    }
+
+    private AsyncHttpService(String url, ConnectionPoolConfig connectionPoolConfig,
+                             CloseableHttpAsyncClient httpAsyncClient,
+                             IdleConnectionEvictor idleConnectionEvictor) {
+        super(url, connectionPoolConfig);
+        this.httpAsyncClient = httpAsyncClient;
+        this.idleConnectionEvictor = idleConnectionEvictor;
+        if (!httpAsyncClient.isRunning()) {
+            httpAsyncClient.start();
+        }
+    }
+
+    private static PoolingNHttpClientConnectionManager createConnectionManager(
+            ConnectionPoolConfig connectionPoolConfig, int ioThreadCount) {
+        IOReactorConfig ioReactorConfig = IOReactorConfig.custom()
+                .setIoThreadCount(ioThreadCount)
+                .build();
+
+        Registry<SchemeIOSessionStrategy> sessionStrategyRegistry =
+                RegistryBuilder.<SchemeIOSessionStrategy>create()
+                        .register("http", NoopIOSessionStrategy.INSTANCE)
+                        .register("https", SSLIOSessionStrategy.getSystemDefaultStrategy())
+                        .build();
+
+        PoolingNHttpClientConnectionManager connectionManager;
+        try {
+            connectionManager = new PoolingNHttpClientConnectionManager(
+                    new DefaultConnectingIOReactor(ioReactorConfig), sessionStrategyRegistry);
+        } catch (IOReactorException e) {
+            throw new RuntimeException(e);
+        }
+        connectionManager.setMaxTotal(connectionPoolConfig.getMaxTotalConnections());
+        connectionManager.setDefaultMaxPerRoute(
+                connectionPoolConfig.getMaxConnectionsPerRoute());
+        return connectionManager;
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(
+            Request request, Class<T> responseType) {
+        byte[] payload;
+        try {
+            payload = RequestWriter.writeValueAsBytes(request);
+        } catch (IOException e) {
+            return Futures.failedFuture(e);
+        }
+        Exchange exchange = Exchange.start(getRequestListener(), request, payload.length);
+        if (exchange == null) {
+            return performAsyncIO(payload, getResponseHandler(responseType));
+        }
+        CompletableFuture<T> result =
+                performAsyncIO(payload, getResponseHandler(responseType, exchange));
+        result.whenComplete((response, throwable) -> {
+            if (throwable == null) {
+                exchange.completed(response);
+            } else {
+                exchange.failed(throwable);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        List<Request<?, ? extends Response>> requests = batchRequest.getRequests();
+        if (requests.isEmpty()) {
+            return CompletableFuture.completedFuture(
+                    new BatchResponse(requests, Collections.<Response>emptyList()));
+        }
+
+        byte[] payload;
+        try {
+            RequestWriter requestWriter = RequestWriter.get();
+            requestWriter.writeBatch(requests);
+            payload = requestWriter.toByteArray();
+        } catch (IOException e) {
+            return Futures.failedFuture(e);
+        }
+        Exchange exchange = Exchange.startBatch(getRequestListener(), requests, payload.length);
+        if (exchange == null) {
+            return performAsyncIO(payload, getBatchResponseHandler(requests));
+        }
+        CompletableFuture<BatchResponse> result =
+                performAsyncIO(payload, getBatchResponseHandler(requests, exchange));
+        result.whenComplete((batchResponse, throwable) -> {
+            if (throwable == null) {
+                exchange.completed(batchResponse);
+            } else {
+                exchange.failed(throwable);
+            }
+        });
+        return result;
+    }
+
+    private <T> CompletableFuture<T> performAsyncIO(
+            byte[] payload, ResponseHandler<T> responseHandler) {
+        HttpPost httpPost;
+        try {
+            httpPost = createHttpPost(payload);
+        } catch (IOException e) {
+            return Futures.failedFuture(e);
+        }
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<HttpResponse> httpFuture = httpAsyncClient.execute(
+                httpPost, new FutureCallback<HttpResponse>() {
+                    @Override
+                    public void completed(HttpResponse response) {
+                        try {
+                            result.complete(responseHandler.handleResponse(response));
+                        } catch (IOException | RuntimeException e) {
+                            result.completeExceptionally(e);
+                        }
+                    }
+
+                    @Override
+                    public void failed(Exception e) {
+                        result.completeExceptionally(e);
+                    }
+
+                    @Override
+                    public void cancelled() {
+                        result.cancel(false);
+                    }
+                });
+
+        // abort the exchange if the caller loses interest in the response
+        result.whenComplete((value, throwable) -> {
+            if (result.isCancelled()) {
+                httpFuture.cancel(true);
+            }
+        });
+        return result;
+    }
+
+
+    @Override
+    public void close() throws IOException {
+        try {
+            httpAsyncClient.close();
+        } finally {
+            if (idleConnectionEvictor != null) {
+                idleConnectionEvictor.shutdown();
+            }
+            super.close();
+        }
+    }
+
+    /**
+     * Periodically closes expired and idle connections, as the NIO client provides no
+     * equivalent of the blocking client's background eviction.
+     */
+    private static class IdleConnectionEvictor {
+
+        private final ScheduledExecutorService scheduler;
+
+        IdleConnectionEvictor(PoolingNHttpClientConnectionManager connectionManager,
+                              long idleTimeoutMillis) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "web3j-idle-connection-evictor");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long period = Math.max(idleTimeoutMillis / 2, 1000);
+            scheduler.scheduleWithFixedDelay(() -> {
+                connectionManager.closeExpiredConnections();
+                connectionManager.closeIdleConnections(idleTimeoutMillis, TimeUnit.MILLISECONDS);
+            }, period, period, TimeUnit.MILLISECONDS);
+        }
+
+        void shutdown() {
+            scheduler.shutdownNow();
+        }
+    }
+}
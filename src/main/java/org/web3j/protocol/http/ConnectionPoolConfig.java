@@ -0,0 +1,66 @@
+package org.web3j.protocol.http;
+
+/**
+ * Connection pool settings for the persistent HTTP connections used by {@link HttpService}.
+ */
+public class ConnectionPoolConfig {
+
+    public static final int DEFAULT_MAX_TOTAL_CONNECTIONS = 64;
+    public static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 32;
+    public static final long DEFAULT_KEEP_ALIVE_MILLIS = 30_000;
+    public static final long DEFAULT_IDLE_TIMEOUT_MILLIS = 60_000;
+
+    private final int maxTotalConnections;
+    private final int maxConnectionsPerRoute;
+    private final long keepAliveMillis;
+    private final long idleTimeoutMillis;
+
+    public ConnectionPoolConfig() {
+        this(DEFAULT_MAX_TOTAL_CONNECTIONS, DEFAULT_MAX_CONNECTIONS_PER_ROUTE,
+                DEFAULT_KEEP_ALIVE_MILLIS, DEFAULT_IDLE_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * Create a new connection pool configuration.
+     *
+     * @param maxTotalConnections maximum number of open connections across all routes
+     * @param maxConnectionsPerRoute maximum number of open connections to a single node
+     * @param keepAliveMillis how long a connection is kept alive if the node does not say
+     *                        otherwise, this is also the upper bound for what the node may request
+     * @param idleTimeoutMillis connections idle for longer than this are evicted from the pool
+     */
+    public ConnectionPoolConfig(int maxTotalConnections, int maxConnectionsPerRoute,
+                                long keepAliveMillis, long idleTimeoutMillis) {
+        if (maxTotalConnections < 1 || maxConnectionsPerRoute < 1) {
+            throw new IllegalArgumentException("At least one connection must be permitted");
+        }
+        this.maxTotalConnections = maxTotalConnections;
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+        this.keepAliveMillis = keepAliveMillis;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+    }
+
+    public int getMaxTotalConnections() {
+        return maxTotalConnections;
+    }
+
+    public int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    public long getKeepAliveMillis() {
+        return keepAliveMillis;
+    }
+
+    public long getIdleTimeoutMillis() {
+        return idleTimeoutMillis;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "ConnectionPoolConfig(maxTotal: %d, maxPerRoute: %d, keepAlive: %dms, "
+                        + "idleTimeout: %dms)",
+                maxTotalConnections, maxConnectionsPerRoute, keepAliveMillis, idleTimeoutMillis);
+    }
+}
@@ -0,0 +1,182 @@
+package org.web3j.protocol.http;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.List;
+
+import org.web3j.jfr.FlightRecorderEvents;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.metrics.RequestEvent;
+import org.web3j.protocol.metrics.RequestListener;
+
+/**
+ * Measurements of a single HTTP exchange, reported to a {@link RequestListener} and as a flight
+ * recorder event on completion.
+ *
+ * <p>The network time runs from sending the request until the response handler is invoked, and
+ * the parse time from then until the response has been deserialised. Response bytes are counted
+ * as received, before any decompression. A batch is reported as an event per request, sharing
+ * the batch's timings, without byte counts, and as a single flight recorder event.</p>
+ */
+class Exchange {
+
+    private final RequestListener listener;
+    private final FlightRecorderEvents.RpcTimer rpcTimer;
+    private final List<Request<?, ? extends Response>> requests;
+    private final boolean batch;
+    private final long requestBytes;
+    private final long startTime;
+
+    private volatile long responseTime;
+    private volatile CountingInputStream content;
+
+    private Exchange(RequestListener listener, FlightRecorderEvents.RpcTimer rpcTimer,
+                     List<Request<?, ? extends Response>> requests, boolean batch,
+                     long requestBytes) {
+        this.listener = listener;
+        this.rpcTimer = rpcTimer;
+        this.requests = requests;
+        this.batch = batch;
+        this.requestBytes = requestBytes;
+        if (listener != null) {
+            for (Request<?, ? extends Response> request : requests) {
+                listener.requestStarted(request.getMethod());
+            }
+        }
+        this.startTime = System.nanoTime();
+    }
+
+    /**
+     * Start measuring an exchange.
+     *
+     * @return the exchange, or null if there is nothing to report it to
+     */
+    static Exchange start(RequestListener listener, Request<?, ?> request, int payloadLength) {
+        return start(listener, Collections.<Request<?, ? extends Response>>singletonList(request),
+                false, payloadLength);
+    }
+
+    static Exchange startBatch(RequestListener listener,
+                               List<Request<?, ? extends Response>> requests,
+                               int payloadLength) {
+        return start(listener, requests, true, payloadLength);
+    }
+
+    private static Exchange start(RequestListener listener,
+                                  List<Request<?, ? extends Response>> requests, boolean batch,
+                                  int payloadLength) {
+        FlightRecorderEvents.RpcTimer rpcTimer = FlightRecorderEvents.startRpc();
+        if (listener == null && rpcTimer == FlightRecorderEvents.RpcTimer.NONE) {
+            return null;
+        }
+        return new Exchange(listener, rpcTimer, requests, batch, payloadLength);
+    }
+
+    void responseReceived() {
+        responseTime = System.nanoTime();
+    }
+
+    InputStream countBytes(InputStream inputStream) {
+        CountingInputStream countingInputStream = new CountingInputStream(inputStream);
+        content = countingInputStream;
+        return countingInputStream;
+    }
+
+    void completed(Response<?> response) {
+        report(response, null);
+    }
+
+    void completed(BatchResponse batchResponse) {
+        long endTime = System.nanoTime();
+        completeRpcTimer(false);
+        if (listener != null) {
+            List<? extends Response> responses = batchResponse.getResponses();
+            for (int i = 0; i < requests.size(); i++) {
+                listener.requestCompleted(event(
+                        requests.get(i), endTime, RequestEvent.UNKNOWN, RequestEvent.UNKNOWN,
+                        responses.get(i), null));
+            }
+        }
+    }
+
+    void failed(Throwable failure) {
+        report(null, failure);
+    }
+
+    private void report(Response<?> response, Throwable failure) {
+        long endTime = System.nanoTime();
+        completeRpcTimer(failure != null);
+        if (listener == null) {
+            return;
+        }
+        long requestBytes = batch ? RequestEvent.UNKNOWN : this.requestBytes;
+        long responseBytes = batch ? RequestEvent.UNKNOWN : getResponseBytes();
+        for (Request<?, ? extends Response> request : requests) {
+            listener.requestCompleted(
+                    event(request, endTime, requestBytes, responseBytes, response, failure));
+        }
+    }
+
+    private void completeRpcTimer(boolean failed) {
+        String method = batch ? "batch" : requests.get(0).getMethod();
+        rpcTimer.complete(method, requests.size(), requestBytes, getResponseBytes(), failed);
+    }
+
+    private long getResponseBytes() {
+        CountingInputStream countingInputStream = content;
+        return countingInputStream == null ? RequestEvent.UNKNOWN : countingInputStream.count;
+    }
+
+    private RequestEvent event(Request<?, ? extends Response> request, long endTime,
+                               long requestBytes, long responseBytes, Response<?> response,
+                               Throwable failure) {
+        long networkTime = RequestEvent.UNKNOWN;
+        long parseTime = RequestEvent.UNKNOWN;
+        long responseTime = this.responseTime;
+        if (responseTime != 0) {
+            networkTime = responseTime - startTime;
+            parseTime = endTime - responseTime;
+        }
+        return new RequestEvent(
+                request.getMethod(), endTime - startTime, networkTime, parseTime,
+                requestBytes, responseBytes, response, failure);
+    }
+
+    private static class CountingInputStream extends FilterInputStream {
+
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int result = super.read();
+            if (result != -1) {
+                count++;
+            }
+            return result;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int result = super.read(b, off, len);
+            if (result > 0) {
+                count += result;
+            }
+            return result;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long result = super.skip(n);
+            count += result;
+            return result;
+        }
+    }
+}
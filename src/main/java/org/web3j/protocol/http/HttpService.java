@@ -1,29 +1,73 @@
 package org.web3j.protocol.http;
 
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import javax.net.ssl.SSLContext;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.http.Header;
 import org.apache.http.HttpEntity;
 import org.apache.http.client.ClientProtocolException;
 import org.apache.http.client.ResponseHandler;
+import org.apache.http.client.entity.DeflateInputStream;
 import org.apache.http.client.methods.HttpPost;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.entity.ByteArrayEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
 import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.message.BasicHeader;
 
 import org.web3j.protocol.Web3jService;
 import org.web3j.protocol.ObjectMapperFactory;
+import org.web3j.protocol.RequestWriter;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
 import org.web3j.protocol.core.Request;
 import org.web3j.protocol.core.Response;
+import org.web3j.protocol.exceptions.BatchRejectedException;
+import org.web3j.protocol.metrics.RequestListener;
+import org.web3j.utils.Async;
 
 /**
  * HTTP implementation of our services API.
+ *
+ * <p>Connections to the node are pooled and kept alive between requests, they are only released
+ * once the service is {@link #close() closed}.</p>
+ *
+ * <p>Gzip and deflate compressed responses are accepted, and decompressed as they are parsed.
+ * Requests may also be compressed, if the node supports it, via
+ * {@link #setRequestCompressionThreshold(int)}.</p>
+ *
+ * <p>Per request timings and sizes may be collected via
+ * {@link #setRequestListener(RequestListener)}.</p>
+ *
+ * <p>Asynchronous requests block a thread of the executor given to
+ * {@link #setExecutor(Executor)} while they are in progress.</p>
+ *
+ * <p>Requests are serialised into a buffer reused by each thread, so that pooled threads send
+ * them with next to no garbage. Threads created per request, such as virtual threads, do not
+ * benefit from this.</p>
  */
 public class HttpService implements Web3jService {
 
@@ -31,19 +75,36 @@ public class HttpService implements Web3jService {
 
     public static final String DEFAULT_URL = "http://localhost:8545/";
 
+    private static final Header CONTENT_TYPE_HEADER =
+            new BasicHeader("Content-Type", "application/json; charset=UTF-8");
+    private static final Header ACCEPT_ENCODING_HEADER =
+            new BasicHeader("Accept-Encoding", "gzip, deflate");
+    private static final Header CONTENT_ENCODING_HEADER =
+            new BasicHeader("Content-Encoding", "gzip");
+
     private CloseableHttpClient httpClient;
 
     private final ObjectMapper objectMapper = ObjectMapperFactory.getObjectMapper();
 
     private final String url;
 
+    private volatile int requestCompressionThreshold = -1;
+
+    private volatile RequestListener requestListener;
+
+    private volatile Executor executor = Async.defaultExecutor();
+
     public HttpService(String url, CloseableHttpClient httpClient) {
         this.url = url;
         this.httpClient = httpClient;
     }
 
+    public HttpService(String url, ConnectionPoolConfig connectionPoolConfig) {
+        this(url, createHttpClient(connectionPoolConfig, null));
+    }
+
     public HttpService(String url) {
-        this(url, HttpClients.custom().setConnectionManagerShared(true).build());
+        this(url, new ConnectionPoolConfig());
     }
 
     public HttpService() {
@@ -54,41 +115,237 @@ public class HttpService implements Web3jService {
         this.httpClient = httpClient;
     }
 
+    /**
+     * Gzip compress request payloads of at least the given size, such as large batches of raw
+     * transactions. Only enable this if the node accepts compressed requests.
+     *
+     * @param threshold minimum payload size in bytes to compress, or -1 to disable compression
+     */
+    public void setRequestCompressionThreshold(int threshold) {
+        this.requestCompressionThreshold = threshold;
+    }
+
+    /**
+     * Report each request to a listener, such as a
+     * {@link org.web3j.protocol.metrics.MetricsCollector}, with its network and parse times
+     * measured separately.
+     *
+     * @param requestListener to report to, or null to stop reporting
+     */
+    public void setRequestListener(RequestListener requestListener) {
+        this.requestListener = requestListener;
+    }
+
+    RequestListener getRequestListener() {
+        return requestListener;
+    }
+
+    /**
+     * Send asynchronous requests on the given executor rather than
+     * {@link Async#defaultExecutor()}, such as one from
+     * {@link Async#newVirtualThreadPerTaskExecutor()} when many requests are in flight at once.
+     *
+     * @param executor to send asynchronous requests on
+     */
+    public void setExecutor(Executor executor) {
+        if (executor == null) {
+            throw new IllegalArgumentException("An executor must be provided");
+        }
+        this.executor = executor;
+    }
+
+    /**
+     * Create a HTTP client backed by a pool of persistent connections. Idle and expired
+     * connections are evicted by a background thread, which is stopped along with the pool when
+     * the client is closed.
+     *
+     * @param connectionPoolConfig pool limits and timeouts
+     * @param sslContext used for https connections, or null for the system default
+     * @return a new pooled HTTP client
+     */
+    public static CloseableHttpClient createHttpClient(
+            ConnectionPoolConfig connectionPoolConfig, SSLContext sslContext) {
+        PoolingHttpClientConnectionManager connectionManager;
+        if (sslContext != null) {
+            Registry<ConnectionSocketFactory> socketFactoryRegistry =
+                    RegistryBuilder.<ConnectionSocketFactory>create()
+                            .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                            .register("https", new SSLConnectionSocketFactory(sslContext))
+                            .build();
+            connectionManager = new PoolingHttpClientConnectionManager(socketFactoryRegistry);
+        } else {
+            connectionManager = new PoolingHttpClientConnectionManager();
+        }
+        connectionManager.setMaxTotal(connectionPoolConfig.getMaxTotalConnections());
+        connectionManager.setDefaultMaxPerRoute(
+                connectionPoolConfig.getMaxConnectionsPerRoute());
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                // responses are decompressed as they are read, once their size has been counted
+                .disableContentCompression()
+                .setKeepAliveStrategy(
+                        createKeepAliveStrategy(connectionPoolConfig.getKeepAliveMillis()))
+                .evictExpiredConnections()
+                .evictIdleConnections(
+                        connectionPoolConfig.getIdleTimeoutMillis(), TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    static ConnectionKeepAliveStrategy createKeepAliveStrategy(long keepAliveMillis) {
+        return (response, context) -> {
+            long duration = DefaultConnectionKeepAliveStrategy.INSTANCE
+                    .getKeepAliveDuration(response, context);
+            if (duration > 0) {
+                return Math.min(duration, keepAliveMillis);
+            } else {
+                return keepAliveMillis;
+            }
+        };
+    }
+
     @Override
     public <T extends Response> T send(
             Request request, Class<T> responseType) throws IOException {
-        byte[] payload = objectMapper.writeValueAsBytes(request);
+        // the writer's buffer is only reused by this thread once the request has been sent
+        RequestWriter requestWriter = RequestWriter.get();
+        requestWriter.write(request);
+        byte[] payload = requestWriter.getBuffer();
+        int length = requestWriter.size();
         //log.debug("Sending request '{}' to '{}' ({})", request, url, objectMapper.writeValueAsString(request));
 
-        HttpPost httpPost = new HttpPost(this.url);
-        httpPost.setEntity(new ByteArrayEntity(payload));
-        Header[] headers = buildHeaders();
-        httpPost.setHeaders(headers);
+        Exchange exchange = Exchange.start(requestListener, request, length);
+        if (exchange == null) {
+            return performIO(payload, length, getResponseHandler(responseType));
+        }
+        try {
+            T response = performIO(payload, length, getResponseHandler(responseType, exchange));
+            exchange.completed(response);
+            return response;
+        } catch (IOException | RuntimeException e) {
+            exchange.failed(e);
+            throw e;
+        }
+    }
 
-        ResponseHandler<T> responseHandler = getResponseHandler(responseType);
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        List<Request<?, ? extends Response>> requests = batchRequest.getRequests();
+        if (requests.isEmpty()) {
+            // an empty array is an invalid request as far as the node is concerned
+            return new BatchResponse(requests, Collections.<Response>emptyList());
+        }
+
+        RequestWriter requestWriter = RequestWriter.get();
+        requestWriter.writeBatch(requests);
+        byte[] payload = requestWriter.getBuffer();
+        int length = requestWriter.size();
+
+        Exchange exchange = Exchange.startBatch(requestListener, requests, length);
+        if (exchange == null) {
+            return performIO(payload, length, getBatchResponseHandler(requests));
+        }
         try {
-            return httpClient.execute(httpPost, responseHandler);
-        } finally {
-            httpClient.close();
+            BatchResponse batchResponse =
+                    performIO(payload, length, getBatchResponseHandler(requests, exchange));
+            exchange.completed(batchResponse);
+            return batchResponse;
+        } catch (IOException | RuntimeException e) {
+            exchange.failed(e);
+            throw e;
         }
     }
 
-    private Header[] buildHeaders() {
+    private <T> T performIO(byte[] payload, int length, ResponseHandler<T> responseHandler)
+            throws IOException {
+        HttpPost httpPost = createHttpPost(payload, length);
+        return httpClient.execute(httpPost, responseHandler);
+    }
+
+    protected HttpPost createHttpPost(byte[] payload) throws IOException {
+        return createHttpPost(payload, payload.length);
+    }
+
+    /**
+     * Create a request posting the first {@code length} bytes of the payload. The payload is
+     * not copied, so must not be modified until the request has been sent.
+     */
+    protected HttpPost createHttpPost(byte[] payload, int length) throws IOException {
+        HttpPost httpPost = new HttpPost(this.url);
+        int threshold = requestCompressionThreshold;
+        boolean compressed = threshold >= 0 && length >= threshold;
+        if (compressed) {
+            httpPost.setEntity(new ByteArrayEntity(gzip(payload, length)));
+        } else {
+            httpPost.setEntity(new ByteArrayEntity(payload, 0, length));
+        }
+        Header[] headers = buildHeaders(compressed);
+        httpPost.setHeaders(headers);
+        return httpPost;
+    }
+
+    private Header[] buildHeaders(boolean compressed) {
         List<Header> headers = new ArrayList<>();
-        headers.add(new BasicHeader("Content-Type", "application/json; charset=UTF-8"));
+        headers.add(CONTENT_TYPE_HEADER);
+        headers.add(ACCEPT_ENCODING_HEADER);
+        if (compressed) {
+            headers.add(CONTENT_ENCODING_HEADER);
+        }
         addHeaders(headers);
         return headers.toArray(new Header[0]);
     }
 
+    private static byte[] gzip(byte[] payload, int length) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(length / 4);
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(payload, 0, length);
+        }
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Get the content of a response entity, decompressing it as it is read if it is compressed.
+     * Clients which decompress responses themselves remove the content encoding.
+     */
+    private static InputStream getContent(HttpEntity entity, Exchange exchange)
+            throws IOException {
+        InputStream content = entity.getContent();
+        if (exchange != null) {
+            content = exchange.countBytes(content);
+        }
+        Header contentEncoding = entity.getContentEncoding();
+        if (contentEncoding == null) {
+            return content;
+        }
+        String encoding = contentEncoding.getValue().trim();
+        if (encoding.equalsIgnoreCase("gzip") || encoding.equalsIgnoreCase("x-gzip")) {
+            return new GZIPInputStream(content);
+        } else if (encoding.equalsIgnoreCase("deflate")) {
+            return new DeflateInputStream(content);
+        } else if (encoding.isEmpty() || encoding.equalsIgnoreCase("identity")) {
+            return content;
+        } else {
+            content.close();
+            throw new ClientProtocolException("Unsupported content encoding: " + encoding);
+        }
+    }
+
     protected void addHeaders(List<Header> headers) { }
 
     public <T> ResponseHandler<T> getResponseHandler(Class<T> type) {
+        return getResponseHandler(type, null);
+    }
+
+    <T> ResponseHandler<T> getResponseHandler(Class<T> type, Exchange exchange) {
         return response -> {
+            if (exchange != null) {
+                exchange.responseReceived();
+            }
             int status = response.getStatusLine().getStatusCode();
             if (status >= 200 && status < 300) {
                 HttpEntity entity = response.getEntity();
                 if (entity != null) {
-                    final T content =  objectMapper.readValue(response.getEntity().getContent(), type);
+                    final T content = objectMapper.readValue(getContent(entity, exchange), type);
                     //log.debug("Response[{}]({})", status, content);
                     return content;
                 } else {
@@ -100,17 +357,77 @@ public class HttpService implements Web3jService {
         };
     }
 
+    /**
+     * Response handler for a JSON-RPC batch. The node may return the batch responses in any
+     * order, so they are matched back to their requests by id.
+     *
+     * @param requests making up the batch
+     * @return handler producing a {@link BatchResponse} ordered as per the requests
+     */
+    public ResponseHandler<BatchResponse> getBatchResponseHandler(
+            List<Request<?, ? extends Response>> requests) {
+        return getBatchResponseHandler(requests, null);
+    }
+
+    ResponseHandler<BatchResponse> getBatchResponseHandler(
+            List<Request<?, ? extends Response>> requests, Exchange exchange) {
+        ResponseHandler<JsonNode> jsonNodeHandler = getResponseHandler(JsonNode.class, exchange);
+        return response -> {
+            JsonNode content = jsonNodeHandler.handleResponse(response);
+            if (content == null) {
+                return null;
+            } else if (!content.isArray()) {
+                if (content.has("error")) {
+                    // typically as the node does not support batching
+                    throw new BatchRejectedException("Batch rejected: " + content);
+                }
+                throw new ClientProtocolException("Unexpected batch response: " + content);
+            }
+
+            Map<Long, Integer> indices = new HashMap<>();
+            for (int i = 0; i < requests.size(); i++) {
+                indices.put(requests.get(i).getId(), i);
+            }
+
+            Response[] responses = new Response[requests.size()];
+            for (JsonNode node : content) {
+                Integer index = indices.get(node.path("id").asLong());
+                if (index == null) {
+                    throw new ClientProtocolException(
+                            "Batch response does not match any request: " + node);
+                }
+                responses[index] = objectMapper.treeToValue(
+                        node, requests.get(index).getResponseType());
+            }
+
+            for (int i = 0; i < responses.length; i++) {
+                if (responses[i] == null) {
+                    throw new ClientProtocolException(
+                            "No batch response for request: " + requests.get(i));
+                }
+            }
+            return new BatchResponse(requests, Arrays.asList(responses));
+        };
+    }
+
     @Override
     public <T extends Response> CompletableFuture<T> sendAsync(
             Request jsonRpc20Request, Class<T> responseType) {
-        CompletableFuture<T> result = new CompletableFuture<>();
-        CompletableFuture.runAsync(() -> {
-            try {
-                result.complete(send(jsonRpc20Request, responseType));
-            } catch (IOException e) {
-                result.completeExceptionally(e);
-            }
-        });
-        return result;
+        return Async.run(() -> send(jsonRpc20Request, responseType), executor);
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        return Async.run(() -> sendBatch(batchRequest), executor);
+    }
+
+    /**
+     * Close the underlying HTTP client, releasing all pooled connections.
+     *
+     * @throws IOException if the client could not be closed cleanly
+     */
+    @Override
+    public void close() throws IOException {
+        httpClient.close();
     }
 }
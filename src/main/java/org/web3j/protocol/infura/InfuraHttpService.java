@@ -10,10 +10,10 @@ import java.util.Optional;
 
 import org.apache.http.Header;
 import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClients;
 import org.apache.http.message.BasicHeader;
 import org.apache.http.ssl.SSLContexts;
 
+import org.web3j.protocol.http.ConnectionPoolConfig;
 import org.web3j.protocol.http.HttpService;
 
 /**
@@ -28,12 +28,16 @@ public class InfuraHttpService extends HttpService {
 
     private final Optional<Header> clientVersionHeader;
 
-    public InfuraHttpService(String url, String clientVersion, boolean required) {
-        super(url);
-        setHttpClient(createTrustTlsHttpClient(url));
+    public InfuraHttpService(String url, String clientVersion, boolean required,
+                             ConnectionPoolConfig connectionPoolConfig) {
+        super(url, createTrustTlsHttpClient(url, connectionPoolConfig));
         clientVersionHeader = buildHeader(clientVersion, required);
     }
 
+    public InfuraHttpService(String url, String clientVersion, boolean required) {
+        this(url, clientVersion, required, new ConnectionPoolConfig());
+    }
+
     public InfuraHttpService(String url, String clientVersion) {
         this(url, clientVersion, true);
     }
@@ -70,13 +74,15 @@ public class InfuraHttpService extends HttpService {
      * of the endpoint to upon application startup.
      *
      * @param url we wish to connect to
+     * @param connectionPoolConfig for the pooled client connections
      * @return the file containing the keystore
      * @throws UnrecoverableKeyException if keystore file cannot be loaded
      * @throws NoSuchAlgorithmException if keystore file cannot be loaded
      * @throws KeyStoreException if keystore file cannot be loaded
      * @throws KeyManagementException if keystore file cannot be loaded
      */
-    private static CloseableHttpClient createTrustTlsHttpClient(String url) {
+    private static CloseableHttpClient createTrustTlsHttpClient(
+            String url, ConnectionPoolConfig connectionPoolConfig) {
 
         File keyFile = CertificateManager.buildKeyStore(url, TEMP_KEY_STORE_PASSWORD);
 
@@ -97,9 +103,6 @@ public class InfuraHttpService extends HttpService {
             throw new RuntimeException(e);
         }
 
-        return HttpClients.custom()
-                .setConnectionManagerShared(true)
-                .setSSLContext(sslContext)
-                .build();
+        return createHttpClient(connectionPoolConfig, sslContext);
     }
 }
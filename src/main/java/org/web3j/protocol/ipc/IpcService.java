@@ -0,0 +1,279 @@
+package org.web3j.protocol.ipc;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ByteChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.web3j.protocol.ObjectMapperFactory;
+import org.web3j.protocol.ResponseCorrelator;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.utils.Futures;
+
+/**
+ * Inter-process communication (IPC) implementation of our services API, for nodes running on
+ * the same host.
+ *
+ * <p>Requests are pipelined over a single connection: they are written as soon as they are
+ * sent, without waiting for the responses to earlier requests. A reader thread parses the
+ * stream of JSON values returned by the node, and matches each response to its request by id.
+ * Requests sent via {@link #send}, {@link #sendAsync}, {@link #sendBatch} or
+ * {@link #sendBatchAsync} while another with the same id is awaiting its response are renumbered
+ * via {@link Request#setId(long)}.</p>
+ *
+ * <p>The connection is opened on the first request, and reopened on the next request should
+ * it be lost, such as when the node is restarted.</p>
+ *
+ * <p>Requests not answered within the request timeout fail with an {@link IOException}.</p>
+ */
+public abstract class IpcService implements Web3jService {
+
+    private static final Logger log = LoggerFactory.getLogger(IpcService.class);
+
+    public static final long DEFAULT_REQUEST_TIMEOUT_MILLIS = 60_000;
+
+    private final ObjectMapper objectMapper = ObjectMapperFactory.getObjectMapper();
+
+    private final long requestTimeoutMillis;
+    private final ScheduledExecutorService timeoutScheduler;
+
+    private Connection connection;  // guarded by this
+    private boolean closed;  // guarded by this
+
+    public IpcService(long requestTimeoutMillis) {
+        if (requestTimeoutMillis <= 0) {
+            throw new IllegalArgumentException("requestTimeoutMillis must be positive");
+        }
+        this.requestTimeoutMillis = requestTimeoutMillis;
+        this.timeoutScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "web3j-ipc-timeout");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public IpcService() {
+        this(DEFAULT_REQUEST_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * Open a new connection to the node.
+     *
+     * @return channel to send requests and receive responses on
+     * @throws IOException if the connection could not be opened
+     */
+    protected abstract ByteChannel openChannel() throws IOException;
+
+    @Override
+    public <T extends Response> T send(
+            Request request, Class<T> responseType) throws IOException {
+        return Futures.getResult(sendAsync(request, responseType));
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(
+            Request request, Class<T> responseType) {
+        Connection connection;
+        try {
+            connection = getConnection();
+        } catch (IOException e) {
+            return Futures.failedFuture(e);
+        }
+
+        CompletableFuture<T> result = connection.responseCorrelator.register(request, responseType);
+        connection.write(request, Collections.singletonList(result));
+        return result;
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        return Futures.getResult(sendBatchAsync(batchRequest));
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        List<Request<?, ? extends Response>> requests = batchRequest.getRequests();
+        if (requests.isEmpty()) {
+            return CompletableFuture.completedFuture(
+                    new BatchResponse(requests, Collections.<Response>emptyList()));
+        }
+
+        Connection connection;
+        try {
+            connection = getConnection();
+        } catch (IOException e) {
+            return Futures.failedFuture(e);
+        }
+
+        List<CompletableFuture<? extends Response>> results = new ArrayList<>(requests.size());
+        for (Request<?, ? extends Response> request : requests) {
+            results.add(connection.responseCorrelator.register(
+                    request, request.getResponseType()));
+        }
+        connection.write(requests, results);
+
+        return CompletableFuture.allOf(results.toArray(new CompletableFuture[results.size()]))
+                .thenApply(ignored -> {
+                    List<Response> responses = new ArrayList<>(results.size());
+                    for (CompletableFuture<? extends Response> result : results) {
+                        responses.add(result.join());
+                    }
+                    return new BatchResponse(requests, responses);
+                });
+    }
+
+    private synchronized Connection getConnection() throws IOException {
+        if (closed) {
+            throw new IOException("IpcService closed");
+        }
+        if (connection == null || !connection.isOpen()) {
+            connection = new Connection(openChannel());
+        }
+        return connection;
+    }
+
+
+    synchronized int getPendingCount() {
+        return connection == null ? 0 : connection.responseCorrelator.getPendingCount();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        closed = true;
+        if (connection != null) {
+            connection.close();
+        }
+        timeoutScheduler.shutdownNow();
+    }
+
+    /**
+     * A connection to the node, with the requests awaiting responses on it.
+     */
+    private class Connection {
+
+        private final ByteChannel channel;
+        private final ResponseCorrelator responseCorrelator = new ResponseCorrelator();
+        private final Object writeLock = new Object();
+        private volatile boolean open = true;
+
+        Connection(ByteChannel channel) {
+            this.channel = channel;
+
+            Thread reader = new Thread(this::read, "web3j-ipc-reader");
+            reader.setDaemon(true);
+            reader.start();
+        }
+
+        boolean isOpen() {
+            return open;
+        }
+
+        void write(Object payload, List<? extends CompletableFuture<?>> results) {
+            try {
+                for (CompletableFuture<?> result : results) {
+                    // failing the request also removes it from the correlator
+                    ScheduledFuture<?> timeout = timeoutScheduler.schedule(
+                            () -> result.completeExceptionally(new IOException(
+                                    "No response received within " + requestTimeoutMillis
+                                            + " ms")),
+                            requestTimeoutMillis, TimeUnit.MILLISECONDS);
+                    result.whenComplete((value, throwable) -> timeout.cancel(false));
+                }
+                if (!open) {
+                    // the connection may have been lost before the requests were registered, in
+                    // which case the reader will not fail them
+                    throw new IOException("IPC connection closed");
+                }
+                ByteBuffer buffer = ByteBuffer.wrap(objectMapper.writeValueAsBytes(payload));
+                synchronized (writeLock) {
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                for (CompletableFuture<?> result : results) {
+                    result.completeExceptionally(e);
+                }
+            }
+        }
+
+        private void read() {
+            IOException closedException = new IOException("IPC connection closed");
+            try (JsonParser parser = objectMapper.getFactory().createParser(
+                    new ChannelInputStream(channel))) {
+                // the node writes a stream of JSON values, not delimited in any other way
+                while (parser.nextToken() != null) {
+                    JsonNode response = objectMapper.readTree(parser);
+                    if (!responseCorrelator.dispatch(response)) {
+                        log.warn("Received response not matching any pending request: {}",
+                                response);
+                    }
+                }
+            } catch (IOException e) {
+                if (open) {
+                    log.error("Failed to read from IPC connection", e);
+                    closedException = new IOException("IPC connection failed", e);
+                }
+            } finally {
+                close();
+                responseCorrelator.failAll(closedException);
+            }
+        }
+
+        void close() {
+            open = false;
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.warn("Failed to close IPC connection", e);
+            }
+        }
+    }
+
+    /**
+     * Reads directly from the channel, as the stream returned by
+     * {@link java.nio.channels.Channels#newInputStream} blocks concurrent writes to socket
+     * channels.
+     */
+    private static class ChannelInputStream extends InputStream {
+
+        private final ByteChannel channel;
+
+        ChannelInputStream(ByteChannel channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] buffer = new byte[1];
+            int read;
+            do {
+                read = read(buffer, 0, 1);
+            } while (read == 0);
+            return read == -1 ? -1 : buffer[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            return channel.read(ByteBuffer.wrap(buffer, offset, length));
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package org.web3j.protocol.ipc;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.ByteChannel;
+
+import jnr.unixsocket.UnixSocketAddress;
+import jnr.unixsocket.UnixSocketChannel;
+
+/**
+ * Unix domain socket IPC implementation of our services API, such as for a geth.ipc file.
+ */
+public class UnixIpcService extends IpcService {
+
+    private final String ipcSocketPath;
+
+    public UnixIpcService(String ipcSocketPath, long requestTimeoutMillis) {
+        super(requestTimeoutMillis);
+        this.ipcSocketPath = ipcSocketPath;
+    }
+
+    public UnixIpcService(String ipcSocketPath) {
+        this(ipcSocketPath, DEFAULT_REQUEST_TIMEOUT_MILLIS);
+    }
+
+    @Override
+    protected ByteChannel openChannel() throws IOException {
+        return UnixSocketChannel.open(new UnixSocketAddress(new File(ipcSocketPath)));
+    }
+}
@@ -0,0 +1,130 @@
+package org.web3j.protocol.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe histogram of request latencies, for estimating percentiles.
+ *
+ * <p>Latencies are counted in buckets with a relative width of at most 1/8th of their value, so
+ * percentiles are accurate to within 12.5%. Recording a latency does not allocate or lock.</p>
+ */
+public class LatencyHistogram {
+
+    // each power of two is split into 2^SUB_BUCKET_BITS buckets
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong totalCount = new AtomicLong();
+
+    /**
+     * Record a latency.
+     *
+     * @param duration of the request, negative durations are recorded as 0
+     * @param timeUnit of the duration
+     */
+    public void record(long duration, TimeUnit timeUnit) {
+        counts.incrementAndGet(indexOf(Math.max(0, timeUnit.toNanos(duration))));
+        totalCount.incrementAndGet();
+    }
+
+    public long getCount() {
+        return totalCount.get();
+    }
+
+    /**
+     * Get the latency which the given percentage of recorded latencies do not exceed.
+     *
+     * @param percentile between 0 and 100
+     * @param timeUnit of the result
+     * @return the upper bound of the bucket containing the percentile, or 0 if empty
+     */
+    public long getValueAtPercentile(double percentile, TimeUnit timeUnit) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100");
+        }
+        long total = totalCount.get();
+        if (total == 0) {
+            return 0;
+        }
+
+        long target = Math.max(1, (long) Math.ceil(total * percentile / 100));
+        long count = 0;
+        int index = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long bucketCount = counts.get(i);
+            if (bucketCount > 0) {
+                index = i;
+                count += bucketCount;
+                if (count >= target) {
+                    break;
+                }
+            }
+        }
+        return timeUnit.convert(upperBoundOf(index), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Halve the counts recorded, so that percentiles are weighted towards recent latencies.
+     */
+    public void decay() {
+        long removed = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long count;
+            long decayed;
+            do {
+                count = counts.get(i);
+                decayed = count >>> 1;
+            } while (!counts.compareAndSet(i, count, decayed));
+            removed += count - decayed;
+        }
+        totalCount.addAndGet(-removed);
+    }
+
+    /**
+     * Copy the counts recorded so far, for a consistent view unaffected by later recordings.
+     *
+     * @return a new histogram
+     */
+    public LatencyHistogram snapshot() {
+        LatencyHistogram snapshot = new LatencyHistogram();
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long count = counts.get(i);
+            snapshot.counts.set(i, count);
+            total += count;
+        }
+        snapshot.totalCount.set(total);
+        return snapshot;
+    }
+
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long count = counts.getAndSet(i, 0);
+            totalCount.addAndGet(-count);
+        }
+    }
+
+    static int indexOf(long nanos) {
+        if (nanos < SUB_BUCKET_COUNT) {
+            return (int) nanos;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(nanos);
+        int subBucket = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return ((exponent - SUB_BUCKET_BITS + 1) << SUB_BUCKET_BITS) + subBucket;
+    }
+
+    static long upperBoundOf(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int exponent = (index >>> SUB_BUCKET_BITS) + SUB_BUCKET_BITS - 1;
+        long subBucket = index & (SUB_BUCKET_COUNT - 1);
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        long lowerBound = (SUB_BUCKET_COUNT + subBucket) * width;
+        return lowerBound + (width - 1);
+    }
+}
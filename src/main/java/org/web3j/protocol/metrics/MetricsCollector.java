@@ -0,0 +1,249 @@
+package org.web3j.protocol.metrics;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory {@link RequestListener} keeping metrics per JSON-RPC method.
+ *
+ * <p>Recording does not lock, so a collector may be shared by any number of services and
+ * threads. Use {@link #snapshot()} to read the metrics.</p>
+ */
+public class MetricsCollector implements RequestListener {
+
+    private final ConcurrentMap<String, MethodMetrics> methodMetrics = new ConcurrentHashMap<>();
+
+    @Override
+    public void requestStarted(String method) {
+        getMethodMetrics(method).inFlight.increment();
+    }
+
+    @Override
+    public void requestCompleted(RequestEvent event) {
+        MethodMetrics metrics = getMethodMetrics(event.getMethod());
+        metrics.inFlight.decrement();
+        metrics.record(event);
+    }
+
+    /**
+     * Get the metrics for each method requested so far.
+     *
+     * @return snapshots by method name, in name order
+     */
+    public Map<String, MethodSnapshot> snapshot() {
+        Map<String, MethodSnapshot> snapshots = new TreeMap<>();
+        for (Map.Entry<String, MethodMetrics> entry : methodMetrics.entrySet()) {
+            snapshots.put(entry.getKey(), entry.getValue().snapshot(entry.getKey()));
+        }
+        return Collections.unmodifiableMap(snapshots);
+    }
+
+    /**
+     * Get the metrics for a method.
+     *
+     * @param method name
+     * @return snapshot, or null if the method has not been requested
+     */
+    public MethodSnapshot snapshot(String method) {
+        MethodMetrics metrics = methodMetrics.get(method);
+        return metrics == null ? null : metrics.snapshot(method);
+    }
+
+    private MethodMetrics getMethodMetrics(String method) {
+        MethodMetrics metrics = methodMetrics.get(method);
+        if (metrics == null) {
+            metrics = methodMetrics.computeIfAbsent(method, key -> new MethodMetrics());
+        }
+        return metrics;
+    }
+
+    private static class MethodMetrics {
+
+        private final LongAdder inFlight = new LongAdder();
+        private final LongAdder requestCount = new LongAdder();
+        private final LongAdder failureCount = new LongAdder();
+        private final LongAdder requestBytes = new LongAdder();
+        private final LongAdder responseBytes = new LongAdder();
+        private final ConcurrentMap<Integer, LongAdder> errorCounts = new ConcurrentHashMap<>();
+
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LatencyHistogram networkTime = new LatencyHistogram();
+        private final LatencyHistogram parseTime = new LatencyHistogram();
+
+        void record(RequestEvent event) {
+            requestCount.increment();
+            latency.record(event.getLatency(), TimeUnit.NANOSECONDS);
+            if (event.getNetworkTime() != RequestEvent.UNKNOWN) {
+                networkTime.record(event.getNetworkTime(), TimeUnit.NANOSECONDS);
+            }
+            if (event.getParseTime() != RequestEvent.UNKNOWN) {
+                parseTime.record(event.getParseTime(), TimeUnit.NANOSECONDS);
+            }
+            if (event.getRequestBytes() != RequestEvent.UNKNOWN) {
+                requestBytes.add(event.getRequestBytes());
+            }
+            if (event.getResponseBytes() != RequestEvent.UNKNOWN) {
+                responseBytes.add(event.getResponseBytes());
+            }
+
+            if (event.isFailed()) {
+                failureCount.increment();
+            }
+            Integer errorCode = event.getErrorCode();
+            if (errorCode != null) {
+                LongAdder count = errorCounts.get(errorCode);
+                if (count == null) {
+                    count = errorCounts.computeIfAbsent(errorCode, key -> new LongAdder());
+                }
+                count.increment();
+            }
+        }
+
+        MethodSnapshot snapshot(String method) {
+            Map<Integer, Long> errors = new HashMap<>();
+            for (Map.Entry<Integer, LongAdder> entry : errorCounts.entrySet()) {
+                errors.put(entry.getKey(), entry.getValue().sum());
+            }
+            return new MethodSnapshot(
+                    method, inFlight.sum(), requestCount.sum(), failureCount.sum(),
+                    requestBytes.sum(), responseBytes.sum(), errors,
+                    latency.snapshot(), networkTime.snapshot(), parseTime.snapshot());
+        }
+    }
+
+    /**
+     * Metrics for a single method at a point in time.
+     */
+    public static class MethodSnapshot {
+
+        private final String method;
+        private final long inFlight;
+        private final long requestCount;
+        private final long failureCount;
+        private final long requestBytes;
+        private final long responseBytes;
+        private final Map<Integer, Long> errorCounts;
+        private final LatencyHistogram latency;
+        private final LatencyHistogram networkTime;
+        private final LatencyHistogram parseTime;
+
+        MethodSnapshot(String method, long inFlight, long requestCount, long failureCount,
+                       long requestBytes, long responseBytes, Map<Integer, Long> errorCounts,
+                       LatencyHistogram latency, LatencyHistogram networkTime,
+                       LatencyHistogram parseTime) {
+            this.method = method;
+            this.inFlight = inFlight;
+            this.requestCount = requestCount;
+            this.failureCount = failureCount;
+            this.requestBytes = requestBytes;
+            this.responseBytes = responseBytes;
+            this.errorCounts = Collections.unmodifiableMap(errorCounts);
+            this.latency = latency;
+            this.networkTime = networkTime;
+            this.parseTime = parseTime;
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        public long getInFlight() {
+            return inFlight;
+        }
+
+        /**
+         * Get the number of requests completed.
+         *
+         * @return number of requests with a response or failure
+         */
+        public long getRequestCount() {
+            return requestCount;
+        }
+
+        /**
+         * Get the number of requests which failed without a response, such as on I/O errors.
+         *
+         * @return number of failed requests
+         */
+        public long getFailureCount() {
+            return failureCount;
+        }
+
+        /**
+         * Get the number of responses which were JSON-RPC errors.
+         *
+         * @return number of error responses
+         */
+        public long getErrorCount() {
+            long count = 0;
+            for (long errorCount : errorCounts.values()) {
+                count += errorCount;
+            }
+            return count;
+        }
+
+        /**
+         * Get the number of responses with each JSON-RPC error code.
+         *
+         * @return counts by error code
+         */
+        public Map<Integer, Long> getErrorCounts() {
+            return errorCounts;
+        }
+
+        public long getRequestBytes() {
+            return requestBytes;
+        }
+
+        public long getResponseBytes() {
+            return responseBytes;
+        }
+
+        /**
+         * Get the time from sending each request to receiving its response.
+         *
+         * @return histogram of latencies
+         */
+        public LatencyHistogram getLatency() {
+            return latency;
+        }
+
+        /**
+         * Get the time until each response started to arrive, where measured by the service.
+         *
+         * @return histogram of network times
+         */
+        public LatencyHistogram getNetworkTime() {
+            return networkTime;
+        }
+
+        /**
+         * Get the time spent reading and deserialising each response, where measured by the
+         * service.
+         *
+         * @return histogram of parse times
+         */
+        public LatencyHistogram getParseTime() {
+            return parseTime;
+        }
+
+        @Override
+        public String toString() {
+            return method
+                    + " requests=" + requestCount
+                    + " inFlight=" + inFlight
+                    + " failures=" + failureCount
+                    + " errors=" + errorCounts
+                    + " p50=" + latency.getValueAtPercentile(50, TimeUnit.MICROSECONDS) + "us"
+                    + " p99=" + latency.getValueAtPercentile(99, TimeUnit.MICROSECONDS) + "us"
+                    + " requestBytes=" + requestBytes
+                    + " responseBytes=" + responseBytes;
+        }
+    }
+}
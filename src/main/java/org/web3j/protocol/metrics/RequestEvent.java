@@ -0,0 +1,108 @@
+package org.web3j.protocol.metrics;
+
+import org.web3j.protocol.core.Response;
+
+/**
+ * A completed JSON-RPC request, with its timings and sizes where the service measures them.
+ */
+public class RequestEvent {
+
+    /**
+     * Value of measurements not taken by the service reporting the event.
+     */
+    public static final long UNKNOWN = -1;
+
+    private final String method;
+    private final long latency;
+    private final long networkTime;
+    private final long parseTime;
+    private final long requestBytes;
+    private final long responseBytes;
+    private final Response<?> response;
+    private final Throwable failure;
+
+    /**
+     * Create an event.
+     *
+     * @param method of the request
+     * @param latency in nanoseconds from sending the request to receiving the response
+     * @param networkTime in nanoseconds until the response started to arrive, or
+     *                    {@link #UNKNOWN}
+     * @param parseTime in nanoseconds spent reading and deserialising the response, or
+     *                  {@link #UNKNOWN}
+     * @param requestBytes size of the request, or {@link #UNKNOWN}
+     * @param responseBytes size of the response, or {@link #UNKNOWN}
+     * @param response received, or null if the request failed
+     * @param failure of the request, or null if a response was received
+     */
+    public RequestEvent(String method, long latency, long networkTime, long parseTime,
+                        long requestBytes, long responseBytes,
+                        Response<?> response, Throwable failure) {
+        this.method = method;
+        this.latency = latency;
+        this.networkTime = networkTime;
+        this.parseTime = parseTime;
+        this.requestBytes = requestBytes;
+        this.responseBytes = responseBytes;
+        this.response = response;
+        this.failure = failure;
+    }
+
+    public static RequestEvent completed(String method, long latency, Response<?> response) {
+        return new RequestEvent(
+                method, latency, UNKNOWN, UNKNOWN, UNKNOWN, UNKNOWN, response, null);
+    }
+
+    public static RequestEvent failed(String method, long latency, Throwable failure) {
+        return new RequestEvent(
+                method, latency, UNKNOWN, UNKNOWN, UNKNOWN, UNKNOWN, null, failure);
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public long getLatency() {
+        return latency;
+    }
+
+    public long getNetworkTime() {
+        return networkTime;
+    }
+
+    public long getParseTime() {
+        return parseTime;
+    }
+
+    public long getRequestBytes() {
+        return requestBytes;
+    }
+
+    public long getResponseBytes() {
+        return responseBytes;
+    }
+
+    public Response<?> getResponse() {
+        return response;
+    }
+
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    public boolean isFailed() {
+        return failure != null;
+    }
+
+    /**
+     * Get the JSON-RPC error code returned by the node.
+     *
+     * @return error code, or null if the node did not return an error
+     */
+    public Integer getErrorCode() {
+        if (response == null || !response.hasError()) {
+            return null;
+        }
+        return response.getError().getCode();
+    }
+}
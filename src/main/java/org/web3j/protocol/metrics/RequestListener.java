@@ -0,0 +1,25 @@
+package org.web3j.protocol.metrics;
+
+/**
+ * Listener notified of each JSON-RPC request sent by an instrumented service.
+ *
+ * <p>Listeners are called on the threads sending requests and receiving responses, so must be
+ * thread-safe and should not block.</p>
+ */
+public interface RequestListener {
+
+    /**
+     * Called as a request is sent. Each call is followed by a call to
+     * {@link #requestCompleted(RequestEvent)} for the same method.
+     *
+     * @param method of the request
+     */
+    void requestStarted(String method);
+
+    /**
+     * Called once a request has completed, whether with a response or a failure.
+     *
+     * @param event describing the request
+     */
+    void requestCompleted(RequestEvent event);
+}
@@ -2,6 +2,7 @@ package org.web3j.protocol.parity;
 
 import java.math.BigInteger;
 import java.util.*;
+import java.util.concurrent.Executor;
 
 import org.web3j.crypto.WalletFile;
 import org.web3j.protocol.core.methods.request.Transaction;
@@ -20,12 +21,15 @@ public class JsonRpc2_0Parity extends JsonRpc2_0Web3j implements Parity {
         super(web3jService);
     }
 
+    public JsonRpc2_0Parity(Web3jService web3jService, Executor executor) {
+        super(web3jService, executor);
+    }
+
     @Override
     public Request<?, PersonalSignerEnabled> personalSignerEnabled() {
         return new Request<>(
                 "personal_signerEnabled",
                 Collections.<String>emptyList(),
-                ID,
                 web3jService,
                 PersonalSignerEnabled.class);
     }
@@ -35,7 +39,6 @@ public class JsonRpc2_0Parity extends JsonRpc2_0Web3j implements Parity {
         return new Request<>(
                 "personal_listAccounts",
                 Collections.<String>emptyList(),
-                ID,
                 web3jService,
                 PersonalListAccounts.class);
     }
@@ -45,7 +48,6 @@ public class JsonRpc2_0Parity extends JsonRpc2_0Web3j implements Parity {
         return new Request<>(
                 "personal_newAccount",
                 Arrays.asList(password),
-                ID,
                 web3jService,
                 NewAccountIdentifier.class);
     }
@@ -55,7 +57,6 @@ public class JsonRpc2_0Parity extends JsonRpc2_0Web3j implements Parity {
         return new Request<>(
                 "personal_newAccountFromPhrase",
                 Arrays.asList(phrase, password),
-                ID,
                 web3jService,
                 NewAccountIdentifier.class);
     }
@@ -65,7 +66,6 @@ public class JsonRpc2_0Parity extends JsonRpc2_0Web3j implements Parity {
         return new Request<>(
                 "personal_newAccountFromWallet",
                 Arrays.asList(walletFile, password),
-                ID,
                 web3jService,
                 NewAccountIdentifier.class);
     }
@@ -88,7 +88,6 @@ public class JsonRpc2_0Parity extends JsonRpc2_0Web3j implements Parity {
         return new Request<>(
                 "personal_unlockAccount",
                 attributes,
-                ID,
                 web3jService,
                 PersonalUnlockAccount.class);
     }
@@ -104,7 +103,6 @@ public class JsonRpc2_0Parity extends JsonRpc2_0Web3j implements Parity {
         return new Request<>(
                 "personal_signAndSendTransaction",
                 Arrays.asList(transaction, password),
-                ID,
                 web3jService,
                 EthSendTransaction.class);
     }
@@ -114,7 +112,6 @@ public class JsonRpc2_0Parity extends JsonRpc2_0Web3j implements Parity {
         return new Request<>(
                 "personal_setAccountName",
                 Arrays.asList(accountId, newAccountName),
-                ID,
                 web3jService,
                 VoidResponse.class);
     }
@@ -125,7 +122,6 @@ public class JsonRpc2_0Parity extends JsonRpc2_0Web3j implements Parity {
         return new Request<>(
                 "personal_setAccountMeta",
                 Arrays.asList(accountId, metadata),
-                ID,
                 web3jService,
                 VoidResponse.class);
     }
@@ -135,7 +131,6 @@ public class JsonRpc2_0Parity extends JsonRpc2_0Web3j implements Parity {
         return new Request<>(
                 "personal_accountsInfo",
                 Collections.<String>emptyList(),
-                ID,
                 web3jService,
                 PersonalAccountsInfo.class);
     }
@@ -145,7 +140,6 @@ public class JsonRpc2_0Parity extends JsonRpc2_0Web3j implements Parity {
         return new Request<>(
                 "personal_requestsToConfirm",
                 Collections.<String>emptyList(),
-                ID,
                 web3jService,
                 PersonalRequestsToConfirm.class);
     }
@@ -155,7 +149,6 @@ public class JsonRpc2_0Parity extends JsonRpc2_0Web3j implements Parity {
         return new Request<>(
                 "personal_confirmRequest",
                 Arrays.asList(requestId, transaction, password),
-                ID,
                 web3jService,
                 EthSendTransaction.class);
     }
@@ -165,7 +158,6 @@ public class JsonRpc2_0Parity extends JsonRpc2_0Web3j implements Parity {
         return new Request<>(
                 "personal_rejectRequest",
                 Arrays.asList(requestId),
-                ID,
                 web3jService,
                 PersonalRejectRequest.class);
     }
@@ -2,6 +2,7 @@ package org.web3j.protocol.parity;
 
 import java.math.BigInteger;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 import org.web3j.crypto.WalletFile;
 import org.web3j.protocol.core.methods.request.Transaction;
@@ -18,6 +19,10 @@ public interface Parity extends Web3j {
         return new JsonRpc2_0Parity(web3jService);
     }
 
+    static Parity build(Web3jService web3jService, Executor executor) {
+        return new JsonRpc2_0Parity(web3jService, executor);
+    }
+
     Request<?, PersonalSignerEnabled> personalSignerEnabled();
 
     Request<?, PersonalListAccounts> personalListAccounts();
@@ -0,0 +1,298 @@
+package org.web3j.protocol.streams;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.DefaultBlockParameterNumber;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.methods.response.EthBlock;
+
+/**
+ * A subscriber's subscription to a replay of blocks by number, from {@link FilterStreams}.
+ *
+ * <p>Blocks are fetched asynchronously over a sliding window of at most {@code windowSize}
+ * blocks, in requests of up to {@code batchSize} blocks each, so several requests are in
+ * flight at once. Blocks fetched out of order wait in a reorder buffer until those before them
+ * arrive, and are delivered strictly in order, no more than the subscriber has requested. The
+ * window only advances as blocks are delivered, bounding the blocks held in memory.</p>
+ *
+ * <p>When following the chain, blocks are replayed up to the latest block and then on as new
+ * blocks are reported by a block filter. A new block which is next in line is delivered as is,
+ * others are fetched by number, so no block is skipped or delivered twice.</p>
+ */
+class BlockReplay implements Subscription {
+
+    private static final Logger log = LoggerFactory.getLogger(BlockReplay.class);
+
+    private final Web3j web3j;
+    private final Subscriber<? super EthBlock.Block> subscriber;
+    private final boolean fullTransactionObjects;
+    private final int windowSize;
+    private final int batchSize;
+    private final Executor executor;
+
+    // blocks fetched but not yet delivered, by number
+    private final Map<Long, EthBlock.Block> fetched = new ConcurrentHashMap<>();
+    private final Queue<EthBlock.Block> newBlocks = new ConcurrentLinkedQueue<>();
+    // last block to replay, which advances with new blocks when following the chain
+    private final AtomicLong head;
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicBoolean cancelled = new AtomicBoolean();
+    private volatile boolean following;
+    private volatile Subscription newBlockSubscription;
+    private volatile Throwable error;
+
+    // only accessed while draining
+    private long nextToFetch;
+    private long nextToDeliver;
+    private boolean terminated;
+
+    BlockReplay(Web3j web3j, Subscriber<? super EthBlock.Block> subscriber,
+                long start, long end, boolean following, boolean fullTransactionObjects,
+                int windowSize, int batchSize) {
+        this.web3j = web3j;
+        this.subscriber = subscriber;
+        this.fullTransactionObjects = fullTransactionObjects;
+        this.windowSize = windowSize;
+        this.batchSize = batchSize;
+        this.executor = web3j.getExecutor();
+        this.head = new AtomicLong(end);
+        this.following = following;
+        this.nextToFetch = start;
+        this.nextToDeliver = start;
+    }
+
+    /**
+     * Once the replay reaches the latest block, continue with new blocks as they are published.
+     * Only for replays constructed to follow the chain.
+     *
+     * @param blockStream new blocks, with the same transaction detail as the replay
+     */
+    void follow(Publisher<EthBlock.Block> blockStream) {
+        // subscribe before asking for the latest block, so no block falls in between
+        blockStream.subscribe(new Subscriber<EthBlock.Block>() {
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                newBlockSubscription = subscription;
+                if (cancelled.get()) {
+                    subscription.cancel();
+                } else {
+                    subscription.request(Long.MAX_VALUE);
+                }
+            }
+
+            @Override
+            public void onNext(EthBlock.Block block) {
+                newBlocks.offer(block);
+                drain();
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                BlockReplay.this.onError(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                following = false;
+                drain();
+            }
+        });
+
+        web3j.ethBlockNumber().sendAsync().whenComplete((ethBlockNumber, throwable) -> {
+            if (throwable != null) {
+                onError(throwable);
+            } else if (ethBlockNumber.hasError()) {
+                onError(new IOException(
+                        "eth_blockNumber failed: " + ethBlockNumber.getError().getMessage()));
+            } else {
+                head.accumulateAndGet(ethBlockNumber.getBlockNumber().longValue(), Math::max);
+                drain();
+            }
+        });
+    }
+
+    @Override
+    public void request(long n) {
+        if (n <= 0) {
+            onError(new IllegalArgumentException(
+                    "Subscribers must request a positive number of items, not " + n));
+            cancel();
+            return;
+        }
+        long current;
+        long next;
+        do {
+            current = requested.get();
+            next = current + n < 0 ? Long.MAX_VALUE : current + n;
+        } while (!requested.compareAndSet(current, next));
+        drain();
+    }
+
+    @Override
+    public void cancel() {
+        if (cancelled.compareAndSet(false, true)) {
+            Subscription subscription = newBlockSubscription;
+            if (subscription != null) {
+                subscription.cancel();
+            }
+            drain();
+        }
+    }
+
+    private void onError(Throwable throwable) {
+        if (throwable instanceof CompletionException && throwable.getCause() != null) {
+            throwable = throwable.getCause();
+        }
+        if (cancelled.get()) {
+            return;
+        }
+        if (error == null) {
+            error = throwable;
+        }
+        Subscription subscription = newBlockSubscription;
+        if (subscription != null) {
+            subscription.cancel();
+        }
+        drain();
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() == 0) {
+            executor.execute(this::deliver);
+        }
+    }
+
+    private void deliver() {
+        int missed = 1;
+        do {
+            if (!terminated && error != null) {
+                // errors are delivered ahead of any blocks still buffered
+                terminated = true;
+                subscriber.onError(error);
+            }
+            if (terminated || cancelled.get()) {
+                fetched.clear();
+                newBlocks.clear();
+            } else {
+                adoptNewBlocks();
+
+                long demand = requested.get();
+                long delivered = 0;
+                EthBlock.Block block;
+                while (delivered != demand && !cancelled.get()
+                        && (block = fetched.remove(nextToDeliver)) != null) {
+                    try {
+                        subscriber.onNext(block);
+                    } catch (RuntimeException e) {
+                        log.error("Block replay subscriber failed, cancelling", e);
+                        cancel();
+                    }
+                    nextToDeliver++;
+                    delivered++;
+                }
+                if (delivered != 0 && demand != Long.MAX_VALUE) {
+                    requested.addAndGet(-delivered);
+                }
+
+                if (nextToDeliver > head.get() && !following) {
+                    terminated = true;
+                    subscriber.onComplete();
+                } else {
+                    fetchWindow();
+                }
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void adoptNewBlocks() {
+        EthBlock.Block block;
+        while ((block = newBlocks.poll()) != null) {
+            long number = block.getNumber().longValue();
+            head.accumulateAndGet(number, Math::max);
+            if (number == nextToFetch && nextToFetch < nextToDeliver + windowSize) {
+                fetched.put(number, block);
+                nextToFetch++;
+            }
+            // otherwise it has already been fetched, or will be by number
+        }
+    }
+
+    private void fetchWindow() {
+        long last = Math.min(head.get(), nextToDeliver + windowSize - 1);
+        while (nextToFetch <= last) {
+            long from = nextToFetch;
+            long to = Math.min(last, from + batchSize - 1);
+            fetch(from, to);
+            nextToFetch = to + 1;
+        }
+    }
+
+    private void fetch(long from, long to) {
+        List<Request<?, EthBlock>> requests = new ArrayList<>((int) (to - from + 1));
+        for (long number = from; number <= to; number++) {
+            requests.add(web3j.ethGetBlockByNumber(
+                    new DefaultBlockParameterNumber(BigInteger.valueOf(number)),
+                    fullTransactionObjects));
+        }
+
+        CompletableFuture<List<EthBlock>> responses;
+        if (requests.size() == 1) {
+            responses = requests.get(0).sendAsync().thenApply(Collections::singletonList);
+        } else {
+            BatchRequest batchRequest = web3j.newBatch();
+            requests.forEach(batchRequest::add);
+            responses = batchRequest.sendAsync().thenApply(batchResponse -> {
+                List<EthBlock> ethBlocks = new ArrayList<>(requests.size());
+                for (Request<?, EthBlock> request : requests) {
+                    ethBlocks.add(batchResponse.getResponse(request));
+                }
+                return ethBlocks;
+            });
+        }
+
+        responses.whenComplete((ethBlocks, throwable) -> {
+            if (throwable != null) {
+                onError(throwable);
+                return;
+            }
+            for (int i = 0; i < ethBlocks.size(); i++) {
+                long number = from + i;
+                EthBlock ethBlock = ethBlocks.get(i);
+                if (ethBlock.hasError()) {
+                    onError(new IOException("eth_getBlockByNumber failed for block " + number
+                            + ": " + ethBlock.getError().getMessage()));
+                    return;
+                } else if (!ethBlock.getBlock().isPresent()) {
+                    onError(new IOException("Block " + number + " not found"));
+                    return;
+                }
+                fetched.put(number, ethBlock.getBlock().get());
+            }
+            drain();
+        });
+    }
+}
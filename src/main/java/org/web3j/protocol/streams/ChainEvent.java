@@ -0,0 +1,39 @@
+package org.web3j.protocol.streams;
+
+import org.web3j.protocol.core.methods.response.EthBlock;
+
+/**
+ * A change to the chain tracked by a {@link ChainTracker}: a block added to it, or removed from
+ * it by a reorganisation.
+ */
+public final class ChainEvent {
+
+    public enum Type {
+        /** The block was added to the chain, on top of the previous block applied. */
+        APPLY,
+        /** The block, the latest still applied, was removed from the chain. */
+        ROLLBACK
+    }
+
+    private final Type type;
+    private final EthBlock.Block block;
+
+    ChainEvent(Type type, EthBlock.Block block) {
+        this.type = type;
+        this.block = block;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public EthBlock.Block getBlock() {
+        return block;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ChainEvent(%s %s %s)",
+                type, block.getNumber(), block.getHash());
+    }
+}
@@ -0,0 +1,303 @@
+package org.web3j.protocol.streams;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.methods.response.EthBlock;
+
+/**
+ * Tracks the head of the chain from a stream of new blocks, such as
+ * {@link FilterStreams#blockStream(boolean)}, following reorganisations by each block's parent
+ * hash.
+ *
+ * <p>The latest {@code capacity} blocks of the chain are kept in a ring buffer. A new block
+ * whose parent is not the head is linked to the chain by fetching its ancestors by hash until
+ * one is found in the buffer: the blocks after that common ancestor are rolled back, latest
+ * first, and the new branch applied, earliest first. Blocks the stream skips are filled in the
+ * same way. Until the buffer has filled, the chain before the first block tracked is unknown,
+ * so a branch from before it replaces all the blocks tracked. Once full, a reorganisation
+ * deeper than the buffer cannot be followed, and terminates the tracker with an error; should
+ * fetching an ancestor fail, the new block is passed over and linked along with the next.</p>
+ *
+ * <p>Changes are published as {@link ChainEvent}s by {@link #events()}, to subscribers with a
+ * bounded buffer as for {@link FilterStreams}. Blocks are requested from the stream one at a
+ * time, as each is linked.</p>
+ */
+public class ChainTracker implements Subscriber<EthBlock.Block>, Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(ChainTracker.class);
+
+    public static final int DEFAULT_CAPACITY = 64;
+
+    private final Web3j web3j;
+    private final int capacity;
+    private final boolean fullTransactionObjects;
+    private final int bufferSize;
+
+    private final List<FilterSubscription<ChainEvent>> subscriptions =
+            new CopyOnWriteArrayList<>();
+    private volatile Subscription upstream;
+
+    // guarded by this
+    private final EthBlock.Block[] ring;
+    private long head;
+    private int size;
+    private boolean done;
+    private Throwable error;
+
+    public ChainTracker(Web3j web3j, int capacity, boolean fullTransactionObjects,
+                        int bufferSize) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("bufferSize must be positive");
+        }
+        this.web3j = web3j;
+        this.capacity = capacity;
+        this.fullTransactionObjects = fullTransactionObjects;
+        this.bufferSize = bufferSize;
+        this.ring = new EthBlock.Block[capacity];
+    }
+
+    /**
+     * Track the chain, with the fetched blocks filling any gaps carrying the same transaction
+     * detail as those streamed.
+     *
+     * @param web3j to fetch ancestors of new blocks with
+     * @param fullTransactionObjects whether the blocks streamed include full transactions
+     */
+    public ChainTracker(Web3j web3j, boolean fullTransactionObjects) {
+        this(web3j, DEFAULT_CAPACITY, fullTransactionObjects, FilterStreams.DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Stream changes to the chain from now on. Subscribers are terminated along with the
+     * tracker's stream of blocks.
+     *
+     * @return a publisher of blocks applied to and rolled back from the chain
+     */
+    public Publisher<ChainEvent> events() {
+        return subscriber -> {
+            Objects.requireNonNull(subscriber, "subscriber");
+            FilterSubscription<ChainEvent> subscription = new FilterSubscription<>(
+                    subscriber, web3j.getExecutor(), bufferSize, subscriptions::remove);
+            subscriber.onSubscribe(subscription);
+            synchronized (this) {
+                if (error != null) {
+                    subscription.onError(error);
+                } else if (done) {
+                    subscription.onComplete();
+                } else {
+                    subscriptions.add(subscription);
+                }
+            }
+        };
+    }
+
+    /**
+     * The latest block of the chain.
+     *
+     * @return the head, or empty if no block has been tracked yet
+     */
+    public synchronized Optional<EthBlock.Block> getHead() {
+        return getConfirmedBlock(0);
+    }
+
+    /**
+     * The block with a given number of blocks built on it, which would take a reorganisation
+     * at least that deep to remove.
+     *
+     * @param confirmations blocks after it on the chain, less than the capacity
+     * @return the block, or empty if fewer blocks have been tracked
+     */
+    public synchronized Optional<EthBlock.Block> getConfirmedBlock(int confirmations) {
+        if (confirmations < 0 || confirmations >= capacity) {
+            throw new IllegalArgumentException(
+                    "confirmations must be between 0 and " + (capacity - 1));
+        }
+        if (confirmations >= size) {
+            return Optional.empty();
+        }
+        return Optional.of(ring[index(head - confirmations)]);
+    }
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+        if (upstream != null) {
+            // only a single stream of blocks can be tracked
+            subscription.cancel();
+            return;
+        }
+        upstream = subscription;
+        subscription.request(1);
+    }
+
+    @Override
+    public void onNext(EthBlock.Block block) {
+        Deque<EthBlock.Block> branch = new ArrayDeque<>();
+        branch.add(block);
+        link(branch).whenComplete((ignored, throwable) -> {
+            if (throwable != null) {
+                if (throwable instanceof CompletionException && throwable.getCause() != null) {
+                    throwable = throwable.getCause();
+                }
+                log.warn("Failed to link block {} to the chain, passing it over",
+                        block.getHash(), throwable);
+            }
+            boolean terminated;
+            synchronized (this) {
+                terminated = done;
+            }
+            if (!terminated) {
+                upstream.request(1);
+            }
+        });
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        terminate(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        terminate(null);
+    }
+
+    /**
+     * Stop tracking, cancelling the stream of blocks and completing subscribers to events.
+     */
+    @Override
+    public void close() {
+        terminate(null);
+        Subscription subscription = upstream;
+        if (subscription != null) {
+            subscription.cancel();
+        }
+    }
+
+    /**
+     * Link a branch of blocks to the chain, fetching the parent of the earliest until it is
+     * one of the blocks tracked.
+     */
+    private CompletableFuture<Void> link(Deque<EthBlock.Block> branch) {
+        EthBlock.Block earliest = branch.getFirst();
+        long number = earliest.getNumber().longValue();
+        synchronized (this) {
+            if (done) {
+                return CompletableFuture.completedFuture(null);
+            } else if (branch.size() == 1 && isTracked(number, earliest.getHash())) {
+                // reported again
+                return CompletableFuture.completedFuture(null);
+            } else if (size == 0 || isTracked(number - 1, earliest.getParentHash())) {
+                apply(branch);
+                return CompletableFuture.completedFuture(null);
+            } else if (number - 1 < head - size + 1) {
+                if (size < capacity) {
+                    // branching from before the first block tracked, rolling all of them back
+                    apply(branch);
+                } else {
+                    terminateAfterCancelling(new IOException("Chain reorganisation at block "
+                            + earliest.getHash() + " is deeper than the " + capacity
+                            + " blocks tracked"));
+                }
+                return CompletableFuture.completedFuture(null);
+            } else if (branch.size() >= capacity) {
+                terminateAfterCancelling(new IOException("Block " + branch.getLast().getHash()
+                        + " is more than " + capacity + " blocks from the tracked chain"));
+                return CompletableFuture.completedFuture(null);
+            }
+        }
+
+        String parentHash = earliest.getParentHash();
+        return web3j.ethGetBlockByHash(parentHash, fullTransactionObjects).sendAsync()
+                .thenCompose(ethBlock -> {
+                    if (ethBlock.hasError()) {
+                        throw new CompletionException(new IOException(
+                                "eth_getBlockByHash failed for block " + parentHash + ": "
+                                        + ethBlock.getError().getMessage()));
+                    } else if (!ethBlock.getBlock().isPresent()) {
+                        throw new CompletionException(
+                                new IOException("Block " + parentHash + " not found"));
+                    }
+                    branch.addFirst(ethBlock.getBlock().get());
+                    return link(branch);
+                });
+    }
+
+    private boolean isTracked(long number, String hash) {
+        return size > 0 && number <= head && number > head - size
+                && ring[index(number)].getHash().equals(hash);
+    }
+
+    /**
+     * Roll back the blocks the branch replaces, and apply it.
+     */
+    private void apply(Deque<EthBlock.Block> branch) {
+        long first = branch.getFirst().getNumber().longValue();
+        while (size > 0 && head >= first) {
+            EthBlock.Block block = ring[index(head)];
+            ring[index(head)] = null;
+            head--;
+            size--;
+            publish(new ChainEvent(ChainEvent.Type.ROLLBACK, block));
+        }
+        for (EthBlock.Block block : branch) {
+            head = block.getNumber().longValue();
+            ring[index(head)] = block;
+            size = Math.min(size + 1, capacity);
+            publish(new ChainEvent(ChainEvent.Type.APPLY, block));
+        }
+    }
+
+    private void publish(ChainEvent event) {
+        for (FilterSubscription<ChainEvent> subscription : subscriptions) {
+            subscription.onNext(event);
+        }
+    }
+
+    private int index(long number) {
+        return (int) (number % capacity);
+    }
+
+    private void terminateAfterCancelling(Throwable throwable) {
+        log.error("Chain tracking failed", throwable);
+        Subscription subscription = upstream;
+        if (subscription != null) {
+            subscription.cancel();
+        }
+        terminate(throwable);
+    }
+
+    private synchronized void terminate(Throwable throwable) {
+        if (done) {
+            return;
+        }
+        done = true;
+        error = throwable;
+        for (FilterSubscription<ChainEvent> subscription : subscriptions) {
+            if (throwable != null) {
+                subscription.onError(throwable);
+            } else {
+                subscription.onComplete();
+            }
+        }
+        subscriptions.clear();
+    }
+}
@@ -0,0 +1,236 @@
+package org.web3j.protocol.streams;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthLog;
+import org.web3j.protocol.exceptions.BatchRejectedException;
+import org.web3j.utils.Numeric;
+
+/**
+ * Polls a single filter installed on the node on behalf of all the subscribers to a stream,
+ * installing it for the first subscriber and uninstalling it once the last has cancelled.
+ *
+ * <p>Pollers are only ever accessed from the polling thread of their {@link FilterStreams}.</p>
+ *
+ * @param <T> item type
+ */
+abstract class FilterPoller<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(FilterPoller.class);
+
+    // polls in a row which may fail to process the same changes before subscribers are failed
+    static final int MAX_PROCESSING_ATTEMPTS = 5;
+
+    final Web3j web3j;
+
+    private final List<FilterSubscription<T>> subscriptions = new ArrayList<>();
+    private BigInteger filterId;
+    // changes received but not yet processed, owing to a failure fetching their details
+    private List<EthLog.LogResult> unprocessed = Collections.emptyList();
+    private int failedAttempts;
+
+    FilterPoller(Web3j web3j) {
+        this.web3j = web3j;
+    }
+
+    /**
+     * Install the filter on the node.
+     *
+     * @return the new filter's id
+     * @throws IOException if the filter could not be installed
+     */
+    abstract BigInteger installFilter() throws IOException;
+
+    /**
+     * Convert the filter's changes into the items to deliver, fetching any details required.
+     *
+     * @param changes block or transaction hashes, or logs, in the order reported by the node
+     * @return items to deliver
+     * @throws IOException if any details could not be fetched
+     */
+    abstract List<T> process(List<EthLog.LogResult> changes) throws IOException;
+
+    boolean isEmpty() {
+        return subscriptions.isEmpty();
+    }
+
+    void add(FilterSubscription<T> subscription) {
+        if (subscription.isCancelled()) {
+            return;
+        }
+        if (filterId == null) {
+            try {
+                filterId = installFilter();
+            } catch (IOException e) {
+                subscription.onError(e);
+                return;
+            }
+        }
+        subscriptions.add(subscription);
+    }
+
+    /**
+     * Remove a subscriber, uninstalling the filter if it was the last.
+     *
+     * @return whether there are no subscribers left
+     */
+    boolean remove(FilterSubscription<T> subscription) {
+        subscriptions.remove(subscription);
+        if (subscriptions.isEmpty()) {
+            uninstallFilter();
+            return true;
+        }
+        return false;
+    }
+
+    void complete() {
+        for (FilterSubscription<T> subscription : subscriptions) {
+            subscription.onComplete();
+        }
+        subscriptions.clear();
+        uninstallFilter();
+    }
+
+    void poll() {
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+        for (FilterSubscription<T> subscription : subscriptions) {
+            if (subscription.isBacklogged()) {
+                // changes are left on the node until the subscriber catches up
+                return;
+            }
+        }
+
+        try {
+            if (filterId == null) {
+                filterId = installFilter();
+            }
+            EthLog ethLog = web3j.ethGetFilterChanges(filterId).send();
+            if (ethLog.hasError()) {
+                // most likely the node has dropped the filter, which happens if it goes unpolled
+                // for some minutes or the node restarts, so any changes in between are missed
+                log.warn("Reinstalling filter {} after error: {}",
+                        filterId, ethLog.getError().getMessage());
+                filterId = null;
+                filterId = installFilter();
+                return;
+            }
+
+            List<EthLog.LogResult> changes = unprocessed;
+            if (ethLog.getLogs() != null && !ethLog.getLogs().isEmpty()) {
+                changes = new ArrayList<>(unprocessed);
+                changes.addAll(ethLog.getLogs());
+            }
+            if (changes.isEmpty()) {
+                return;
+            }
+            unprocessed = changes;
+            List<T> items;
+            try {
+                items = process(changes);
+            } catch (IOException e) {
+                processingFailed(e);
+                return;
+            }
+            unprocessed = Collections.emptyList();
+            failedAttempts = 0;
+
+            for (FilterSubscription<T> subscription : subscriptions) {
+                for (T item : items) {
+                    subscription.onNext(item);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Failed to poll filter {}, retrying", filterId, e);
+        }
+    }
+
+    /**
+     * Keep the changes to process along with the next poll's, unless they have failed too many
+     * times already, in which case subscribers are failed rather than left waiting on them.
+     */
+    private void processingFailed(IOException e) {
+        if (++failedAttempts < MAX_PROCESSING_ATTEMPTS) {
+            log.warn("Failed to process changes to filter {}, retrying", filterId, e);
+            return;
+        }
+        log.error("Failed to process changes to filter {} after {} attempts",
+                filterId, failedAttempts, e);
+        for (FilterSubscription<T> subscription : subscriptions) {
+            subscription.onError(e);
+        }
+        subscriptions.clear();
+        uninstallFilter();
+    }
+
+    private void uninstallFilter() {
+        if (filterId != null) {
+            try {
+                web3j.ethUninstallFilter(filterId).send();
+            } catch (IOException e) {
+                log.debug("Failed to uninstall filter {}", filterId, e);
+            }
+            filterId = null;
+        }
+        unprocessed = Collections.emptyList();
+        failedAttempts = 0;
+    }
+
+    static BigInteger filterId(Response<String> response) throws IOException {
+        if (response.hasError()) {
+            throw new IOException("Failed to install filter: " + response.getError().getMessage());
+        }
+        return Numeric.decodeQuantity(response.getResult());
+    }
+
+    /**
+     * Send the given requests in a single batch, or one at a time should the node refuse the
+     * batch.
+     *
+     * @return the responses, in the order of the requests
+     * @throws IOException if the batch could not be sent, or any request failed
+     */
+    static <R extends Response<?>> List<R> sendBatch(
+            Web3j web3j, List<Request<?, R>> requests) throws IOException {
+        if (requests.isEmpty()) {
+            return Collections.emptyList();
+        }
+        BatchRequest batchRequest = web3j.newBatch();
+        for (Request<?, R> request : requests) {
+            batchRequest.add(request);
+        }
+        BatchResponse batchResponse;
+        try {
+            batchResponse = batchRequest.send();
+        } catch (BatchRejectedException | UnsupportedOperationException e) {
+            // the node answered with a single error, so none of the requests were processed
+            log.debug("Batch refused, sending its {} requests individually", requests.size(), e);
+            batchResponse = null;
+        }
+
+        List<R> responses = new ArrayList<>(requests.size());
+        for (Request<?, R> request : requests) {
+            R response = batchResponse != null
+                    ? batchResponse.getResponse(request) : request.send();
+            if (response.hasError()) {
+                throw new IOException(request.getMethod() + " failed: "
+                        + response.getError().getMessage());
+            }
+            responses.add(response);
+        }
+        return responses;
+    }
+}
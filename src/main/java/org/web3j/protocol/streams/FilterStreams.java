@@ -0,0 +1,400 @@
+package org.web3j.protocol.streams;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.web3j.protocol.ObjectMapperFactory;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.methods.request.EthFilter;
+import org.web3j.protocol.core.methods.response.EthBlock;
+import org.web3j.protocol.core.methods.response.EthLog;
+import org.web3j.protocol.core.methods.response.EthTransaction;
+import org.web3j.protocol.core.methods.response.Log;
+import org.web3j.protocol.core.methods.response.Transaction;
+import org.web3j.protocol.exceptions.MessageEncodingException;
+
+/**
+ * Streams of new blocks, pending transactions and logs, built on filters installed on the node
+ * and polled for their changes.
+ *
+ * <p>Streams are Reactive Streams {@link Publisher}s, so they can be consumed directly or
+ * adapted by a library such as RxJava or Reactor. All subscribers to the same stream share a
+ * single filter, installed for the first subscriber and uninstalled once the last cancels.
+ * All filters are polled on a single thread; items are delivered on the executor of the
+ * {@link Web3j} instance, no more than each subscriber has requested.</p>
+ *
+ * <p>Polling holds off while any subscriber to a stream has more than half of its buffer
+ * filled with items it has yet to request, leaving the changes on the node. A subscriber whose
+ * buffer is nonetheless overrun, or which falls far enough behind that the node drops the
+ * filter, may miss items: the former is terminated with an error, the latter is not
+ * notified. Should fetching the blocks or transactions of the changes fail several polls in a
+ * row, subscribers are terminated with the error. Nodes refusing batches of these requests are
+ * sent them one at a time.</p>
+ *
+ * <p>Only changes after a subscriber has subscribed are delivered. Past blocks can be replayed
+ * in order with {@link #replayBlocks(BigInteger, BigInteger, boolean)}, fetching several
+ * blocks at once, and followed on to new blocks with
+ * {@link #replayPastAndFutureBlocks(BigInteger, boolean)}.</p>
+ */
+public class FilterStreams implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(FilterStreams.class);
+
+    public static final long DEFAULT_POLLING_INTERVAL_MILLIS = 1_000;
+    public static final int DEFAULT_BUFFER_SIZE = 1024;
+    public static final int DEFAULT_REPLAY_WINDOW_SIZE = 128;
+    public static final int DEFAULT_REPLAY_BATCH_SIZE = 16;
+
+    private final Web3j web3j;
+    private final int bufferSize;
+    private final ScheduledExecutorService scheduler;
+
+    // only accessed from the scheduler's thread
+    private final Map<String, FilterPoller<?>> pollers = new HashMap<>();
+
+    public FilterStreams(Web3j web3j, long pollingIntervalMillis, int bufferSize) {
+        if (pollingIntervalMillis <= 0) {
+            throw new IllegalArgumentException("pollingIntervalMillis must be positive");
+        }
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("bufferSize must be positive");
+        }
+        this.web3j = web3j;
+        this.bufferSize = bufferSize;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "web3j-filter-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::poll,
+                pollingIntervalMillis, pollingIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public FilterStreams(Web3j web3j) {
+        this(web3j, DEFAULT_POLLING_INTERVAL_MILLIS, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Stream new blocks as they are added to the chain, from eth_newBlockFilter.
+     *
+     * @param fullTransactionObjects whether to include full transactions, rather than their
+     *                               hashes
+     * @return a publisher of new blocks
+     */
+    public Publisher<EthBlock.Block> blockStream(boolean fullTransactionObjects) {
+        return new FilterPublisher<>(
+                "blocks:" + fullTransactionObjects,
+                () -> new BlockPoller(web3j, fullTransactionObjects));
+    }
+
+    /**
+     * Stream transactions as they are received by the node, from
+     * eth_newPendingTransactionFilter. Transactions dropped by the node before they could be
+     * fetched are skipped.
+     *
+     * @return a publisher of pending transactions
+     */
+    public Publisher<Transaction> pendingTransactionStream() {
+        return new FilterPublisher<>(
+                "pendingTransactions", () -> new PendingTransactionPoller(web3j));
+    }
+
+    /**
+     * Stream logs matching a filter, from eth_newFilter. Logs of blocks removed from the chain
+     * by a reorganisation are delivered again, flagged as removed.
+     *
+     * @param ethFilter logs to stream, subscribers to equal filters share a single filter on
+     *                  the node
+     * @return a publisher of logs
+     */
+    public Publisher<Log> logStream(EthFilter ethFilter) {
+        String key;
+        try {
+            key = "logs:" + ObjectMapperFactory.getObjectMapper().writeValueAsString(ethFilter);
+        } catch (JsonProcessingException e) {
+            throw new MessageEncodingException("Invalid filter: " + ethFilter, e);
+        }
+        return new FilterPublisher<>(key, () -> new LogPoller(web3j, ethFilter));
+    }
+
+    /**
+     * Replay past blocks in order, fetching up to {@link #DEFAULT_REPLAY_WINDOW_SIZE} blocks
+     * ahead in batches of {@link #DEFAULT_REPLAY_BATCH_SIZE}.
+     *
+     * @see #replayBlocks(BigInteger, BigInteger, boolean, int, int)
+     */
+    public Publisher<EthBlock.Block> replayBlocks(
+            BigInteger start, BigInteger end, boolean fullTransactionObjects) {
+        return replayBlocks(start, end, fullTransactionObjects,
+                DEFAULT_REPLAY_WINDOW_SIZE, DEFAULT_REPLAY_BATCH_SIZE);
+    }
+
+    /**
+     * Replay past blocks, delivering them strictly in order of block number. Blocks are fetched
+     * in parallel, with several requests in flight at once, and blocks arriving out of order
+     * are held until those before them arrive. A failure to fetch any block terminates the
+     * replay with an error.
+     *
+     * @param start number of the first block
+     * @param end number of the last block, inclusive
+     * @param fullTransactionObjects whether to include full transactions, rather than their
+     *                               hashes
+     * @param windowSize maximum number of blocks fetched ahead of the subscriber, which bounds
+     *                   the memory used
+     * @param batchSize number of blocks per request, sent as a JSON-RPC batch if more than one
+     * @return a publisher of the blocks, which completes after the last
+     */
+    public Publisher<EthBlock.Block> replayBlocks(
+            BigInteger start, BigInteger end, boolean fullTransactionObjects,
+            int windowSize, int batchSize) {
+        checkReplayArguments(start, windowSize, batchSize);
+        if (end.compareTo(start) < 0) {
+            throw new IllegalArgumentException("end must not be before start");
+        }
+        return subscriber -> {
+            Objects.requireNonNull(subscriber, "subscriber");
+            subscriber.onSubscribe(new BlockReplay(
+                    web3j, subscriber, start.longValue(), end.longValue(), false,
+                    fullTransactionObjects, windowSize, batchSize));
+        };
+    }
+
+    /**
+     * Replay past blocks, then continue with new blocks as they are added to the chain.
+     *
+     * @see #replayPastAndFutureBlocks(BigInteger, boolean, int, int)
+     */
+    public Publisher<EthBlock.Block> replayPastAndFutureBlocks(
+            BigInteger start, boolean fullTransactionObjects) {
+        return replayPastAndFutureBlocks(start, fullTransactionObjects,
+                DEFAULT_REPLAY_WINDOW_SIZE, DEFAULT_REPLAY_BATCH_SIZE);
+    }
+
+    /**
+     * Replay past blocks up to the latest, as with
+     * {@link #replayBlocks(BigInteger, BigInteger, boolean, int, int)}, then continue with new
+     * blocks from {@link #blockStream(boolean)}. Every block from the start on is delivered
+     * exactly once and in order of block number: new blocks reported while catching up, or
+     * skipped over by the block filter, are fetched by number. Blocks replaced by a
+     * reorganisation after being delivered are not delivered again.
+     *
+     * @param start number of the first block
+     * @param fullTransactionObjects whether to include full transactions, rather than their
+     *                               hashes
+     * @param windowSize maximum number of blocks fetched ahead of the subscriber
+     * @param batchSize number of blocks per request while catching up
+     * @return a publisher of the blocks, which completes only once these streams are closed
+     */
+    public Publisher<EthBlock.Block> replayPastAndFutureBlocks(
+            BigInteger start, boolean fullTransactionObjects, int windowSize, int batchSize) {
+        checkReplayArguments(start, windowSize, batchSize);
+        return subscriber -> {
+            Objects.requireNonNull(subscriber, "subscriber");
+            BlockReplay replay = new BlockReplay(
+                    web3j, subscriber, start.longValue(), start.longValue() - 1, true,
+                    fullTransactionObjects, windowSize, batchSize);
+            subscriber.onSubscribe(replay);
+            replay.follow(blockStream(fullTransactionObjects));
+        };
+    }
+
+    /**
+     * Complete all subscriptions once they have been delivered the items already polled,
+     * uninstall their filters and stop polling.
+     */
+    @Override
+    public void close() {
+        try {
+            scheduler.execute(() -> {
+                for (FilterPoller<?> poller : pollers.values()) {
+                    poller.complete();
+                }
+                pollers.clear();
+            });
+        } catch (RejectedExecutionException e) {
+            // already closed
+        }
+        scheduler.shutdown();
+    }
+
+    private static void checkReplayArguments(BigInteger start, int windowSize, int batchSize) {
+        if (start.signum() < 0) {
+            throw new IllegalArgumentException("start must not be negative");
+        }
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("windowSize must be positive");
+        }
+        if (batchSize <= 0 || batchSize > windowSize) {
+            throw new IllegalArgumentException("batchSize must be positive, and within windowSize");
+        }
+    }
+
+    private void poll() {
+        for (FilterPoller<?> poller : new ArrayList<>(pollers.values())) {
+            try {
+                poller.poll();
+            } catch (RuntimeException e) {
+                // thrown out of a scheduled task, it would stop all polling
+                log.error("Failed to poll filter", e);
+            }
+            if (poller.isEmpty()) {
+                // its subscribers have been failed
+                pollers.values().remove(poller);
+            }
+        }
+    }
+
+    private class FilterPublisher<T> implements Publisher<T> {
+
+        private final String key;
+        private final Supplier<FilterPoller<T>> pollerFactory;
+
+        FilterPublisher(String key, Supplier<FilterPoller<T>> pollerFactory) {
+            this.key = key;
+            this.pollerFactory = pollerFactory;
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super T> subscriber) {
+            if (subscriber == null) {
+                throw new NullPointerException("subscriber");
+            }
+            FilterSubscription<T> subscription = new FilterSubscription<>(
+                    subscriber, web3j.getExecutor(), bufferSize,
+                    cancelled -> execute(() -> {
+                        FilterPoller<T> poller = poller(false);
+                        if (poller != null && poller.remove(cancelled)) {
+                            pollers.remove(key);
+                        }
+                    }));
+
+            subscriber.onSubscribe(subscription);
+            boolean subscribed = execute(() -> {
+                FilterPoller<T> poller = poller(true);
+                poller.add(subscription);
+                if (poller.isEmpty()) {
+                    pollers.remove(key);
+                }
+            });
+            if (!subscribed) {
+                subscription.onError(new IOException("Filter streams have been closed"));
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private FilterPoller<T> poller(boolean create) {
+            FilterPoller<T> poller = (FilterPoller<T>) pollers.get(key);
+            if (poller == null && create) {
+                poller = pollerFactory.get();
+                pollers.put(key, poller);
+            }
+            return poller;
+        }
+    }
+
+    private boolean execute(Runnable task) {
+        try {
+            scheduler.execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    private static class BlockPoller extends FilterPoller<EthBlock.Block> {
+
+        private final boolean fullTransactionObjects;
+
+        BlockPoller(Web3j web3j, boolean fullTransactionObjects) {
+            super(web3j);
+            this.fullTransactionObjects = fullTransactionObjects;
+        }
+
+        @Override
+        BigInteger installFilter() throws IOException {
+            return filterId(web3j.ethNewBlockFilter().send());
+        }
+
+        @Override
+        List<EthBlock.Block> process(List<EthLog.LogResult> changes) throws IOException {
+            List<Request<?, EthBlock>> requests = new ArrayList<>(changes.size());
+            for (EthLog.LogResult change : changes) {
+                requests.add(web3j.ethGetBlockByHash(
+                        (String) change.get(), fullTransactionObjects));
+            }
+            List<EthBlock.Block> blocks = new ArrayList<>(changes.size());
+            for (EthBlock ethBlock : sendBatch(web3j, requests)) {
+                // absent if the block has since been removed from the chain
+                ethBlock.getBlock().ifPresent(blocks::add);
+            }
+            return blocks;
+        }
+    }
+
+    private static class PendingTransactionPoller extends FilterPoller<Transaction> {
+
+        PendingTransactionPoller(Web3j web3j) {
+            super(web3j);
+        }
+
+        @Override
+        BigInteger installFilter() throws IOException {
+            return filterId(web3j.ethNewPendingTransactionFilter().send());
+        }
+
+        @Override
+        List<Transaction> process(List<EthLog.LogResult> changes) throws IOException {
+            List<Request<?, EthTransaction>> requests = new ArrayList<>(changes.size());
+            for (EthLog.LogResult change : changes) {
+                requests.add(web3j.ethGetTransactionByHash((String) change.get()));
+            }
+            List<Transaction> transactions = new ArrayList<>(changes.size());
+            for (EthTransaction ethTransaction : sendBatch(web3j, requests)) {
+                ethTransaction.getTransaction().ifPresent(transactions::add);
+            }
+            return transactions;
+        }
+    }
+
+    private static class LogPoller extends FilterPoller<Log> {
+
+        private final EthFilter ethFilter;
+
+        LogPoller(Web3j web3j, EthFilter ethFilter) {
+            super(web3j);
+            this.ethFilter = ethFilter;
+        }
+
+        @Override
+        BigInteger installFilter() throws IOException {
+            return filterId(web3j.ethNewFilter(ethFilter).send());
+        }
+
+        @Override
+        List<Log> process(List<EthLog.LogResult> changes) {
+            List<Log> logs = new ArrayList<>(changes.size());
+            for (EthLog.LogResult change : changes) {
+                logs.add((Log) change.get());
+            }
+            return logs;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package org.web3j.protocol.streams;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A subscriber's subscription to a {@link FilterStreams} stream.
+ *
+ * <p>Items polled from the node are buffered per subscription and delivered serially on the
+ * given executor, no more than the subscriber has requested. The buffer is bounded: a
+ * subscriber which falls behind by more than its capacity is terminated with an error rather
+ * than buffering without limit.</p>
+ *
+ * @param <T> item type
+ */
+class FilterSubscription<T> implements Subscription {
+
+    private static final Logger log = LoggerFactory.getLogger(FilterSubscription.class);
+
+    private final Subscriber<? super T> subscriber;
+    private final Executor executor;
+    private final Queue<T> buffer;
+    private final int bufferSize;
+    private final Consumer<FilterSubscription<T>> onCancel;
+
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicBoolean cancelled = new AtomicBoolean();
+    private volatile boolean done;
+    private volatile Throwable error;
+    private boolean terminated;  // only accessed while delivering
+
+    FilterSubscription(Subscriber<? super T> subscriber, Executor executor, int bufferSize,
+                       Consumer<FilterSubscription<T>> onCancel) {
+        this.subscriber = subscriber;
+        this.executor = executor;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.bufferSize = bufferSize;
+        this.onCancel = onCancel;
+    }
+
+    @Override
+    public void request(long n) {
+        if (n <= 0) {
+            onError(new IllegalArgumentException(
+                    "Subscribers must request a positive number of items, not " + n));
+            cancel();
+            return;
+        }
+        long current;
+        long next;
+        do {
+            current = requested.get();
+            next = current + n < 0 ? Long.MAX_VALUE : current + n;
+        } while (!requested.compareAndSet(current, next));
+        drain();
+    }
+
+    @Override
+    public void cancel() {
+        if (cancelled.compareAndSet(false, true)) {
+            onCancel.accept(this);
+            drain();
+        }
+    }
+
+    boolean isCancelled() {
+        return cancelled.get();
+    }
+
+    /**
+     * Whether more than half of the buffer is taken up by items the subscriber has yet to
+     * request, in which case the poller holds off fetching any more.
+     */
+    boolean isBacklogged() {
+        return buffer.size() > bufferSize / 2;
+    }
+
+    void onNext(T item) {
+        if (done || cancelled.get()) {
+            return;
+        }
+        if (!buffer.offer(item)) {
+            log.warn("Filter subscriber exceeded its buffer of {} items, cancelling", bufferSize);
+            onError(new IOException(
+                    "Subscriber cannot keep up, more than " + bufferSize + " items buffered"));
+            cancel();
+            return;
+        }
+        drain();
+    }
+
+    void onError(Throwable throwable) {
+        if (done) {
+            return;
+        }
+        error = throwable;
+        done = true;
+        drain();
+    }
+
+    void onComplete() {
+        if (done) {
+            return;
+        }
+        done = true;
+        drain();
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() == 0) {
+            executor.execute(this::deliver);
+        }
+    }
+
+    private void deliver() {
+        int missed = 1;
+        do {
+            if (cancelled.get() && error == null) {
+                buffer.clear();
+            } else if (error != null) {
+                // errors are delivered ahead of any items still buffered
+                buffer.clear();
+                if (!terminated) {
+                    terminated = true;
+                    subscriber.onError(error);
+                }
+            } else {
+                long demand = requested.get();
+                long delivered = 0;
+                T item;
+                while (delivered != demand && !cancelled.get()
+                        && (item = buffer.poll()) != null) {
+                    try {
+                        subscriber.onNext(item);
+                    } catch (RuntimeException e) {
+                        log.error("Filter subscriber failed, cancelling", e);
+                        cancel();
+                    }
+                    delivered++;
+                }
+                if (delivered != 0 && demand != Long.MAX_VALUE) {
+                    requested.addAndGet(-delivered);
+                }
+                if (done && buffer.isEmpty() && !cancelled.get() && !terminated) {
+                    terminated = true;
+                    subscriber.onComplete();
+                }
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+}
@@ -0,0 +1,344 @@
+package org.web3j.protocol.streams;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.SocketTimeoutException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameterNumber;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.request.EthFilter;
+import org.web3j.protocol.core.methods.response.EthLog;
+import org.web3j.protocol.core.methods.response.Log;
+
+/**
+ * A subscriber's subscription to a scan for logs, from {@link LogScanner}.
+ *
+ * <p>Chunks of the block range are requested in order, and their responses gathered on the
+ * draining thread: chunks refused for returning too many results are split in two and queued to
+ * be requested again ahead of any new chunks, while completed chunks wait in a reorder buffer,
+ * keyed by their first block, until the chunks before them have been delivered.</p>
+ */
+class LogScan implements Subscription {
+
+    private static final Logger log = LoggerFactory.getLogger(LogScan.class);
+
+    // chunks returning fewer logs than this grow
+    static final int SPARSE_LOG_COUNT = 1_000;
+    // after a chunk is refused, sparse chunks to go before growing again
+    static final int GROWTH_HOLD = 8;
+
+    private static final Comparator<Log> LOG_ORDER = Comparator
+            .comparing((Log item) -> item.getBlockNumber().orElse(BigInteger.ZERO))
+            .thenComparing(item -> item.getLogIndex().orElse(BigInteger.ZERO));
+
+    private final Web3j web3j;
+    private final Subscriber<? super Log> subscriber;
+    private final EthFilter filter;
+    private final int concurrency;
+    private final long maxChunkSize;
+    private final Executor executor;
+
+    private final Queue<Chunk> responses = new ConcurrentLinkedQueue<>();
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicBoolean cancelled = new AtomicBoolean();
+    private volatile Throwable error;
+    // the range of blocks, once resolved
+    private volatile long start = -1;
+    private volatile long end = -1;
+
+    // only accessed while draining
+    private final TreeMap<Long, Chunk> fetched = new TreeMap<>();
+    private final TreeMap<Long, Long> retries = new TreeMap<>();
+    private final Queue<Log> delivering = new ArrayDeque<>();
+    private long chunkSize;
+    private int growthHold;
+    private long nextToFetch = -1;
+    private long nextToDeliver;
+    private int inFlight;
+    private boolean terminated;
+
+    LogScan(Web3j web3j, Subscriber<? super Log> subscriber, EthFilter filter,
+            int concurrency, long initialChunkSize, long maxChunkSize) {
+        this.web3j = web3j;
+        this.subscriber = subscriber;
+        this.filter = filter;
+        this.concurrency = concurrency;
+        this.chunkSize = initialChunkSize;
+        this.maxChunkSize = maxChunkSize;
+        this.executor = web3j.getExecutor();
+    }
+
+    /**
+     * Start scanning, first resolving the latest block if needed.
+     *
+     * @param from first block, or -1 for the latest
+     * @param to last block, or -1 for the latest
+     */
+    void start(long from, long to) {
+        if (from >= 0 && to >= 0) {
+            resolve(from, to);
+            return;
+        }
+        web3j.ethBlockNumber().sendAsync().whenComplete((ethBlockNumber, throwable) -> {
+            if (throwable != null) {
+                onError(throwable);
+            } else if (ethBlockNumber.hasError()) {
+                onError(new IOException(
+                        "eth_blockNumber failed: " + ethBlockNumber.getError().getMessage()));
+            } else {
+                long latest = ethBlockNumber.getBlockNumber().longValue();
+                resolve(from >= 0 ? from : latest, to >= 0 ? to : latest);
+            }
+        });
+    }
+
+    private void resolve(long from, long to) {
+        end = to;
+        start = from;
+        drain();
+    }
+
+    @Override
+    public void request(long n) {
+        if (n <= 0) {
+            onError(new IllegalArgumentException(
+                    "Subscribers must request a positive number of items, not " + n));
+            cancel();
+            return;
+        }
+        long current;
+        long next;
+        do {
+            current = requested.get();
+            next = current + n < 0 ? Long.MAX_VALUE : current + n;
+        } while (!requested.compareAndSet(current, next));
+        drain();
+    }
+
+    @Override
+    public void cancel() {
+        if (cancelled.compareAndSet(false, true)) {
+            drain();
+        }
+    }
+
+    private void onError(Throwable throwable) {
+        if (throwable instanceof CompletionException && throwable.getCause() != null) {
+            throwable = throwable.getCause();
+        }
+        if (!cancelled.get() && error == null) {
+            error = throwable;
+        }
+        drain();
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() == 0) {
+            executor.execute(this::deliver);
+        }
+    }
+
+    private void deliver() {
+        int missed = 1;
+        do {
+            if (!terminated && !cancelled.get()) {
+                if (nextToFetch < 0 && start >= 0) {
+                    nextToFetch = start;
+                    nextToDeliver = start;
+                }
+                gatherResponses();
+            }
+            if (!terminated && error != null && !cancelled.get()) {
+                terminated = true;
+                subscriber.onError(error);
+            }
+            if (terminated || cancelled.get()) {
+                fetched.clear();
+                retries.clear();
+                delivering.clear();
+                responses.clear();
+            } else if (nextToFetch >= 0) {
+                deliverLogs();
+                if (delivering.isEmpty() && nextToDeliver > end) {
+                    terminated = true;
+                    subscriber.onComplete();
+                } else {
+                    fetchChunks();
+                }
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void gatherResponses() {
+        Chunk chunk;
+        while ((chunk = responses.poll()) != null) {
+            inFlight--;
+            if (chunk.logs != null) {
+                fetched.put(chunk.from, chunk);
+                if (chunk.logs.size() < SPARSE_LOG_COUNT && chunk.size() >= chunkSize) {
+                    grow();
+                }
+            } else if (chunk.from == chunk.to) {
+                onError(new IOException(
+                        "Too many logs in block " + chunk.from + " to request them"));
+            } else {
+                long half = chunk.size() / 2;
+                retries.put(chunk.from, chunk.from + half - 1);
+                retries.put(chunk.from + half, chunk.to);
+                chunkSize = Math.max(1, Math.min(chunkSize, half));
+                growthHold = GROWTH_HOLD;
+            }
+        }
+    }
+
+    private void grow() {
+        // a node whose limit is below what counts as sparse would otherwise refuse every
+        // other chunk, as the size oscillates around it
+        if (growthHold > 0) {
+            growthHold--;
+        } else {
+            chunkSize = Math.min(maxChunkSize, chunkSize * 2);
+        }
+    }
+
+    private void deliverLogs() {
+        long demand = requested.get();
+        long delivered = 0;
+        while (delivered != demand && !cancelled.get()) {
+            if (delivering.isEmpty()) {
+                Chunk chunk = fetched.remove(nextToDeliver);
+                if (chunk == null) {
+                    break;
+                }
+                delivering.addAll(chunk.logs);
+                nextToDeliver = chunk.to + 1;
+                continue;
+            }
+            try {
+                subscriber.onNext(delivering.poll());
+            } catch (RuntimeException e) {
+                log.error("Log scan subscriber failed, cancelling", e);
+                cancel();
+            }
+            delivered++;
+        }
+        if (delivered != 0 && demand != Long.MAX_VALUE) {
+            requested.addAndGet(-delivered);
+        }
+    }
+
+    private void fetchChunks() {
+        while (inFlight < concurrency && inFlight + fetched.size() < 2 * concurrency) {
+            Map.Entry<Long, Long> retry = retries.pollFirstEntry();
+            if (retry != null) {
+                fetch(retry.getKey(), retry.getValue());
+            } else if (nextToFetch <= end) {
+                long to = Math.min(end, nextToFetch + chunkSize - 1);
+                fetch(nextToFetch, to);
+                nextToFetch = to + 1;
+            } else {
+                break;
+            }
+        }
+    }
+
+    private void fetch(long from, long to) {
+        inFlight++;
+        EthFilter chunkFilter = new EthFilter(
+                new DefaultBlockParameterNumber(BigInteger.valueOf(from)),
+                new DefaultBlockParameterNumber(BigInteger.valueOf(to)),
+                filter.getAddress());
+        chunkFilter.getTopics().addAll(filter.getTopics());
+
+        web3j.ethGetLogs(chunkFilter).sendAsync().whenComplete((ethLog, throwable) -> {
+            Throwable cause = throwable instanceof CompletionException
+                    && throwable.getCause() != null ? throwable.getCause() : throwable;
+            if (cause instanceof SocketTimeoutException) {
+                responses.offer(new Chunk(from, to, null));
+            } else if (cause != null) {
+                onError(cause);
+                return;
+            } else if (ethLog.hasError()) {
+                if (isTooManyResults(ethLog.getError())) {
+                    responses.offer(new Chunk(from, to, null));
+                } else {
+                    onError(new IOException("eth_getLogs failed for blocks " + from + " to "
+                            + to + ": " + ethLog.getError().getMessage()));
+                    return;
+                }
+            } else {
+                List<Log> logs = new ArrayList<>(ethLog.getLogs().size());
+                for (EthLog.LogResult<?> result : ethLog.getLogs()) {
+                    logs.add((Log) result.get());
+                }
+                logs.sort(LOG_ORDER);
+                responses.offer(new Chunk(from, to, logs));
+            }
+            drain();
+        });
+    }
+
+    /**
+     * Whether an error response is the node refusing a request over too wide a range, or with
+     * too many results. Nodes differ in how they say so, so this goes by the usual wordings;
+     * the error code is no guide, as the same code is used for limits on the rate of requests,
+     * which splitting the chunk would only make worse.
+     */
+    static boolean isTooManyResults(Response.Error error) {
+        String message = error.getMessage() == null
+                ? "" : error.getMessage().toLowerCase(Locale.ROOT);
+        if (message.contains("rate limit")
+                || message.contains("too many requests")
+                || message.contains("request limit")
+                || message.contains("per second")
+                || message.contains("quota")
+                || message.contains("capacity")) {
+            return false;
+        }
+        return message.contains("returned more than")
+                || message.contains("too many results")
+                || message.contains("too many logs")
+                || message.contains("max results")
+                || message.contains("response size")
+                || message.contains("block range");
+    }
+
+    private static final class Chunk {
+        final long from;
+        final long to;
+        // null if the chunk must be split
+        final List<Log> logs;
+
+        Chunk(long from, long to, List<Log> logs) {
+            this.from = from;
+            this.to = to;
+            this.logs = logs;
+        }
+
+        long size() {
+            return to - from + 1;
+        }
+    }
+}
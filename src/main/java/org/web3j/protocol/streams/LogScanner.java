@@ -0,0 +1,97 @@
+package org.web3j.protocol.streams;
+
+import java.util.Objects;
+
+import org.reactivestreams.Publisher;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.methods.request.EthFilter;
+import org.web3j.protocol.core.methods.response.Log;
+import org.web3j.utils.Numeric;
+
+/**
+ * Scans a range of blocks for logs with eth_getLogs, splitting the range into chunks rather
+ * than asking the node for all of it at once, which over a wide range times out or exceeds the
+ * node's limit on results.
+ *
+ * <p>Up to {@code concurrency} chunks are requested at a time. A chunk the node refuses as
+ * returning too many results, or which times out, is split in half and retried, and the size of
+ * chunks to come is halved with it. While chunks come back with few logs, the chunk size
+ * doubles, up to {@code maxChunkSize}, though only after several such chunks once one has been
+ * refused. Nodes which limit the block range of a request, rather than the number of results,
+ * should be given that range as the maximum. Any other error, including the node limiting the
+ * rate of requests, terminates the scan with the node's error.</p>
+ *
+ * <p>Logs are delivered in order of block number and log index, no more than the subscriber has
+ * requested, on the executor of the {@link Web3j} instance. At most twice {@code concurrency}
+ * chunks are fetched ahead of the one being delivered.</p>
+ */
+public class LogScanner {
+
+    public static final int DEFAULT_CONCURRENCY = 4;
+    public static final long DEFAULT_INITIAL_CHUNK_SIZE = 1_000;
+    public static final long DEFAULT_MAX_CHUNK_SIZE = 100_000;
+
+    private final Web3j web3j;
+    private final int concurrency;
+    private final long initialChunkSize;
+    private final long maxChunkSize;
+
+    public LogScanner(Web3j web3j, int concurrency, long initialChunkSize, long maxChunkSize) {
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("concurrency must be positive");
+        }
+        if (initialChunkSize <= 0 || initialChunkSize > maxChunkSize) {
+            throw new IllegalArgumentException(
+                    "initialChunkSize must be positive and no more than maxChunkSize");
+        }
+        this.web3j = web3j;
+        this.concurrency = concurrency;
+        this.initialChunkSize = initialChunkSize;
+        this.maxChunkSize = maxChunkSize;
+    }
+
+    public LogScanner(Web3j web3j) {
+        this(web3j, DEFAULT_CONCURRENCY, DEFAULT_INITIAL_CHUNK_SIZE, DEFAULT_MAX_CHUNK_SIZE);
+    }
+
+    /**
+     * Scan the filter's block range for its logs. Either end of the range may be given as
+     * {@link DefaultBlockParameterName#LATEST} (or left unset), in which case it is resolved
+     * to the latest block once subscribed.
+     *
+     * @param filter the addresses and topics to match, and the range of blocks to scan
+     * @return a publisher of the matching logs, which completes after the end of the range
+     */
+    public Publisher<Log> scan(EthFilter filter) {
+        Objects.requireNonNull(filter, "filter");
+        long from = blockNumber(filter.getFromBlock());
+        long to = blockNumber(filter.getToBlock());
+        if (from >= 0 && to >= 0 && to < from) {
+            throw new IllegalArgumentException("toBlock must not be before fromBlock");
+        }
+        return subscriber -> {
+            Objects.requireNonNull(subscriber, "subscriber");
+            LogScan scan = new LogScan(web3j, subscriber, filter,
+                    concurrency, initialChunkSize, maxChunkSize);
+            subscriber.onSubscribe(scan);
+            scan.start(from, to);
+        };
+    }
+
+    /**
+     * The block number of a parameter, or -1 for the latest block.
+     */
+    private static long blockNumber(DefaultBlockParameter blockParameter) {
+        if (blockParameter == null
+                || blockParameter == DefaultBlockParameterName.LATEST
+                || blockParameter == DefaultBlockParameterName.PENDING) {
+            return -1;
+        } else if (blockParameter == DefaultBlockParameterName.EARLIEST) {
+            return 0;
+        }
+        return Numeric.decodeQuantity(blockParameter.getValue()).longValueExact();
+    }
+}
@@ -0,0 +1,27 @@
+package org.web3j.protocol.websocket;
+
+/**
+ * Receives the notifications of an eth_subscribe subscription.
+ *
+ * <p>Notifications of a subscription are delivered in order, one at a time, on a thread of the
+ * {@link WebSocketService} rather than the connection's thread.</p>
+ *
+ * @param <T> notification type
+ */
+public interface SubscriptionListener<T> {
+
+    void onNext(T notification);
+
+    /**
+     * Called once if the subscription is terminated by an error, such as the connection closing
+     * or the listener falling too far behind the notifications pushed by the node.
+     */
+    default void onError(Throwable throwable) {
+    }
+
+    /**
+     * Called once after the subscription has been unsubscribed.
+     */
+    default void onComplete() {
+    }
+}
@@ -0,0 +1,53 @@
+package org.web3j.protocol.websocket;
+
+import java.io.IOException;
+import java.net.URI;
+
+import org.java_websocket.handshake.ServerHandshake;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * WebSocket client forwarding its events to a {@link WebSocketListener}.
+ */
+public class WebSocketClient extends org.java_websocket.client.WebSocketClient {
+
+    private static final Logger log = LoggerFactory.getLogger(WebSocketClient.class);
+
+    private volatile WebSocketListener listener;
+
+    public WebSocketClient(URI serverUri) {
+        super(serverUri);
+    }
+
+    public void setListener(WebSocketListener listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    public void onOpen(ServerHandshake serverHandshake) {
+        log.debug("Opened WebSocket connection to {}", getURI());
+    }
+
+    @Override
+    public void onMessage(String message) {
+        try {
+            listener.onMessage(message);
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to process message received over WebSocket", e);
+        }
+    }
+
+    @Override
+    public void onClose(int code, String reason, boolean remote) {
+        log.debug("Closed WebSocket connection to {}, code: {}, reason: {}",
+                getURI(), code, reason);
+        listener.onClose();
+    }
+
+    @Override
+    public void onError(Exception e) {
+        log.error("WebSocket connection to {} failed with error", getURI(), e);
+        listener.onError(e);
+    }
+}
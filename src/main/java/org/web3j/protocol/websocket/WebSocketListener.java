@@ -0,0 +1,15 @@
+package org.web3j.protocol.websocket;
+
+import java.io.IOException;
+
+/**
+ * Receives the events of a {@link WebSocketClient}.
+ */
+public interface WebSocketListener {
+
+    void onMessage(String message) throws IOException;
+
+    void onError(Exception e);
+
+    void onClose();
+}
@@ -0,0 +1,341 @@
+package org.web3j.protocol.websocket;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.web3j.protocol.ObjectMapperFactory;
+import org.web3j.protocol.ResponseCorrelator;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.request.EthFilter;
+import org.web3j.protocol.core.methods.response.EthSubscribe;
+import org.web3j.protocol.core.methods.response.EthUnsubscribe;
+import org.web3j.protocol.websocket.events.LogNotification;
+import org.web3j.protocol.websocket.events.NewHeadsNotification;
+import org.web3j.protocol.websocket.events.Notification;
+import org.web3j.protocol.websocket.events.PendingTransactionNotification;
+import org.web3j.utils.Futures;
+
+/**
+ * WebSocket implementation of our services API.
+ *
+ * <p>All requests share a single connection. Responses, which the node may return in any order,
+ * are matched to their requests by id, so any number of requests can be in flight at once.
+ * Requests sent via {@link #send}, {@link #sendAsync}, {@link #sendBatch} or
+ * {@link #sendBatchAsync} while another with the same id is awaiting its response are renumbered
+ * via {@link Request#setId(long)}.</p>
+ *
+ * <p>In addition to regular requests, the service supports eth_subscribe push subscriptions
+ * for new block headers, logs and pending transactions. See {@link WebSocketSubscription} for
+ * how notifications are delivered.</p>
+ */
+public class WebSocketService implements Web3jService {
+
+    private static final Logger log = LoggerFactory.getLogger(WebSocketService.class);
+
+    public static final long DEFAULT_REQUEST_TIMEOUT_MILLIS = 60_000;
+    public static final int DEFAULT_SUBSCRIPTION_BUFFER_SIZE = 1024;
+
+    private final ObjectMapper objectMapper = ObjectMapperFactory.getObjectMapper();
+
+    private final ResponseCorrelator responseCorrelator = new ResponseCorrelator();
+
+    private final ConcurrentMap<String, WebSocketSubscription<?>> subscriptions =
+            new ConcurrentHashMap<>();
+
+    private final WebSocketClient webSocketClient;
+    private final long requestTimeoutMillis;
+    private final int subscriptionBufferSize;
+
+    private final ScheduledExecutorService timeoutScheduler;
+    private final ExecutorService subscriptionExecutor;
+
+    public WebSocketService(WebSocketClient webSocketClient, long requestTimeoutMillis,
+                            int subscriptionBufferSize) {
+        if (requestTimeoutMillis <= 0) {
+            throw new IllegalArgumentException("requestTimeoutMillis must be positive");
+        }
+        if (subscriptionBufferSize <= 0) {
+            throw new IllegalArgumentException("subscriptionBufferSize must be positive");
+        }
+        this.webSocketClient = webSocketClient;
+        this.requestTimeoutMillis = requestTimeoutMillis;
+        this.subscriptionBufferSize = subscriptionBufferSize;
+        this.timeoutScheduler = Executors.newSingleThreadScheduledExecutor(
+                daemonThreadFactory("web3j-websocket-timeout"));
+        this.subscriptionExecutor = Executors.newCachedThreadPool(
+                daemonThreadFactory("web3j-websocket-subscription"));
+
+        webSocketClient.setListener(new WebSocketListener() {
+            @Override
+            public void onMessage(String message) throws IOException {
+                WebSocketService.this.onMessage(message);
+            }
+
+            @Override
+            public void onError(Exception e) {
+                // the connection is closed after an error, which fails any pending requests
+            }
+
+            @Override
+            public void onClose() {
+                onConnectionClosed(new IOException("WebSocket connection closed"));
+            }
+        });
+    }
+
+    public WebSocketService(WebSocketClient webSocketClient) {
+        this(webSocketClient, DEFAULT_REQUEST_TIMEOUT_MILLIS, DEFAULT_SUBSCRIPTION_BUFFER_SIZE);
+    }
+
+    public WebSocketService(String url) {
+        this(new WebSocketClient(URI.create(url)));
+    }
+
+    private static ThreadFactory daemonThreadFactory(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Open the connection to the node, which must be done before sending any requests.
+     *
+     * @throws ConnectException if the connection could not be established
+     */
+    public void connect() throws ConnectException {
+        try {
+            if (!webSocketClient.connectBlocking()) {
+                throw new ConnectException(
+                        "Failed to connect to WebSocket " + webSocketClient.getURI());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConnectException("Interrupted while connecting to WebSocket");
+        }
+    }
+
+    @Override
+    public <T extends Response> T send(
+            Request request, Class<T> responseType) throws IOException {
+        return Futures.getResult(sendAsync(request, responseType));
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(
+            Request request, Class<T> responseType) {
+        CompletableFuture<T> result = responseCorrelator.register(request, responseType);
+        write(request, Collections.singletonList(result));
+        return result;
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        return Futures.getResult(sendBatchAsync(batchRequest));
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        List<Request<?, ? extends Response>> requests = batchRequest.getRequests();
+        if (requests.isEmpty()) {
+            return CompletableFuture.completedFuture(
+                    new BatchResponse(requests, Collections.<Response>emptyList()));
+        }
+
+        List<CompletableFuture<? extends Response>> results = new ArrayList<>(requests.size());
+        for (Request<?, ? extends Response> request : requests) {
+            results.add(responseCorrelator.register(request, request.getResponseType()));
+        }
+        write(requests, results);
+
+        return CompletableFuture.allOf(results.toArray(new CompletableFuture[results.size()]))
+                .thenApply(ignored -> {
+                    List<Response> responses = new ArrayList<>(results.size());
+                    for (CompletableFuture<? extends Response> result : results) {
+                        responses.add(result.join());
+                    }
+                    return new BatchResponse(requests, responses);
+                });
+    }
+
+    /**
+     * Subscribe to new block headers.
+     *
+     * @param listener to receive a notification for each new head
+     * @return future completed once the node has accepted the subscription
+     */
+    public CompletableFuture<WebSocketSubscription<NewHeadsNotification>> subscribeToNewHeads(
+            SubscriptionListener<NewHeadsNotification> listener) {
+        return subscribe(
+                Collections.<Object>singletonList("newHeads"),
+                NewHeadsNotification.class, listener);
+    }
+
+    /**
+     * Subscribe to logs included in new blocks, matching the addresses and topics of a filter.
+     * The block range of the filter is ignored.
+     *
+     * @param ethFilter addresses and topics to match
+     * @param listener to receive a notification for each matching log
+     * @return future completed once the node has accepted the subscription
+     */
+    public CompletableFuture<WebSocketSubscription<LogNotification>> subscribeToLogs(
+            EthFilter ethFilter, SubscriptionListener<LogNotification> listener) {
+        return subscribe(
+                Arrays.<Object>asList("logs", ethFilter),
+                LogNotification.class, listener);
+    }
+
+    /**
+     * Subscribe to the hashes of transactions added to the node's pending transaction pool.
+     *
+     * @param listener to receive a notification for each pending transaction
+     * @return future completed once the node has accepted the subscription
+     */
+    public CompletableFuture<WebSocketSubscription<PendingTransactionNotification>>
+            subscribeToPendingTransactions(
+                    SubscriptionListener<PendingTransactionNotification> listener) {
+        return subscribe(
+                Collections.<Object>singletonList("newPendingTransactions"),
+                PendingTransactionNotification.class, listener);
+    }
+
+    /**
+     * Create an eth_subscribe subscription.
+     *
+     * @param params of the eth_subscribe request, the first being the subscription type
+     * @param notificationType to deserialise notifications into
+     * @param listener to receive the notifications
+     * @param <T> notification type
+     * @return future completed once the node has accepted the subscription
+     */
+    public <T extends Notification<?>> CompletableFuture<WebSocketSubscription<T>> subscribe(
+            List<Object> params, Class<T> notificationType, SubscriptionListener<T> listener) {
+        Request<Object, EthSubscribe> request = new Request<>(
+                "eth_subscribe", params, this, EthSubscribe.class);
+        CompletableFuture<EthSubscribe> response =
+                responseCorrelator.register(request, EthSubscribe.class);
+
+        // registered before the request is written, so that the subscription is in place before
+        // the connection thread reads any notification following the response
+        CompletableFuture<WebSocketSubscription<T>> result = response.thenApply(ethSubscribe -> {
+            if (ethSubscribe.hasError()) {
+                throw new CompletionException(new IOException(
+                        "Subscription failed: " + ethSubscribe.getError().getMessage()));
+            }
+            WebSocketSubscription<T> subscription = new WebSocketSubscription<>(
+                    this, ethSubscribe.getSubscriptionId(), notificationType, listener,
+                    subscriptionExecutor, subscriptionBufferSize);
+            subscriptions.put(subscription.getSubscriptionId(), subscription);
+            return subscription;
+        });
+
+        write(request, Collections.singletonList(response));
+        return result;
+    }
+
+    CompletableFuture<Boolean> unsubscribe(WebSocketSubscription<?> subscription) {
+        if (!subscriptions.remove(subscription.getSubscriptionId(), subscription)) {
+            return CompletableFuture.completedFuture(false);
+        }
+        subscription.onComplete();
+
+        Request<String, EthUnsubscribe> request = new Request<>(
+                "eth_unsubscribe", Collections.singletonList(subscription.getSubscriptionId()),
+                this, EthUnsubscribe.class);
+        return sendAsync(request, EthUnsubscribe.class)
+                .thenApply(response -> !response.hasError() && response.isUnsubscribed());
+    }
+
+    public int getSubscriptionCount() {
+        return subscriptions.size();
+    }
+
+    private void write(Object payload, List<? extends CompletableFuture<?>> results) {
+        for (CompletableFuture<?> result : results) {
+            ScheduledFuture<?> timeout = timeoutScheduler.schedule(
+                    () -> result.completeExceptionally(new IOException(
+                            "No response received within " + requestTimeoutMillis + " ms")),
+                    requestTimeoutMillis, TimeUnit.MILLISECONDS);
+            result.whenComplete((value, throwable) -> timeout.cancel(false));
+        }
+
+        try {
+            webSocketClient.send(objectMapper.writeValueAsString(payload));
+        } catch (IOException | RuntimeException e) {
+            // includes the connection not being open
+            for (CompletableFuture<?> result : results) {
+                result.completeExceptionally(e);
+            }
+        }
+    }
+
+    private void onMessage(String message) throws IOException {
+        JsonNode node = objectMapper.readTree(message);
+        if (node.isObject() && node.has("method") && !node.has("id")) {
+            onNotification(node);
+        } else if (!responseCorrelator.dispatch(node)) {
+            log.warn("Received response not matching any pending request: {}", message);
+        }
+    }
+
+    private void onNotification(JsonNode node) throws IOException {
+        String subscriptionId = node.path("params").path("subscription").asText();
+        WebSocketSubscription<?> subscription = subscriptions.get(subscriptionId);
+        if (subscription == null) {
+            log.debug("Received notification for unknown subscription {}", subscriptionId);
+            return;
+        }
+        deliver(subscription, node);
+    }
+
+    private <T> void deliver(WebSocketSubscription<T> subscription, JsonNode node)
+            throws IOException {
+        subscription.onNotification(
+                objectMapper.treeToValue(node, subscription.getNotificationType()));
+    }
+
+    private void onConnectionClosed(IOException e) {
+        responseCorrelator.failAll(e);
+        for (WebSocketSubscription<?> subscription : subscriptions.values()) {
+            if (subscriptions.remove(subscription.getSubscriptionId(), subscription)) {
+                subscription.onError(e);
+            }
+        }
+    }
+
+
+    @Override
+    public void close() throws IOException {
+        webSocketClient.close();
+        onConnectionClosed(new IOException("WebSocketService closed"));
+        timeoutScheduler.shutdownNow();
+        // allow notifications already buffered to be delivered
+        subscriptionExecutor.shutdown();
+    }
+}
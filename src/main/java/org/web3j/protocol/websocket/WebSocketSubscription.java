@@ -0,0 +1,136 @@
+package org.web3j.protocol.websocket;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An active eth_subscribe subscription of a {@link WebSocketService}.
+ *
+ * <p>Notifications are buffered per subscription and delivered to the
+ * {@link SubscriptionListener} serially on the service's executor, so a slow listener never
+ * stalls the connection. The buffer is bounded: a listener which falls behind by more than its
+ * capacity is terminated with an error and the subscription cancelled on the node, rather than
+ * buffering without limit.</p>
+ *
+ * @param <T> notification type
+ */
+public class WebSocketSubscription<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(WebSocketSubscription.class);
+
+    private final WebSocketService webSocketService;
+    private final String subscriptionId;
+    private final Class<T> notificationType;
+    private final SubscriptionListener<T> listener;
+    private final Executor executor;
+    private final Queue<T> buffer;
+    private final int bufferSize;
+
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicBoolean terminated = new AtomicBoolean();
+    private volatile boolean done;
+    private volatile Throwable error;
+
+    WebSocketSubscription(WebSocketService webSocketService, String subscriptionId,
+                          Class<T> notificationType, SubscriptionListener<T> listener,
+                          Executor executor, int bufferSize) {
+        this.webSocketService = webSocketService;
+        this.subscriptionId = subscriptionId;
+        this.notificationType = notificationType;
+        this.listener = listener;
+        this.executor = executor;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.bufferSize = bufferSize;
+    }
+
+    public String getSubscriptionId() {
+        return subscriptionId;
+    }
+
+    public boolean isActive() {
+        return !done;
+    }
+
+    /**
+     * Cancel the subscription on the node. Notifications already buffered are still delivered,
+     * followed by {@link SubscriptionListener#onComplete()}.
+     *
+     * @return future completed with whether the node knew of the subscription
+     */
+    public CompletableFuture<Boolean> unsubscribe() {
+        return webSocketService.unsubscribe(this);
+    }
+
+    Class<T> getNotificationType() {
+        return notificationType;
+    }
+
+    void onNotification(T notification) {
+        if (done) {
+            return;
+        }
+        if (!buffer.offer(notification)) {
+            log.warn("Subscription {} exceeded its buffer of {} notifications, unsubscribing",
+                    subscriptionId, bufferSize);
+            buffer.clear();
+            onError(new IOException("Subscription " + subscriptionId
+                    + " cannot keep up, more than " + bufferSize + " notifications buffered"));
+            webSocketService.unsubscribe(this);
+            return;
+        }
+        drain();
+    }
+
+    void onError(Throwable throwable) {
+        if (done) {
+            return;
+        }
+        error = throwable;
+        done = true;
+        drain();
+    }
+
+    void onComplete() {
+        if (done) {
+            return;
+        }
+        done = true;
+        drain();
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() == 0) {
+            executor.execute(this::deliver);
+        }
+    }
+
+    private void deliver() {
+        int missed = 1;
+        do {
+            T notification;
+            while ((notification = buffer.poll()) != null) {
+                try {
+                    listener.onNext(notification);
+                } catch (RuntimeException e) {
+                    log.error("Subscription {} listener failed", subscriptionId, e);
+                }
+            }
+            if (done && terminated.compareAndSet(false, true)) {
+                if (error != null) {
+                    listener.onError(error);
+                } else {
+                    listener.onComplete();
+                }
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+}
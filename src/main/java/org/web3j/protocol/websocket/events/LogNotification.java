@@ -0,0 +1,9 @@
+package org.web3j.protocol.websocket.events;
+
+import org.web3j.protocol.core.methods.response.Log;
+
+/**
+ * Notification of a logs subscription.
+ */
+public class LogNotification extends Notification<Log> {
+}
@@ -0,0 +1,158 @@
+package org.web3j.protocol.websocket.events;
+
+import java.math.BigInteger;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import org.web3j.utils.Numeric;
+
+/**
+ * Block header pushed by a newHeads subscription.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class NewHead {
+    private String number;
+    private String hash;
+    private String parentHash;
+    private String nonce;
+    private String sha3Uncles;
+    private String logsBloom;
+    private String transactionsRoot;
+    private String stateRoot;
+    private String receiptsRoot;
+    private String miner;
+    private String mixHash;
+    private String difficulty;
+    private String extraData;
+    private String gasLimit;
+    private String gasUsed;
+    private String timestamp;
+
+    public BigInteger getNumber() {
+        return Numeric.decodeQuantity(number);
+    }
+
+    public void setNumber(String number) {
+        this.number = number;
+    }
+
+    public String getHash() {
+        return hash;
+    }
+
+    public void setHash(String hash) {
+        this.hash = hash;
+    }
+
+    public String getParentHash() {
+        return parentHash;
+    }
+
+    public void setParentHash(String parentHash) {
+        this.parentHash = parentHash;
+    }
+
+    public String getNonce() {
+        return nonce;
+    }
+
+    public void setNonce(String nonce) {
+        this.nonce = nonce;
+    }
+
+    public String getSha3Uncles() {
+        return sha3Uncles;
+    }
+
+    public void setSha3Uncles(String sha3Uncles) {
+        this.sha3Uncles = sha3Uncles;
+    }
+
+    public String getLogsBloom() {
+        return logsBloom;
+    }
+
+    public void setLogsBloom(String logsBloom) {
+        this.logsBloom = logsBloom;
+    }
+
+    public String getTransactionsRoot() {
+        return transactionsRoot;
+    }
+
+    public void setTransactionsRoot(String transactionsRoot) {
+        this.transactionsRoot = transactionsRoot;
+    }
+
+    public String getStateRoot() {
+        return stateRoot;
+    }
+
+    public void setStateRoot(String stateRoot) {
+        this.stateRoot = stateRoot;
+    }
+
+    public String getReceiptsRoot() {
+        return receiptsRoot;
+    }
+
+    public void setReceiptsRoot(String receiptsRoot) {
+        this.receiptsRoot = receiptsRoot;
+    }
+
+    public String getMiner() {
+        return miner;
+    }
+
+    public void setMiner(String miner) {
+        this.miner = miner;
+    }
+
+    public String getMixHash() {
+        return mixHash;
+    }
+
+    public void setMixHash(String mixHash) {
+        this.mixHash = mixHash;
+    }
+
+    public BigInteger getDifficulty() {
+        return Numeric.decodeQuantity(difficulty);
+    }
+
+    public void setDifficulty(String difficulty) {
+        this.difficulty = difficulty;
+    }
+
+    public String getExtraData() {
+        return extraData;
+    }
+
+    public void setExtraData(String extraData) {
+        this.extraData = extraData;
+    }
+
+    public BigInteger getGasLimit() {
+        return Numeric.decodeQuantity(gasLimit);
+    }
+
+    public void setGasLimit(String gasLimit) {
+        this.gasLimit = gasLimit;
+    }
+
+    public BigInteger getGasUsed() {
+        return Numeric.decodeQuantity(gasUsed);
+    }
+
+    public void setGasUsed(String gasUsed) {
+        this.gasUsed = gasUsed;
+    }
+
+    public BigInteger getTimestamp() {
+        return Numeric.decodeQuantity(timestamp);
+    }
+
+    public void setTimestamp(String timestamp) {
+        this.timestamp = timestamp;
+    }
+}
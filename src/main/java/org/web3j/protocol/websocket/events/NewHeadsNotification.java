@@ -0,0 +1,7 @@
+package org.web3j.protocol.websocket.events;
+
+/**
+ * Notification of a newHeads subscription.
+ */
+public class NewHeadsNotification extends Notification<NewHead> {
+}
@@ -0,0 +1,40 @@
+package org.web3j.protocol.websocket.events;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * Notification pushed by a node for an eth_subscribe subscription, as per
+ * <a href="https://github.com/ethereum/go-ethereum/wiki/RPC-PUB-SUB">docs</a>.
+ *
+ * @param <T> type of the subscription result
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class Notification<T> {
+    private String jsonrpc;
+    private String method;
+    private NotificationParams<T> params;
+
+    public String getJsonrpc() {
+        return jsonrpc;
+    }
+
+    public void setJsonrpc(String jsonrpc) {
+        this.jsonrpc = jsonrpc;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public void setMethod(String method) {
+        this.method = method;
+    }
+
+    public NotificationParams<T> getParams() {
+        return params;
+    }
+
+    public void setParams(NotificationParams<T> params) {
+        this.params = params;
+    }
+}
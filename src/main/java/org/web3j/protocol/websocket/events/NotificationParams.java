@@ -0,0 +1,30 @@
+package org.web3j.protocol.websocket.events;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * Params of a subscription {@link Notification}.
+ *
+ * @param <T> type of the subscription result
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class NotificationParams<T> {
+    private String subscription;
+    private T result;
+
+    public String getSubscription() {
+        return subscription;
+    }
+
+    public void setSubscription(String subscription) {
+        this.subscription = subscription;
+    }
+
+    public T getResult() {
+        return result;
+    }
+
+    public void setResult(T result) {
+        this.result = result;
+    }
+}
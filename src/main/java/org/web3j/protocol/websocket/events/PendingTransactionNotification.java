@@ -0,0 +1,7 @@
+package org.web3j.protocol.websocket.events;
+
+/**
+ * Notification of a newPendingTransactions subscription, the result being the transaction hash.
+ */
+public class PendingTransactionNotification extends Notification<String> {
+}
@@ -0,0 +1,83 @@
+package org.web3j.utils;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Runs blocking operations, such as sending a transaction and waiting for its receipt,
+ * asynchronously on a given {@link Executor}.
+ */
+public final class Async {
+
+    private static final Executor DEFAULT_EXECUTOR = CompletableFuture::runAsync;
+
+    private Async() { }
+
+    /**
+     * Get the executor used unless another is configured, being that used by
+     * {@link CompletableFuture#runAsync(Runnable)}, normally the common fork join pool.
+     *
+     * @return the default executor
+     */
+    public static Executor defaultExecutor() {
+        return DEFAULT_EXECUTOR;
+    }
+
+    /**
+     * Create an executor which runs each task on a new virtual thread, so that any number of
+     * blocking operations may be in progress at once without tying up platform threads.
+     *
+     * <p>Virtual threads require Java 21 or later. The executor should be shut down once no
+     * longer required.</p>
+     *
+     * @return a new virtual thread per task executor
+     * @throws UnsupportedOperationException if virtual threads are not supported by this JVM
+     */
+    public static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            // resolved reflectively, as the library is built for Java 8
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderType.getMethod("name", String.class, long.class)
+                    .invoke(builder, "web3j-virtual-", 0L);
+            ThreadFactory threadFactory =
+                    (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+            return (ExecutorService) Executors.class
+                    .getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, threadFactory);
+        } catch (ReflectiveOperationException e) {
+            throw new UnsupportedOperationException(
+                    "Virtual threads are not supported by this JVM", e);
+        }
+    }
+
+    /**
+     * Run a task on the given executor.
+     *
+     * @param callable task to run
+     * @param executor to run the task on
+     * @param <T> result type
+     * @return future completed with the task's result, or exceptionally with whatever it threw,
+     *     or if the executor rejected it
+     */
+    public static <T> CompletableFuture<T> run(Callable<T> callable, Executor executor) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    result.complete(callable.call());
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+}
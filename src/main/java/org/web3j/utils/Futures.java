@@ -0,0 +1,67 @@
+package org.web3j.utils;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * CompletableFuture utility functions.
+ */
+public class Futures {
+
+    private Futures() {}
+
+    public static <T> CompletableFuture<T> failedFuture(Throwable throwable) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        result.completeExceptionally(throwable);
+        return result;
+    }
+
+    /**
+     * Wait for the result of a future, for services implementing synchronous requests on top of
+     * asynchronous ones.
+     *
+     * @param future to wait for
+     * @param <T> result type
+     * @return the result of the future
+     * @throws IOException if the future failed with an IOException, or was interrupted
+     */
+    public static <T> T getResult(CompletableFuture<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while awaiting response");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else {
+                throw new IOException(cause);
+            }
+        }
+    }
+
+    /**
+     * Create a future completed with the outcome of another, so that a future shared between
+     * callers is not cancelled or completed by any one of them.
+     *
+     * @param future to copy
+     * @param <T> result type
+     * @return a new future
+     */
+    public static <T> CompletableFuture<T> copy(CompletableFuture<? extends T> future) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        future.whenComplete((value, throwable) -> {
+            if (throwable != null) {
+                result.completeExceptionally(throwable);
+            } else {
+                result.complete(value);
+            }
+        });
+        return result;
+    }
+}
@@ -38,6 +38,32 @@ public final class Numeric {
         }
     }
 
+    /**
+     * Decode a quantity which fits in a long, such as a block number or gas amount, without
+     * allocating a {@link BigInteger}.
+     *
+     * @param value hex quantity
+     * @return the decoded value
+     * @throws MessageDecodingException if the value is malformed or exceeds 63 bits
+     */
+    public static long decodeQuantityAsLong(String value) {
+        if (!isValidHexQuantity(value)) {
+            throw new MessageDecodingException("Value must be in format 0x[1-9]+[0-9]* or 0x0");
+        }
+        long result = 0;
+        for (int i = 2; i < value.length(); i++) {
+            int digit = Character.digit(value.charAt(i), 16);
+            if (digit < 0) {
+                throw new MessageDecodingException("Invalid hex quantity: " + value);
+            }
+            if ((result >>> 59) != 0) {
+                throw new MessageDecodingException("Value exceeds 63 bits: " + value);
+            }
+            result = (result << 4) | digit;
+        }
+        return result;
+    }
+
     private static boolean isValidHexQuantity(String value) {
         if (value == null) {
             return false;
@@ -0,0 +1,128 @@
+package org.web3j.abi;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.web3j.abi.datatypes.Function;
+import org.web3j.crypto.Credentials;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.utils.Convert;
+import org.web3j.utils.Futures;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class ManagedTransactionTest {
+
+    private static final Credentials CREDENTIALS = Credentials.create(
+            "0xa392604efc2fad9c0b3da43b5f698a2e3f270f170d859912be0d54742275c5f6");
+    private static final String ADDRESS = "0x407d73d8a49eeb85d32cf465507dd71d507100c1";
+
+    private final List<String> requestThreads = new CopyOnWriteArrayList<>();
+
+    private ExecutorService defaultExecutor;
+    private ExecutorService injectedExecutor;
+    private Web3jService web3jService;
+    private Web3j web3j;
+
+    @Before
+    public void setUp() {
+        defaultExecutor = Executors.newSingleThreadExecutor(
+                runnable -> new Thread(runnable, "default-executor"));
+        injectedExecutor = Executors.newSingleThreadExecutor(
+                runnable -> new Thread(runnable, "injected-executor"));
+        web3jService = new Web3jService() {
+            @Override
+            public <T extends Response> T send(Request request, Class<T> responseType)
+                    throws IOException {
+                return Futures.getResult(sendAsync(request, responseType));
+            }
+
+            @Override
+            public <T extends Response> CompletableFuture<T> sendAsync(
+                    Request request, Class<T> responseType) {
+                // the first request of each operation is enough to see where it runs
+                requestThreads.add(Thread.currentThread().getName());
+                return Futures.failedFuture(new IOException("stub node"));
+            }
+        };
+        web3j = Web3j.build(web3jService, defaultExecutor);
+    }
+
+    @After
+    public void tearDown() {
+        defaultExecutor.shutdown();
+        injectedExecutor.shutdown();
+    }
+
+    @Test
+    public void testExecutorDefaultsToThatOfWeb3j() throws Exception {
+        TestContract contract = new TestContract(web3j);
+        assertFailed(contract.executeTransactionAsync(
+                new Function("test", Collections.emptyList(), Collections.emptyList())));
+        assertThat(requestThreads, is(Collections.singletonList("default-executor")));
+    }
+
+    @Test
+    public void testExecuteTransactionAsyncOnInjectedExecutor() throws Exception {
+        TestContract contract = new TestContract(web3j);
+        contract.setExecutor(injectedExecutor);
+        assertFailed(contract.executeTransactionAsync(
+                new Function("test", Collections.emptyList(), Collections.emptyList())));
+        assertThat(requestThreads, is(Collections.singletonList("injected-executor")));
+    }
+
+    @Test
+    public void testSendFundsAsyncOnWeb3jExecutor() throws Exception {
+        assertFailed(Transfer.sendFundsAsync(Web3j.build(web3jService, injectedExecutor),
+                CREDENTIALS, ADDRESS, BigDecimal.ONE, Convert.Unit.ETHER));
+        assertThat(requestThreads, is(Collections.singletonList("injected-executor")));
+    }
+
+    @Test
+    public void testDeployAsyncOnInjectedExecutor() throws Exception {
+        assertFailed(Contract.deployAsync(TestContract.class, web3j, CREDENTIALS,
+                ManagedTransaction.GAS_PRICE, ManagedTransaction.GAS_LIMIT, "0x", "",
+                BigInteger.ZERO, injectedExecutor));
+        assertThat(requestThreads, is(Collections.singletonList("injected-executor")));
+    }
+
+    private static void assertFailed(Future<?> future) throws Exception {
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            // the stub node fails every request
+        }
+    }
+
+    static class TestContract extends Contract {
+
+        TestContract(String contractAddress, Web3j web3j, Credentials credentials,
+                     BigInteger gasPrice, BigInteger gasLimit) {
+            super(contractAddress, web3j, credentials, gasPrice, gasLimit);
+        }
+
+        TestContract(Web3j web3j) {
+            this(ADDRESS, web3j, CREDENTIALS, GAS_PRICE, GAS_LIMIT);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package org.web3j.jfr;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import com.sun.net.httpserver.HttpServer;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.web3j.abi.FunctionEncoder;
+import org.web3j.abi.datatypes.Function;
+import org.web3j.abi.datatypes.Type;
+import org.web3j.abi.datatypes.Uint;
+import org.web3j.crypto.ECKeyPair;
+import org.web3j.crypto.Sign;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.http.HttpService;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+public class FlightRecorderEventsTest {
+
+    @Before
+    public void setUp() {
+        assumeTrue(FlightRecorderEvents.isAvailable());
+    }
+
+    @Test
+    public void testDisabledByDefault() {
+        assertThat(FlightRecorderEvents.startRpc() == FlightRecorderEvents.RpcTimer.NONE,
+                is(true));
+        assertThat(FlightRecorderEvents.startSign() == FlightRecorderEvents.SignTimer.NONE,
+                is(true));
+    }
+
+    @Test
+    public void testEventsRecorded() throws Exception {
+        ECKeyPair keyPair = ECKeyPair.create(BigInteger.valueOf(1234567890L));
+        Function function = new Function("transfer",
+                Collections.<Type>singletonList(new Uint(BigInteger.TEN)),
+                Collections.emptyList());
+
+        Path file = Files.createTempFile("web3j", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("org.web3j.Sign");
+            recording.enable("org.web3j.AbiEncode");
+            recording.start();
+
+            Sign.signMessage(new byte[] {1, 2, 3}, keyPair);
+            FunctionEncoder.encode(function);
+
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            assertThat(events.size(), is(2));
+            assertThat(events.get(0).getEventType().getName(), is("org.web3j.Sign"));
+            assertThat(events.get(0).getInt("messageLength"), is(3));
+            assertThat(events.get(1).getEventType().getName(), is("org.web3j.AbiEncode"));
+            assertThat(events.get(1).getString("function"), is("transfer"));
+            assertThat(events.get(1).getInt("encodedLength"), is(36));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testRpcEventCountsBytesReceived() throws Exception {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        try (OutputStream outputStream = new GZIPOutputStream(content)) {
+            outputStream.write(("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"0x4b7"
+                    + String.format("%0512d", 0) + "\"}").getBytes(StandardCharsets.UTF_8));
+        }
+        byte[] compressed = content.toByteArray();
+
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            try (InputStream inputStream = exchange.getRequestBody()) {
+                while (inputStream.read() != -1) {
+                    // discard the request
+                }
+            }
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            exchange.sendResponseHeaders(200, compressed.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(compressed);
+            }
+        });
+        server.start();
+        HttpService httpService =
+                new HttpService("http://127.0.0.1:" + server.getAddress().getPort() + "/");
+
+        Path file = Files.createTempFile("web3j", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("org.web3j.Rpc");
+            recording.start();
+
+            Web3j.build(httpService).ethBlockNumber().send();
+
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            assertThat(events.size(), is(1));
+            assertThat(events.get(0).getString("method"), is("eth_blockNumber"));
+            assertThat(events.get(0).getLong("responseBytes"), is((long) compressed.length));
+            assertThat(events.get(0).getBoolean("failed"), is(false));
+        } finally {
+            Files.delete(file);
+            httpService.close();
+            server.stop(0);
+        }
+    }
+}
@@ -38,10 +38,18 @@ public abstract class RequestTester {
         ArgumentCaptor<HttpPost> httpPostArgumentCaptor = ArgumentCaptor.forClass(HttpPost.class);
         verify(closeableHttpClient).execute(httpPostArgumentCaptor.capture(), any(ResponseHandler.class));
 
-        String result = readResult(httpPostArgumentCaptor.getValue().getEntity().getContent());
+        String result = replaceRequestId(
+                readResult(httpPostArgumentCaptor.getValue().getEntity().getContent()));
         assertThat(result, is(expected));
     }
 
+    /**
+     * Request ids are generated, so are replaced with a placeholder for comparison.
+     */
+    private static String replaceRequestId(String result) {
+        return result.replaceAll("\"id\":\\d+", "\"id\":<generatedValue>");
+    }
+
     private static String readResult(InputStream inputStream) throws IOException {
         ByteArrayOutputStream result = new ByteArrayOutputStream();
         byte[] buffer = new byte[1024];
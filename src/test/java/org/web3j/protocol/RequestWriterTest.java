@@ -0,0 +1,106 @@
+package org.web3j.protocol;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.After;
+import org.junit.Test;
+
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.request.Transaction;
+import org.web3j.protocol.core.methods.response.EthBlockNumber;
+import org.web3j.protocol.core.methods.response.EthCall;
+import org.web3j.protocol.http.HttpService;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+public class RequestWriterTest {
+
+    private final ObjectMapper objectMapper = ObjectMapperFactory.getObjectMapper();
+    private final HttpService httpService = new HttpService();
+    private final Web3j web3j = Web3j.build(httpService);
+
+    @After
+    public void tearDown() throws IOException {
+        httpService.close();
+    }
+
+    @Test
+    public void testMatchesObjectMapper() throws Exception {
+        assertSameJson(web3j.ethBlockNumber());
+        assertSameJson(web3j.ethGetBalance(
+                "0x407d73d8a49eeb85d32cf465507dd71d507100c1", DefaultBlockParameterName.LATEST));
+        assertSameJson(web3j.ethGetBlockByHash(
+                "0xe670ec64341771606e55d6b4ca35a1a6b75ee3d5145a99d05921026d1527331", true));
+        assertSameJson(web3j.ethCall(
+                Transaction.createEthCallTransaction(
+                        "0x407d73d8a49eeb85d32cf465507dd71d507100c1", "0x70a08231"),
+                DefaultBlockParameterName.LATEST));
+        assertSameJson(web3j.web3Sha3("quote \" backslash \\ unicode é ☃"));
+        assertSameJson(new Request<>("custom_method", Arrays.asList(
+                1, 2L, BigInteger.valueOf(Long.MAX_VALUE).pow(2), null, false),
+                null, EthBlockNumber.class));
+        assertSameJson(new Request<>("custom_\"method\"", null, null, EthBlockNumber.class));
+    }
+
+    @Test
+    public void testSubclassesUseObjectMapper() throws Exception {
+        Request<String, EthBlockNumber> request = new Request<String, EthBlockNumber>(
+                "eth_blockNumber", Collections.<String>emptyList(), null,
+                EthBlockNumber.class) {
+            public String getExtra() {
+                return "extra";
+            }
+        };
+        assertSameJson(request);
+    }
+
+    @Test
+    public void testBatch() throws Exception {
+        List<Request<?, ? extends Response>> requests = Arrays.asList(
+                web3j.ethBlockNumber(), web3j.netVersion(), web3j.ethGetBalance(
+                        "0x407d73d8a49eeb85d32cf465507dd71d507100c1",
+                        DefaultBlockParameterName.PENDING));
+        RequestWriter requestWriter = RequestWriter.get();
+        requestWriter.writeBatch(requests);
+        assertThat(objectMapper.readTree(requestWriter.toByteArray()),
+                is(objectMapper.readTree(objectMapper.writeValueAsBytes(requests))));
+    }
+
+    @Test
+    public void testBufferReused() throws Exception {
+        RequestWriter requestWriter = RequestWriter.get();
+        requestWriter.write(web3j.ethBlockNumber());
+        byte[] buffer = requestWriter.getBuffer();
+
+        Request<?, EthCall> request = web3j.ethCall(
+                Transaction.createEthCallTransaction("0x407d73d8a49eeb85d32cf465507dd71d507100c1",
+                        "0x70a08231"),
+                DefaultBlockParameterName.LATEST);
+        requestWriter.write(request);
+        assertThat(requestWriter.getBuffer() == buffer, is(true));
+        assertThat(new String(buffer, 0, requestWriter.size(), StandardCharsets.UTF_8),
+                is(objectMapper.writeValueAsString(request)));
+
+        // a large request grows the buffer, which is released again afterwards
+        char[] data = new char[100_000];
+        Arrays.fill(data, 'a');
+        requestWriter.write(web3j.web3Sha3(new String(data)));
+        assertThat(requestWriter.size() > 100_000, is(true));
+        requestWriter.write(web3j.ethBlockNumber());
+        assertThat(requestWriter.getBuffer().length < 100_000, is(true));
+    }
+
+    private void assertSameJson(Request<?, ?> request) throws Exception {
+        assertThat(new String(RequestWriter.writeValueAsBytes(request), StandardCharsets.UTF_8),
+                is(objectMapper.writeValueAsString(request)));
+    }
+}
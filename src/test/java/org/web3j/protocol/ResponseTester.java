@@ -3,6 +3,7 @@ package org.web3j.protocol;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.List;
 
 import org.apache.http.HttpEntity;
 import org.apache.http.HttpStatus;
@@ -16,6 +17,9 @@ import org.junit.Before;
 import org.junit.runner.RunWith;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
 import org.web3j.protocol.http.HttpService;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -61,6 +65,17 @@ public abstract class ResponseTester {
         return response;
     }
 
+    protected BatchResponse deserialiseBatchResponse(
+            List<Request<?, ? extends Response>> requests) {
+        BatchResponse response = null;
+        try {
+            response = web3jService.getBatchResponseHandler(requests).handleResponse(httpResponse);
+        } catch (IOException e) {
+            fail(e.getMessage());
+        }
+        return response;
+    }
+
     protected void buildResponse(String data) {
         try {
             when(entity.getContent()).thenReturn(buildInputStream(data));
@@ -0,0 +1,76 @@
+package org.web3j.protocol;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Test;
+
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.NetVersion;
+import org.web3j.protocol.core.methods.response.Web3ClientVersion;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class Web3jServiceTest {
+
+    private final List<String> sent = new ArrayList<>();
+
+    // implements only what services written before batches were supported had to
+    private final Web3jService web3jService = new Web3jService() {
+        @Override
+        public <T extends Response> T send(Request request, Class<T> responseType)
+                throws IOException {
+            sent.add(request.getMethod());
+            return ObjectMapperFactory.getObjectMapper().readValue(
+                    "{\"jsonrpc\":\"2.0\",\"id\":" + request.getId()
+                            + ",\"result\":\"" + request.getMethod() + " result\"}",
+                    responseType);
+        }
+
+        @Override
+        public <T extends Response> CompletableFuture<T> sendAsync(
+                Request request, Class<T> responseType) {
+            CompletableFuture<T> result = new CompletableFuture<>();
+            try {
+                result.complete(send(request, responseType));
+            } catch (IOException e) {
+                result.completeExceptionally(e);
+            }
+            return result;
+        }
+    };
+
+    private final Web3j web3j = Web3j.build(web3jService);
+
+    @Test
+    public void testSendBatchSendsEachRequest() throws Exception {
+        Request<?, Web3ClientVersion> clientVersion = web3j.web3ClientVersion();
+        Request<?, NetVersion> netVersion = web3j.netVersion();
+        BatchResponse batchResponse = web3j.newBatch().add(clientVersion).add(netVersion).send();
+
+        assertThat(sent.toString(), equalTo("[web3_clientVersion, net_version]"));
+        assertThat(batchResponse.getResponse(clientVersion).getWeb3ClientVersion(),
+                equalTo("web3_clientVersion result"));
+        assertThat(batchResponse.getResponse(netVersion).getNetVersion(),
+                equalTo("net_version result"));
+    }
+
+    @Test
+    public void testSendBatchAsyncSendsEachRequest() throws Exception {
+        Request<?, Web3ClientVersion> clientVersion = web3j.web3ClientVersion();
+        Request<?, NetVersion> netVersion = web3j.netVersion();
+        BatchRequest batchRequest = web3j.newBatch().add(clientVersion).add(netVersion);
+        BatchResponse batchResponse = batchRequest.sendAsync().get();
+
+        assertThat(batchResponse.getResponse(clientVersion).getWeb3ClientVersion(),
+                equalTo("web3_clientVersion result"));
+        assertThat(batchResponse.getResponse(netVersion).getNetVersion(),
+                equalTo("net_version result"));
+    }
+}
@@ -42,6 +42,32 @@ public class ResponseTest extends ResponseTester {
                 new Response.Error(-32602, "Invalid address length, expected 40 got 64 bytes")));
     }
 
+    @Test
+    public void testBatchResponse() {
+        buildResponse(
+                "[" +
+                        "  {\"jsonrpc\":\"2.0\",\"id\":2,\"result\":\"0x4b7\"}," +
+                        "  {\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"Mist/v0.9.3/darwin/go1.4.1\"}" +
+                        "]"
+        );
+
+        Request<?, Web3ClientVersion> web3ClientVersion = new Request<>(
+                "web3_clientVersion", Collections.<String>emptyList(), 1, null,
+                Web3ClientVersion.class);
+        Request<?, EthBlockNumber> ethBlockNumber = new Request<>(
+                "eth_blockNumber", Collections.<String>emptyList(), 2, null,
+                EthBlockNumber.class);
+
+        BatchResponse batchResponse = deserialiseBatchResponse(
+                Arrays.<Request<?, ? extends Response>>asList(web3ClientVersion, ethBlockNumber));
+
+        assertThat(batchResponse.getResponses().size(), is(2));
+        assertThat(batchResponse.getResponse(web3ClientVersion).getWeb3ClientVersion(),
+                is("Mist/v0.9.3/darwin/go1.4.1"));
+        assertThat(batchResponse.getResponse(ethBlockNumber).getBlockNumber(),
+                equalTo(BigInteger.valueOf(1207L)));
+    }
+
     @Test
     public void testWeb3ClientVersion() {
         buildResponse(
@@ -0,0 +1,146 @@
+package org.web3j.protocol.core.methods.response;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class CompactModelTest {
+
+    private static final String HASH_1 =
+            "0xb903239f8543d04b5dc1ba6579132b143087c68db1b2168786408fcbce568238";
+    private static final String HASH_2 =
+            "0xdf829c5a142f1fccd7d8216c5785ac562ff41e2dcfdf5785ac562ff41e2dcf00";
+
+    @Test
+    public void testBlock() {
+        EthBlock.Block block = new EthBlock.Block(
+                "0x1b4", "0xdc0818cf78f21a8e70579cb46a43643f78291264dda342ae31049421c82d21ae",
+                "0xe99e022112df268087ea7eafaf4790497fd21dbeeb6bd7a1721df161a6657a54",
+                "0x689056015818adbe", "0x1dcc4de8dec75d7aab85b567b6ccd41ad312451b948a7413f0a142fd40d49347",
+                "0x00", "0x56e81f171bcc55a6ff8345e692c0f86e5b48e01b996cadc001622fb5e363b421",
+                "0xddc8b0234c2e0cad087c8b389aa7ef01f7d79b2570bccb77ce48648aa61c904d",
+                "0x56e81f171bcc55a6ff8345e692c0f86e5b48e01b996cadc001622fb5e363b421", null,
+                "0xbb7b8287f3f0a933474a79eae42cbca977791171",
+                "0x4fffe9ae21f1c9e15207b1f472d5bbdd68c9595d461666602f2be20daf5e7843",
+                "0x4ea3f27bc", "0x78ed983323d", "0x476574682f4c5649562f76312e302e302f6c696e75782f676f312e342e32",
+                "0x220", "0x1388", "0x0", "0x55ba467c",
+                Arrays.<EthBlock.TransactionResult>asList(
+                        new EthBlock.TransactionObject(
+                                "0xc6ef2fc5426d6ad6fd9e2a26abeab0aa2411b7ab17f30a99d3cb96aed1d1055b",
+                                "0x15",
+                                "0xdc0818cf78f21a8e70579cb46a43643f78291264dda342ae31049421c82d21ae",
+                                "0x1b4", "0x0",
+                                "0x407d73d8a49eeb85d32cf465507dd71d507100c1",
+                                "0x85d43d8a49eeb85d32cf465507dd71d507100c12",
+                                "0xde0b6b3a7640000000", "0x7f110", "0x9184e72a000", "0x", null,
+                                null, null, "0x1", "0x2", (byte) 28)),
+                Collections.<String>emptyList(), null);
+
+        CompactBlock compactBlock = new CompactBlock(block);
+        assertThat(compactBlock.getNumber(), equalTo(0x1b4L));
+        assertThat(compactBlock.isPending(), equalTo(false));
+        assertThat(compactBlock.getHash(), equalTo(block.getHash32()));
+        assertThat(compactBlock.getMiner(), equalTo(block.getMinerAddress20()));
+        assertThat(compactBlock.getDifficulty(), equalTo(block.getDifficulty()));
+        assertThat(compactBlock.getTotalDifficulty(), equalTo(block.getTotalDifficulty()));
+        assertThat(compactBlock.getSize(), equalTo(0x220L));
+        assertThat(compactBlock.getGasLimit(), equalTo(0x1388L));
+        assertThat(compactBlock.getGasUsed(), equalTo(0L));
+        assertThat(compactBlock.getTimestamp(), equalTo(0x55ba467cL));
+        assertThat(compactBlock.getTransactionHashes(), equalTo(Collections.singletonList(
+                Hash32.of("0xc6ef2fc5426d6ad6fd9e2a26abeab0aa2411b7ab17f30a99d3cb96aed1d1055b"))));
+
+        CompactTransaction transaction = compactBlock.getTransactions().get(0);
+        assertThat(transaction.getNonce(), equalTo(0x15L));
+        assertThat(transaction.getBlockNumber(), equalTo(0x1b4L));
+        assertThat(transaction.getTransactionIndex(), equalTo(0L));
+        assertThat(transaction.getValue(), equalTo(new BigInteger("de0b6b3a7640000000", 16)));
+        assertThat(transaction.getGasPrice(), equalTo(BigInteger.valueOf(0x9184e72a000L)));
+        assertThat(transaction.getGas(), equalTo(0x7f110L));
+        assertThat(transaction.getV(), equalTo((byte) 28));
+        assertThat(transaction.getFrom(),
+                equalTo(Address20.of("0x407d73d8a49eeb85d32cf465507dd71d507100c1")));
+        // the block hash is shared by the block and its transactions
+        assertThat(transaction.getBlockHash(), sameInstance(compactBlock.getHash()));
+
+        assertThat(compactBlock, equalTo(new CompactBlock(block)));
+        assertThat(compactBlock.hashCode(), equalTo(new CompactBlock(block).hashCode()));
+    }
+
+    @Test
+    public void testBlockWithTransactionHashes() {
+        EthBlock.Block block = new EthBlock.Block();
+        block.setNumber("0x1");
+        block.setTransactions(Arrays.<EthBlock.TransactionResult>asList(
+                new EthBlock.TransactionHash(HASH_1), new EthBlock.TransactionHash(HASH_2)));
+
+        CompactBlock compactBlock = new CompactBlock(block);
+        assertThat(compactBlock.getTransactions().isEmpty(), equalTo(true));
+        assertThat(compactBlock.getTransactionHashes(),
+                equalTo(Arrays.asList(Hash32.of(HASH_1), Hash32.of(HASH_2))));
+    }
+
+    @Test
+    public void testPending() {
+        CompactBlock block = new CompactBlock(new EthBlock.Block());
+        assertThat(block.isPending(), equalTo(true));
+        assertThat(block.getNumber(), equalTo(-1L));
+        assertThat(block.getDifficulty(), nullValue());
+
+        Transaction transaction = new Transaction();
+        transaction.setHash(HASH_1);
+        transaction.setNonce("0x0");
+        transaction.setGas("0x5208");
+        CompactTransaction compactTransaction = new CompactTransaction(transaction);
+        assertThat(compactTransaction.isPending(), equalTo(true));
+        assertThat(compactTransaction.getBlockNumber(), equalTo(-1L));
+        assertThat(compactTransaction.getTransactionIndex(), equalTo(-1L));
+        assertThat(compactTransaction.getGas(), equalTo(21000L));
+
+        CompactLog log = new CompactLog(new Log());
+        assertThat(log.isPending(), equalTo(true));
+        assertThat(log.getLogIndex(), equalTo(-1L));
+        assertThat(log.getTransactionHash(), nullValue());
+    }
+
+    @Test
+    public void testTransactionReceipt() {
+        Log log = new Log(false, "0x1", "0x0",
+                "0xdf829c5a142f1fccd7d8216c5785ac562ff41e2dcfdf5785ac562ff41e2dcf00",
+                "0x8216c5785ac562ff41e2dcfdf5785ac562ff41e2dcfdf829c5a142f1fccd7d00",
+                "0x1b4", "0x16c5785ac562ff41e2dcfdf829c5a142f1fccd7d", "0x0000", "mined",
+                Collections.singletonList(
+                        "0x59ebeb90bc63057b6515673c3ecf9438e5058bca0f92585014eced636878c9a5"));
+        TransactionReceipt receipt = new TransactionReceipt(
+                "0xb903239f8543d04b5dc1ba6579132b143087c68db1b2168786408fcbce568238",
+                "0x1", "0xc6ef2fc5426d6ad6fd9e2a26abeab0aa2411b7ab17f30a99d3cb96aed1d1055b",
+                "0xb", "0x33bc", "0x4dc", null, "0x01",
+                "0x407d73d8a49eeb85d32cf465507dd71d507100c1",
+                "0x85d43d8a49eeb85d32cf465507dd71d507100c12",
+                Collections.singletonList(log), "0x00");
+
+        CompactTransactionReceipt compactReceipt = new CompactTransactionReceipt(receipt);
+        assertThat(compactReceipt.getTransactionIndex(), equalTo(1L));
+        assertThat(compactReceipt.getBlockNumber(), equalTo(11L));
+        assertThat(compactReceipt.getCumulativeGasUsed(), equalTo(0x33bcL));
+        assertThat(compactReceipt.getGasUsed(), equalTo(0x4dcL));
+        assertThat(compactReceipt.getContractAddress(), nullValue());
+
+        CompactLog compactLog = compactReceipt.getLogs().get(0);
+        assertThat(compactLog.getLogIndex(), equalTo(1L));
+        assertThat(compactLog.getTransactionIndex(), equalTo(0L));
+        assertThat(compactLog.getBlockNumber(), equalTo(0x1b4L));
+        assertThat(compactLog.getTransactionHash(), equalTo(log.getTransactionHash32().get()));
+        assertThat(compactLog.getAddress(), equalTo(log.getAddress20()));
+        assertThat(compactLog.getTopics(), equalTo(log.getTopicHashes()));
+        assertThat(compactLog.getTopics().get(0).toString(), equalTo(log.getTopics().get(0)));
+        assertThat(compactLog, equalTo(new CompactLog(log)));
+    }
+}
@@ -0,0 +1,174 @@
+package org.web3j.protocol.core.methods.response;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+
+import org.web3j.protocol.ObjectMapperFactory;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class ResponseReadersTest {
+
+    private static final String TRANSACTION =
+            "{\"hash\":\"0xc6ef2fc5426d6ad6fd9e2a26abeab0aa2411b7ab17f30a99d3cb96aed1d1055b\","
+            + "\"nonce\":\"0x\","
+            + "\"blockHash\":\"0xbeab0aa2411b7ab17f30a99d3cb9\","
+            + "\"blockNumber\":\"0x15df\","
+            + "\"transactionIndex\":\"0x1\","
+            + "\"from\":\"0x407d73d8a49eeb85d32cf465507dd71d507100c1\","
+            + "\"to\":\"0x85h43d8a49eeb85d32cf465507dd71d507100c1\","
+            + "\"value\":\"0x7f110\","
+            + "\"gas\":\"0x7f110\","
+            + "\"gasPrice\":\"0x09184e72a000\","
+            + "\"input\":\"0x603880600c6000396000f300603880600c6000396000f3603880600c6000396000f360\","
+            + "\"creates\":null,"
+            + "\"publicKey\":\"0x6614d7d7bfe989295821985de0439e868b26ff05f98ae0da0ce5bccc24ea368a\","
+            + "\"raw\":\"0xf8cd83103a048504a817c800830e57e0945927c5cc723c4486f93bf90bad3be8831139499e80b864140f8dd300000000000000000000000000000000000000000000000000000000000000a0000000000000000000000000000000000000000000000000000000000000000180000000000000000000000000000000000000000000000000000000000000180000000000000000000000000000000000000000000000000000000000000018\","
+            + "\"r\":\"0xf115cc4d7516dd430046504e1c888198e0323e8ded016d755f89c226ba3481dc\","
+            + "\"s\":\"0x4a2ae8ee49f1100b5c0202b37ed8bacf4caeddebde6b7f77e12e7a55893e9f62\","
+            + "\"v\":0}";
+
+    private static final String LOG =
+            "{\"removed\":false,"
+            + "\"logIndex\":\"0x1\","
+            + "\"transactionIndex\":\"0x0\","
+            + "\"transactionHash\":\"0xdf829c5a142f1fccd7d8216c5785ac562ff41e2dcfdf5785ac562ff41e2dcf\","
+            + "\"blockHash\":\"0x8216c5785ac562ff41e2dcfdf5785ac562ff41e2dcfdf829c5a142f1fccd7d\","
+            + "\"blockNumber\":\"0x1b4\","
+            + "\"address\":\"0x16c5785ac562ff41e2dcfdf829c5a142f1fccd7d\","
+            + "\"data\":\"0x0000000000000000000000000000000000000000000000000000000000000000\","
+            + "\"type\":\"mined\","
+            + "\"topics\":[\"0x59ebeb90bc63057b6515673c3ecf9438e5058bca0f92585014eced636878c9a5\"]}";
+
+    private final ObjectMapper objectMapper = ObjectMapperFactory.getObjectMapper();
+
+    @Test
+    public void testBlockWithTransactionObjects() throws Exception {
+        EthBlock ethBlock = objectMapper.readValue(
+                "{\"id\":1,\"jsonrpc\":\"2.0\",\"result\":{"
+                        + "\"number\":\"0x1b4\",\"hash\":\"0xdc0818cf78f21a8e70579cb46a43643f78291264dda342ae31049421c82d21ae\","
+                        + "\"gasLimit\":\"0x9f759\",\"timestamp\":\"0x54e34e8e\","
+                        + "\"transactions\":[" + TRANSACTION + "],"
+                        + "\"uncles\":[\"0x1606e5\",\"0xd5145a9\"],"
+                        + "\"sealFields\":null}}",
+                EthBlock.class);
+
+        EthBlock.Block block = ethBlock.getBlock().get();
+        assertThat(block.getNumber(), equalTo(BigInteger.valueOf(0x1b4)));
+        assertThat(block.getGasLimit(), equalTo(BigInteger.valueOf(0x9f759)));
+        assertThat(block.getParentHash(), nullValue());
+        assertThat(block.getUncles(), equalTo(Arrays.asList("0x1606e5", "0xd5145a9")));
+        assertThat(block.getSealFields(), nullValue());
+        assertThat(block.getTransactions().size(), equalTo(1));
+
+        EthBlock.TransactionObject transaction =
+                (EthBlock.TransactionObject) block.getTransactions().get(0);
+        assertThat(transaction, equalTo(
+                objectMapper.readValue(TRANSACTION, EthBlock.TransactionObject.class)));
+        assertThat(transaction.getCreates(), nullValue());
+        assertThat(transaction.getGas(), equalTo(BigInteger.valueOf(0x7f110)));
+    }
+
+    @Test
+    public void testBlockWithTransactionHashes() throws Exception {
+        EthBlock ethBlock = objectMapper.readValue(
+                "{\"id\":1,\"jsonrpc\":\"2.0\",\"result\":{"
+                        + "\"number\":\"0x1b4\",\"transactions\":[\"0x01\",\"0x02\"]}}",
+                EthBlock.class);
+
+        assertThat(ethBlock.getBlock().get().getTransactions(),
+                equalTo(Arrays.<EthBlock.TransactionResult>asList(
+                        new EthBlock.TransactionHash("0x01"),
+                        new EthBlock.TransactionHash("0x02"))));
+    }
+
+    @Test
+    public void testNullResults() throws Exception {
+        assertThat(objectMapper.readValue(
+                "{\"id\":1,\"jsonrpc\":\"2.0\",\"result\":null}", EthBlock.class)
+                .getBlock().isPresent(), equalTo(false));
+        assertThat(objectMapper.readValue(
+                "{\"id\":1,\"jsonrpc\":\"2.0\",\"result\":null}", EthTransaction.class)
+                .getTransaction().isPresent(), equalTo(false));
+        assertThat(objectMapper.readValue(
+                "{\"id\":1,\"jsonrpc\":\"2.0\",\"result\":null}", EthGetTransactionReceipt.class)
+                .getTransactionReceipt().isPresent(), equalTo(false));
+        assertThat(objectMapper.readValue(
+                "{\"id\":1,\"jsonrpc\":\"2.0\",\"result\":[]}", EthLog.class).getLogs(),
+                equalTo(Collections.<EthLog.LogResult>emptyList()));
+    }
+
+    @Test
+    public void testTransactionSignature() throws Exception {
+        Transaction transaction = objectMapper.readValue(
+                "{\"id\":1,\"jsonrpc\":\"2.0\",\"result\":" + TRANSACTION.replace(
+                        "\"v\":0", "\"v\":\"0x1c\"") + "}",
+                EthTransaction.class).getTransaction().get();
+        assertThat(transaction.getV(), equalTo((byte) 28));
+        assertThat(transaction.getR(),
+                equalTo("0xf115cc4d7516dd430046504e1c888198e0323e8ded016d755f89c226ba3481dc"));
+    }
+
+    @Test
+    public void testTransactionReceipt() throws Exception {
+        TransactionReceipt receipt = objectMapper.readValue(
+                "{\"id\":1,\"jsonrpc\":\"2.0\",\"result\":{"
+                        + "\"transactionHash\":\"0xb903239f8543d04b5dc1ba6579132b143087c68db1b2168786408fcbce568238\","
+                        + "\"transactionIndex\":\"0x1\","
+                        + "\"blockNumber\":\"0xb\","
+                        + "\"cumulativeGasUsed\":\"0x33bc\","
+                        + "\"gasUsed\":\"0x4dc\","
+                        + "\"contractAddress\":\"0xb60e8dd61c5d32be8058bb8eb970870f07233155\","
+                        + "\"logs\":[" + LOG + "],"
+                        + "\"logsBloom\":\"0x00\"}}",
+                EthGetTransactionReceipt.class).getTransactionReceipt().get();
+
+        assertThat(receipt.getGasUsed(), equalTo(BigInteger.valueOf(0x4dc)));
+        assertThat(receipt.getLogs(), equalTo(Collections.singletonList(
+                objectMapper.readValue(LOG, Log.class))));
+    }
+
+    @Test
+    public void testLogs() throws Exception {
+        EthLog ethLog = objectMapper.readValue(
+                "{\"id\":1,\"jsonrpc\":\"2.0\",\"result\":[" + LOG + "," + LOG + "]}",
+                EthLog.class);
+
+        EthLog.LogObject log = objectMapper.readValue(LOG, EthLog.LogObject.class);
+        assertThat(ethLog.getLogs(), equalTo(Arrays.<EthLog.LogResult>asList(log, log)));
+
+        EthLog hashes = objectMapper.readValue(
+                "{\"id\":1,\"jsonrpc\":\"2.0\",\"result\":[\"0x01\"]}", EthLog.class);
+        assertThat(hashes.getLogs(), equalTo(
+                Collections.<EthLog.LogResult>singletonList(new EthLog.Hash("0x01"))));
+    }
+
+    @Test
+    public void testUnknownProperties() throws Exception {
+        String json = "{\"id\":1,\"jsonrpc\":\"2.0\",\"result\":"
+                + TRANSACTION.replace("\"v\":0", "\"v\":0,\"chainId\":{\"id\":[1]}") + "}";
+
+        try {
+            objectMapper.readValue(json, EthTransaction.class);
+            fail();
+        } catch (JsonMappingException e) {
+            assertThat(e.getMessage().contains("chainId"), equalTo(true));
+        }
+
+        Transaction transaction = new ObjectMapper()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .readValue(json, EthTransaction.class)
+                .getTransaction().get();
+        assertThat(transaction.getHash(),
+                equalTo("0xc6ef2fc5426d6ad6fd9e2a26abeab0aa2411b7ab17f30a99d3cb96aed1d1055b"));
+    }
+}
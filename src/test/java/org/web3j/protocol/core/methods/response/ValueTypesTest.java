@@ -0,0 +1,96 @@
+package org.web3j.protocol.core.methods.response;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import org.web3j.protocol.exceptions.MessageDecodingException;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class ValueTypesTest {
+
+    private static final String ADDRESS = "0x407d73d8a49eeb85d32cf465507dd71d507100c1";
+    private static final String HASH =
+            "0xc6ef2fc5426d6ad6fd9e2a26abeab0aa2411b7ab17f30a99d3cb96aed1d1055b";
+
+    @Test
+    public void testAddress() {
+        Address20 address = Address20.of(ADDRESS);
+        assertThat(address.toString(), equalTo(ADDRESS));
+        assertThat(Address20.of("0x407D73D8A49EEB85D32CF465507DD71D507100C1"), equalTo(address));
+        assertThat(Address20.of(ADDRESS.substring(2)), equalTo(address));
+        assertThat(Address20.of(address.toBytes()), equalTo(address));
+        assertThat(address.hashCode(), equalTo(Address20.of(ADDRESS).hashCode()));
+        assertThat(Address20.of("0x0000000000000000000000000000000000000000").toString(),
+                equalTo("0x0000000000000000000000000000000000000000"));
+        assertThat(Address20.of("0xffffffffffffffffffffffffffffffffffffffff").toString(),
+                equalTo("0xffffffffffffffffffffffffffffffffffffffff"));
+        assertThat(Address20.of((String) null), nullValue());
+        assertThat(Address20.of("0x407d73d8a49eeb85d32cf465507dd71d507100c2"),
+                not(equalTo(address)));
+    }
+
+    @Test
+    public void testHash() {
+        Hash32 hash = Hash32.of(HASH);
+        assertThat(hash.toString(), equalTo(HASH));
+        assertThat(Hash32.of(hash.toBytes()), equalTo(hash));
+        assertThat(hash.hashCode(), equalTo(Hash32.of(HASH).hashCode()));
+        assertThat(Hash32.of((String) null), nullValue());
+        assertThat(Hash32.of(HASH.replace('c', 'd')), not(equalTo(hash)));
+    }
+
+    @Test
+    public void testOrdering() {
+        Address20 low = Address20.of("0x0000000000000000000000000000000000000001");
+        Address20 high = Address20.of("0xf000000000000000000000000000000000000000");
+        assertThat(low.compareTo(high) < 0, equalTo(true));
+        assertThat(high.compareTo(low) > 0, equalTo(true));
+        assertThat(low.compareTo(Address20.of(low.toString())), equalTo(0));
+
+        Hash32 hash = Hash32.of(HASH);
+        assertThat(hash.compareTo(Hash32.of(HASH.replace("55b", "55c"))) < 0, equalTo(true));
+    }
+
+    @Test
+    public void testInterning() {
+        Address20 address = Address20.of(ADDRESS);
+        Address20 canonical = address.intern();
+        assertThat(Address20.of(ADDRESS).intern(), sameInstance(canonical));
+        assertThat(Address20.interned(ADDRESS), sameInstance(canonical));
+        assertThat(Address20.interned(null), nullValue());
+
+        Hash32 hash = Hash32.interned(HASH);
+        assertThat(Hash32.of(HASH).intern(), sameInstance(hash));
+        assertThat(Hash32.ofAll(Arrays.asList(HASH, HASH), true).get(1), sameInstance(hash));
+    }
+
+    @Test
+    public void testWeakInterner() {
+        WeakInterner<String> interner = new WeakInterner<>();
+        String value = new String("value");
+        assertThat(interner.intern(value), sameInstance(value));
+        assertThat(interner.intern(new String("value")), sameInstance(value));
+        assertThat(interner.size(), equalTo(1));
+    }
+
+    @Test(expected = MessageDecodingException.class)
+    public void testInvalidLength() {
+        Address20.of(HASH);
+    }
+
+    @Test(expected = MessageDecodingException.class)
+    public void testInvalidHex() {
+        Hash32.of(HASH.replace('c', 'g'));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidBytes() {
+        Address20.of(new byte[32]);
+    }
+}
@@ -0,0 +1,181 @@
+package org.web3j.protocol.decorators;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.client.ClientProtocolException;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.methods.response.EthBlockNumber;
+import org.web3j.protocol.exceptions.BatchRejectedException;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class BatchingWeb3jServiceTest {
+
+    private StubWeb3jService stubWeb3jService;
+
+    @Before
+    public void setUp() {
+        stubWeb3jService = new StubWeb3jService();
+    }
+
+    @Test
+    public void testBatchSentWhenFull() throws Exception {
+        Web3j web3j = Web3j.build(
+                new BatchingWeb3jService(stubWeb3jService, 1, TimeUnit.HOURS, 3));
+
+        List<Request<?, EthBlockNumber>> requests = new ArrayList<>();
+        List<CompletableFuture<EthBlockNumber>> responses = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Request<?, EthBlockNumber> request = web3j.ethBlockNumber();
+            requests.add(request);
+            responses.add(request.sendAsync());
+        }
+
+        assertThat(stubWeb3jService.batches.size(), is(1));
+        assertThat(stubWeb3jService.batches.get(0).size(), is(3));
+        for (int i = 0; i < 3; i++) {
+            assertThat(responses.get(i).get().getResult(),
+                    is(StubWeb3jService.result(requests.get(i))));
+        }
+    }
+
+    @Test
+    public void testBatchSentAfterWindow() throws Exception {
+        Web3j web3j = Web3j.build(
+                new BatchingWeb3jService(stubWeb3jService, 20, TimeUnit.MILLISECONDS, 100));
+
+        CompletableFuture<EthBlockNumber> first = web3j.ethBlockNumber().sendAsync();
+        CompletableFuture<EthBlockNumber> second = web3j.ethBlockNumber().sendAsync();
+        assertThat(stubWeb3jService.batches.size(), is(0));
+
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+        assertThat(stubWeb3jService.batches.size(), is(1));
+        assertThat(stubWeb3jService.batches.get(0).size(), is(2));
+    }
+
+    @Test
+    public void testSingleRequestNotBatched() throws Exception {
+        Web3j web3j = Web3j.build(
+                new BatchingWeb3jService(stubWeb3jService, 1, TimeUnit.MILLISECONDS, 100));
+
+        Request<?, EthBlockNumber> request = web3j.ethBlockNumber();
+        assertThat(request.sendAsync().get(5, TimeUnit.SECONDS).getResult(),
+                is(StubWeb3jService.result(request)));
+        assertThat(stubWeb3jService.batches.size(), is(0));
+        assertThat(stubWeb3jService.requests.size(), is(1));
+    }
+
+    @Test
+    public void testSendNotDelayed() throws Exception {
+        Web3j web3j = Web3j.build(
+                new BatchingWeb3jService(stubWeb3jService, 1, TimeUnit.HOURS, 100));
+
+        Request<?, EthBlockNumber> request = web3j.ethBlockNumber();
+        assertThat(request.send().getResult(), is(StubWeb3jService.result(request)));
+    }
+
+    @Test
+    public void testBatchFailureFailsAllRequests() throws Exception {
+        stubWeb3jService.failure = new IOException("connection refused");
+        Web3j web3j = Web3j.build(
+                new BatchingWeb3jService(stubWeb3jService, 1, TimeUnit.HOURS, 2));
+
+        CompletableFuture<EthBlockNumber> first = web3j.ethBlockNumber().sendAsync();
+        CompletableFuture<EthBlockNumber> second = web3j.ethBlockNumber().sendAsync();
+
+        for (CompletableFuture<EthBlockNumber> response : Arrays.asList(first, second)) {
+            try {
+                response.get();
+                fail();
+            } catch (ExecutionException e) {
+                assertThat(e.getCause(), instanceOf(IOException.class));
+            }
+        }
+    }
+
+    @Test
+    public void testRejectedBatchSentIndividually() throws Exception {
+        stubWeb3jService.batchFailure = new BatchRejectedException("Batch rejected: {}");
+        Web3j web3j = Web3j.build(
+                new BatchingWeb3jService(stubWeb3jService, 1, TimeUnit.HOURS, 2));
+
+        Request<?, EthBlockNumber> firstRequest = web3j.ethBlockNumber();
+        Request<?, EthBlockNumber> secondRequest = web3j.ethBlockNumber();
+        CompletableFuture<EthBlockNumber> first = firstRequest.sendAsync();
+        CompletableFuture<EthBlockNumber> second = secondRequest.sendAsync();
+
+        assertThat(first.get(5, TimeUnit.SECONDS).getResult(),
+                is(StubWeb3jService.result(firstRequest)));
+        assertThat(second.get(5, TimeUnit.SECONDS).getResult(),
+                is(StubWeb3jService.result(secondRequest)));
+        assertThat(stubWeb3jService.batches.size(), is(1));
+        assertThat(stubWeb3jService.requests.size(), is(2));
+    }
+
+    @Test
+    public void testErrorStatusNotSentIndividually() throws Exception {
+        assertBatchFailed(new ClientProtocolException("Unexpected response status: 502"));
+    }
+
+    @Test
+    public void testPartialBatchNotSentIndividually() throws Exception {
+        assertBatchFailed(new ClientProtocolException("No batch response for request: 1"));
+    }
+
+    @Test
+    public void testNullBatchResponseFails() throws Exception {
+        stubWeb3jService.nullBatchResponse = true;
+        assertBatchFailed(null);
+    }
+
+    private void assertBatchFailed(IOException batchFailure) throws Exception {
+        stubWeb3jService.batchFailure = batchFailure;
+        Web3j web3j = Web3j.build(
+                new BatchingWeb3jService(stubWeb3jService, 1, TimeUnit.HOURS, 2));
+
+        CompletableFuture<EthBlockNumber> first = web3j.ethBlockNumber().sendAsync();
+        CompletableFuture<EthBlockNumber> second = web3j.ethBlockNumber().sendAsync();
+        for (CompletableFuture<EthBlockNumber> response : Arrays.asList(first, second)) {
+            try {
+                response.get(5, TimeUnit.SECONDS);
+                fail();
+            } catch (ExecutionException e) {
+                assertThat(e.getCause(), instanceOf(IOException.class));
+                if (batchFailure != null) {
+                    assertThat(e.getCause(), is((Throwable) batchFailure));
+                }
+            }
+        }
+        assertThat(stubWeb3jService.batches.size(), is(1));
+        assertThat(stubWeb3jService.requests.size(), is(0));
+    }
+
+    @Test
+    public void testCloseSendsPendingRequests() throws Exception {
+        BatchingWeb3jService batchingWeb3jService =
+                new BatchingWeb3jService(stubWeb3jService, 1, TimeUnit.HOURS, 100);
+        Web3j web3j = Web3j.build(batchingWeb3jService);
+
+        CompletableFuture<EthBlockNumber> first = web3j.ethBlockNumber().sendAsync();
+        CompletableFuture<EthBlockNumber> second = web3j.ethBlockNumber().sendAsync();
+        batchingWeb3jService.close();
+
+        assertThat(first.isDone() && second.isDone(), is(true));
+        assertThat(stubWeb3jService.batches.size(), is(1));
+        assertThat(stubWeb3jService.closed, is(true));
+    }
+}
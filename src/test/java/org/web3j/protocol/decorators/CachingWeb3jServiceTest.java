@@ -0,0 +1,112 @@
+package org.web3j.protocol.decorators;
+
+import java.math.BigInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.DefaultBlockParameterNumber;
+import org.web3j.protocol.core.methods.request.Transaction;
+import org.web3j.protocol.core.methods.response.EthBlock;
+import org.web3j.protocol.core.methods.response.EthGetTransactionReceipt;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
+
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+public class CachingWeb3jServiceTest {
+
+    private static final String ADDRESS = "0x407d73d8a49eeb85d32cf465507dd71d507100c1";
+    private static final String BLOCK_HASH =
+            "0xe670ec64341771606e55d6b4ca35a1a6b75ee3d5145a99d05921026d1527331";
+    private static final String TRANSACTION_HASH =
+            "0xb903239f8543d04b5dc1ba6579132b143087c68db1b2168786408fcbce568238";
+
+    private StubWeb3jService stubWeb3jService;
+    private CachingWeb3jService cachingWeb3jService;
+    private Web3j web3j;
+
+    @Before
+    public void setUp() {
+        stubWeb3jService = new StubWeb3jService();
+        cachingWeb3jService = new CachingWeb3jService(stubWeb3jService, 2);
+        web3j = Web3j.build(cachingWeb3jService);
+    }
+
+    @Test
+    public void testBlockByHashCached() throws Exception {
+        stubWeb3jService.results.put("eth_getBlockByHash", new EthBlock.Block());
+
+        EthBlock first = web3j.ethGetBlockByHash(BLOCK_HASH, false).send();
+        EthBlock second = web3j.ethGetBlockByHash(BLOCK_HASH, false).sendAsync().get();
+
+        assertThat(second, sameInstance(first));
+        assertThat(stubWeb3jService.requests.size(), is(1));
+        assertThat(cachingWeb3jService.getMissCount(), is(1L));
+        assertThat(cachingWeb3jService.getHitCount(), is(1L));
+        assertThat(cachingWeb3jService.getHitRate(), is(0.5));
+    }
+
+    @Test
+    public void testStateAtBlockNumberCached() throws Exception {
+        DefaultBlockParameterNumber blockNumber =
+                new DefaultBlockParameterNumber(BigInteger.valueOf(1_000_000));
+
+        web3j.ethGetCode(ADDRESS, blockNumber).send();
+        web3j.ethGetCode(ADDRESS, blockNumber).send();
+        web3j.ethCall(Transaction.createEthCallTransaction(ADDRESS, "0x"), blockNumber).send();
+        web3j.ethCall(Transaction.createEthCallTransaction(ADDRESS, "0x"), blockNumber).send();
+
+        assertThat(stubWeb3jService.requests.size(), is(2));
+        assertThat(cachingWeb3jService.getHitCount(), is(2L));
+    }
+
+    @Test
+    public void testLatestAndPendingNotCached() throws Exception {
+        web3j.ethGetCode(ADDRESS, DefaultBlockParameterName.LATEST).send();
+        web3j.ethGetCode(ADDRESS, DefaultBlockParameterName.LATEST).send();
+        web3j.ethGetBalance(ADDRESS, DefaultBlockParameterName.PENDING).send();
+        web3j.ethGetBalance(ADDRESS, DefaultBlockParameterName.PENDING).send();
+        web3j.ethCall(Transaction.createEthCallTransaction(ADDRESS, "0x"),
+                DefaultBlockParameterName.LATEST).send();
+        web3j.ethBlockNumber().send();
+
+        assertThat(stubWeb3jService.requests.size(), is(6));
+        assertThat(cachingWeb3jService.getHitCount(), is(0L));
+        assertThat(cachingWeb3jService.getMissCount(), is(0L));
+        assertThat(cachingWeb3jService.size(), is(0));
+    }
+
+    @Test
+    public void testReceiptCachedOnceMined() throws Exception {
+        stubWeb3jService.results.put("eth_getTransactionReceipt", null);
+        web3j.ethGetTransactionReceipt(TRANSACTION_HASH).send();
+        assertThat(cachingWeb3jService.size(), is(0));
+
+        TransactionReceipt transactionReceipt = new TransactionReceipt();
+        transactionReceipt.setBlockHash(BLOCK_HASH);
+        stubWeb3jService.results.put("eth_getTransactionReceipt", transactionReceipt);
+        EthGetTransactionReceipt mined = web3j.ethGetTransactionReceipt(TRANSACTION_HASH).send();
+        assertThat(web3j.ethGetTransactionReceipt(TRANSACTION_HASH).send(), sameInstance(mined));
+        assertThat(stubWeb3jService.requests.size(), is(2));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEvicted() throws Exception {
+        web3j.web3Sha3("0x01").send();
+        web3j.web3Sha3("0x02").send();
+        web3j.web3Sha3("0x01").send();  // 0x02 now least recently used
+        web3j.web3Sha3("0x03").send();
+
+        assertThat(cachingWeb3jService.getEvictionCount(), is(1L));
+        assertThat(cachingWeb3jService.size(), is(2));
+
+        web3j.web3Sha3("0x01").send();
+        assertThat(stubWeb3jService.requests.size(), is(3));
+        web3j.web3Sha3("0x02").send();
+        assertThat(stubWeb3jService.requests.size(), is(4));
+    }
+}
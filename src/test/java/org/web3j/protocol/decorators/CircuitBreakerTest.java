@@ -0,0 +1,87 @@
+package org.web3j.protocol.decorators;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+public class CircuitBreakerTest {
+
+    private long time;
+    private CircuitBreaker circuitBreaker;
+
+    @Before
+    public void setUp() {
+        circuitBreaker = new CircuitBreaker(3, 10, TimeUnit.SECONDS, () -> time);
+    }
+
+    @Test
+    public void testOpensAfterConsecutiveFailures() {
+        fail(2);
+        succeed();
+        fail(2);
+        assertThat(circuitBreaker.getState(), is(CircuitBreaker.State.CLOSED));
+
+        fail(1);
+        assertThat(circuitBreaker.getState(), is(CircuitBreaker.State.OPEN));
+        assertThat(circuitBreaker.tryAcquire(), is(false));
+        assertThat(circuitBreaker.getRejectedCount(), is(1L));
+    }
+
+    @Test
+    public void testClosesAfterSuccessfulTrial() {
+        fail(3);
+        time += TimeUnit.SECONDS.toNanos(9);
+        assertThat(circuitBreaker.tryAcquire(), is(false));
+
+        time += TimeUnit.SECONDS.toNanos(1);
+        assertThat(circuitBreaker.tryAcquire(), is(true));
+        assertThat(circuitBreaker.getState(), is(CircuitBreaker.State.HALF_OPEN));
+        // only a single trial request is allowed
+        assertThat(circuitBreaker.tryAcquire(), is(false));
+
+        circuitBreaker.onSuccess();
+        assertThat(circuitBreaker.getState(), is(CircuitBreaker.State.CLOSED));
+        assertThat(circuitBreaker.tryAcquire(), is(true));
+    }
+
+    @Test
+    public void testReopensAfterFailedTrial() {
+        fail(3);
+        time += TimeUnit.SECONDS.toNanos(10);
+        assertThat(circuitBreaker.tryAcquire(), is(true));
+        circuitBreaker.onFailure();
+
+        assertThat(circuitBreaker.getState(), is(CircuitBreaker.State.OPEN));
+        time += TimeUnit.SECONDS.toNanos(5);
+        assertThat(circuitBreaker.tryAcquire(), is(false));
+    }
+
+    @Test
+    public void testIgnoredTrialLeavesBreakerHalfOpen() {
+        fail(3);
+        time += TimeUnit.SECONDS.toNanos(10);
+        assertThat(circuitBreaker.tryAcquire(), is(true));
+        circuitBreaker.onIgnored();
+
+        assertThat(circuitBreaker.getState(), is(CircuitBreaker.State.HALF_OPEN));
+        // another trial request is allowed in its place
+        assertThat(circuitBreaker.tryAcquire(), is(true));
+        assertThat(circuitBreaker.tryAcquire(), is(false));
+    }
+
+    private void fail(int count) {
+        for (int i = 0; i < count; i++) {
+            assertThat(circuitBreaker.tryAcquire(), is(true));
+            circuitBreaker.onFailure();
+        }
+    }
+
+    private void succeed() {
+        assertThat(circuitBreaker.tryAcquire(), is(true));
+        circuitBreaker.onSuccess();
+    }
+}
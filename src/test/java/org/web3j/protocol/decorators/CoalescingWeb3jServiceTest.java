@@ -0,0 +1,137 @@
+package org.web3j.protocol.decorators;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.methods.response.EthBlockNumber;
+import org.web3j.protocol.core.methods.response.EthGetBalance;
+import org.web3j.protocol.core.methods.response.EthSendTransaction;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class CoalescingWeb3jServiceTest {
+
+    private StubWeb3jService stubWeb3jService;
+    private CoalescingWeb3jService coalescingWeb3jService;
+    private Web3j web3j;
+
+    @Before
+    public void setUp() {
+        stubWeb3jService = new StubWeb3jService();
+        stubWeb3jService.holdResponses = true;
+        coalescingWeb3jService = new CoalescingWeb3jService(stubWeb3jService);
+        web3j = Web3j.build(coalescingWeb3jService);
+    }
+
+    @Test
+    public void testIdenticalRequestsCoalesced() throws Exception {
+        CompletableFuture<EthBlockNumber> first = web3j.ethBlockNumber().sendAsync();
+        CompletableFuture<EthBlockNumber> second = web3j.ethBlockNumber().sendAsync();
+        assertThat(stubWeb3jService.requests.size(), is(0));
+
+        stubWeb3jService.releaseResponses();
+        assertThat(stubWeb3jService.requests.size(), is(1));
+        assertThat(first.get(), sameInstance(second.get()));
+        assertThat(coalescingWeb3jService.getCoalescedCount(), is(1L));
+
+        // subsequent requests are sent once the outstanding request has completed
+        CompletableFuture<EthBlockNumber> third = web3j.ethBlockNumber().sendAsync();
+        stubWeb3jService.releaseResponses();
+        assertThat(stubWeb3jService.requests.size(), is(2));
+        assertThat(third.get().getResult(),
+                is(StubWeb3jService.result(stubWeb3jService.requests.get(1))));
+    }
+
+    @Test
+    public void testDifferentParamsNotCoalesced() throws Exception {
+        CompletableFuture<EthGetBalance> first = web3j.ethGetBalance(
+                "0x407d73d8a49eeb85d32cf465507dd71d507100c1",
+                DefaultBlockParameterName.LATEST).sendAsync();
+        CompletableFuture<EthGetBalance> second = web3j.ethGetBalance(
+                "0x407d73d8a49eeb85d32cf465507dd71d507100c2",
+                DefaultBlockParameterName.LATEST).sendAsync();
+
+        stubWeb3jService.releaseResponses();
+        assertThat(stubWeb3jService.requests.size(), is(2));
+        assertThat(first.get() == second.get(), is(false));
+    }
+
+    @Test
+    public void testSendRawTransactionNeverCoalesced() throws Exception {
+        CompletableFuture<EthSendTransaction> first =
+                web3j.ethSendRawTransaction("0xd46e8dd67c5d32be").sendAsync();
+        CompletableFuture<EthSendTransaction> second =
+                web3j.ethSendRawTransaction("0xd46e8dd67c5d32be").sendAsync();
+
+        stubWeb3jService.releaseResponses();
+        first.get();
+        second.get();
+        assertThat(stubWeb3jService.requests.size(), is(2));
+        assertThat(coalescingWeb3jService.getCoalescedCount(), is(0L));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSideEffectingMethodRejected() {
+        new CoalescingWeb3jService(
+                stubWeb3jService, Collections.singleton("eth_sendRawTransaction"));
+    }
+
+    @Test
+    public void testFailureShared() throws Exception {
+        stubWeb3jService.failure = new IOException("connection refused");
+        CompletableFuture<EthBlockNumber> first = web3j.ethBlockNumber().sendAsync();
+        CompletableFuture<EthBlockNumber> second = web3j.ethBlockNumber().sendAsync();
+        stubWeb3jService.releaseResponses();
+
+        for (CompletableFuture<EthBlockNumber> response : Arrays.asList(first, second)) {
+            try {
+                response.get();
+                fail();
+            } catch (ExecutionException e) {
+                assertThat(e.getCause(), instanceOf(IOException.class));
+            }
+        }
+        assertThat(stubWeb3jService.requests.size(), is(1));
+    }
+
+    @Test
+    public void testSynchronousFailureNotShared() throws Exception {
+        stubWeb3jService.asyncFailure = new IllegalStateException("closed");
+        try {
+            web3j.ethBlockNumber().sendAsync();
+            fail();
+        } catch (IllegalStateException e) {
+            assertThat(e.getMessage(), is("closed"));
+        }
+
+        stubWeb3jService.asyncFailure = null;
+        CompletableFuture<EthBlockNumber> response = web3j.ethBlockNumber().sendAsync();
+        stubWeb3jService.releaseResponses();
+        assertThat(response.get(5, TimeUnit.SECONDS).getResult(),
+                is(StubWeb3jService.result(stubWeb3jService.requests.get(0))));
+    }
+
+    @Test
+    public void testCancellationNotShared() throws Exception {
+        CompletableFuture<EthBlockNumber> first = web3j.ethBlockNumber().sendAsync();
+        CompletableFuture<EthBlockNumber> second = web3j.ethBlockNumber().sendAsync();
+        first.cancel(false);
+
+        stubWeb3jService.releaseResponses();
+        assertThat(second.get().getResult(),
+                is(StubWeb3jService.result(stubWeb3jService.requests.get(0))));
+    }
+}
@@ -0,0 +1,161 @@
+package org.web3j.protocol.decorators;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.methods.response.EthBlockNumber;
+import org.web3j.protocol.exceptions.ConcurrencyLimitExceededException;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ConcurrencyLimitingWeb3jServiceTest {
+
+    private StubWeb3jService stubService;
+    private ConcurrencyLimitingWeb3jService limitingService;
+    private Web3j web3j;
+
+    @Before
+    public void setUp() {
+        stubService = new StubWeb3jService();
+        limitingService = new ConcurrencyLimitingWeb3jService(stubService, 2, 1, 100, 3);
+        web3j = Web3j.build(limitingService);
+    }
+
+    @Test
+    public void testRequestsBeyondLimitQueued() throws Exception {
+        stubService.holdResponses = true;
+
+        List<CompletableFuture<EthBlockNumber>> responses = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            responses.add(web3j.ethBlockNumber().sendAsync());
+        }
+        assertThat(limitingService.getInFlight(), is(2));
+        assertThat(limitingService.getQueueSize(), is(3));
+
+        stubService.holdResponses = false;
+        stubService.releaseResponses();
+        for (CompletableFuture<EthBlockNumber> response : responses) {
+            response.get(1, TimeUnit.SECONDS);
+        }
+        assertThat(stubService.requests.size(), is(5));
+        assertThat(limitingService.getInFlight(), is(0));
+        assertThat(limitingService.getQueueSize(), is(0));
+    }
+
+    @Test
+    public void testRequestsRejectedWhenQueueFull() throws Exception {
+        stubService.holdResponses = true;
+        for (int i = 0; i < 5; i++) {
+            web3j.ethBlockNumber().sendAsync();
+        }
+
+        try {
+            web3j.ethBlockNumber().sendAsync().get(1, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), instanceOf(ConcurrencyLimitExceededException.class));
+        }
+        try {
+            web3j.ethBlockNumber().send();
+            fail();
+        } catch (ConcurrencyLimitExceededException e) {
+            // expected
+        }
+        assertThat(limitingService.getRejectedCount(), is(2L));
+    }
+
+    @Test
+    public void testCancelledRequestsLeaveQueue() throws Exception {
+        stubService.holdResponses = true;
+        web3j.ethBlockNumber().sendAsync();
+        web3j.ethBlockNumber().sendAsync();
+        CompletableFuture<EthBlockNumber> queued = web3j.ethBlockNumber().sendAsync();
+        assertThat(limitingService.getQueueSize(), is(1));
+
+        queued.cancel(false);
+        assertThat(limitingService.getQueueSize(), is(0));
+
+        stubService.holdResponses = false;
+        stubService.releaseResponses();
+        assertThat(stubService.requests.size(), is(2));
+        assertThat(limitingService.getInFlight(), is(0));
+    }
+
+    @Test
+    public void testFailuresReduceLimit() throws Exception {
+        stubService.failure = new IOException("timeout");
+        ConcurrencyLimitingWeb3jService service =
+                new ConcurrencyLimitingWeb3jService(stubService, 50, 5, 100, 10);
+
+        for (int i = 0; i < 100; i++) {
+            try {
+                Web3j.build(service).ethBlockNumber().send();
+                fail();
+            } catch (IOException e) {
+                // expected
+            }
+        }
+        assertThat(service.getLimit(), is(5));
+        assertThat(service.getInFlight(), is(0));
+    }
+
+    @Test
+    public void testLimitAdaptsToRoundTripTimes() {
+        ConcurrencyLimitingWeb3jService service =
+                new ConcurrencyLimitingWeb3jService(stubService, 10, 1, 100, 10);
+
+        // no growth without the demand to justify it
+        for (int i = 0; i < 100; i++) {
+            service.updateLimit(TimeUnit.MILLISECONDS.toNanos(10), false);
+        }
+        assertThat(service.getLimit(), is(10));
+
+        stubService.holdResponses = true;
+        for (int i = 0; i < 10; i++) {
+            Web3j.build(service).ethBlockNumber().sendAsync();
+        }
+
+        // stable round trip times with the limit reached
+        for (int i = 0; i < 100; i++) {
+            service.updateLimit(TimeUnit.MILLISECONDS.toNanos(10), false);
+        }
+        int grownLimit = service.getLimit();
+        assertTrue("limit " + grownLimit, grownLimit > 10);
+
+        // rising round trip times
+        for (int i = 0; i < 20; i++) {
+            service.updateLimit(TimeUnit.MILLISECONDS.toNanos(50), false);
+        }
+        assertTrue("limit " + service.getLimit(), service.getLimit() < grownLimit / 2);
+    }
+
+    @Test
+    public void testZeroRoundTripTime() {
+        ConcurrencyLimitingWeb3jService service =
+                new ConcurrencyLimitingWeb3jService(stubService, 10, 1, 100, 10);
+        stubService.holdResponses = true;
+        for (int i = 0; i < 10; i++) {
+            Web3j.build(service).ethBlockNumber().sendAsync();
+        }
+
+        for (int i = 0; i < 10; i++) {
+            service.updateLimit(0, false);
+        }
+        assertThat(service.getLimit() >= 10, is(true));
+
+        service.updateLimit(TimeUnit.MILLISECONDS.toNanos(10), false);
+        assertThat(service.getLimit() >= 1, is(true));
+    }
+}
@@ -0,0 +1,168 @@
+package org.web3j.protocol.decorators;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.methods.response.EthBlockNumber;
+import org.web3j.protocol.core.methods.response.EthSendTransaction;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class HedgingWeb3jServiceTest {
+
+    private StubWeb3jService first;
+    private StubWeb3jService second;
+    private HedgingWeb3jService hedgingService;
+    private Web3j web3j;
+
+    @Before
+    public void setUp() {
+        first = new StubWeb3jService();
+        second = new StubWeb3jService();
+        hedgingService = new HedgingWeb3jService(Arrays.asList(first, second));
+        web3j = Web3j.build(hedgingService);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        hedgingService.close();
+    }
+
+    @Test
+    public void testNoHedgingUntilLatenciesRecorded() throws Exception {
+        first.holdResponses = true;
+        CompletableFuture<EthBlockNumber> response = web3j.ethBlockNumber().sendAsync();
+        Thread.sleep(50);
+
+        assertThat(response.isDone(), is(false));
+        assertThat(hedgingService.getHedgeCount(), is(0L));
+        first.releaseResponses();
+        assertThat(response.isDone(), is(true));
+    }
+
+    @Test
+    public void testSlowRequestHedged() throws Exception {
+        warmUp();
+        first.holdResponses = true;
+
+        // one request goes to each service first
+        Request<?, EthBlockNumber> slow = web3j.ethBlockNumber();
+        CompletableFuture<EthBlockNumber> slowResponse = slow.sendAsync();
+        Request<?, EthBlockNumber> fast = web3j.ethBlockNumber();
+        CompletableFuture<EthBlockNumber> fastResponse = fast.sendAsync();
+
+        assertThat(slowResponse.get(1, TimeUnit.SECONDS).getResult(),
+                is(StubWeb3jService.result(slow)));
+        assertThat(fastResponse.get(1, TimeUnit.SECONDS).getResult(),
+                is(StubWeb3jService.result(fast)));
+
+        HedgingWeb3jService.HedgeStats stats = hedgingService.getHedgeStats("eth_blockNumber");
+        assertThat(stats.getHedgeCount(), is(1L));
+        assertThat(stats.getHedgeWinCount(), is(1L));
+        assertThat(hedgingService.getHedgeWinCount(), is(1L));
+    }
+
+    @Test
+    public void testLatencyTimedFromOriginalRequest() throws Exception {
+        first.holdResponses = true;
+        second.holdResponses = true;
+        for (int i = 0; i < HedgingWeb3jService.MIN_SAMPLES; i++) {
+            web3j.ethBlockNumber().sendAsync();
+        }
+        Thread.sleep(20);
+        first.releaseResponses();
+        second.releaseResponses();
+        second.holdResponses = false;
+
+        HedgingWeb3jService.HedgeStats stats = hedgingService.getHedgeStats("eth_blockNumber");
+        web3j.ethBlockNumber().sendAsync().get(1, TimeUnit.SECONDS);
+        assertThat(stats.getHedgeWinCount(), is(1L));
+
+        // the winning hedge answered at once, but only after the hedge delay
+        assertThat(stats.getLatencies().getCount(),
+                is(HedgingWeb3jService.MIN_SAMPLES + 1L));
+        assertThat(stats.getLatencies().getValueAtPercentile(0, TimeUnit.MILLISECONDS) >= 10,
+                is(true));
+        first.releaseResponses();
+    }
+
+    @Test
+    public void testHedgesLimitedByBudget() throws Exception {
+        warmUp();
+        first.holdResponses = true;
+        second.holdResponses = true;
+
+        for (int i = 0; i < 10; i++) {
+            web3j.ethBlockNumber().sendAsync();
+        }
+        Thread.sleep(50);
+
+        // a budget of 10% over 30 requests
+        assertThat(hedgingService.getHedgeCount(), is(3L));
+        first.releaseResponses();
+        second.releaseResponses();
+    }
+
+    @Test
+    public void testFailsWhenAllAttemptsFail() throws Exception {
+        warmUp();
+        first.holdResponses = true;
+        first.failure = new IOException("first");
+        second.failure = new IOException("second");
+
+        CompletableFuture<EthBlockNumber> response = web3j.ethBlockNumber().sendAsync();
+        Thread.sleep(50);
+        assertThat(response.isDone(), is(false));
+
+        first.releaseResponses();
+        try {
+            response.get(1, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), instanceOf(IOException.class));
+        }
+        assertThat(hedgingService.getHedgeCount(), is(1L));
+        assertThat(hedgingService.getHedgeWinCount(), is(0L));
+    }
+
+    @Test
+    public void testTransactionsNotHedged() throws Exception {
+        warmUp();
+        first.holdResponses = true;
+
+        CompletableFuture<EthSendTransaction> response =
+                web3j.ethSendRawTransaction("0x").sendAsync();
+        Thread.sleep(50);
+        assertThat(response.isDone(), is(false));
+        assertThat(hedgingService.getHedgeStats("eth_sendRawTransaction") == null, is(true));
+
+        first.releaseResponses();
+        assertThat(response.isDone(), is(true));
+        assertThat(second.requests.size(), is(HedgingWeb3jService.MIN_SAMPLES / 2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSideEffectingMethodsRejected() {
+        new HedgingWeb3jService(Collections.singletonList(first), 95,
+                Collections.singletonMap("eth_sendTransaction", 0.1));
+    }
+
+    private void warmUp() throws IOException {
+        for (int i = 0; i < HedgingWeb3jService.MIN_SAMPLES; i++) {
+            web3j.ethBlockNumber().send();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package org.web3j.protocol.decorators;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.metrics.MetricsCollector;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class InstrumentedWeb3jServiceTest {
+
+    private StubWeb3jService stubWeb3jService;
+    private MetricsCollector collector;
+    private Web3j web3j;
+
+    @Before
+    public void setUp() {
+        stubWeb3jService = new StubWeb3jService();
+        collector = new MetricsCollector();
+        web3j = Web3j.build(new InstrumentedWeb3jService(stubWeb3jService, collector));
+    }
+
+    @Test
+    public void testRequestsReported() throws Exception {
+        web3j.ethBlockNumber().send();
+        web3j.ethBlockNumber().sendAsync().get(1, TimeUnit.SECONDS);
+
+        MetricsCollector.MethodSnapshot snapshot = collector.snapshot("eth_blockNumber");
+        assertThat(snapshot.getRequestCount(), is(2L));
+        assertThat(snapshot.getInFlight(), is(0L));
+        assertThat(snapshot.getLatency().getCount(), is(2L));
+        assertThat(snapshot.getFailureCount(), is(0L));
+    }
+
+    @Test
+    public void testFailuresReported() throws Exception {
+        stubWeb3jService.failure = new IOException("connection refused");
+        try {
+            web3j.netVersion().send();
+            fail();
+        } catch (IOException e) {
+            // expected
+        }
+        assertThat(collector.snapshot("net_version").getFailureCount(), is(1L));
+        assertThat(collector.snapshot("net_version").getInFlight(), is(0L));
+    }
+
+    @Test
+    public void testBatchRequestsReported() throws Exception {
+        web3j.newBatch()
+                .add(web3j.ethBlockNumber())
+                .add(web3j.netVersion())
+                .add(web3j.ethBlockNumber())
+                .send();
+
+        assertThat(collector.snapshot("eth_blockNumber").getRequestCount(), is(2L));
+        assertThat(collector.snapshot("net_version").getRequestCount(), is(1L));
+    }
+}
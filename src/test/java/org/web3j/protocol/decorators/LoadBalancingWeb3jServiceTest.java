@@ -0,0 +1,193 @@
+package org.web3j.protocol.decorators;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.methods.response.EthBlockNumber;
+import org.web3j.protocol.core.methods.response.EthSyncing;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class LoadBalancingWeb3jServiceTest {
+
+    private StubWeb3jService first;
+    private StubWeb3jService second;
+    private StubWeb3jService third;
+    private LoadBalancingWeb3jService loadBalancingService;
+    private Web3j web3j;
+
+    @Before
+    public void setUp() {
+        first = createNode("0x64", false);
+        second = createNode("0x64", false);
+        third = createNode("0x64", false);
+        loadBalancingService = new LoadBalancingWeb3jService(
+                Arrays.asList(first, second, third), 0, TimeUnit.MILLISECONDS, 5);
+        web3j = Web3j.build(loadBalancingService);
+    }
+
+    @Test
+    public void testSpreadsOutstandingRequests() throws Exception {
+        first.holdResponses = true;
+        second.holdResponses = true;
+        third.holdResponses = true;
+
+        List<CompletableFuture<EthBlockNumber>> responses = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            responses.add(web3j.ethBlockNumber().sendAsync());
+        }
+        for (LoadBalancingWeb3jService.Backend backend : loadBalancingService.getBackends()) {
+            assertThat(backend.getOutstandingRequests(), is(2));
+        }
+
+        first.releaseResponses();
+        second.releaseResponses();
+        third.releaseResponses();
+        for (CompletableFuture<EthBlockNumber> response : responses) {
+            assertThat(response.get(1, TimeUnit.SECONDS).getBlockNumber(),
+                    is(BigInteger.valueOf(100)));
+        }
+    }
+
+    @Test
+    public void testReadsFailOverToHealthyNodes() throws Exception {
+        first.failure = new IOException("connection refused");
+        second.failure = new IOException("connection refused");
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(web3j.ethBlockNumber().send().getBlockNumber(),
+                    is(BigInteger.valueOf(100)));
+            assertThat(web3j.ethBlockNumber().sendAsync().get().getBlockNumber(),
+                    is(BigInteger.valueOf(100)));
+        }
+
+        // failed nodes are taken out of rotation, so are only tried once
+        assertThat(first.requests.size() <= 1, is(true));
+        assertThat(second.requests.size() <= 1, is(true));
+        assertThat(third.requests.size(), is(6));
+        assertThat(getBackend(first).isHealthy(), is(first.requests.size() == 0));
+    }
+
+    @Test
+    public void testRecoveredNodeNotFavoured() throws Exception {
+        first.failure = new IOException("connection refused");
+        loadBalancingService.checkHealth().get(1, TimeUnit.SECONDS);
+        assertThat(getBackend(first).isHealthy(), is(false));
+        for (int i = 0; i < 6; i++) {
+            web3j.ethBlockNumber().send();
+        }
+        assertThat(getBackend(first).getLatency(TimeUnit.NANOSECONDS), is(0.0));
+
+        first.failure = null;
+        loadBalancingService.checkHealth().get(1, TimeUnit.SECONDS);
+        assertThat(getBackend(first).isHealthy(), is(true));
+
+        // scored at the average latency of the others, rather than none at all
+        first.holdResponses = true;
+        second.holdResponses = true;
+        third.holdResponses = true;
+        for (int i = 0; i < 6; i++) {
+            web3j.ethBlockNumber().sendAsync();
+        }
+        assertThat(getBackend(first).getOutstandingRequests() <= 3, is(true));
+    }
+
+    @Test
+    public void testTransactionsNotRetried() throws Exception {
+        first.failure = new IOException("connection refused");
+        second.failure = new IOException("connection refused");
+        third.failure = new IOException("connection refused");
+
+        try {
+            web3j.ethSendRawTransaction("0x").send();
+            fail();
+        } catch (IOException e) {
+            // expected
+        }
+        assertThat(first.requests.size() + second.requests.size() + third.requests.size(),
+                is(1));
+    }
+
+    @Test
+    public void testHealthCheckEjectsLaggingAndSyncingNodes() throws Exception {
+        second.results.put("eth_blockNumber", "0x5e");  // 6 blocks behind
+        third.results.put("eth_syncing", syncing(true));
+
+        loadBalancingService.checkHealth().get(1, TimeUnit.SECONDS);
+
+        assertThat(getBackend(first).isHealthy(), is(true));
+        assertThat(getBackend(first).getBlockNumber(), is(BigInteger.valueOf(100)));
+        assertThat(getBackend(second).isHealthy(), is(false));
+        assertThat(getBackend(second).getBlockNumber(), is(BigInteger.valueOf(94)));
+        assertThat(getBackend(third).isHealthy(), is(false));
+
+        first.requests.clear();
+        second.requests.clear();
+        third.requests.clear();
+        for (int i = 0; i < 5; i++) {
+            web3j.ethBlockNumber().send();
+        }
+        assertThat(first.requests.size(), is(5));
+
+        // a node catching up is returned to rotation
+        second.results.put("eth_blockNumber", "0x5f");
+        loadBalancingService.checkHealth().get(1, TimeUnit.SECONDS);
+        assertThat(getBackend(second).isHealthy(), is(true));
+    }
+
+    @Test
+    public void testUnresponsiveNodeEjectedOnNextHealthCheck() throws Exception {
+        first.holdResponses = true;
+        CompletableFuture<Void> healthCheck = loadBalancingService.checkHealth();
+        assertThat(healthCheck.isDone(), is(false));
+
+        CompletableFuture<Void> nextHealthCheck = loadBalancingService.checkHealth();
+        assertThat(getBackend(first).isHealthy(), is(false));
+        assertThat(getBackend(second).isHealthy(), is(true));
+
+        first.releaseResponses();
+        nextHealthCheck.get(1, TimeUnit.SECONDS);
+        assertThat(getBackend(first).isHealthy(), is(true));
+    }
+
+    @Test
+    public void testClose() throws Exception {
+        loadBalancingService.close();
+        assertThat(first.closed, is(true));
+        assertThat(second.closed, is(true));
+        assertThat(third.closed, is(true));
+    }
+
+    private LoadBalancingWeb3jService.Backend getBackend(StubWeb3jService service) {
+        for (LoadBalancingWeb3jService.Backend backend : loadBalancingService.getBackends()) {
+            if (backend.getService() == service) {
+                return backend;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    private static StubWeb3jService createNode(String blockNumber, boolean isSyncing) {
+        StubWeb3jService node = new StubWeb3jService();
+        node.results.put("eth_blockNumber", blockNumber);
+        node.results.put("eth_syncing", syncing(isSyncing));
+        return node;
+    }
+
+    private static EthSyncing.Result syncing(boolean isSyncing) {
+        EthSyncing.Result result = new EthSyncing.Result();
+        result.setSyncing(isSyncing);
+        return result;
+    }
+}
@@ -0,0 +1,180 @@
+package org.web3j.protocol.decorators;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthBlockNumber;
+import org.web3j.protocol.exceptions.CircuitBreakerOpenException;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class ResilientWeb3jServiceTest {
+
+    private FlakyWeb3jService stubService;
+    private ResilientWeb3jService resilientService;
+    private Web3j web3j;
+
+    @Before
+    public void setUp() {
+        stubService = new FlakyWeb3jService();
+        resilientService = new ResilientWeb3jService(
+                stubService,
+                new RetryPolicy(3, 1, 10, TimeUnit.MILLISECONDS),
+                new CircuitBreaker(5, 1, TimeUnit.MINUTES));
+        web3j = Web3j.build(resilientService);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        resilientService.close();
+    }
+
+    @Test
+    public void testReadsRetried() throws Exception {
+        stubService.failures.set(2);
+        Request<?, EthBlockNumber> request = web3j.ethBlockNumber();
+        assertThat(request.send().getResult(), is(StubWeb3jService.result(request)));
+
+        stubService.failures.set(2);
+        assertThat(request.sendAsync().get(1, TimeUnit.SECONDS).getResult(),
+                is(StubWeb3jService.result(request)));
+
+        assertThat(stubService.requests.size(), is(6));
+        assertThat(resilientService.getRetryCount(), is(4L));
+    }
+
+    @Test
+    public void testRetriesLimited() throws Exception {
+        stubService.failures.set(3);
+        try {
+            web3j.ethBlockNumber().send();
+            fail();
+        } catch (IOException e) {
+            assertThat(e.getMessage(), is("attempt 3"));
+        }
+        // resets the circuit breaker's count of consecutive failures
+        web3j.ethBlockNumber().send();
+
+        stubService.failures.set(3);
+        try {
+            web3j.ethBlockNumber().sendAsync().get(1, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertThat(e.getCause().getMessage(), is("attempt 7"));
+        }
+    }
+
+    @Test
+    public void testTransactionsNotRetried() throws Exception {
+        stubService.failures.set(1);
+        try {
+            web3j.ethSendRawTransaction("0x").send();
+            fail();
+        } catch (IOException e) {
+            // expected
+        }
+        assertThat(stubService.requests.size(), is(1));
+    }
+
+    @Test
+    public void testCircuitBreakerFailsFast() throws Exception {
+        stubService.failures.set(5);
+        try {
+            web3j.ethBlockNumber().send();
+            fail();
+        } catch (IOException e) {
+            // expected
+        }
+        try {
+            web3j.ethBlockNumber().sendAsync().get(1, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), instanceOf(CircuitBreakerOpenException.class));
+        }
+
+        // the fifth failure opens the breaker, without further requests reaching the node
+        assertThat(stubService.requests.size(), is(5));
+        assertThat(resilientService.getCircuitBreaker().getState(),
+                is(CircuitBreaker.State.OPEN));
+        try {
+            web3j.ethBlockNumber().send();
+            fail();
+        } catch (CircuitBreakerOpenException e) {
+            // expected
+        }
+        assertThat(stubService.requests.size(), is(5));
+    }
+
+    @Test
+    public void testOtherExceptionsNotCountedAsSuccess() throws Exception {
+        long[] time = {0};
+        resilientService.close();
+        resilientService = new ResilientWeb3jService(
+                stubService,
+                new RetryPolicy(1, 1, 10, TimeUnit.MILLISECONDS),
+                new CircuitBreaker(1, 10, TimeUnit.SECONDS, () -> time[0]));
+        web3j = Web3j.build(resilientService);
+        stubService.failures.set(1);
+        try {
+            web3j.ethBlockNumber().send();
+            fail();
+        } catch (IOException e) {
+            // expected
+        }
+
+        time[0] += TimeUnit.SECONDS.toNanos(10);
+        stubService.runtimeFailure = new IllegalStateException("client failure");
+        try {
+            web3j.ethBlockNumber().send();
+            fail();
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        try {
+            web3j.ethBlockNumber().sendAsync().get(1, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), instanceOf(IllegalStateException.class));
+        }
+        assertThat(resilientService.getCircuitBreaker().getState(),
+                is(CircuitBreaker.State.HALF_OPEN));
+
+        stubService.runtimeFailure = null;
+        web3j.ethBlockNumber().send();
+        assertThat(resilientService.getCircuitBreaker().getState(),
+                is(CircuitBreaker.State.CLOSED));
+    }
+
+    private static class FlakyWeb3jService extends StubWeb3jService {
+
+        private final AtomicInteger failures = new AtomicInteger();
+        private final AtomicInteger attempts = new AtomicInteger();
+        private volatile RuntimeException runtimeFailure;
+
+        @Override
+        public <T extends Response> T send(
+                Request request, Class<T> responseType) throws IOException {
+            if (runtimeFailure != null) {
+                throw runtimeFailure;
+            }
+            int attempt = attempts.incrementAndGet();
+            if (failures.getAndDecrement() > 0) {
+                requests.add(request);
+                throw new IOException("attempt " + attempt);
+            }
+            return super.send(request, responseType);
+        }
+    }
+}
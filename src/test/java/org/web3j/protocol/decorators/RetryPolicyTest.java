@@ -0,0 +1,43 @@
+package org.web3j.protocol.decorators;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import org.web3j.protocol.exceptions.CircuitBreakerOpenException;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class RetryPolicyTest {
+
+    private final RetryPolicy retryPolicy = new RetryPolicy(4, 100, 300, TimeUnit.NANOSECONDS);
+
+    @Test
+    public void testShouldRetry() {
+        assertThat(retryPolicy.shouldRetry(new IOException(), 1), is(true));
+        assertThat(retryPolicy.shouldRetry(new IOException(), 3), is(true));
+        assertThat(retryPolicy.shouldRetry(new IOException(), 4), is(false));
+        assertThat(retryPolicy.shouldRetry(new RuntimeException(), 1), is(false));
+        assertThat(retryPolicy.shouldRetry(new InterruptedIOException(), 1), is(false));
+        assertThat(retryPolicy.shouldRetry(new CircuitBreakerOpenException(""), 1), is(false));
+        assertThat(RetryPolicy.noRetries().shouldRetry(new IOException(), 1), is(false));
+    }
+
+    @Test
+    public void testBackoffJitteredWithinExponentialLimit() {
+        long[] limits = { 100, 200, 300, 300 };
+        for (int attempts = 1; attempts <= limits.length; attempts++) {
+            long maxBackoff = 0;
+            for (int i = 0; i < 1_000; i++) {
+                long backoff = retryPolicy.getBackoff(attempts);
+                assertTrue(backoff >= 0 && backoff <= limits[attempts - 1]);
+                maxBackoff = Math.max(maxBackoff, backoff);
+            }
+            assertTrue(maxBackoff > limits[attempts - 1] / 2);
+        }
+    }
+}
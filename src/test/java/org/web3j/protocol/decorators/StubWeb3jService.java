@@ -0,0 +1,139 @@
+package org.web3j.protocol.decorators;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.utils.Futures;
+
+/**
+ * Records the requests sent to it, responding to each with the hex encoded request id as the
+ * result, unless a result has been given for the method.
+ */
+class StubWeb3jService implements Web3jService {
+
+    final List<Request<?, ?>> requests = new CopyOnWriteArrayList<>();
+    final List<BatchRequest> batches = new CopyOnWriteArrayList<>();
+    final Map<String, Object> results = Collections.synchronizedMap(new HashMap<>());
+
+    volatile IOException failure;
+    // when set, asynchronous requests throw it rather than returning a future
+    volatile RuntimeException asyncFailure;
+    // when set, batches alone fail with it
+    volatile IOException batchFailure;
+    // when set, batches are answered with no response, as to an empty body
+    volatile boolean nullBatchResponse;
+    volatile boolean closed;
+
+    // when set, responses to asynchronous requests are held until released
+    volatile boolean holdResponses;
+    private final List<Runnable> heldResponses = new ArrayList<>();
+
+    @Override
+    public <T extends Response> T send(
+            Request request, Class<T> responseType) throws IOException {
+        requests.add(request);
+        if (failure != null) {
+            throw failure;
+        }
+        return respond(request, responseType);
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(
+            Request request, Class<T> responseType) {
+        if (asyncFailure != null) {
+            throw asyncFailure;
+        }
+        if (holdResponses) {
+            CompletableFuture<T> result = new CompletableFuture<>();
+            synchronized (heldResponses) {
+                heldResponses.add(() -> {
+                    try {
+                        result.complete(send(request, responseType));
+                    } catch (IOException e) {
+                        result.completeExceptionally(e);
+                    }
+                });
+            }
+            return result;
+        }
+        try {
+            return CompletableFuture.completedFuture(send(request, responseType));
+        } catch (IOException e) {
+            return Futures.failedFuture(e);
+        }
+    }
+
+    void releaseResponses() {
+        List<Runnable> responses;
+        synchronized (heldResponses) {
+            responses = new ArrayList<>(heldResponses);
+            heldResponses.clear();
+        }
+        for (Runnable response : responses) {
+            response.run();
+        }
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        batches.add(batchRequest);
+        if (failure != null) {
+            throw failure;
+        } else if (batchFailure != null) {
+            throw batchFailure;
+        } else if (nullBatchResponse) {
+            return null;
+        }
+        List<Response> responses = new ArrayList<>();
+        for (Request<?, ? extends Response> request : batchRequest.getRequests()) {
+            responses.add(respond(request, request.getResponseType()));
+        }
+        return new BatchResponse(batchRequest.getRequests(), responses);
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        try {
+            return CompletableFuture.completedFuture(sendBatch(batchRequest));
+        } catch (IOException e) {
+            return Futures.failedFuture(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+    }
+
+    static String result(Request<?, ?> request) {
+        return "0x" + Long.toHexString(request.getId());
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends Response> T respond(Request request, Class<T> responseType) {
+        try {
+            T response = responseType.newInstance();
+            response.setId(request.getId());
+            if (results.containsKey(request.getMethod())) {
+                ((Response) response).setResult(results.get(request.getMethod()));
+            } else {
+                ((Response) response).setResult(result(request));
+            }
+            return response;
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
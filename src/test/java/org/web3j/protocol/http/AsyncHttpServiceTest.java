@@ -0,0 +1,321 @@
+package org.web3j.protocol.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.ClientProtocolException;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.apache.http.nio.protocol.HttpAsyncRequestProducer;
+import org.apache.http.nio.protocol.HttpAsyncResponseConsumer;
+import org.apache.http.protocol.HttpContext;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.web3j.protocol.ObjectMapperFactory;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.methods.response.EthBlockNumber;
+import org.web3j.protocol.core.methods.response.NetVersion;
+import org.web3j.protocol.exceptions.BatchRejectedException;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class AsyncHttpServiceTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = ObjectMapperFactory.getObjectMapper();
+
+    private StubNode stubNode;
+    private RecordingHttpAsyncClient httpAsyncClient;
+    private AsyncHttpService asyncHttpService;
+    private Web3j web3j;
+
+    @Before
+    public void setUp() throws IOException {
+        stubNode = new StubNode();
+        httpAsyncClient = new RecordingHttpAsyncClient(HttpAsyncClients.createDefault());
+        asyncHttpService = new AsyncHttpService(
+                stubNode.getUrl(), new ConnectionPoolConfig(), httpAsyncClient);
+        web3j = Web3j.build(asyncHttpService);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        stubNode.close();
+        asyncHttpService.close();
+    }
+
+    @Test
+    public void testSendAsync() throws Exception {
+        EthBlockNumber ethBlockNumber =
+                web3j.ethBlockNumber().sendAsync().get(5, TimeUnit.SECONDS);
+        assertThat(ethBlockNumber.getBlockNumber().intValue(), is(1207));
+    }
+
+    @Test
+    public void testSendBatchAsync() throws Exception {
+        Request<?, EthBlockNumber> ethBlockNumber = web3j.ethBlockNumber();
+        Request<?, NetVersion> netVersion = web3j.netVersion();
+        BatchResponse batchResponse = web3j.newBatch()
+                .add(ethBlockNumber)
+                .add(netVersion)
+                .sendAsync()
+                .get(5, TimeUnit.SECONDS);
+
+        // the stub node answers batches in reverse, to be matched up by id
+        assertThat(batchResponse.getResponse(ethBlockNumber).getBlockNumber().intValue(),
+                is(1207));
+        assertThat(batchResponse.getResponse(netVersion).getNetVersion(), is("1"));
+        assertThat(stubNode.requests.size(), is(1));
+    }
+
+    @Test
+    public void testErrorStatus() throws Exception {
+        stubNode.status = 503;
+        try {
+            web3j.ethBlockNumber().sendAsync().get(5, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), instanceOf(ClientProtocolException.class));
+        }
+    }
+
+    @Test
+    public void testErrorResponse() throws Exception {
+        stubNode.error = true;
+        EthBlockNumber ethBlockNumber =
+                web3j.ethBlockNumber().sendAsync().get(5, TimeUnit.SECONDS);
+        assertTrue(ethBlockNumber.hasError());
+        assertThat(ethBlockNumber.getError().getMessage(), is("stub error"));
+    }
+
+    @Test
+    public void testRejectedBatch() throws Exception {
+        stubNode.error = true;
+        try {
+            web3j.newBatch().add(web3j.ethBlockNumber()).add(web3j.netVersion())
+                    .sendAsync().get(5, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), instanceOf(BatchRejectedException.class));
+        }
+    }
+
+    @Test
+    public void testCancelAbortsExchange() throws Exception {
+        stubNode.held = new CountDownLatch(1);
+        try {
+            CompletableFuture<EthBlockNumber> response = web3j.ethBlockNumber().sendAsync();
+            assertTrue(stubNode.received.await(5, TimeUnit.SECONDS));
+
+            response.cancel(true);
+            assertThat(httpAsyncClient.futures.size(), is(1));
+            assertTrue(httpAsyncClient.futures.get(0).isCancelled());
+        } finally {
+            stubNode.held.countDown();
+        }
+    }
+
+    @Test
+    public void testCloseStopsClient() throws Exception {
+        asyncHttpService.close();
+        assertThat(httpAsyncClient.isRunning(), is(false));
+    }
+
+    @Test
+    public void testCloseStopsIdleConnectionEvictor() throws Exception {
+        int evictors = countThreads("web3j-idle-connection-evictor");
+        AsyncHttpService service =
+                new AsyncHttpService(stubNode.getUrl(), new ConnectionPoolConfig(), 1);
+        try {
+            assertThat(Web3j.build(service).ethBlockNumber().sendAsync()
+                    .get(5, TimeUnit.SECONDS).getBlockNumber().intValue(), is(1207));
+            assertThat(countThreads("web3j-idle-connection-evictor"), is(evictors + 1));
+        } finally {
+            service.close();
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (countThreads("web3j-idle-connection-evictor") > evictors) {
+            assertTrue("evictor still running", System.nanoTime() < deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private static int countThreads(String name) {
+        int count = 0;
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.getName().equals(name) && thread.isAlive()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Answers eth_blockNumber and net_version, and batches of them in reverse order.
+     */
+    private static class StubNode {
+
+        private final HttpServer server;
+        private final ExecutorService executor = Executors.newCachedThreadPool();
+
+        final List<JsonNode> requests = new CopyOnWriteArrayList<>();
+        final CountDownLatch received = new CountDownLatch(1);
+        volatile int status = 200;
+        // when set, answer with a single error instead
+        volatile boolean error;
+        // when set, responses are held until it is counted down
+        volatile CountDownLatch held;
+
+        StubNode() throws IOException {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.createContext("/", this::handle);
+            server.setExecutor(executor);
+            server.start();
+        }
+
+        String getUrl() {
+            return "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+        }
+
+        void close() {
+            server.stop(0);
+            executor.shutdownNow();
+        }
+
+        private void handle(HttpExchange exchange) throws IOException {
+            JsonNode request;
+            try (InputStream inputStream = exchange.getRequestBody()) {
+                request = OBJECT_MAPPER.readTree(inputStream);
+            }
+            requests.add(request);
+            received.countDown();
+
+            CountDownLatch latch = held;
+            if (latch != null) {
+                try {
+                    latch.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            JsonNode response;
+            if (error) {
+                ObjectNode errorResponse = response(request.isArray() ? null : request);
+                errorResponse.putObject("error")
+                        .put("code", -32600)
+                        .put("message", "stub error");
+                response = errorResponse;
+            } else if (request.isArray()) {
+                ArrayNode responses = OBJECT_MAPPER.createArrayNode();
+                for (int i = request.size() - 1; i >= 0; i--) {
+                    responses.add(result(request.get(i)));
+                }
+                response = responses;
+            } else {
+                response = result(request);
+            }
+
+            byte[] content = OBJECT_MAPPER.writeValueAsBytes(response);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, content.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(content);
+            }
+        }
+
+        private static ObjectNode result(JsonNode request) {
+            ObjectNode response = response(request);
+            if (request.path("method").asText().equals("net_version")) {
+                response.put("result", "1");
+            } else {
+                response.put("result", "0x4b7");
+            }
+            return response;
+        }
+
+        private static ObjectNode response(JsonNode request) {
+            ObjectNode response = OBJECT_MAPPER.createObjectNode();
+            response.put("jsonrpc", "2.0");
+            if (request == null) {
+                response.putNull("id");
+            } else {
+                response.set("id", request.get("id"));
+            }
+            return response;
+        }
+    }
+
+    /**
+     * Records the futures of the exchanges it performs.
+     */
+    private static class RecordingHttpAsyncClient extends CloseableHttpAsyncClient {
+
+        private final CloseableHttpAsyncClient delegate;
+        final List<Future<HttpResponse>> futures = new CopyOnWriteArrayList<>();
+
+        RecordingHttpAsyncClient(CloseableHttpAsyncClient delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean isRunning() {
+            return delegate.isRunning();
+        }
+
+        @Override
+        public void start() {
+            delegate.start();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public Future<HttpResponse> execute(
+                HttpUriRequest request, FutureCallback<HttpResponse> callback) {
+            Future<HttpResponse> future = delegate.execute(request, callback);
+            futures.add(future);
+            return future;
+        }
+
+        @Override
+        public <T> Future<T> execute(
+                HttpAsyncRequestProducer requestProducer,
+                HttpAsyncResponseConsumer<T> responseConsumer, HttpContext context,
+                FutureCallback<T> callback) {
+            return delegate.execute(requestProducer, responseConsumer, context, callback);
+        }
+    }
+}
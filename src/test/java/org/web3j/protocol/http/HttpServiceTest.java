@@ -0,0 +1,190 @@
+package org.web3j.protocol.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.HttpVersion;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.entity.BasicHttpEntity;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.util.EntityUtils;
+import org.junit.After;
+import org.junit.Test;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.methods.response.EthBlockNumber;
+import org.web3j.protocol.metrics.MetricsCollector;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+public class HttpServiceTest {
+
+    private static final String RESPONSE = "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"0x4b7\"}";
+    private static final byte[] PAYLOAD =
+            "{\"jsonrpc\":\"2.0\",\"method\":\"eth_blockNumber\",\"params\":[],\"id\":1}"
+                    .getBytes(StandardCharsets.UTF_8);
+
+    private final HttpService httpService = new HttpService();
+
+    @After
+    public void tearDown() throws IOException {
+        httpService.close();
+    }
+
+    @Test
+    public void testUncompressedResponse() throws Exception {
+        byte[] content = RESPONSE.getBytes(StandardCharsets.UTF_8);
+        assertThat(handle(content, null).getBlockNumber().intValue(), is(1207));
+    }
+
+    @Test
+    public void testGzipResponse() throws Exception {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        try (OutputStream outputStream = new GZIPOutputStream(content)) {
+            outputStream.write(RESPONSE.getBytes(StandardCharsets.UTF_8));
+        }
+        assertThat(handle(content.toByteArray(), "gzip").getBlockNumber().intValue(), is(1207));
+    }
+
+    @Test
+    public void testDeflateResponse() throws Exception {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        try (OutputStream outputStream = new DeflaterOutputStream(content)) {
+            outputStream.write(RESPONSE.getBytes(StandardCharsets.UTF_8));
+        }
+        assertThat(handle(content.toByteArray(), "deflate").getBlockNumber().intValue(),
+                is(1207));
+    }
+
+    @Test(expected = IOException.class)
+    public void testUnsupportedResponseEncoding() throws Exception {
+        handle(RESPONSE.getBytes(StandardCharsets.UTF_8), "br");
+    }
+
+    @Test
+    public void testAcceptsCompressedResponses() throws Exception {
+        HttpPost httpPost = httpService.createHttpPost(PAYLOAD);
+        assertThat(httpPost.getFirstHeader("Accept-Encoding").getValue(), is("gzip, deflate"));
+        assertThat(httpPost.containsHeader("Content-Encoding"), is(false));
+        assertThat(EntityUtils.toByteArray(httpPost.getEntity()), is(PAYLOAD));
+    }
+
+    @Test
+    public void testRequestCompression() throws Exception {
+        httpService.setRequestCompressionThreshold(PAYLOAD.length + 1);
+        assertThat(httpService.createHttpPost(PAYLOAD).containsHeader("Content-Encoding"),
+                is(false));
+
+        httpService.setRequestCompressionThreshold(PAYLOAD.length);
+        HttpPost httpPost = httpService.createHttpPost(PAYLOAD);
+        assertThat(httpPost.getFirstHeader("Content-Encoding").getValue(), is("gzip"));
+        // declared by the request headers alone
+        assertThat(httpPost.getHeaders("Content-Encoding").length, is(1));
+        assertThat(httpPost.getEntity().getContentEncoding() == null, is(true));
+
+        byte[] compressed = EntityUtils.toByteArray(httpPost.getEntity());
+        ByteArrayOutputStream decompressed = new ByteArrayOutputStream();
+        try (GZIPInputStream inputStream =
+                     new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            byte[] buffer = new byte[256];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                decompressed.write(buffer, 0, read);
+            }
+        }
+        assertThat(decompressed.toByteArray(), is(PAYLOAD));
+    }
+
+    @Test
+    public void testRequestListener() throws Exception {
+        MetricsCollector collector = new MetricsCollector();
+        Exchange exchange = Exchange.start(
+                collector, Web3j.build(httpService).ethBlockNumber(), PAYLOAD.length);
+        assertThat(collector.snapshot("eth_blockNumber").getInFlight(), is(1L));
+
+        byte[] content = RESPONSE.getBytes(StandardCharsets.UTF_8);
+        EthBlockNumber ethBlockNumber = httpService
+                .getResponseHandler(EthBlockNumber.class, exchange)
+                .handleResponse(response(content, null));
+        exchange.completed(ethBlockNumber);
+
+        MetricsCollector.MethodSnapshot snapshot = collector.snapshot("eth_blockNumber");
+        assertThat(snapshot.getInFlight(), is(0L));
+        assertThat(snapshot.getRequestCount(), is(1L));
+        assertThat(snapshot.getRequestBytes(), is((long) PAYLOAD.length));
+        assertThat(snapshot.getResponseBytes(), is((long) content.length));
+        assertThat(snapshot.getNetworkTime().getCount(), is(1L));
+        assertThat(snapshot.getParseTime().getCount(), is(1L));
+    }
+
+    @Test
+    public void testResponseBytesCountedCompressed() throws Exception {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        try (OutputStream outputStream = new GZIPOutputStream(content)) {
+            // repetitive enough to be smaller compressed
+            outputStream.write(RESPONSE.replace("0x4b7", "0x4b7" + String.format("%0512d", 0))
+                    .getBytes(StandardCharsets.UTF_8));
+        }
+        byte[] compressed = content.toByteArray();
+
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            try (InputStream inputStream = exchange.getRequestBody()) {
+                while (inputStream.read() != -1) {
+                    // discard the request
+                }
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            exchange.sendResponseHeaders(200, compressed.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(compressed);
+            }
+        });
+        server.start();
+        HttpService service = new HttpService(
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/");
+        try {
+            MetricsCollector collector = new MetricsCollector();
+            service.setRequestListener(collector);
+            EthBlockNumber ethBlockNumber = Web3j.build(service).ethBlockNumber().send();
+            assertThat(ethBlockNumber.getResult().length(), is(5 + 512));
+
+            MetricsCollector.MethodSnapshot snapshot = collector.snapshot("eth_blockNumber");
+            assertThat(snapshot.getRequestCount(), is(1L));
+            assertThat(snapshot.getResponseBytes(), is((long) compressed.length));
+        } finally {
+            service.close();
+            server.stop(0);
+        }
+    }
+
+    private EthBlockNumber handle(byte[] content, String contentEncoding) throws IOException {
+        return httpService.getResponseHandler(EthBlockNumber.class)
+                .handleResponse(response(content, contentEncoding));
+    }
+
+    private static HttpResponse response(byte[] content, String contentEncoding) {
+        BasicHttpEntity entity = new BasicHttpEntity();
+        entity.setContent(new ByteArrayInputStream(content));
+        entity.setContentLength(content.length);
+        if (contentEncoding != null) {
+            entity.setContentEncoding(contentEncoding);
+        }
+        HttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, HttpStatus.SC_OK, "OK");
+        response.setEntity(entity);
+        return response;
+    }
+}
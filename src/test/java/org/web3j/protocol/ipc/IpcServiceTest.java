@@ -0,0 +1,309 @@
+package org.web3j.protocol.ipc;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.ByteChannel;
+import java.nio.channels.Channels;
+import java.nio.channels.Pipe;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.methods.response.EthBlockNumber;
+import org.web3j.protocol.core.methods.response.NetVersion;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class IpcServiceTest {
+
+    private StubNode stubNode;
+    private int connectionCount;
+    private IpcService ipcService;
+    private Web3j web3j;
+
+    @Before
+    public void setUp() {
+        stubNode = new StubNode();
+        ipcService = createIpcService(IpcService.DEFAULT_REQUEST_TIMEOUT_MILLIS);
+        web3j = Web3j.build(ipcService);
+    }
+
+    private IpcService createIpcService(long requestTimeoutMillis) {
+        return new IpcService(requestTimeoutMillis) {
+            @Override
+            protected ByteChannel openChannel() throws IOException {
+                connectionCount++;
+                return stubNode.connect();
+            }
+        };
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        ipcService.close();
+        stubNode.disconnect();
+    }
+
+    @Test
+    public void testPipelinedResponsesMatchedById() throws Exception {
+        // responses are held until all requests have been received, then written in reverse
+        stubNode.deferResponses(3);
+
+        List<Request<?, EthBlockNumber>> requests = new ArrayList<>();
+        List<CompletableFuture<EthBlockNumber>> responses = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Request<?, EthBlockNumber> request = web3j.ethBlockNumber();
+            requests.add(request);
+            responses.add(request.sendAsync());
+        }
+
+        for (int i = 0; i < 3; i++) {
+            // the stub node echoes the request id as the result
+            assertThat(responses.get(i).get(5, TimeUnit.SECONDS).getBlockNumber(),
+                    is(BigInteger.valueOf(requests.get(i).getId())));
+        }
+        assertThat(connectionCount, is(1));
+    }
+
+    @Test
+    public void testPendingIdRenumbered() throws Exception {
+        stubNode.deferResponses(2);
+
+        Request<?, EthBlockNumber> first = web3j.ethBlockNumber();
+        Request<?, EthBlockNumber> second = web3j.ethBlockNumber();
+        second.setId(first.getId());
+        CompletableFuture<EthBlockNumber> firstResponse = first.sendAsync();
+        CompletableFuture<EthBlockNumber> secondResponse = second.sendAsync();
+
+        assertThat(second.getId() == first.getId(), is(false));
+        assertThat(firstResponse.get(5, TimeUnit.SECONDS).getBlockNumber(),
+                is(BigInteger.valueOf(first.getId())));
+        assertThat(secondResponse.get(5, TimeUnit.SECONDS).getBlockNumber(),
+                is(BigInteger.valueOf(second.getId())));
+    }
+
+    @Test
+    public void testSend() throws Exception {
+        Request<?, EthBlockNumber> request = web3j.ethBlockNumber();
+        assertThat(request.send().getBlockNumber(), is(BigInteger.valueOf(request.getId())));
+    }
+
+    @Test
+    public void testBatch() throws Exception {
+        Request<?, EthBlockNumber> ethBlockNumber = web3j.ethBlockNumber();
+        Request<?, NetVersion> netVersion = web3j.netVersion();
+
+        BatchResponse batchResponse = web3j.newBatch()
+                .add(ethBlockNumber)
+                .add(netVersion)
+                .send();
+
+        assertThat(batchResponse.getResponse(ethBlockNumber).getBlockNumber(),
+                is(BigInteger.valueOf(ethBlockNumber.getId())));
+        assertThat(batchResponse.getResponse(netVersion).getNetVersion(),
+                is("0x" + Long.toHexString(netVersion.getId())));
+    }
+
+    @Test
+    public void testReconnectAfterConnectionLost() throws Exception {
+        web3j.ethBlockNumber().send();
+
+        stubNode.deferResponses(Integer.MAX_VALUE);
+        CompletableFuture<EthBlockNumber> response = web3j.ethBlockNumber().sendAsync();
+        stubNode.disconnect();
+
+        try {
+            response.get(5, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), instanceOf(IOException.class));
+        }
+
+        stubNode.deferResponses(0);
+        Request<?, EthBlockNumber> request = web3j.ethBlockNumber();
+        CompletableFuture<EthBlockNumber> retried = request.sendAsync();
+        assertThat(retried.get(5, TimeUnit.SECONDS).getBlockNumber(),
+                is(BigInteger.valueOf(request.getId())));
+        assertThat(connectionCount, is(2));
+    }
+
+    @Test
+    public void testRequestTimeout() throws Exception {
+        ipcService.close();
+        ipcService = createIpcService(100);
+        web3j = Web3j.build(ipcService);
+        stubNode.ignoreRequests = true;
+
+        try {
+            web3j.ethBlockNumber().send();
+            fail();
+        } catch (IOException e) {
+            assertThat(e.getMessage(), is("No response received within 100 ms"));
+        }
+        try {
+            web3j.newBatch().add(web3j.ethBlockNumber()).add(web3j.netVersion()).send();
+            fail();
+        } catch (IOException e) {
+            assertThat(e.getMessage(), is("No response received within 100 ms"));
+        }
+
+        // failed requests are removed once their futures have completed
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (ipcService.getPendingCount() > 0) {
+            assertTrue("requests still pending", System.nanoTime() < deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidRequestTimeout() {
+        createIpcService(0);
+    }
+
+    @Test(expected = IOException.class)
+    public void testSendAfterClose() throws Exception {
+        ipcService.close();
+        web3j.ethBlockNumber().send();
+    }
+
+    /**
+     * In-process stand-in for a node's IPC endpoint, echoing request ids as results.
+     */
+    private static class StubNode {
+
+        private final ObjectMapper objectMapper = new ObjectMapper();
+        private final List<String> deferred = new ArrayList<>();
+        private volatile int deferCount;
+        volatile boolean ignoreRequests;
+        private volatile PipeChannel nodeChannel;
+
+        ByteChannel connect() throws IOException {
+            Pipe requests = Pipe.open();
+            Pipe responses = Pipe.open();
+            PipeChannel nodeChannel = new PipeChannel(requests.source(), responses.sink());
+            this.nodeChannel = nodeChannel;
+
+            Thread thread = new Thread(() -> serve(nodeChannel));
+            thread.setDaemon(true);
+            thread.start();
+            return new PipeChannel(responses.source(), requests.sink());
+        }
+
+        void deferResponses(int count) {
+            deferCount = count;
+        }
+
+        void disconnect() throws IOException {
+            if (nodeChannel != null) {
+                nodeChannel.close();
+            }
+        }
+
+        private void serve(PipeChannel channel) {
+            try (JsonParser parser = objectMapper.getFactory().createParser(
+                    Channels.newInputStream(channel.source))) {
+                while (parser.nextToken() != null) {
+                    JsonNode request = objectMapper.readTree(parser);
+                    if (ignoreRequests) {
+                        continue;
+                    }
+                    if (request.isArray()) {
+                        ArrayNode response = objectMapper.createArrayNode();
+                        for (int i = request.size() - 1; i >= 0; i--) {
+                            response.add(respond(request.get(i)));
+                        }
+                        write(channel, response.toString());
+                    } else {
+                        reply(channel, respond(request).toString());
+                    }
+                }
+            } catch (IOException e) {
+                // disconnected
+            }
+        }
+
+        private synchronized void reply(PipeChannel channel, String response)
+                throws IOException {
+            deferred.add(response);
+            if (deferred.size() >= deferCount) {
+                Collections.reverse(deferred);
+                write(channel, String.join("\n", deferred));
+                deferred.clear();
+            }
+        }
+
+        private void write(PipeChannel channel, String responses) throws IOException {
+            // split the write so that values straddle reads on the client
+            byte[] bytes = responses.getBytes(StandardCharsets.UTF_8);
+            int split = bytes.length / 2 + 1;
+            channel.write(ByteBuffer.wrap(bytes, 0, split));
+            channel.write(ByteBuffer.wrap(bytes, split, bytes.length - split));
+        }
+
+        private ObjectNode respond(JsonNode request) {
+            long id = request.get("id").asLong();
+            ObjectNode response = objectMapper.createObjectNode();
+            response.put("jsonrpc", "2.0");
+            response.put("id", id);
+            response.put("result", "0x" + Long.toHexString(id));
+            return response;
+        }
+    }
+
+    private static class PipeChannel implements ByteChannel {
+
+        private final Pipe.SourceChannel source;
+        private final Pipe.SinkChannel sink;
+
+        PipeChannel(Pipe.SourceChannel source, Pipe.SinkChannel sink) {
+            this.source = source;
+            this.sink = sink;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            return source.read(dst);
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            int written = 0;
+            while (src.hasRemaining()) {
+                written += sink.write(src);
+            }
+            return written;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return source.isOpen() && sink.isOpen();
+        }
+
+        @Override
+        public void close() throws IOException {
+            source.close();
+            sink.close();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package org.web3j.protocol.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void testEmpty() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertThat(histogram.getCount(), is(0L));
+        assertThat(histogram.getValueAtPercentile(99, TimeUnit.NANOSECONDS), is(0L));
+    }
+
+    @Test
+    public void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i, TimeUnit.MILLISECONDS);
+        }
+
+        assertThat(histogram.getCount(), is(100L));
+        assertWithinBucket(histogram.getValueAtPercentile(50, TimeUnit.MICROSECONDS), 50_000);
+        assertWithinBucket(histogram.getValueAtPercentile(95, TimeUnit.MICROSECONDS), 95_000);
+        assertWithinBucket(histogram.getValueAtPercentile(100, TimeUnit.MICROSECONDS), 100_000);
+        assertWithinBucket(histogram.getValueAtPercentile(0, TimeUnit.MICROSECONDS), 1_000);
+    }
+
+    @Test
+    public void testBuckets() {
+        for (long value = 0; value < 1_000; value++) {
+            assertThat(value <= LatencyHistogram.upperBoundOf(LatencyHistogram.indexOf(value)),
+                    is(true));
+        }
+        assertThat(LatencyHistogram.upperBoundOf(LatencyHistogram.indexOf(Long.MAX_VALUE)),
+                is(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testDecay() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 10; i++) {
+            histogram.record(1, TimeUnit.SECONDS);
+        }
+        histogram.decay();
+        histogram.record(1, TimeUnit.MILLISECONDS);
+        histogram.record(1, TimeUnit.MILLISECONDS);
+
+        assertThat(histogram.getCount(), is(7L));
+        histogram.reset();
+        assertThat(histogram.getCount(), is(0L));
+    }
+
+    private static void assertWithinBucket(long actual, long expected) {
+        assertTrue(actual + " not within 12.5% of " + expected,
+                actual >= expected && actual <= expected * 1.125);
+    }
+}
@@ -0,0 +1,88 @@
+package org.web3j.protocol.metrics;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthBlockNumber;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+public class MetricsCollectorTest {
+
+    private final MetricsCollector collector = new MetricsCollector();
+
+    @Test
+    public void testInFlight() {
+        collector.requestStarted("eth_blockNumber");
+        collector.requestStarted("eth_blockNumber");
+        assertThat(collector.snapshot("eth_blockNumber").getInFlight(), is(2L));
+        assertThat(collector.snapshot("eth_blockNumber").getRequestCount(), is(0L));
+
+        collector.requestCompleted(RequestEvent.completed(
+                "eth_blockNumber", TimeUnit.MILLISECONDS.toNanos(5), new EthBlockNumber()));
+        MetricsCollector.MethodSnapshot snapshot = collector.snapshot("eth_blockNumber");
+        assertThat(snapshot.getInFlight(), is(1L));
+        assertThat(snapshot.getRequestCount(), is(1L));
+        assertThat(snapshot.getLatency().getCount(), is(1L));
+        assertThat(snapshot.getNetworkTime().getCount(), is(0L));
+    }
+
+    @Test
+    public void testTimingsAndSizes() {
+        collector.requestStarted("eth_getBalance");
+        collector.requestCompleted(new RequestEvent(
+                "eth_getBalance", 3_000_000, 2_000_000, 1_000_000, 120, 80,
+                new EthBlockNumber(), null));
+
+        MetricsCollector.MethodSnapshot snapshot = collector.snapshot("eth_getBalance");
+        assertThat(snapshot.getRequestBytes(), is(120L));
+        assertThat(snapshot.getResponseBytes(), is(80L));
+        assertThat(snapshot.getNetworkTime().getCount(), is(1L));
+        assertThat(snapshot.getParseTime().getCount(), is(1L));
+        assertThat(snapshot.getParseTime().getValueAtPercentile(100, TimeUnit.MILLISECONDS)
+                < snapshot.getNetworkTime().getValueAtPercentile(100, TimeUnit.MILLISECONDS),
+                is(true));
+    }
+
+    @Test
+    public void testErrorsAndFailures() {
+        EthBlockNumber error = new EthBlockNumber();
+        error.setError(new Response.Error(-32005, "limit exceeded"));
+        for (int i = 0; i < 3; i++) {
+            collector.requestStarted("eth_getLogs");
+            collector.requestCompleted(RequestEvent.completed("eth_getLogs", 1_000, error));
+        }
+        collector.requestStarted("eth_getLogs");
+        collector.requestCompleted(
+                RequestEvent.failed("eth_getLogs", 1_000, new IOException("timeout")));
+
+        MetricsCollector.MethodSnapshot snapshot = collector.snapshot("eth_getLogs");
+        assertThat(snapshot.getRequestCount(), is(4L));
+        assertThat(snapshot.getFailureCount(), is(1L));
+        assertThat(snapshot.getErrorCount(), is(3L));
+        assertThat(snapshot.getErrorCounts(), is(Collections.singletonMap(-32005, 3L)));
+        assertThat(snapshot.getInFlight(), is(0L));
+    }
+
+    @Test
+    public void testSnapshotIsStable() {
+        collector.requestStarted("net_version");
+        collector.requestStarted("eth_chainId");
+        collector.requestCompleted(RequestEvent.completed("net_version", 1_000, null));
+        MetricsCollector.MethodSnapshot snapshot = collector.snapshot("net_version");
+
+        collector.requestStarted("net_version");
+        collector.requestCompleted(RequestEvent.completed("net_version", 1_000, null));
+        assertThat(snapshot.getRequestCount(), is(1L));
+        assertThat(snapshot.getLatency().getCount(), is(1L));
+
+        assertThat(collector.snapshot().keySet().toString(), is("[eth_chainId, net_version]"));
+        assertNull(collector.snapshot("eth_call"));
+    }
+}
@@ -26,28 +26,28 @@ public class RequestTest extends RequestTester {
     public void testPersonalSignerEnabled() throws Exception {
         web3j.personalSignerEnabled().send();
 
-        verifyResult("{\"jsonrpc\":\"2.0\",\"method\":\"personal_signerEnabled\",\"params\":[],\"id\":1}");
+        verifyResult("{\"jsonrpc\":\"2.0\",\"method\":\"personal_signerEnabled\",\"params\":[],\"id\":<generatedValue>}");
     }
 
     @Test
     public void testPersonalListAccounts() throws Exception {
         web3j.personalListAccounts().send();
 
-        verifyResult("{\"jsonrpc\":\"2.0\",\"method\":\"personal_listAccounts\",\"params\":[],\"id\":1}");
+        verifyResult("{\"jsonrpc\":\"2.0\",\"method\":\"personal_listAccounts\",\"params\":[],\"id\":<generatedValue>}");
     }
 
     @Test
     public void testPersonalNewAccount() throws Exception {
         web3j.personalNewAccount("password").send();
 
-        verifyResult("{\"jsonrpc\":\"2.0\",\"method\":\"personal_newAccount\",\"params\":[\"password\"],\"id\":1}");
+        verifyResult("{\"jsonrpc\":\"2.0\",\"method\":\"personal_newAccount\",\"params\":[\"password\"],\"id\":<generatedValue>}");
     }
 
     @Test
     public void testPersonalNewAccountFromPhrase() throws Exception {
         web3j.personalNewAccountFromPhrase("phrase", "password").send();
 
-        verifyResult("{\"jsonrpc\":\"2.0\",\"method\":\"personal_newAccountFromPhrase\",\"params\":[\"phrase\",\"password\"],\"id\":1}");
+        verifyResult("{\"jsonrpc\":\"2.0\",\"method\":\"personal_newAccountFromPhrase\",\"params\":[\"phrase\",\"password\"],\"id\":<generatedValue>}");
     }
 
     @Test
@@ -80,21 +80,21 @@ public class RequestTest extends RequestTester {
 
         web3j.personalNewAccountFromWallet(walletFile, "password").send();
 
-        verifyResult("{\"jsonrpc\":\"2.0\",\"method\":\"personal_newAccountFromWallet\",\"params\":[{\"address\":\"0x...\",\"id\":\"cab06c9e-79a9-48ea-afc7-d3bdb3a59526\",\"version\":1,\"crypto\":{\"cipher\":\"CIPHER\",\"ciphertext\":\"CIPHERTEXT\",\"cipherparams\":{\"iv\":\"IV\"},\"kdf\":\"KDF\",\"kdfparams\":{\"dklen\":32,\"n\":1,\"p\":10,\"r\":100,\"salt\":\"SALT\"},\"mac\":\"MAC\"}},\"password\"],\"id\":1}");
+        verifyResult("{\"jsonrpc\":\"2.0\",\"method\":\"personal_newAccountFromWallet\",\"params\":[{\"address\":\"0x...\",\"id\":\"cab06c9e-79a9-48ea-afc7-d3bdb3a59526\",\"version\":1,\"crypto\":{\"cipher\":\"CIPHER\",\"ciphertext\":\"CIPHERTEXT\",\"cipherparams\":{\"iv\":\"IV\"},\"kdf\":\"KDF\",\"kdfparams\":{\"dklen\":32,\"n\":1,\"p\":10,\"r\":100,\"salt\":\"SALT\"},\"mac\":\"MAC\"}},\"password\"],\"id\":<generatedValue>}");
     }
 
     @Test
     public void testPersonalUnlockAccount() throws Exception {
         web3j.personalUnlockAccount("0xfc390d8a8ddb591b010fda52f4db4945742c3809", "hunter2", BigInteger.ONE).send();
 
-        verifyResult("{\"jsonrpc\":\"2.0\",\"method\":\"personal_unlockAccount\",\"params\":[\"0xfc390d8a8ddb591b010fda52f4db4945742c3809\",\"hunter2\",1],\"id\":1}");
+        verifyResult("{\"jsonrpc\":\"2.0\",\"method\":\"personal_unlockAccount\",\"params\":[\"0xfc390d8a8ddb591b010fda52f4db4945742c3809\",\"hunter2\",1],\"id\":<generatedValue>}");
     }
 
     @Test
     public void testPersonalUnlockAccountNoDuration() throws Exception {
         web3j.personalUnlockAccount("0xfc390d8a8ddb591b010fda52f4db4945742c3809", "hunter2").send();
 
-        verifyResult("{\"jsonrpc\":\"2.0\",\"method\":\"personal_unlockAccount\",\"params\":[\"0xfc390d8a8ddb591b010fda52f4db4945742c3809\",\"hunter2\",null],\"id\":1}");
+        verifyResult("{\"jsonrpc\":\"2.0\",\"method\":\"personal_unlockAccount\",\"params\":[\"0xfc390d8a8ddb591b010fda52f4db4945742c3809\",\"hunter2\",null],\"id\":<generatedValue>}");
     }
 
     @Test
@@ -112,14 +112,14 @@ public class RequestTest extends RequestTester {
                 "password"
         ).send();
 
-        verifyResult("{\"jsonrpc\":\"2.0\",\"method\":\"personal_signAndSendTransaction\",\"params\":[{\"from\":\"FROM\",\"to\":\"TO\",\"gas\":\"0x1\",\"gasPrice\":\"0xa\",\"value\":\"0x0\",\"data\":\"0xDATA\",\"nonce\":\"0x1\"},\"password\"],\"id\":1}");
+        verifyResult("{\"jsonrpc\":\"2.0\",\"method\":\"personal_signAndSendTransaction\",\"params\":[{\"from\":\"FROM\",\"to\":\"TO\",\"gas\":\"0x1\",\"gasPrice\":\"0xa\",\"value\":\"0x0\",\"data\":\"0xDATA\",\"nonce\":\"0x1\"},\"password\"],\"id\":<generatedValue>}");
     }
 
     @Test
     public void testPersonalSetAccountName() throws Exception {
         web3j.personalSetAccountName("0xfc390d8a8ddb591b010fda52f4db4945742c3809", "Savings").send();
 
-        verifyResult("{\"jsonrpc\":\"2.0\",\"method\":\"personal_setAccountName\",\"params\":[\"0xfc390d8a8ddb591b010fda52f4db4945742c3809\",\"Savings\"],\"id\":1}");
+        verifyResult("{\"jsonrpc\":\"2.0\",\"method\":\"personal_setAccountName\",\"params\":[\"0xfc390d8a8ddb591b010fda52f4db4945742c3809\",\"Savings\"],\"id\":<generatedValue>}");
     }
 
     @Test
@@ -128,21 +128,21 @@ public class RequestTest extends RequestTester {
         meta.put("foo", "bar");
         web3j.personalSetAccountMeta("0xfc390d8a8ddb591b010fda52f4db4945742c3809", meta).send();
 
-        verifyResult("{\"jsonrpc\":\"2.0\",\"method\":\"personal_setAccountMeta\",\"params\":[\"0xfc390d8a8ddb591b010fda52f4db4945742c3809\",{\"foo\":\"bar\"}],\"id\":1}");
+        verifyResult("{\"jsonrpc\":\"2.0\",\"method\":\"personal_setAccountMeta\",\"params\":[\"0xfc390d8a8ddb591b010fda52f4db4945742c3809\",{\"foo\":\"bar\"}],\"id\":<generatedValue>}");
     }
 
     @Test
     public void testPersonalAccountsInfo() throws Exception {
         web3j.personalAccountsInfo().send();
 
-        verifyResult("{\"jsonrpc\":\"2.0\",\"method\":\"personal_accountsInfo\",\"params\":[],\"id\":1}");
+        verifyResult("{\"jsonrpc\":\"2.0\",\"method\":\"personal_accountsInfo\",\"params\":[],\"id\":<generatedValue>}");
     }
 
     @Test
     public void testPersonalRequestsToConfirm() throws Exception {
         web3j.personalRequestsToConfirm().send();
 
-        verifyResult("{\"jsonrpc\":\"2.0\",\"method\":\"personal_requestsToConfirm\",\"params\":[],\"id\":1}");
+        verifyResult("{\"jsonrpc\":\"2.0\",\"method\":\"personal_requestsToConfirm\",\"params\":[],\"id\":<generatedValue>}");
     }
 
     @Test
@@ -153,13 +153,13 @@ public class RequestTest extends RequestTester {
                 "password"
         ).send();
 
-        verifyResult("{\"jsonrpc\":\"2.0\",\"method\":\"personal_confirmRequest\",\"params\":[\"0x1\",{\"to\":\"0xcb10fbad79f5e602699fff2bb4919fbd87abc8cc\",\"data\":\"0x0\"},\"password\"],\"id\":1}");
+        verifyResult("{\"jsonrpc\":\"2.0\",\"method\":\"personal_confirmRequest\",\"params\":[\"0x1\",{\"to\":\"0xcb10fbad79f5e602699fff2bb4919fbd87abc8cc\",\"data\":\"0x0\"},\"password\"],\"id\":<generatedValue>}");
     }
 
     @Test
     public void testPersonalRejectRequest() throws Exception {
         web3j.personalRejectRequest("0x1").send();
 
-        verifyResult("{\"jsonrpc\":\"2.0\",\"method\":\"personal_rejectRequest\",\"params\":[\"0x1\"],\"id\":1}");
+        verifyResult("{\"jsonrpc\":\"2.0\",\"method\":\"personal_rejectRequest\",\"params\":[\"0x1\"],\"id\":<generatedValue>}");
     }
 }
@@ -0,0 +1,160 @@
+package org.web3j.protocol.streams;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.methods.response.EthBlock;
+import org.web3j.protocol.core.methods.response.EthLog;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.web3j.protocol.streams.TestSubscriber.await;
+
+public class BlockReplayTest {
+
+    private StubNode stubNode;
+    private FilterStreams filterStreams;
+
+    @Before
+    public void setUp() {
+        stubNode = new StubNode();
+        // deliver on the thread completing each response
+        filterStreams = new FilterStreams(Web3j.build(stubNode, Runnable::run), 5, 16);
+    }
+
+    @After
+    public void tearDown() {
+        filterStreams.close();
+    }
+
+    @Test
+    public void testReplayInOrder() throws Exception {
+        stubNode.holdResponses = true;
+        TestSubscriber<EthBlock.Block> subscriber = new TestSubscriber<>(Long.MAX_VALUE);
+        filterStreams.replayBlocks(BigInteger.valueOf(10), BigInteger.valueOf(109), false, 16, 4)
+                .subscribe(subscriber);
+
+        while (!subscriber.completed) {
+            // never more than the window's worth of blocks in flight
+            assertTrue(stubNode.heldResponseCount() <= 4);
+            await(() -> stubNode.heldResponseCount() > 0 || subscriber.completed);
+            stubNode.releaseResponsesInReverse();
+        }
+
+        assertThat(numbers(subscriber.items), equalTo(range(10, 109)));
+        assertThat(stubNode.batches.size(), equalTo(25));
+    }
+
+    @Test
+    public void testBoundedByDemand() throws Exception {
+        TestSubscriber<EthBlock.Block> subscriber = new TestSubscriber<>(5);
+        filterStreams.replayBlocks(BigInteger.ZERO, BigInteger.valueOf(1_000), false, 8, 2)
+                .subscribe(subscriber);
+
+        await(() -> subscriber.items.size() == 5);
+        Thread.sleep(10);
+        assertThat(subscriber.items.size(), equalTo(5));
+        assertThat(stubNode.count("eth_getBlockByNumber"), equalTo(5 + 8));
+
+        subscriber.subscription.request(10);
+        await(() -> subscriber.items.size() == 15);
+        assertThat(numbers(subscriber.items), equalTo(range(0, 14)));
+    }
+
+    @Test
+    public void testSingleBlockRequests() throws Exception {
+        TestSubscriber<EthBlock.Block> subscriber = new TestSubscriber<>(Long.MAX_VALUE);
+        filterStreams.replayBlocks(BigInteger.ZERO, BigInteger.valueOf(9), true, 4, 1)
+                .subscribe(subscriber);
+
+        await(() -> subscriber.completed);
+        assertThat(numbers(subscriber.items), equalTo(range(0, 9)));
+        assertThat(stubNode.batches.size(), equalTo(0));
+    }
+
+    @Test
+    public void testBlockNotFound() throws Exception {
+        stubNode.latestBlock = 5;
+        TestSubscriber<EthBlock.Block> subscriber = new TestSubscriber<>(Long.MAX_VALUE);
+        filterStreams.replayBlocks(BigInteger.ZERO, BigInteger.valueOf(9), false, 4, 2)
+                .subscribe(subscriber);
+
+        await(() -> subscriber.error != null);
+        assertThat(subscriber.error, instanceOf(IOException.class));
+        // the error may overtake blocks still waiting to be delivered
+        List<Long> numbers = numbers(subscriber.items);
+        assertTrue(numbers.size() <= 6);
+        assertThat(numbers, equalTo(range(0, numbers.size() - 1)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidRange() {
+        filterStreams.replayBlocks(BigInteger.TEN, BigInteger.ONE, false);
+    }
+
+    @Test
+    public void testReplayPastAndFutureBlocks() throws Exception {
+        stubNode.latestBlock = 20;
+        TestSubscriber<EthBlock.Block> subscriber = new TestSubscriber<>(Long.MAX_VALUE);
+        filterStreams.replayPastAndFutureBlocks(BigInteger.TEN, false, 4, 2)
+                .subscribe(subscriber);
+        await(() -> subscriber.items.size() == 11);
+        assertThat(numbers(subscriber.items), equalTo(range(10, 20)));
+        await(() -> stubNode.count("eth_getFilterChanges") > 0);
+
+        // block 21 is skipped by the filter, and block 20 reported again
+        stubNode.latestBlock = 22;
+        stubNode.addChanges("0x1", new EthLog.Hash("0x14"), new EthLog.Hash("0x16"));
+        await(() -> subscriber.items.size() == 13);
+        stubNode.latestBlock = 23;
+        stubNode.addChanges("0x1", new EthLog.Hash("0x17"));
+        await(() -> subscriber.items.size() == 14);
+
+        assertThat(numbers(subscriber.items), equalTo(range(10, 23)));
+        // blocks 21 and 22 were fetched by number, while block 23 was next in line so was
+        // delivered as published
+        assertThat(stubNode.count("eth_getBlockByNumber"), equalTo(13));
+        assertThat(subscriber.completed, equalTo(false));
+
+        subscriber.subscription.cancel();
+        await(() -> stubNode.count("eth_uninstallFilter") == 1);
+    }
+
+    @Test
+    public void testReplayPastAndFutureBlocksCompletesOnClose() throws Exception {
+        stubNode.latestBlock = 3;
+        TestSubscriber<EthBlock.Block> subscriber = new TestSubscriber<>(Long.MAX_VALUE);
+        filterStreams.replayPastAndFutureBlocks(BigInteger.ZERO, true).subscribe(subscriber);
+        await(() -> subscriber.items.size() == 4);
+        await(() -> stubNode.count("eth_getFilterChanges") > 0);
+
+        filterStreams.close();
+        await(() -> subscriber.completed);
+        assertThat(numbers(subscriber.items), equalTo(range(0, 3)));
+    }
+
+    private static List<Long> numbers(List<EthBlock.Block> blocks) {
+        List<Long> numbers = new ArrayList<>();
+        for (EthBlock.Block block : blocks) {
+            numbers.add(block.getNumber().longValue());
+        }
+        return numbers;
+    }
+
+    private static List<Long> range(long first, long last) {
+        List<Long> numbers = new ArrayList<>();
+        for (long number = first; number <= last; number++) {
+            numbers.add(number);
+        }
+        return numbers;
+    }
+}
@@ -0,0 +1,201 @@
+package org.web3j.protocol.streams;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.reactivestreams.Subscription;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.methods.response.EthBlock;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.web3j.protocol.streams.TestSubscriber.await;
+
+public class ChainTrackerTest {
+
+    private StubNode stubNode;
+    private ChainTracker chainTracker;
+    private TestSubscriber<ChainEvent> events;
+    private final AtomicLong requested = new AtomicLong();
+    private boolean cancelled;
+
+    @Before
+    public void setUp() {
+        stubNode = new StubNode();
+        // deliver on the thread completing each response
+        chainTracker = new ChainTracker(Web3j.build(stubNode, Runnable::run), 4, false, 16);
+        events = new TestSubscriber<>(Long.MAX_VALUE);
+        chainTracker.events().subscribe(events);
+        chainTracker.onSubscribe(new Subscription() {
+            @Override
+            public void request(long n) {
+                requested.addAndGet(n);
+            }
+
+            @Override
+            public void cancel() {
+                cancelled = true;
+            }
+        });
+    }
+
+    @Test
+    public void testApply() {
+        publish(block(1, "0x1a", "0x0a"), block(2, "0x2a", "0x1a"), block(3, "0x3a", "0x2a"));
+
+        assertThat(events(), equalTo("+0x1a +0x2a +0x3a"));
+        assertThat(chainTracker.getHead().get().getHash(), equalTo("0x3a"));
+        assertThat(chainTracker.getConfirmedBlock(2).get().getHash(), equalTo("0x1a"));
+        assertFalse(chainTracker.getConfirmedBlock(3).isPresent());
+        assertThat(requested.get(), equalTo(4L));
+    }
+
+    @Test
+    public void testRollback() {
+        publish(block(1, "0x1a", "0x0a"), block(2, "0x2a", "0x1a"), block(3, "0x3a", "0x2a"));
+        addBlocks(block(2, "0x2b", "0x1a"), block(3, "0x3b", "0x2b"));
+        publish(block(4, "0x4b", "0x3b"));
+
+        assertThat(events(), equalTo(
+                "+0x1a +0x2a +0x3a -0x3a -0x2a +0x2b +0x3b +0x4b"));
+        assertThat(chainTracker.getConfirmedBlock(2).get().getHash(), equalTo("0x2b"));
+    }
+
+    @Test
+    public void testRollbackToShorterChain() {
+        publish(block(1, "0x1a", "0x0a"), block(2, "0x2a", "0x1a"), block(3, "0x3a", "0x2a"));
+        publish(block(2, "0x2b", "0x1a"));
+
+        assertThat(events(), equalTo("+0x1a +0x2a +0x3a -0x3a -0x2a +0x2b"));
+        assertThat(chainTracker.getHead().get().getHash(), equalTo("0x2b"));
+    }
+
+    @Test
+    public void testRollbackOfFirstBlocksSeen() {
+        publish(block(5, "0x5a", "0x4a"));
+        publish(block(5, "0x5b", "0x4a"));
+        assertThat(events(), equalTo("+0x5a -0x5a +0x5b"));
+
+        publish(block(6, "0x6b", "0x5b"));
+        addBlocks(block(5, "0x5c", "0x4a"), block(6, "0x6c", "0x5c"));
+        publish(block(7, "0x7c", "0x6c"));
+
+        assertThat(events(), equalTo(
+                "+0x5a -0x5a +0x5b +0x6b -0x6b -0x5b +0x5c +0x6c +0x7c"));
+        assertThat(chainTracker.getHead().get().getHash(), equalTo("0x7c"));
+        assertThat(chainTracker.getConfirmedBlock(2).get().getHash(), equalTo("0x5c"));
+        assertFalse(cancelled);
+    }
+
+    @Test
+    public void testFillsGaps() {
+        publish(block(1, "0x1a", "0x0a"));
+        addBlocks(block(2, "0x2a", "0x1a"), block(3, "0x3a", "0x2a"));
+        publish(block(4, "0x4a", "0x3a"));
+        publish(block(4, "0x4a", "0x3a"));
+
+        assertThat(events(), equalTo("+0x1a +0x2a +0x3a +0x4a"));
+    }
+
+    @Test
+    public void testRingBuffer() {
+        String parent = "0x0a";
+        for (int number = 1; number <= 10; number++) {
+            String hash = "0x" + number + "a";
+            publish(block(number, hash, parent));
+            parent = hash;
+        }
+
+        assertThat(chainTracker.getHead().get().getHash(), equalTo("0x10a"));
+        assertThat(chainTracker.getConfirmedBlock(3).get().getHash(), equalTo("0x7a"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConfirmationsBeyondCapacity() {
+        chainTracker.getConfirmedBlock(4);
+    }
+
+    @Test
+    public void testReorganisationTooDeep() throws Exception {
+        String parent = "0x0a";
+        for (int number = 1; number <= 6; number++) {
+            String hash = "0x" + number + "a";
+            publish(block(number, hash, parent));
+            parent = hash;
+        }
+        addBlocks(block(2, "0x2b", "0x1a"), block(3, "0x3b", "0x2b"), block(4, "0x4b", "0x3b"),
+                block(5, "0x5b", "0x4b"), block(6, "0x6b", "0x5b"));
+        long before = requested.get();
+        chainTracker.onNext(block(7, "0x7b", "0x6b"));
+
+        await(() -> events.error != null);
+        assertThat(requested.get(), equalTo(before));
+        assertThat(events.error, instanceOf(IOException.class));
+        assertTrue(cancelled);
+        assertThat(chainTracker.getHead().get().getHash(), equalTo("0x6a"));
+    }
+
+    @Test
+    public void testPassesOverMissingBlocks() {
+        publish(block(1, "0x1a", "0x0a"));
+        stubNode.blocks.put("0x2a", new EthBlock.Block());
+        // the parent is answered without a number, and so fails to link
+        publish(block(3, "0x3a", "0x2a"));
+        assertThat(events(), equalTo("+0x1a"));
+
+        addBlocks(block(2, "0x2a", "0x1a"), block(3, "0x3a", "0x2a"));
+        publish(block(4, "0x4a", "0x3a"));
+        assertThat(events(), equalTo("+0x1a +0x2a +0x3a +0x4a"));
+    }
+
+    @Test
+    public void testComplete() throws Exception {
+        chainTracker.onComplete();
+        await(() -> events.completed);
+
+        TestSubscriber<ChainEvent> late = new TestSubscriber<>(1);
+        chainTracker.events().subscribe(late);
+        await(() -> late.completed);
+    }
+
+    private void publish(EthBlock.Block... blocks) {
+        for (EthBlock.Block block : blocks) {
+            long before = requested.get();
+            chainTracker.onNext(block);
+            // the next block is requested once the last has been linked
+            assertThat(requested.get(), equalTo(before + 1));
+        }
+    }
+
+    private void addBlocks(EthBlock.Block... blocks) {
+        for (EthBlock.Block block : blocks) {
+            stubNode.blocks.put(block.getHash(), block);
+        }
+    }
+
+    private String events() {
+        List<String> descriptions = new ArrayList<>();
+        for (ChainEvent event : events.items) {
+            descriptions.add((event.getType() == ChainEvent.Type.APPLY ? "+" : "-")
+                    + event.getBlock().getHash());
+        }
+        return String.join(" ", descriptions);
+    }
+
+    private static EthBlock.Block block(long number, String hash, String parentHash) {
+        EthBlock.Block block = new EthBlock.Block();
+        block.setNumber("0x" + BigInteger.valueOf(number).toString(16));
+        block.setHash(hash);
+        block.setParentHash(parentHash);
+        return block;
+    }
+}
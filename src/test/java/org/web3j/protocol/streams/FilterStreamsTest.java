@@ -0,0 +1,240 @@
+package org.web3j.protocol.streams;
+
+import java.io.IOException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.methods.request.EthFilter;
+import org.web3j.protocol.core.methods.response.EthBlock;
+import org.web3j.protocol.core.methods.response.EthLog;
+import org.web3j.protocol.core.methods.response.Log;
+import org.web3j.protocol.core.methods.response.Transaction;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.junit.Assert.assertThat;
+import static org.web3j.protocol.streams.TestSubscriber.await;
+
+public class FilterStreamsTest {
+
+    private static final long POLLING_INTERVAL_MILLIS = 5;
+
+    private StubNode stubNode;
+    private FilterStreams filterStreams;
+
+    @Before
+    public void setUp() {
+        stubNode = new StubNode();
+        // deliver on the polling thread
+        filterStreams = new FilterStreams(
+                Web3j.build(stubNode, Runnable::run), POLLING_INTERVAL_MILLIS, 4);
+    }
+
+    @After
+    public void tearDown() {
+        filterStreams.close();
+    }
+
+    @Test
+    public void testBlockStream() throws Exception {
+        TestSubscriber<EthBlock.Block> first = new TestSubscriber<>(Long.MAX_VALUE);
+        TestSubscriber<EthBlock.Block> second = new TestSubscriber<>(Long.MAX_VALUE);
+        filterStreams.blockStream(false).subscribe(first);
+        filterStreams.blockStream(false).subscribe(second);
+        await(() -> stubNode.count("eth_getFilterChanges") > 0);
+
+        stubNode.addChanges("0x1", new EthLog.Hash("0xa"), new EthLog.Hash("0xb"));
+        await(() -> first.items.size() == 2 && second.items.size() == 2);
+
+        assertThat(first.items.get(0).getHash(), equalTo("0xa"));
+        assertThat(first.items.get(1).getHash(), equalTo("0xb"));
+        // both subscribers share one filter, and the blocks are fetched in a single batch
+        assertThat(stubNode.count("eth_newBlockFilter"), equalTo(1));
+        assertThat(stubNode.batches.size(), equalTo(1));
+        assertThat(stubNode.batches.get(0).size(), equalTo(2));
+    }
+
+    @Test
+    public void testCancelUninstallsFilter() throws Exception {
+        TestSubscriber<EthBlock.Block> first = new TestSubscriber<>(Long.MAX_VALUE);
+        TestSubscriber<EthBlock.Block> second = new TestSubscriber<>(Long.MAX_VALUE);
+        filterStreams.blockStream(true).subscribe(first);
+        filterStreams.blockStream(true).subscribe(second);
+        await(() -> stubNode.count("eth_getFilterChanges") > 0);
+
+        first.subscription.cancel();
+        Thread.sleep(POLLING_INTERVAL_MILLIS * 4);
+        assertThat(stubNode.count("eth_uninstallFilter"), equalTo(0));
+
+        second.subscription.cancel();
+        await(() -> stubNode.count("eth_uninstallFilter") == 1);
+
+        // a new subscriber installs a new filter
+        filterStreams.blockStream(true).subscribe(new TestSubscriber<>(1));
+        await(() -> stubNode.count("eth_newBlockFilter") == 2);
+    }
+
+    @Test
+    public void testBackpressure() throws Exception {
+        TestSubscriber<EthBlock.Block> subscriber = new TestSubscriber<>(1);
+        filterStreams.blockStream(false).subscribe(subscriber);
+        await(() -> stubNode.count("eth_getFilterChanges") > 0);
+
+        stubNode.addChanges("0x1", new EthLog.Hash("0xa"), new EthLog.Hash("0xb"),
+                new EthLog.Hash("0xc"), new EthLog.Hash("0xd"));
+        await(() -> subscriber.items.size() == 1);
+
+        // three blocks are buffered, more than half the buffer, so polling holds off
+        Thread.sleep(POLLING_INTERVAL_MILLIS * 4);
+        int polls = stubNode.count("eth_getFilterChanges");
+        Thread.sleep(POLLING_INTERVAL_MILLIS * 4);
+        assertThat(stubNode.count("eth_getFilterChanges"), equalTo(polls));
+        assertThat(subscriber.items.size(), equalTo(1));
+
+        subscriber.subscription.request(3);
+        await(() -> subscriber.items.size() == 4);
+        await(() -> stubNode.count("eth_getFilterChanges") > polls);
+        assertThat(subscriber.items.get(3).getHash(), equalTo("0xd"));
+    }
+
+    @Test
+    public void testBufferOverrun() throws Exception {
+        TestSubscriber<EthBlock.Block> subscriber = new TestSubscriber<>(0);
+        filterStreams.blockStream(false).subscribe(subscriber);
+        await(() -> stubNode.count("eth_getFilterChanges") > 0);
+
+        stubNode.addChanges("0x1", new EthLog.Hash("0xa"), new EthLog.Hash("0xb"),
+                new EthLog.Hash("0xc"), new EthLog.Hash("0xd"), new EthLog.Hash("0xe"));
+        await(() -> subscriber.error != null);
+        assertThat(subscriber.error, instanceOf(IOException.class));
+        await(() -> stubNode.count("eth_uninstallFilter") == 1);
+    }
+
+    @Test
+    public void testInvalidRequest() throws Exception {
+        TestSubscriber<EthBlock.Block> subscriber = new TestSubscriber<>(0);
+        filterStreams.blockStream(false).subscribe(subscriber);
+        subscriber.subscription.request(0);
+        await(() -> subscriber.error != null);
+        assertThat(subscriber.error, instanceOf(IllegalArgumentException.class));
+    }
+
+    @Test
+    public void testPendingTransactionStream() throws Exception {
+        TestSubscriber<Transaction> subscriber = new TestSubscriber<>(Long.MAX_VALUE);
+        filterStreams.pendingTransactionStream().subscribe(subscriber);
+        await(() -> stubNode.count("eth_getFilterChanges") > 0);
+
+        stubNode.addChanges("0x2", new EthLog.Hash("0xa"), new EthLog.Hash(StubNode.DROPPED),
+                new EthLog.Hash("0xb"));
+        await(() -> subscriber.items.size() == 2);
+        assertThat(subscriber.items.get(0).getHash(), equalTo("0xa"));
+        assertThat(subscriber.items.get(1).getHash(), equalTo("0xb"));
+    }
+
+    @Test
+    public void testLogStream() throws Exception {
+        TestSubscriber<Log> first = new TestSubscriber<>(Long.MAX_VALUE);
+        TestSubscriber<Log> second = new TestSubscriber<>(Long.MAX_VALUE);
+        filterStreams.logStream(filter("0x1234")).subscribe(first);
+        filterStreams.logStream(filter("0x1234")).subscribe(second);
+        filterStreams.logStream(filter("0x5678")).subscribe(new TestSubscriber<>(1));
+        await(() -> stubNode.count("eth_getFilterChanges") > 1);
+
+        // equal filters share a filter on the node
+        assertThat(stubNode.count("eth_newFilter"), equalTo(2));
+
+        EthLog.LogObject log = new EthLog.LogObject();
+        log.setAddress("0x1234");
+        stubNode.addChanges("0x3", log);
+        await(() -> first.items.size() == 1 && second.items.size() == 1);
+        assertThat(first.items.get(0).getAddress(), equalTo("0x1234"));
+    }
+
+    @Test
+    public void testReinstallsDroppedFilter() throws Exception {
+        TestSubscriber<EthBlock.Block> subscriber = new TestSubscriber<>(Long.MAX_VALUE);
+        filterStreams.blockStream(false).subscribe(subscriber);
+        await(() -> stubNode.count("eth_getFilterChanges") > 0);
+
+        stubNode.dropFilters = true;
+        await(() -> stubNode.count("eth_newBlockFilter") == 2);
+        stubNode.dropFilters = false;
+
+        stubNode.addChanges("0x1", new EthLog.Hash("0xa"));
+        await(() -> subscriber.items.size() == 1);
+    }
+
+    @Test
+    public void testRetriesFailedFetch() throws Exception {
+        TestSubscriber<EthBlock.Block> subscriber = new TestSubscriber<>(Long.MAX_VALUE);
+        filterStreams.blockStream(false).subscribe(subscriber);
+        await(() -> stubNode.count("eth_getFilterChanges") > 0);
+
+        stubNode.failBatches = true;
+        stubNode.addChanges("0x1", new EthLog.Hash("0xa"));
+        await(() -> stubNode.batches.size() > 1);
+        stubNode.failBatches = false;
+
+        stubNode.addChanges("0x1", new EthLog.Hash("0xb"));
+        await(() -> subscriber.items.size() == 2);
+        assertThat(subscriber.items.get(0).getHash(), equalTo("0xa"));
+        assertThat(subscriber.items.get(1).getHash(), equalTo("0xb"));
+    }
+
+    @Test
+    public void testFailsAfterRepeatedFetchFailures() throws Exception {
+        TestSubscriber<EthBlock.Block> subscriber = new TestSubscriber<>(Long.MAX_VALUE);
+        filterStreams.blockStream(false).subscribe(subscriber);
+        await(() -> stubNode.count("eth_getFilterChanges") > 0);
+
+        stubNode.failBatches = true;
+        stubNode.addChanges("0x1", new EthLog.Hash("0xa"));
+        // subscribers are failed before the filter is uninstalled
+        await(() -> subscriber.error != null && stubNode.count("eth_uninstallFilter") > 0);
+
+        assertThat(subscriber.error, instanceOf(IOException.class));
+        assertThat(stubNode.batches.size(), equalTo(FilterPoller.MAX_PROCESSING_ATTEMPTS));
+        assertThat(stubNode.count("eth_uninstallFilter"), equalTo(1));
+    }
+
+    @Test
+    public void testRefusedBatchSentIndividually() throws Exception {
+        TestSubscriber<EthBlock.Block> subscriber = new TestSubscriber<>(Long.MAX_VALUE);
+        filterStreams.blockStream(false).subscribe(subscriber);
+        await(() -> stubNode.count("eth_getFilterChanges") > 0);
+
+        stubNode.rejectBatches = true;
+        stubNode.addChanges("0x1", new EthLog.Hash("0xa"), new EthLog.Hash("0xb"));
+        await(() -> subscriber.items.size() == 2);
+
+        assertThat(subscriber.items.get(0).getHash(), equalTo("0xa"));
+        assertThat(subscriber.items.get(1).getHash(), equalTo("0xb"));
+        assertThat(stubNode.batches.size(), equalTo(1));
+        assertThat(stubNode.count("eth_getBlockByHash"), equalTo(2));
+    }
+
+    @Test
+    public void testClose() throws Exception {
+        TestSubscriber<EthBlock.Block> subscriber = new TestSubscriber<>(Long.MAX_VALUE);
+        filterStreams.blockStream(false).subscribe(subscriber);
+        await(() -> stubNode.count("eth_getFilterChanges") > 0);
+
+        filterStreams.close();
+        await(() -> subscriber.completed);
+        assertThat(stubNode.count("eth_uninstallFilter"), equalTo(1));
+
+        TestSubscriber<EthBlock.Block> late = new TestSubscriber<>(Long.MAX_VALUE);
+        filterStreams.blockStream(false).subscribe(late);
+        assertThat(late.error, instanceOf(IOException.class));
+    }
+
+    private static EthFilter filter(String address) {
+        return new EthFilter(
+                DefaultBlockParameterName.LATEST, DefaultBlockParameterName.LATEST, address);
+    }
+}
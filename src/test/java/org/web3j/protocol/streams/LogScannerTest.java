@@ -0,0 +1,198 @@
+package org.web3j.protocol.streams;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.DefaultBlockParameterNumber;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.request.EthFilter;
+import org.web3j.protocol.core.methods.response.Log;
+import org.web3j.utils.Numeric;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.web3j.protocol.streams.TestSubscriber.await;
+
+public class LogScannerTest {
+
+    private StubNode stubNode;
+    private Web3j web3j;
+
+    @Before
+    public void setUp() {
+        stubNode = new StubNode();
+        // deliver on the thread completing each response
+        web3j = Web3j.build(stubNode, Runnable::run);
+    }
+
+    @Test
+    public void testScanInOrder() throws Exception {
+        stubNode.holdResponses = true;
+        stubNode.logsInBlock = number -> number % 3;
+        TestSubscriber<Log> subscriber = new TestSubscriber<>(Long.MAX_VALUE);
+        new LogScanner(web3j, 3, 10, 100).scan(filter(0, 499)).subscribe(subscriber);
+
+        while (!subscriber.completed) {
+            assertTrue(stubNode.heldResponseCount() <= 3);
+            await(() -> stubNode.heldResponseCount() > 0 || subscriber.completed);
+            stubNode.releaseResponsesInReverse();
+        }
+
+        assertThat(subscriber.items.size(), equalTo(499));
+        assertInOrder(subscriber.items);
+    }
+
+    @Test
+    public void testSplitsOnTooManyResults() throws Exception {
+        stubNode.logsInBlock = number -> 10;
+        stubNode.maxLogs = 50;
+        TestSubscriber<Log> subscriber = new TestSubscriber<>(Long.MAX_VALUE);
+        new LogScanner(web3j, 2, 40, 1_000).scan(filter(100, 199)).subscribe(subscriber);
+
+        await(() -> subscriber.completed);
+        assertThat(subscriber.items.size(), equalTo(1_000));
+        assertInOrder(subscriber.items);
+        assertThat(blocks(stubNode.logFilters.get(0)), equalTo(40L));
+        int refused = 0;
+        for (EthFilter filter : stubNode.logFilters) {
+            refused += blocks(filter) > 5 ? 1 : 0;
+        }
+        // the two 40 block chunks first requested, and their halves and quarters, but no more
+        // once narrowed down to 5 blocks
+        assertThat(refused, equalTo(2 + 4 + 8));
+        assertThat(stubNode.logFilters.size(), equalTo(refused + 20));
+    }
+
+    @Test
+    public void testGrowsWhenSparse() throws Exception {
+        TestSubscriber<Log> subscriber = new TestSubscriber<>(Long.MAX_VALUE);
+        new LogScanner(web3j, 1, 10, 1_000).scan(filter(0, 9_999)).subscribe(subscriber);
+
+        await(() -> subscriber.completed);
+        assertThat(subscriber.items.size(), equalTo(0));
+        // 10, 20, 40, ... 640, then 1,000 at a time
+        assertThat(blocks(stubNode.logFilters.get(6)), equalTo(640L));
+        assertThat(blocks(stubNode.logFilters.get(7)), equalTo(1_000L));
+        assertThat(stubNode.logFilters.size(), equalTo(16));
+    }
+
+    @Test
+    public void testTooManyLogsInOneBlock() throws Exception {
+        stubNode.logsInBlock = number -> 10;
+        stubNode.maxLogs = 5;
+        TestSubscriber<Log> subscriber = new TestSubscriber<>(Long.MAX_VALUE);
+        new LogScanner(web3j, 2, 4, 4).scan(filter(0, 9)).subscribe(subscriber);
+
+        await(() -> subscriber.error != null);
+        assertThat(subscriber.error, instanceOf(IOException.class));
+        assertThat(subscriber.items.size(), equalTo(0));
+    }
+
+    @Test
+    public void testFailsOnRateLimit() throws Exception {
+        stubNode.logsError = new Response.Error(-32005, "project ID request rate exceeded; "
+                + "too many requests per second, see rate limit");
+        TestSubscriber<Log> subscriber = new TestSubscriber<>(Long.MAX_VALUE);
+        new LogScanner(web3j, 2, 10, 10).scan(filter(0, 99)).subscribe(subscriber);
+
+        await(() -> subscriber.error != null);
+        assertThat(subscriber.error, instanceOf(IOException.class));
+        assertTrue(subscriber.error.getMessage().contains("request rate exceeded"));
+        // the chunks are not split
+        for (EthFilter filter : stubNode.logFilters) {
+            assertThat(blocks(filter), equalTo(10L));
+        }
+    }
+
+    @Test
+    public void testBoundedByDemand() throws Exception {
+        stubNode.logsInBlock = number -> 1;
+        TestSubscriber<Log> subscriber = new TestSubscriber<>(3);
+        new LogScanner(web3j, 2, 10, 10).scan(filter(0, 999)).subscribe(subscriber);
+
+        await(() -> subscriber.items.size() == 3);
+        Thread.sleep(10);
+        assertThat(subscriber.items.size(), equalTo(3));
+        // the chunk being delivered, and twice the concurrency ahead of it
+        assertThat(stubNode.logFilters.size(), equalTo(5));
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        await(() -> subscriber.completed);
+        assertThat(subscriber.items.size(), equalTo(1_000));
+        assertInOrder(subscriber.items);
+    }
+
+    @Test
+    public void testScanToLatestBlock() throws Exception {
+        stubNode.latestBlock = 9;
+        stubNode.logsInBlock = number -> 1;
+        EthFilter filter = new EthFilter(
+                new DefaultBlockParameterNumber(BigInteger.valueOf(5)),
+                DefaultBlockParameterName.LATEST, "0x1234")
+                .addSingleTopic("0xabcd");
+        TestSubscriber<Log> subscriber = new TestSubscriber<>(Long.MAX_VALUE);
+        new LogScanner(web3j).scan(filter).subscribe(subscriber);
+
+        await(() -> subscriber.completed);
+        assertThat(subscriber.items.size(), equalTo(5));
+        assertThat(subscriber.items.get(0).getBlockNumber().get(), equalTo(BigInteger.valueOf(5)));
+        EthFilter chunkFilter = stubNode.logFilters.get(0);
+        assertThat(chunkFilter.getAddress(), equalTo(filter.getAddress()));
+        assertThat(chunkFilter.getTopics(), equalTo(filter.getTopics()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidRange() {
+        new LogScanner(web3j).scan(filter(10, 9));
+    }
+
+    @Test
+    public void testIsTooManyResults() {
+        assertTrue(LogScan.isTooManyResults(
+                new Response.Error(-32005, "query returned more than 10000 results")));
+        assertTrue(LogScan.isTooManyResults(
+                new Response.Error(-32602, "Log response size exceeded.")));
+        assertTrue(LogScan.isTooManyResults(
+                new Response.Error(-32000, "block range is too wide")));
+        assertTrue(LogScan.isTooManyResults(
+                new Response.Error(-32000, "exceed maximum block range: 5000")));
+        assertFalse(LogScan.isTooManyResults(new Response.Error(-32005, "limit exceeded")));
+        assertFalse(LogScan.isTooManyResults(
+                new Response.Error(-32005, "daily request count exceeded, request rate limited")));
+        assertFalse(LogScan.isTooManyResults(new Response.Error(-32000, "query timeout")));
+        assertFalse(LogScan.isTooManyResults(new Response.Error(-32601, "method not found")));
+        assertFalse(LogScan.isTooManyResults(new Response.Error(-32602, "invalid argument")));
+    }
+
+    private static EthFilter filter(long from, long to) {
+        return new EthFilter(
+                new DefaultBlockParameterNumber(BigInteger.valueOf(from)),
+                new DefaultBlockParameterNumber(BigInteger.valueOf(to)),
+                "0x1234");
+    }
+
+    private static long blocks(EthFilter filter) {
+        return Numeric.decodeQuantity(filter.getToBlock().getValue()).longValue()
+                - Numeric.decodeQuantity(filter.getFromBlock().getValue()).longValue() + 1;
+    }
+
+    private static void assertInOrder(List<Log> logs) {
+        for (int i = 1; i < logs.size(); i++) {
+            Log previous = logs.get(i - 1);
+            Log log = logs.get(i);
+            int byBlock = log.getBlockNumber().get().compareTo(previous.getBlockNumber().get());
+            assertTrue(byBlock > 0
+                    || byBlock == 0 && log.getLogIndex().get().compareTo(
+                            previous.getLogIndex().get()) > 0);
+        }
+    }
+}
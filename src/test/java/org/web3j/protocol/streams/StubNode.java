@@ -0,0 +1,236 @@
+package org.web3j.protocol.streams;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.LongUnaryOperator;
+
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.request.EthFilter;
+import org.web3j.protocol.core.methods.response.EthBlock;
+import org.web3j.protocol.core.methods.response.EthLog;
+import org.web3j.protocol.core.methods.response.Transaction;
+import org.web3j.protocol.exceptions.BatchRejectedException;
+import org.web3j.utils.Numeric;
+
+/**
+ * Answers filter and block requests. Filters are handed a fixed id per filter type, with
+ * changes queued per filter id, and each block's hash is its hex encoded number.
+ */
+class StubNode implements Web3jService {
+
+    static final String DROPPED = "0xdropped";
+
+    final Map<String, Integer> counts = new ConcurrentHashMap<>();
+    final Map<String, Queue<EthLog.LogResult>> changes = new ConcurrentHashMap<>();
+    final List<BatchRequest> batches = new CopyOnWriteArrayList<>();
+    // blocks answered by hash in place of those made up from the hash
+    final Map<String, EthBlock.Block> blocks = new ConcurrentHashMap<>();
+    volatile boolean dropFilters;
+    volatile boolean failBatches;
+    // when set, batches are refused as a node without batch support would
+    volatile boolean rejectBatches;
+    volatile long latestBlock = Long.MAX_VALUE;
+
+    // eth_getLogs requests, with the logs in each block and the most a request may return
+    final List<EthFilter> logFilters = new CopyOnWriteArrayList<>();
+    volatile LongUnaryOperator logsInBlock = number -> 0;
+    volatile int maxLogs = Integer.MAX_VALUE;
+    // when set, eth_getLogs is answered with this error
+    volatile Response.Error logsError;
+
+    // when set, responses to asynchronous requests are held until released
+    volatile boolean holdResponses;
+    private final List<Runnable> heldResponses = new ArrayList<>();
+
+    int count(String method) {
+        return counts.getOrDefault(method, 0);
+    }
+
+    void addChanges(String filterId, EthLog.LogResult... results) {
+        changes.computeIfAbsent(filterId, id -> new ConcurrentLinkedQueue<>())
+                .addAll(Arrays.asList(results));
+    }
+
+    int heldResponseCount() {
+        synchronized (heldResponses) {
+            return heldResponses.size();
+        }
+    }
+
+    /**
+     * Release the responses held so far, last first.
+     */
+    void releaseResponsesInReverse() {
+        List<Runnable> responses;
+        synchronized (heldResponses) {
+            responses = new ArrayList<>(heldResponses);
+            heldResponses.clear();
+        }
+        Collections.reverse(responses);
+        for (Runnable response : responses) {
+            response.run();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Response> T send(Request request, Class<T> responseType) {
+        counts.merge(request.getMethod(), 1, Integer::sum);
+        Object param = request.getParams().isEmpty() ? null : request.getParams().get(0);
+        Response response;
+        try {
+            response = responseType.newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException(e);
+        }
+        switch (request.getMethod()) {
+            case "eth_newBlockFilter":
+                response.setResult("0x1");
+                break;
+            case "eth_newPendingTransactionFilter":
+                response.setResult("0x2");
+                break;
+            case "eth_newFilter":
+                List<String> address = ((EthFilter) param).getAddress();
+                response.setResult(address.get(0).equals("0x1234") ? "0x3" : "0x4");
+                break;
+            case "eth_getFilterChanges":
+                if (dropFilters) {
+                    response.setError(new Response.Error(-32000, "filter not found"));
+                    break;
+                }
+                List<EthLog.LogResult> results = new ArrayList<>();
+                Queue<EthLog.LogResult> queue = changes.get(param);
+                EthLog.LogResult result;
+                while (queue != null && (result = queue.poll()) != null) {
+                    results.add(result);
+                }
+                response.setResult(results);
+                break;
+            case "eth_blockNumber":
+                response.setResult(Numeric.encodeQuantity(BigInteger.valueOf(latestBlock)));
+                break;
+            case "eth_getBlockByHash":
+                response.setResult(blocks.getOrDefault(param, block((String) param)));
+                break;
+            case "eth_getBlockByNumber":
+                String number = (String) param;
+                if (Numeric.decodeQuantity(number).longValue() <= latestBlock) {
+                    response.setResult(block(number));
+                }
+                break;
+            case "eth_getTransactionByHash":
+                if (!DROPPED.equals(param)) {
+                    Transaction transaction = new Transaction();
+                    transaction.setHash((String) param);
+                    response.setResult(transaction);
+                }
+                break;
+            case "eth_getLogs":
+                EthFilter filter = (EthFilter) param;
+                logFilters.add(filter);
+                List<EthLog.LogResult> logs = logs(filter);
+                if (logsError != null) {
+                    response.setError(logsError);
+                } else if (logs.size() > maxLogs) {
+                    response.setError(new Response.Error(
+                            -32005, "query returned more than " + maxLogs + " results"));
+                } else {
+                    response.setResult(logs);
+                }
+                break;
+            case "eth_uninstallFilter":
+                response.setResult(true);
+                break;
+            default:
+                throw new UnsupportedOperationException(request.getMethod());
+        }
+        response.setId(request.getId());
+        return (T) response;
+    }
+
+    /**
+     * The logs in the filter's range, last first to be put in order by the client.
+     */
+    private List<EthLog.LogResult> logs(EthFilter filter) {
+        long from = Numeric.decodeQuantity(filter.getFromBlock().getValue()).longValue();
+        long to = Numeric.decodeQuantity(filter.getToBlock().getValue()).longValue();
+        List<EthLog.LogResult> logs = new ArrayList<>();
+        for (long number = to; number >= from; number--) {
+            for (long index = logsInBlock.applyAsLong(number) - 1; index >= 0; index--) {
+                logs.add(new EthLog.LogObject(false,
+                        Numeric.encodeQuantity(BigInteger.valueOf(index)), "0x0", "0x0", "0x0",
+                        Numeric.encodeQuantity(BigInteger.valueOf(number)), "0x1234", "0x",
+                        null, Collections.emptyList()));
+            }
+        }
+        return logs;
+    }
+
+    private static EthBlock.Block block(String hash) {
+        EthBlock.Block block = new EthBlock.Block();
+        block.setHash(hash);
+        block.setNumber(hash);
+        return block;
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(
+            Request request, Class<T> responseType) {
+        return hold(() -> send(request, responseType));
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        batches.add(batchRequest);
+        if (failBatches) {
+            throw new IOException("batch failed");
+        } else if (rejectBatches) {
+            throw new BatchRejectedException("Batch rejected");
+        }
+        List<Response> responses = new ArrayList<>();
+        for (Request<?, ? extends Response> request : batchRequest.getRequests()) {
+            responses.add(send(request, request.getResponseType()));
+        }
+        return new BatchResponse(batchRequest.getRequests(), responses);
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        return hold(() -> sendBatch(batchRequest));
+    }
+
+    private <T> CompletableFuture<T> hold(Callable<T> response) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Runnable respond = () -> {
+            try {
+                result.complete(response.call());
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+            }
+        };
+        if (holdResponses) {
+            synchronized (heldResponses) {
+                heldResponses.add(respond);
+            }
+        } else {
+            respond.run();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,58 @@
+package org.web3j.protocol.streams;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * Records the items and terminal signal it receives, requesting a given number of items on
+ * subscribing.
+ */
+class TestSubscriber<T> implements Subscriber<T> {
+
+    final List<T> items = new CopyOnWriteArrayList<>();
+    final long initialRequest;
+    volatile Subscription subscription;
+    volatile Throwable error;
+    volatile boolean completed;
+
+    TestSubscriber(long initialRequest) {
+        this.initialRequest = initialRequest;
+    }
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+        this.subscription = subscription;
+        if (initialRequest > 0) {
+            subscription.request(initialRequest);
+        }
+    }
+
+    @Override
+    public void onNext(T item) {
+        items.add(item);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        error = throwable;
+    }
+
+    @Override
+    public void onComplete() {
+        completed = true;
+    }
+
+    static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("Timed out waiting for condition");
+            }
+            Thread.sleep(1);
+        }
+    }
+}
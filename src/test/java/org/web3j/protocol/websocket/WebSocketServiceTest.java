@@ -0,0 +1,396 @@
+package org.web3j.protocol.websocket;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.java_websocket.WebSocket;
+import org.java_websocket.handshake.ClientHandshake;
+import org.java_websocket.server.WebSocketServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.methods.request.EthFilter;
+import org.web3j.protocol.core.methods.response.EthBlockNumber;
+import org.web3j.protocol.core.methods.response.NetVersion;
+import org.web3j.protocol.websocket.events.LogNotification;
+import org.web3j.protocol.websocket.events.NewHeadsNotification;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class WebSocketServiceTest {
+
+    private static final int SUBSCRIPTION_BUFFER_SIZE = 2;
+
+    private StubNode stubNode;
+    private WebSocketService webSocketService;
+    private Web3j web3j;
+
+    @Before
+    public void setUp() throws Exception {
+        stubNode = StubNode.launch();
+        webSocketService = new WebSocketService(
+                new WebSocketClient(stubNode.getUri()), 10_000, SUBSCRIPTION_BUFFER_SIZE);
+        webSocketService.connect();
+        web3j = Web3j.build(webSocketService);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        webSocketService.close();
+        stubNode.stop();
+    }
+
+    @Test
+    public void testResponsesMatchedToRequestsById() throws Exception {
+        // responses are held until all requests have been received, then sent in reverse
+        stubNode.deferResponses(3);
+
+        List<Request<?, EthBlockNumber>> requests = new ArrayList<>();
+        List<CompletableFuture<EthBlockNumber>> responses = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Request<?, EthBlockNumber> request = web3j.ethBlockNumber();
+            requests.add(request);
+            responses.add(request.sendAsync());
+        }
+
+        for (int i = 0; i < 3; i++) {
+            // the stub node echoes the request id as the result
+            assertThat(responses.get(i).get(5, TimeUnit.SECONDS).getBlockNumber(),
+                    is(BigInteger.valueOf(requests.get(i).getId())));
+        }
+    }
+
+    @Test
+    public void testSend() throws Exception {
+        Request<?, EthBlockNumber> request = web3j.ethBlockNumber();
+        assertThat(request.send().getBlockNumber(), is(BigInteger.valueOf(request.getId())));
+    }
+
+    @Test
+    public void testBatch() throws Exception {
+        Request<?, EthBlockNumber> ethBlockNumber = web3j.ethBlockNumber();
+        Request<?, NetVersion> netVersion = web3j.netVersion();
+
+        BatchResponse batchResponse = web3j.newBatch()
+                .add(ethBlockNumber)
+                .add(netVersion)
+                .send();
+
+        assertThat(batchResponse.getResponse(ethBlockNumber).getBlockNumber(),
+                is(BigInteger.valueOf(ethBlockNumber.getId())));
+        assertThat(batchResponse.getResponse(netVersion).getNetVersion(),
+                is("0x" + Long.toHexString(netVersion.getId())));
+    }
+
+    @Test
+    public void testNewHeadsSubscription() throws Exception {
+        RecordingListener<NewHeadsNotification> listener = new RecordingListener<>();
+        WebSocketSubscription<NewHeadsNotification> subscription =
+                webSocketService.subscribeToNewHeads(listener).get(5, TimeUnit.SECONDS);
+        assertThat(stubNode.lastRequest().get("params").toString(), is("[\"newHeads\"]"));
+
+        stubNode.notify(subscription.getSubscriptionId(),
+                "{\"number\":\"0x1b4\",\"hash\":\"0xdc0818cf\",\"parentHash\":\"0x6bab2dd7\"}");
+        stubNode.notify(subscription.getSubscriptionId(),
+                "{\"number\":\"0x1b5\",\"hash\":\"0x9b9b3b9b\",\"parentHash\":\"0xdc0818cf\"}");
+
+        assertThat(listener.next().getParams().getResult().getNumber(),
+                is(BigInteger.valueOf(0x1b4)));
+        NewHeadsNotification notification = listener.next();
+        assertThat(notification.getParams().getSubscription(),
+                is(subscription.getSubscriptionId()));
+        assertThat(notification.getParams().getResult().getHash(), is("0x9b9b3b9b"));
+
+        assertThat(subscription.unsubscribe().get(5, TimeUnit.SECONDS), is(true));
+        assertThat(stubNode.lastRequest().get("method").asText(), is("eth_unsubscribe"));
+        assertThat(listener.terminal(), is((Object) RecordingListener.COMPLETE));
+        assertFalse(subscription.isActive());
+        assertThat(webSocketService.getSubscriptionCount(), is(0));
+    }
+
+    @Test
+    public void testLogsSubscription() throws Exception {
+        RecordingListener<LogNotification> listener = new RecordingListener<>();
+        EthFilter ethFilter = new EthFilter(
+                null, null, "0x8888f1f195afa192cfee860698584c030f4c9db1")
+                .addSingleTopic("0x4a7b4e3e");
+        WebSocketSubscription<LogNotification> subscription =
+                webSocketService.subscribeToLogs(ethFilter, listener).get(5, TimeUnit.SECONDS);
+
+        assertThat(stubNode.lastRequest().get("params").toString(),
+                is("[\"logs\",{\"topics\":[\"0x4a7b4e3e\"],"
+                        + "\"address\":[\"0x8888f1f195afa192cfee860698584c030f4c9db1\"]}]"));
+
+        stubNode.notify(subscription.getSubscriptionId(),
+                "{\"address\":\"0x8888f1f195afa192cfee860698584c030f4c9db1\","
+                        + "\"blockNumber\":\"0x29e87\",\"logIndex\":\"0x0\","
+                        + "\"topics\":[\"0x4a7b4e3e\"],\"data\":\"0x\"}");
+
+        assertThat(listener.next().getParams().getResult().getBlockNumber().get(),
+                is(BigInteger.valueOf(0x29e87)));
+    }
+
+    @Test
+    public void testSlowListenerTerminated() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingListener<NewHeadsNotification> listener =
+                new RecordingListener<NewHeadsNotification>() {
+                    @Override
+                    public void onNext(NewHeadsNotification notification) {
+                        try {
+                            release.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        super.onNext(notification);
+                    }
+                };
+        WebSocketSubscription<NewHeadsNotification> subscription =
+                webSocketService.subscribeToNewHeads(listener).get(5, TimeUnit.SECONDS);
+
+        for (int i = 0; i < SUBSCRIPTION_BUFFER_SIZE + 10; i++) {
+            stubNode.notify(subscription.getSubscriptionId(), "{\"number\":\"0x1\"}");
+        }
+        stubNode.awaitRequest("eth_unsubscribe");
+        release.countDown();
+
+        Object terminal = listener.terminal();
+        assertThat(terminal, instanceOf(IOException.class));
+        assertThat(((IOException) terminal).getMessage(), containsString("cannot keep up"));
+        assertFalse(subscription.isActive());
+    }
+
+    @Test
+    public void testPendingRequestsFailedOnConnectionClose() throws Exception {
+        RecordingListener<NewHeadsNotification> listener = new RecordingListener<>();
+        webSocketService.subscribeToNewHeads(listener).get(5, TimeUnit.SECONDS);
+
+        stubNode.deferResponses(Integer.MAX_VALUE);
+        CompletableFuture<EthBlockNumber> response = web3j.ethBlockNumber().sendAsync();
+        stubNode.awaitRequest("eth_blockNumber");
+        stubNode.disconnect();
+
+        try {
+            response.get(5, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), instanceOf(IOException.class));
+        }
+        assertThat(listener.terminal(), instanceOf(IOException.class));
+    }
+
+    private static class RecordingListener<T> implements SubscriptionListener<T> {
+
+        static final Object COMPLETE = new Object();
+
+        private final BlockingQueue<T> notifications = new LinkedBlockingQueue<>();
+        private final BlockingQueue<Object> terminal = new LinkedBlockingQueue<>();
+
+        @Override
+        public void onNext(T notification) {
+            notifications.add(notification);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            terminal.add(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            terminal.add(COMPLETE);
+        }
+
+        T next() throws InterruptedException {
+            T notification = notifications.poll(5, TimeUnit.SECONDS);
+            if (notification == null) {
+                fail("No notification received");
+            }
+            return notification;
+        }
+
+        Object terminal() throws InterruptedException {
+            Object event = terminal.poll(5, TimeUnit.SECONDS);
+            if (event == null) {
+                fail("Subscription not terminated");
+            }
+            return event;
+        }
+    }
+
+    /**
+     * In-process stand-in for a node's WebSocket endpoint, echoing request ids as results.
+     */
+    private static class StubNode extends WebSocketServer {
+
+        private final ObjectMapper objectMapper = new ObjectMapper();
+        private final List<JsonNode> requests = new CopyOnWriteArrayList<>();
+        private final List<String> deferred = new ArrayList<>();
+        private final int port;
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch closed = new CountDownLatch(1);
+        private volatile int deferCount;
+        private volatile WebSocket connection;
+
+        private StubNode(int port) {
+            super(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+            this.port = port;
+        }
+
+        static StubNode launch() throws Exception {
+            int port;
+            try (ServerSocket serverSocket = new ServerSocket(0)) {
+                port = serverSocket.getLocalPort();
+            }
+            StubNode stubNode = new StubNode(port);
+            stubNode.start();
+            stubNode.awaitListening();
+            return stubNode;
+        }
+
+        private void awaitListening() throws InterruptedException {
+            if (!started.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Stub node failed to start");
+            }
+        }
+
+        URI getUri() {
+            return URI.create("ws://" + InetAddress.getLoopbackAddress().getHostAddress()
+                    + ":" + port);
+        }
+
+        /**
+         * Close the connection and stop, as stopping alone may not send the close frame before
+         * the server's thread exits, leaving the client unaware of it.
+         */
+        void disconnect() throws Exception {
+            connection.close();
+            if (!closed.await(5, TimeUnit.SECONDS)) {
+                fail("Connection not closed");
+            }
+            stop();
+        }
+
+        void deferResponses(int count) {
+            deferCount = count;
+        }
+
+        JsonNode lastRequest() {
+            return requests.get(requests.size() - 1);
+        }
+
+        void awaitRequest(String method) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 5000;
+            while (System.currentTimeMillis() < deadline) {
+                for (JsonNode request : requests) {
+                    if (request.get("method").asText().equals(method)) {
+                        return;
+                    }
+                }
+                Thread.sleep(10);
+            }
+            fail("No " + method + " request received");
+        }
+
+        void notify(String subscriptionId, String result) {
+            connection.send("{\"jsonrpc\":\"2.0\",\"method\":\"eth_subscription\","
+                    + "\"params\":{\"subscription\":\"" + subscriptionId + "\","
+                    + "\"result\":" + result + "}}");
+        }
+
+        @Override
+        public void onStart() {
+            started.countDown();
+        }
+
+        @Override
+        public void onOpen(WebSocket conn, ClientHandshake handshake) {
+            connection = conn;
+        }
+
+        @Override
+        public void onClose(WebSocket conn, int code, String reason, boolean remote) {
+            closed.countDown();
+        }
+
+        @Override
+        public void onMessage(WebSocket conn, String message) {
+            try {
+                JsonNode request = objectMapper.readTree(message);
+                if (request.isArray()) {
+                    ArrayNode response = objectMapper.createArrayNode();
+                    for (int i = request.size() - 1; i >= 0; i--) {
+                        requests.add(request.get(i));
+                        response.add(respond(request.get(i)));
+                    }
+                    conn.send(response.toString());
+                } else {
+                    requests.add(request);
+                    reply(conn, respond(request).toString());
+                }
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        private synchronized void reply(WebSocket conn, String response) {
+            deferred.add(response);
+            if (deferred.size() >= deferCount) {
+                Collections.reverse(deferred);
+                for (String deferredResponse : deferred) {
+                    conn.send(deferredResponse);
+                }
+                deferred.clear();
+            }
+        }
+
+        private ObjectNode respond(JsonNode request) {
+            long id = request.get("id").asLong();
+            ObjectNode response = objectMapper.createObjectNode();
+            response.put("jsonrpc", "2.0");
+            response.put("id", id);
+            switch (request.get("method").asText()) {
+                case "eth_subscribe":
+                    response.put("result", "0x" + Long.toHexString(id) + "cd0c3e8af590364c09d0");
+                    break;
+                case "eth_unsubscribe":
+                    response.put("result", true);
+                    break;
+                default:
+                    response.put("result", "0x" + Long.toHexString(id));
+            }
+            return response;
+        }
+
+        @Override
+        public void onError(WebSocket conn, Exception ex) {
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package org.web3j.utils;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.http.HttpService;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class AsyncTest {
+
+    @Test
+    public void testRun() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor(
+                runnable -> new Thread(runnable, "async-test"));
+        try {
+            assertThat(Async.run(() -> Thread.currentThread().getName(), executor).get(),
+                    equalTo("async-test"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testRunException() throws Exception {
+        assertFailsWith(Async.run(() -> {
+            throw new IOException();
+        }, Runnable::run), IOException.class);
+        assertFailsWith(Async.run(() -> {
+            throw new IllegalStateException();
+        }, Runnable::run), IllegalStateException.class);
+    }
+
+    @Test
+    public void testRunRejected() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.shutdown();
+        assertFailsWith(Async.run(() -> "", executor), RejectedExecutionException.class);
+    }
+
+    @Test
+    public void testWeb3jExecutor() {
+        HttpService service = new HttpService();
+        assertThat(Web3j.build(service).getExecutor(), sameInstance(Async.defaultExecutor()));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            assertThat(Web3j.build(service, executor).getExecutor(),
+                    sameInstance((Object) executor));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testVirtualThreadPerTaskExecutor() throws Exception {
+        ExecutorService executor;
+        try {
+            executor = Async.newVirtualThreadPerTaskExecutor();
+        } catch (UnsupportedOperationException e) {
+            // virtual threads require Java 21
+            return;
+        }
+        try {
+            assertThat(Async.run(() -> Thread.currentThread().getName(), executor).get(),
+                    equalTo("web3j-virtual-0"));
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.SECONDS);
+        }
+    }
+
+    private static void assertFailsWith(
+            CompletableFuture<?> future, Class<? extends Throwable> type)
+            throws InterruptedException {
+        try {
+            future.get();
+            fail();
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), instanceOf(type));
+        }
+    }
+}
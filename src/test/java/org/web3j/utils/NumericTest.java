@@ -59,6 +59,24 @@ public class NumericTest {
         Numeric.decodeQuantity("0x");
     }
 
+    @Test
+    public void testQuantityDecodeAsLong() {
+        assertThat(Numeric.decodeQuantityAsLong("0x0"), equalTo(0L));
+        assertThat(Numeric.decodeQuantityAsLong("0x400"), equalTo(1024L));
+        assertThat(Numeric.decodeQuantityAsLong("0x4B7A2C"), equalTo(0x4b7a2cL));
+        assertThat(Numeric.decodeQuantityAsLong("0x7fffffffffffffff"), equalTo(Long.MAX_VALUE));
+    }
+
+    @Test(expected = MessageDecodingException.class)
+    public void testQuantityDecodeAsLongOverflow() {
+        Numeric.decodeQuantityAsLong("0x8000000000000000");
+    }
+
+    @Test(expected = MessageDecodingException.class)
+    public void testQuantityDecodeAsLongInvalid() {
+        Numeric.decodeQuantityAsLong("0x-1");
+    }
+
     @Test
     public void testQuantityEncode() {
         assertThat(Numeric.encodeQuantity(BigInteger.valueOf(0)), is("0x0"));